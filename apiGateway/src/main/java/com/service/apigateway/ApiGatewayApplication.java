@@ -3,13 +3,15 @@ package com.service.apigateway;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * API Gateway Application
  * Spring Cloud Gateway Server MVC will handle routing automatically
  */
-@SpringBootApplication(scanBasePackages = {"com.service.apigateway"})
-@ComponentScan(basePackages = {"com.service.apigateway"})
+@SpringBootApplication(scanBasePackages = {"com.service.apigateway", "com.service.shared.loadbalancer"})
+@ComponentScan(basePackages = {"com.service.apigateway", "com.service.shared.loadbalancer"})
+@EnableScheduling
 public class ApiGatewayApplication {
 
     public static void main(String[] args) {
@@ -1,83 +1,27 @@
 package com.service.apigateway.config;
 
+import com.service.apigateway.route.GatewayRouteLoader;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.function.RouterFunction;
 import org.springframework.web.servlet.function.ServerResponse;
 
-import static org.springframework.cloud.gateway.server.mvc.filter.BeforeFilterFunctions.uri;
-import static org.springframework.cloud.gateway.server.mvc.handler.GatewayRouterFunctions.route;
-import static org.springframework.cloud.gateway.server.mvc.handler.HandlerFunctions.http;
-
 /**
  * Gateway Configuration
- * Programmatically configure routes using Java Routes API
- * This ensures routes are registered before DispatcherServlet processes requests
+ * Routes are defined once under gateway.routes (application.yaml) and built by GatewayRouteLoader
+ * into Java routes, so they are registered before DispatcherServlet processes requests.
+ * Every route is rate limited and, when configured, protected by a bulkhead, circuit breaker,
+ * timeout and retry. Routes are rebuilt on POST /actuator/refresh.
  */
 @Configuration
+@RequiredArgsConstructor
 public class GatewayConfig {
 
-    @Bean
-    public RouterFunction<ServerResponse> authRoutes() {
-        return route("auth-service")
-                .route(org.springframework.web.servlet.function.RequestPredicates.path("/auth/**"), http())
-                .before(uri("http://localhost:8085"))
-                .build();
-    }
-
-    @Bean
-    public RouterFunction<ServerResponse> authJwksRoutes() {
-        return route("auth-service-jwks")
-                .route(org.springframework.web.servlet.function.RequestPredicates.path("/.well-known/**"), http())
-                .before(uri("http://localhost:8085"))
-                .build();
-    }
-
-    @Bean
-    public RouterFunction<ServerResponse> connectivityRoutes() {
-        return route("connectivity-service")
-                .route(org.springframework.web.servlet.function.RequestPredicates.path("/connectivity/**"), http())
-                .before(uri("http://localhost:8081"))
-                .build();
-    }
-
-    @Bean
-    public RouterFunction<ServerResponse> identificationRoutes() {
-        return route("identification-service")
-                .route(org.springframework.web.servlet.function.RequestPredicates.path("/identification/**"), http())
-                .before(uri("http://localhost:8082"))
-                .build();
-    }
-
-    @Bean
-    public RouterFunction<ServerResponse> locationRoutes() {
-        return route("location-service")
-                .route(org.springframework.web.servlet.function.RequestPredicates.path("/location/**"), http())
-                .before(uri("http://localhost:8083"))
-                .build();
-    }
-
-    @Bean
-    public RouterFunction<ServerResponse> deviceRoutes() {
-        return route("device-management-service")
-                .route(org.springframework.web.servlet.function.RequestPredicates.path("/device/**"), http())
-                .before(uri("http://localhost:8084"))
-                .build();
-    }
-
-    @Bean
-    public RouterFunction<ServerResponse> decisionEngineRoutes() {
-        return route("decision-engine-service")
-                .route(org.springframework.web.servlet.function.RequestPredicates.path("/decision-engine/**"), http())
-                .before(uri("http://localhost:8086"))
-                .build();
-    }
+    private final GatewayRouteLoader routeLoader;
 
     @Bean
-    public RouterFunction<ServerResponse> nokiaNacMetadataRoutes() {
-        return route("nokia-nac-metadata")
-                .route(org.springframework.web.servlet.function.RequestPredicates.path("/nokia-nac/**"), http())
-                .before(uri("http://localhost:8081"))
-                .build();
+    public RouterFunction<ServerResponse> gatewayRoutes() {
+        return routeLoader.getRouterFunction();
     }
 }
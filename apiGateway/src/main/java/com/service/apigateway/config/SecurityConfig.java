@@ -1,5 +1,7 @@
 package com.service.apigateway.config;
 
+import com.service.shared.security.CachingJwtDecoder;
+import com.service.shared.security.PlatformJwtAuthenticationConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,6 +12,8 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+
 /**
  * OAuth2 Resource Server Configuration for API Gateway
  */
@@ -20,12 +24,23 @@ public class SecurityConfig {
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:http://localhost:8085}")
     private String issuerUri;
 
+    @Value("${platform.jwt.cache.enabled:true}")
+    private boolean jwtCacheEnabled;
+
+    @Value("${platform.jwt.cache.maximum-size:10000}")
+    private long jwtCacheMaximumSize;
+
+    @Value("${platform.jwt.cache.max-ttl:5m}")
+    private Duration jwtCacheMaxTtl;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Reloading routes and configuration is for administrators only
+                .requestMatchers("/actuator/refresh").hasRole("ADMIN")
                 // Allow all gateway routes to be processed by the gateway first
                 .requestMatchers("/actuator/**", "/health", "/fallback/**", 
                                 "/auth/**", "/connectivity/**", "/identification/**", 
@@ -34,14 +49,18 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             )
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> jwt.decoder(jwtDecoder()))
+                .jwt(jwt -> jwt.decoder(jwtDecoder()).jwtAuthenticationConverter(PlatformJwtAuthenticationConverter.create()))
             );
         
         return http.build();
     }
 
+    /**
+     * JWT decoder; validated tokens are cached until their expiry so repeat requests skip the RSA check
+     */
     @Bean
     public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
+        return new CachingJwtDecoder(NimbusJwtDecoder.withIssuerLocation(issuerUri).build(),
+                jwtCacheEnabled, jwtCacheMaximumSize, jwtCacheMaxTtl);
     }
 }
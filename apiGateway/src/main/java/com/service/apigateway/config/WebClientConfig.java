@@ -0,0 +1,20 @@
+package com.service.apigateway.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * WebClient Configuration
+ */
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * Client for the shared load balancer's instance health checks
+     */
+    @Bean
+    public WebClient internalWebClient() {
+        return WebClient.builder().build();
+    }
+}
@@ -39,7 +39,7 @@ public class FallbackController {
         return authFallback();
     }
 
-    @PostMapping("/connectivity")
+    @RequestMapping("/connectivity")
     public ResponseEntity<GatewayResponse<Map<String, Object>>> connectivityFallback() {
         log.warn("Connectivity service fallback triggered");
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
@@ -49,7 +49,7 @@ public class FallbackController {
                 ));
     }
 
-    @PostMapping("/identification")
+    @RequestMapping("/identification")
     public ResponseEntity<GatewayResponse<Map<String, Object>>> identificationFallback() {
         log.warn("Identification service fallback triggered");
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
@@ -59,7 +59,7 @@ public class FallbackController {
                 ));
     }
 
-    @PostMapping("/location")
+    @RequestMapping("/location")
     public ResponseEntity<GatewayResponse<Map<String, Object>>> locationFallback() {
         log.warn("Location service fallback triggered");
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
@@ -69,7 +69,7 @@ public class FallbackController {
                 ));
     }
 
-    @PostMapping("/device")
+    @RequestMapping("/device")
     public ResponseEntity<GatewayResponse<Map<String, Object>>> deviceFallback() {
         log.warn("Device management service fallback triggered");
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
@@ -79,7 +79,7 @@ public class FallbackController {
                 ));
     }
 
-    @PostMapping("/decision-engine")
+    @RequestMapping("/decision-engine")
     public ResponseEntity<GatewayResponse<Map<String, Object>>> decisionEngineFallback() {
         log.warn("Decision Engine service fallback triggered");
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
@@ -0,0 +1,57 @@
+package com.service.apigateway.loadbalancer;
+
+import com.service.shared.loadbalancer.ServiceInstance;
+import com.service.shared.loadbalancer.ServiceInstanceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.gateway.server.mvc.common.MvcUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+
+/**
+ * Client-side load balancing for gateway routes with lb://{service} URIs, over the shared
+ * ServiceInstanceRegistry (services.{service}.instances); instances are re-read on POST /actuator/refresh
+ */
+@Component
+@RequiredArgsConstructor
+public class GatewayLoadBalancer {
+
+    public static final String SCHEME = "lb://";
+
+    private final ServiceInstanceRegistry registry;
+
+    public static boolean isLoadBalanced(String uri) {
+        return uri != null && uri.startsWith(SCHEME);
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith("services."))) {
+            registry.refresh();
+        }
+    }
+
+    /**
+     * Filter that sends the request to an instance chosen per request and records the outcome
+     */
+    public HandlerFilterFunction<ServerResponse, ServerResponse> filter(String uri) {
+        String serviceId = uri.substring(SCHEME.length());
+        return (request, next) -> {
+            ServiceInstance instance = registry.choose(serviceId);
+            MvcUtils.setRequestUrl(request, URI.create(instance.getUrl()));
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                ServerResponse response = next.handle(request);
+                failed = response.statusCode().is5xxServerError();
+                return response;
+            } finally {
+                registry.release(instance, System.nanoTime() - start, failed);
+            }
+        };
+    }
+}
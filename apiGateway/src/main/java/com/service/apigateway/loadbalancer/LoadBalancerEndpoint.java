@@ -0,0 +1,25 @@
+package com.service.apigateway.loadbalancer;
+
+import com.service.shared.loadbalancer.ServiceInstanceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint (/actuator/loadbalancer) listing the instances of load-balanced services
+ */
+@Component
+@Endpoint(id = "loadbalancer")
+@RequiredArgsConstructor
+public class LoadBalancerEndpoint {
+
+    private final ServiceInstanceRegistry registry;
+
+    @ReadOperation
+    public Map<String, Object> instances() {
+        return registry.getStats();
+    }
+}
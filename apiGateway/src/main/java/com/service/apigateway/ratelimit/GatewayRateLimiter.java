@@ -0,0 +1,192 @@
+package com.service.apigateway.ratelimit;
+
+import com.service.apigateway.dto.GatewayResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory rate limiter for the gateway routes (replaces the Redis-backed RequestRateLimiter)
+ * Token buckets are keyed by JWT subject, client IP or route (gateway.rate-limit.key-strategy) with
+ * per-route quotas under gateway.rate-limit.routes.{routeId}. Requests matching
+ * gateway.rate-limit.priority.paths (emergency decision-engine calls) draw from a separate
+ * priority bucket first and only fall back to the regular bucket once it is exhausted.
+ * The client IP is the connection's remote address unless gateway.rate-limit.trusted-proxies is set,
+ * in which case it is read from X-Forwarded-For that many hops from the right, so clients cannot pick
+ * their own bucket by sending the header.
+ */
+@Slf4j
+@Component
+public class GatewayRateLimiter {
+
+    private final boolean enabled;
+    private final RateLimitKeyStrategy keyStrategy;
+    private final RateLimitQuota defaultQuota;
+    private final RateLimitQuota defaultPriorityQuota;
+    private final List<PathPattern> priorityPaths;
+    private final int trustedProxies;
+    private final Environment environment;
+    private final RateLimitBucketStore bucketStore;
+    private final RateLimitSync sync;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RateLimitQuota> quotas = new ConcurrentHashMap<>();
+
+    public GatewayRateLimiter(
+            @Value("${gateway.rate-limit.enabled:true}") boolean enabled,
+            @Value("${gateway.rate-limit.key-strategy:SUBJECT}") RateLimitKeyStrategy keyStrategy,
+            @Value("${gateway.rate-limit.default.replenish-rate:20}") double replenishRate,
+            @Value("${gateway.rate-limit.default.burst-capacity:40}") int burstCapacity,
+            @Value("${gateway.rate-limit.priority.replenish-rate:50}") double priorityReplenishRate,
+            @Value("${gateway.rate-limit.priority.burst-capacity:100}") int priorityBurstCapacity,
+            @Value("${gateway.rate-limit.priority.paths:/decision-engine/execute/emergency-connectivity-agent/**}") List<String> priorityPaths,
+            @Value("${gateway.rate-limit.trusted-proxies:0}") int trustedProxies,
+            Environment environment,
+            RateLimitBucketStore bucketStore,
+            RateLimitSync sync,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.keyStrategy = keyStrategy;
+        this.defaultQuota = new RateLimitQuota(replenishRate, burstCapacity);
+        this.defaultPriorityQuota = new RateLimitQuota(priorityReplenishRate, priorityBurstCapacity);
+        this.priorityPaths = priorityPaths.stream()
+                .filter(path -> !path.isBlank())
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.trustedProxies = Math.max(trustedProxies, 0);
+        this.environment = environment;
+        this.bucketStore = bucketStore;
+        this.sync = sync;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("gateway.rate-limit.buckets", bucketStore, RateLimitBucketStore::size);
+        log.info("Gateway rate limiting {} (key: {}, default quota: {}/s burst {})",
+                enabled ? "enabled" : "disabled", keyStrategy, replenishRate, burstCapacity);
+    }
+
+    /**
+     * Rate-limiting filter for a gateway route
+     */
+    public HandlerFilterFunction<ServerResponse, ServerResponse> filter(String routeId) {
+        return (request, next) -> {
+            if (!enabled) {
+                return next.handle(request);
+            }
+
+            String clientKey = resolveKey(request, routeId);
+            long result = -1;
+            String outcome = "allowed";
+            if (isPriority(request)) {
+                String priorityKey = routeId + "|priority|" + clientKey;
+                result = bucketStore.bucket(priorityKey, quota(routeId, true)).tryConsume();
+                if (result >= 0) {
+                    sync.record(priorityKey);
+                    outcome = "priority";
+                }
+            }
+            if (result < 0) {
+                String bucketKey = routeId + "|" + clientKey;
+                result = bucketStore.bucket(bucketKey, quota(routeId, false)).tryConsume();
+                if (result >= 0) {
+                    sync.record(bucketKey);
+                }
+            }
+
+            if (result < 0) {
+                meterRegistry.counter("gateway.rate-limit.requests", "route", routeId, "outcome", "rejected").increment();
+                log.debug("Rate limit exceeded on route {} for {}", routeId, clientKey);
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(-result) + 1);
+                return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header("Retry-After", String.valueOf(retryAfterSeconds))
+                        .header("X-RateLimit-Remaining", "0")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(GatewayResponse.failure(
+                                HttpStatus.TOO_MANY_REQUESTS.value(),
+                                "Rate limit exceeded, retry after " + retryAfterSeconds + "s"
+                        ));
+            }
+
+            meterRegistry.counter("gateway.rate-limit.requests", "route", routeId, "outcome", outcome).increment();
+            return next.handle(request);
+        };
+    }
+
+    private boolean isPriority(ServerRequest request) {
+        if (priorityPaths.isEmpty()) {
+            return false;
+        }
+        PathContainer path = request.requestPath().pathWithinApplication();
+        for (PathPattern pattern : priorityPaths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String resolveKey(ServerRequest request, String routeId) {
+        return switch (keyStrategy) {
+            case ROUTE -> routeId;
+            case IP -> clientIp(request);
+            case SUBJECT -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                yield authentication != null && authentication.isAuthenticated()
+                        && !(authentication instanceof AnonymousAuthenticationToken)
+                        ? "sub:" + authentication.getName()
+                        : "ip:" + clientIp(request);
+            }
+        };
+    }
+
+    /**
+     * Address of the client as seen by the outermost trusted proxy: each trusted proxy appends the
+     * address it received the request from, so the entry trustedProxies hops from the right is the
+     * last one a client could not forge
+     */
+    private String clientIp(ServerRequest request) {
+        String remoteAddr = request.servletRequest().getRemoteAddr();
+        if (trustedProxies == 0) {
+            return remoteAddr;
+        }
+        List<String> hops = new ArrayList<>();
+        for (String header : request.headers().header("X-Forwarded-For")) {
+            for (String hop : header.split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.trim());
+                }
+            }
+        }
+        if (hops.isEmpty()) {
+            return remoteAddr;
+        }
+        return hops.get(Math.max(hops.size() - trustedProxies, 0));
+    }
+
+    private RateLimitQuota quota(String routeId, boolean priority) {
+        return quotas.computeIfAbsent(priority ? routeId + "|priority" : routeId, key -> {
+            RateLimitQuota fallback = priority ? defaultPriorityQuota : defaultQuota;
+            String prefix = "gateway.rate-limit.routes." + routeId + (priority ? ".priority." : ".");
+            return new RateLimitQuota(
+                    environment.getProperty(prefix + "replenish-rate", Double.class, fallback.replenishRate()),
+                    environment.getProperty(prefix + "burst-capacity", Integer.class, fallback.burstCapacity()));
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.service.apigateway.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local store of rate-limit buckets
+ * Buckets are created on first use and evicted once fully refilled, which is equivalent to
+ * starting again with a full bucket, so memory is bounded by the number of active clients.
+ */
+@Slf4j
+@Component
+public class RateLimitBucketStore {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucket bucket(String key, RateLimitQuota quota) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(quota.replenishRate(), quota.burstCapacity()));
+    }
+
+    /**
+     * Apply consumption reported by another replica to an existing local bucket
+     */
+    public void consumeRemote(String key, long permits) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.consumeRemote(permits);
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        int before = buckets.size();
+        buckets.values().removeIf(TokenBucket::isIdle);
+        if (before != buckets.size()) {
+            log.debug("Evicted {} idle rate-limit buckets", before - buckets.size());
+        }
+    }
+}
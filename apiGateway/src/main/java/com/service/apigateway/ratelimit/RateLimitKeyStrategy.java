@@ -0,0 +1,19 @@
+package com.service.apigateway.ratelimit;
+
+/**
+ * What a rate-limit bucket is keyed by
+ */
+public enum RateLimitKeyStrategy {
+    /**
+     * JWT subject, falling back to the client IP for anonymous requests
+     */
+    SUBJECT,
+    /**
+     * Client IP (first X-Forwarded-For hop when present)
+     */
+    IP,
+    /**
+     * One shared bucket per route
+     */
+    ROUTE
+}
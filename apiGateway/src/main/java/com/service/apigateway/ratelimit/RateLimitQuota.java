@@ -0,0 +1,7 @@
+package com.service.apigateway.ratelimit;
+
+/**
+ * Token bucket quota: sustained requests per second and burst size
+ */
+public record RateLimitQuota(double replenishRate, int burstCapacity) {
+}
@@ -0,0 +1,82 @@
+package com.service.apigateway.ratelimit;
+
+import com.service.shared.config.KafkaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional cross-replica sync of rate-limit buckets over Kafka
+ * Each replica periodically publishes the tokens it consumed per bucket and applies what the
+ * other replicas consumed, so a quota holds approximately across the cluster. Every replica
+ * consumes the topic in its own consumer group, named after its stable instance id.
+ */
+@Slf4j
+@Component
+public class RateLimitSync {
+
+    private final boolean enabled;
+    private final String topic;
+    private final String replicaId = UUID.randomUUID().toString();
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final RateLimitBucketStore bucketStore;
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public RateLimitSync(
+            @Value("${gateway.rate-limit.sync.enabled:false}") boolean enabled,
+            @Value("${gateway.rate-limit.sync.topic:gateway-rate-limit-sync}") String topic,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            RateLimitBucketStore bucketStore
+    ) {
+        this.enabled = enabled;
+        this.topic = topic;
+        this.kafkaTemplate = kafkaTemplate;
+        this.bucketStore = bucketStore;
+    }
+
+    public void record(String bucketKey) {
+        if (enabled) {
+            pending.computeIfAbsent(bucketKey, key -> new LongAdder()).increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.sync.interval-ms:1000}")
+    public void flush() {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+        Map<String, Long> consumed = new HashMap<>();
+        pending.forEach((key, count) -> {
+            long permits = count.sumThenReset();
+            if (permits > 0) {
+                consumed.put(key, permits);
+            }
+        });
+        pending.values().removeIf(count -> count.sum() == 0);
+        if (!consumed.isEmpty()) {
+            kafkaTemplate.send(topic, replicaId, new RateLimitSyncMessage(replicaId, consumed));
+        }
+    }
+
+    @KafkaListener(
+            topics = "${gateway.rate-limit.sync.topic:gateway-rate-limit-sync}",
+            groupId = "${spring.application.name}-rate-limit-" + KafkaConfig.INSTANCE_ID,
+            autoStartup = "${gateway.rate-limit.sync.enabled:false}"
+    )
+    public void onSync(RateLimitSyncMessage message) {
+        if (replicaId.equals(message.replicaId())) {
+            return;
+        }
+        message.consumed().forEach(bucketStore::consumeRemote);
+        log.debug("Applied rate-limit consumption of {} buckets from replica {}", message.consumed().size(), message.replicaId());
+    }
+}
@@ -0,0 +1,9 @@
+package com.service.apigateway.ratelimit;
+
+import java.util.Map;
+
+/**
+ * Tokens consumed per bucket on one gateway replica since its last flush
+ */
+public record RateLimitSyncMessage(String replicaId, Map<String, Long> consumed) {
+}
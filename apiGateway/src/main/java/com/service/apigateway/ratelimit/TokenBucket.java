@@ -0,0 +1,63 @@
+package com.service.apigateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in GCRA form: the whole state is a single theoretical arrival time,
+ * updated with compare-and-set, so concurrent requests never block each other.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    private final int burstCapacity;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double replenishRate, int burstCapacity) {
+        this.emissionIntervalNanos = (long) (1_000_000_000L / replenishRate);
+        this.burstCapacity = Math.max(burstCapacity, 1);
+        this.capacityNanos = emissionIntervalNanos * this.burstCapacity;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Take one token
+     *
+     * @return tokens remaining (>= 0) on success, otherwise minus the nanos until a token is available
+     */
+    public long tryConsume() {
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long overdraft = next - now - capacityNanos;
+            if (overdraft > 0) {
+                return -overdraft;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return (capacityNanos - (next - now)) / emissionIntervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Account for tokens consumed on another gateway replica; never drains below empty
+     */
+    public void consumeRemote(long permits) {
+        theoreticalArrival.updateAndGet(current -> {
+            long now = System.nanoTime();
+            return Math.min(Math.max(current, now) + permits * emissionIntervalNanos, now + capacityNanos);
+        });
+    }
+
+    /**
+     * A bucket is idle once it has fully refilled
+     */
+    public boolean isIdle() {
+        return theoreticalArrival.get() - System.nanoTime() <= 0;
+    }
+
+    public int getBurstCapacity() {
+        return burstCapacity;
+    }
+}
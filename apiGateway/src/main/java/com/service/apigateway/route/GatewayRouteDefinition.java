@@ -0,0 +1,64 @@
+package com.service.apigateway.route;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway route as configured under gateway.routes
+ */
+@Data
+public class GatewayRouteDefinition {
+
+    private String id;
+
+    /**
+     * Path patterns, e.g. /location/**
+     */
+    private List<String> paths = new ArrayList<>();
+
+    /**
+     * Downstream service URI
+     */
+    private String uri;
+
+    /**
+     * Resilience4j circuit breaker instance name (empty = no circuit breaker)
+     */
+    private String circuitBreaker;
+
+    /**
+     * Path the circuit breaker forwards to when open or failing, e.g. /fallback/location
+     */
+    private String fallback;
+
+    /**
+     * Time limit of a downstream call, enforced by the circuit breaker's time limiter
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    private Bulkhead bulkhead = new Bulkhead();
+
+    private Retry retry = new Retry();
+
+    /**
+     * Concurrency cap so a slow service cannot hold every gateway thread
+     */
+    @Data
+    public static class Bulkhead {
+        private int maxConcurrent = 50;
+        private Duration maxWait = Duration.ZERO;
+    }
+
+    /**
+     * Retry of idempotent requests on connection errors and 502/503/504
+     */
+    @Data
+    public static class Retry {
+        private int attempts = 0;
+        private Duration backoff = Duration.ofMillis(50);
+        private List<String> methods = new ArrayList<>(List.of("GET", "HEAD", "OPTIONS"));
+    }
+}
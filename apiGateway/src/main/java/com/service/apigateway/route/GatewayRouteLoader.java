@@ -0,0 +1,179 @@
+package com.service.apigateway.route;
+
+import com.service.apigateway.loadbalancer.GatewayLoadBalancer;
+import com.service.apigateway.ratelimit.GatewayRateLimiter;
+import com.service.apigateway.security.InternalAssertionIssuer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.RequestPredicate;
+import org.springframework.web.servlet.function.RequestPredicates;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.cloud.gateway.server.mvc.filter.BeforeFilterFunctions.uri;
+import static org.springframework.cloud.gateway.server.mvc.filter.CircuitBreakerFilterFunctions.circuitBreaker;
+import static org.springframework.cloud.gateway.server.mvc.handler.GatewayRouterFunctions.route;
+import static org.springframework.cloud.gateway.server.mvc.handler.HandlerFunctions.http;
+
+/**
+ * Builds the gateway routes from gateway.routes and rebuilds them when the configuration is refreshed
+ * (POST /actuator/refresh). Filter order per route: metrics, rate limit, internal assertion, bulkhead,
+ * circuit breaker (with time limiter), retry and, for lb://{service} URIs, instance selection by
+ * GatewayLoadBalancer. Circuit breakers and time limiters are keyed by route id, so routes sharing a
+ * resilience4j breaker configuration keep their own timeouts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GatewayRouteLoader {
+
+    private static final String ROUTES_PROPERTY = "gateway.routes";
+
+    private final Environment environment;
+    private final GatewayRateLimiter rateLimiter;
+    private final GatewayLoadBalancer loadBalancer;
+    private final InternalAssertionIssuer assertionIssuer;
+    private final MeterRegistry meterRegistry;
+    private final Resilience4JCircuitBreakerFactory circuitBreakerFactory;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+
+    private final ReloadableRouterFunction routerFunction = new ReloadableRouterFunction();
+
+    /**
+     * Router function delegating to the current set of routes
+     */
+    public RouterFunction<ServerResponse> getRouterFunction() {
+        if (!routerFunction.isLoaded()) {
+            reload();
+        }
+        return routerFunction;
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        boolean routesChanged = event.getKeys().stream()
+                .anyMatch(key -> key.startsWith(ROUTES_PROPERTY) || key.startsWith("resilience4j."));
+        if (routesChanged) {
+            log.info("Gateway route configuration changed, reloading routes");
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        List<GatewayRouteDefinition> definitions = Binder.get(environment)
+                .bind(ROUTES_PROPERTY, Bindable.listOf(GatewayRouteDefinition.class))
+                .orElse(List.of());
+
+        RouterFunction<ServerResponse> routes = null;
+        for (GatewayRouteDefinition definition : definitions) {
+            RouterFunction<ServerResponse> built = build(definition);
+            routes = routes == null ? built : routes.and(built);
+        }
+        routerFunction.setDelegate(routes);
+        log.info("Loaded {} gateway routes: {}", definitions.size(),
+                definitions.stream().map(GatewayRouteDefinition::getId).toList());
+    }
+
+    private RouterFunction<ServerResponse> build(GatewayRouteDefinition definition) {
+        String routeId = definition.getId();
+        RequestPredicate predicate = definition.getPaths().stream()
+                .map(RequestPredicates::path)
+                .reduce(RequestPredicate::or)
+                .orElseThrow(() -> new IllegalStateException("Gateway route " + routeId + " has no paths"));
+
+        HandlerFilterFunction<ServerResponse, ServerResponse> filters = RouteFilters.metrics(routeId, meterRegistry)
+                .andThen(rateLimiter.filter(routeId))
+                .andThen(assertionIssuer.filter())
+                .andThen(RouteFilters.bulkhead(routeId, definition.getBulkhead()));
+
+        if (StringUtils.hasText(definition.getCircuitBreaker())) {
+            configureTimeLimiter(definition);
+            filters = filters.andThen(StringUtils.hasText(definition.getFallback())
+                    ? circuitBreaker(routeId, URI.create("forward:" + definition.getFallback()))
+                    : circuitBreaker(routeId));
+        }
+        filters = filters.andThen(RouteFilters.retry(routeId, definition.getRetry()));
+
+        // Load-balanced routes pick the instance per attempt, so a retry can land on another replica
+        if (GatewayLoadBalancer.isLoadBalanced(definition.getUri())) {
+            return route(routeId)
+                    .route(predicate, http())
+                    .filter(filters.andThen(loadBalancer.filter(definition.getUri())))
+                    .build();
+        }
+        return route(routeId)
+                .route(predicate, http())
+                .before(uri(definition.getUri()))
+                .filter(filters)
+                .build();
+    }
+
+    /**
+     * Configure the route's circuit breaker with the settings of the named resilience4j.circuitbreaker
+     * instance and the route's own timeout
+     */
+    private void configureTimeLimiter(GatewayRouteDefinition definition) {
+        String routeId = definition.getId();
+        CircuitBreakerConfig circuitBreakerConfig = circuitBreakerRegistry.find(definition.getCircuitBreaker())
+                .map(CircuitBreaker::getCircuitBreakerConfig)
+                .orElse(circuitBreakerRegistry.getDefaultConfig());
+        TimeLimiterConfig timeLimiterConfig = TimeLimiterConfig.custom()
+                .timeoutDuration(definition.getTimeout())
+                .cancelRunningFuture(true)
+                .build();
+        // Drop a time limiter created with a previous timeout so the new one takes effect
+        timeLimiterRegistry.remove(routeId);
+        circuitBreakerFactory.configure(builder -> builder
+                .circuitBreakerConfig(circuitBreakerConfig)
+                .timeLimiterConfig(timeLimiterConfig), routeId);
+    }
+
+    /**
+     * Router function whose routes can be swapped at runtime
+     */
+    private static final class ReloadableRouterFunction implements RouterFunction<ServerResponse> {
+
+        private volatile RouterFunction<ServerResponse> delegate;
+
+        private boolean isLoaded() {
+            return delegate != null;
+        }
+
+        private void setDelegate(RouterFunction<ServerResponse> routes) {
+            this.delegate = routes != null ? routes : request -> Optional.empty();
+        }
+
+        @Override
+        public Optional<HandlerFunction<ServerResponse>> route(ServerRequest request) {
+            return delegate.route(request);
+        }
+
+        @Override
+        public void accept(RouterFunctions.Visitor visitor) {
+            delegate.accept(visitor);
+        }
+    }
+}
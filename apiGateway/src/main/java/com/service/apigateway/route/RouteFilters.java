@@ -0,0 +1,145 @@
+package com.service.apigateway.route;
+
+import com.service.apigateway.dto.GatewayResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.server.mvc.common.MvcUtils;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route filters of the gateway: latency metrics, bulkhead and retry
+ */
+@Slf4j
+public final class RouteFilters {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(
+            HttpStatus.BAD_GATEWAY.value(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpStatus.GATEWAY_TIMEOUT.value()
+    );
+
+    private RouteFilters() {
+    }
+
+    /**
+     * Records gateway.route.requests (latency timer tagged by route and status); timers are built once per status
+     */
+    public static HandlerFilterFunction<ServerResponse, ServerResponse> metrics(String routeId, MeterRegistry meterRegistry) {
+        Map<String, Timer> timers = new ConcurrentHashMap<>();
+        return (request, next) -> {
+            long start = System.nanoTime();
+            String status = "error";
+            try {
+                ServerResponse response = next.handle(request);
+                status = String.valueOf(response.statusCode().value());
+                return response;
+            } finally {
+                timers.computeIfAbsent(status, key -> Timer.builder("gateway.route.requests")
+                                .tag("route", routeId)
+                                .tag("status", key)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry))
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * Caps concurrent downstream calls of a route; excess requests wait up to maxWait and then get 503
+     */
+    public static HandlerFilterFunction<ServerResponse, ServerResponse> bulkhead(String routeId,
+                                                                                GatewayRouteDefinition.Bulkhead config) {
+        if (config.getMaxConcurrent() <= 0) {
+            return (request, next) -> next.handle(request);
+        }
+        Semaphore permits = new Semaphore(config.getMaxConcurrent());
+        long maxWaitNanos = config.getMaxWait().toNanos();
+        return (request, next) -> {
+            boolean acquired = maxWaitNanos > 0
+                    ? permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)
+                    : permits.tryAcquire();
+            if (!acquired) {
+                log.warn("Bulkhead full for route {} ({} concurrent calls)", routeId, config.getMaxConcurrent());
+                return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(GatewayResponse.failure(
+                                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                                "Service is busy, please retry later"
+                        ));
+            }
+            try {
+                return next.handle(request);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * Retries idempotent requests on connection failures and 502/503/504 responses
+     */
+    public static HandlerFilterFunction<ServerResponse, ServerResponse> retry(String routeId,
+                                                                             GatewayRouteDefinition.Retry config) {
+        if (config.getAttempts() <= 0) {
+            return (request, next) -> next.handle(request);
+        }
+        Set<String> methods = Set.copyOf(config.getMethods());
+        long backoffMillis = config.getBackoff().toMillis();
+        return (request, next) -> {
+            if (!methods.contains(request.method().name())) {
+                return next.handle(request);
+            }
+            for (int attempt = 1; ; attempt++) {
+                boolean lastAttempt = attempt > config.getAttempts();
+                try {
+                    ServerResponse response = next.handle(request);
+                    if (lastAttempt || !RETRYABLE_STATUSES.contains(response.statusCode().value())) {
+                        return response;
+                    }
+                    log.debug("Retrying route {} after status {} (attempt {})", routeId, response.statusCode(), attempt);
+                    discard(request);
+                } catch (Exception e) {
+                    if (lastAttempt) {
+                        throw e;
+                    }
+                    log.debug("Retrying route {} after {} (attempt {})", routeId, e.getClass().getSimpleName(), attempt);
+                }
+                if (backoffMillis > 0) {
+                    Thread.sleep(backoffMillis);
+                }
+            }
+        };
+    }
+
+    /**
+     * Drains and closes the downstream response of a retried attempt so its pooled connection is released
+     */
+    private static void discard(ServerRequest request) {
+        ClientHttpResponse clientResponse = MvcUtils.getAttribute(request, MvcUtils.CLIENT_RESPONSE_ATTR);
+        if (clientResponse == null) {
+            return;
+        }
+        request.attributes().remove(MvcUtils.CLIENT_RESPONSE_ATTR);
+        request.attributes().remove(MvcUtils.CLIENT_RESPONSE_INPUT_STREAM_ATTR);
+        try (clientResponse; InputStream body = clientResponse.getBody()) {
+            StreamUtils.drain(body);
+        } catch (IOException e) {
+            log.debug("Could not drain discarded response: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.service.apigateway.security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.service.shared.security.InternalAssertion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Issues the internal assertion forwarded to downstream services once the gateway has validated the
+ * caller's JWT: a short-lived HS256 token with the caller's subject and scopes, which the services
+ * verify with an HMAC instead of repeating the RSA signature check.
+ * Assertions sent by clients are always stripped. The secret must be at least 256 bits.
+ */
+@Slf4j
+@Component
+public class InternalAssertionIssuer {
+
+    private static final List<String> FORWARDED_CLAIMS = List.of("scope", "scp", "roles", "client_id");
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final JwtEncoder encoder;
+
+    public InternalAssertionIssuer(
+            @Value("${platform.internal-assertion.enabled:true}") boolean enabled,
+            @Value("${platform.internal-assertion.secret:}") String secret,
+            @Value("${platform.internal-assertion.ttl:30s}") Duration ttl
+    ) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        if (enabled) {
+            if (!StringUtils.hasText(secret)) {
+                throw new IllegalStateException("platform.internal-assertion.secret (PLATFORM_INTERNAL_ASSERTION_SECRET) is not set");
+            }
+            this.encoder = new NimbusJwtEncoder(new ImmutableSecret<>(InternalAssertion.key(secret)));
+        } else {
+            this.encoder = null;
+            log.info("Internal assertions disabled, downstream services validate the caller's JWT themselves");
+        }
+    }
+
+    /**
+     * Filter replacing any client-supplied assertion with one for the authenticated caller
+     */
+    public HandlerFilterFunction<ServerResponse, ServerResponse> filter() {
+        return (request, next) -> {
+            ServerRequest.Builder builder = ServerRequest.from(request)
+                    .headers(headers -> headers.remove(InternalAssertion.HEADER));
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (enabled && authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+                builder.header(InternalAssertion.HEADER, issue(jwtAuthentication.getToken()));
+            }
+            return next.handle(builder.build());
+        };
+    }
+
+    private String issue(Jwt jwt) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(ttl);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(expiresAt)) {
+            expiresAt = jwt.getExpiresAt();
+        }
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuer(InternalAssertion.ISSUER)
+                .subject(jwt.getSubject())
+                .issuedAt(now)
+                .expiresAt(expiresAt);
+        FORWARDED_CLAIMS.forEach(claim -> {
+            Object value = jwt.getClaims().get(claim);
+            if (value != null) {
+                claims.claim(claim, value);
+            }
+        });
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return encoder.encode(JwtEncoderParameters.from(header, claims.build())).getTokenValue();
+    }
+}
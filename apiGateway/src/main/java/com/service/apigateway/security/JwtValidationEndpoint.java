@@ -0,0 +1,34 @@
+package com.service.apigateway.security;
+
+import com.service.shared.security.CachingJwtDecoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint (/actuator/jwtvalidation) with the gateway's RSA verifications and cache hits
+ */
+@Component
+@Endpoint(id = "jwtvalidation")
+@RequiredArgsConstructor
+public class JwtValidationEndpoint {
+
+    private final JwtDecoder jwtDecoder;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (jwtDecoder instanceof CachingJwtDecoder cachingDecoder) {
+            stats.put("cacheEnabled", cachingDecoder.isEnabled());
+            stats.put("signatureVerifications", cachingDecoder.getVerifications());
+            stats.put("cacheHits", cachingDecoder.getCacheHits());
+            stats.put("cacheSize", cachingDecoder.getSize());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,140 @@
+package com.service.authservice.benchmark;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyType;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.service.authservice.keystore.JwkKeyStore;
+import com.service.authservice.service.OAuth2TokenValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token validations per second in OAuth2TokenValidator: verifiers indexed by kid and built once per JWK
+ * set, against converting the key and allocating a verifier on every call (the previous path), and
+ * one parse for all claim extractors against re-validating the token for each of them.
+ * Run with ./gradlew jmh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenValidationBenchmark {
+
+    @Param({"RS256", "ES256"})
+    private String algorithm;
+
+    private Path keystoreDirectory;
+    private JWKSet publicJwkSet;
+    private OAuth2TokenValidator validator;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, JOSEException {
+        keystoreDirectory = Files.createTempDirectory("jwks-benchmark");
+        JwkKeyStore keyStore = new JwkKeyStore(event -> {
+        }, keystoreDirectory.resolve("jwks.json").toString(), algorithm,
+                Duration.ofDays(30), Duration.ofHours(1), Duration.ofDays(2));
+        publicJwkSet = keyStore.getPublicJwkSet();
+        validator = new OAuth2TokenValidator(keyStore);
+
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer("http://localhost:8085")
+                .subject("benchmark-user")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(Duration.ofHours(1))))
+                .claim("email", "benchmark@example.com")
+                .claim("username", "benchmark-user")
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(keyStore.getSigningAlgorithm())
+                .type(JOSEObjectType.JWT)
+                .keyID(keyStore.getSigningKey().getKeyID())
+                .build(), claims);
+        jwt.sign(keyStore.getSigner());
+        token = jwt.serialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.list(keystoreDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(keystoreDirectory);
+    }
+
+    @Benchmark
+    public JWTClaimsSet validateIndexed() throws ParseException, JOSEException {
+        return validator.validateAndExtractClaims(token);
+    }
+
+    @Benchmark
+    public JWTClaimsSet validatePerCallVerifier() throws ParseException, JOSEException {
+        SignedJWT signedJWT = SignedJWT.parse(token);
+        String keyId = signedJWT.getHeader().getKeyID();
+        JWK key = publicJwkSet.getKeys().stream()
+                .filter(candidate -> keyId.equals(candidate.getKeyID()))
+                .findFirst()
+                .orElseThrow();
+        JWSVerifier verifier = KeyType.EC.equals(key.getKeyType())
+                ? new ECDSAVerifier(key.toECKey().toECPublicKey())
+                : new RSASSAVerifier(key.toRSAKey().toRSAPublicKey());
+        if (!signedJWT.verify(verifier)) {
+            throw new JOSEException("Invalid token signature");
+        }
+        return signedJWT.getJWTClaimsSet();
+    }
+
+    /**
+     * Username, email and expiration from one validation
+     */
+    @Benchmark
+    public void extractOnce(Blackhole blackhole) throws ParseException, JOSEException {
+        OAuth2TokenValidator.ValidatedToken validated = validator.validate(token);
+        blackhole.consume(validated.username());
+        blackhole.consume(validated.email());
+        blackhole.consume(validated.expiration());
+    }
+
+    /**
+     * Username, email and expiration with a validation each
+     */
+    @Benchmark
+    public void extractEach(Blackhole blackhole) {
+        blackhole.consume(validator.extractUsername(token));
+        blackhole.consume(validator.extractEmail(token));
+        blackhole.consume(validator.extractExpiration(token));
+    }
+}
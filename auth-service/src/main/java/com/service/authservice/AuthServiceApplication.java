@@ -7,12 +7,14 @@ import org.springframework.boot.persistence.autoconfigure.EntityScan;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {"com.service.authservice", "com.service.shared"})
 @ComponentScan(basePackages = {"com.service.authservice", "com.service.shared"})
 @EntityScan(basePackages = {"com.service.authservice", "com.service.shared"})
 @EnableJpaRepositories(basePackages = {"com.service.authservice", "com.service.shared"})
 @EnableMongoRepositories(basePackages = {"com.service.authservice", "com.service.shared"})
+@EnableScheduling
 public class AuthServiceApplication {
 
     public static void main(String[] args) {
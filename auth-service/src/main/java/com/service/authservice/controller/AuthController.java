@@ -4,10 +4,12 @@ import com.service.shared.dto.GlobalResponse;
 import com.service.shared.entity.User;
 import com.service.authservice.service.AuthService;
 import com.service.authservice.service.OAuth2TokenValidator;
+import com.service.authservice.service.PasswordHashingService;
 import com.service.shared.util.ResponseHelper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -26,6 +29,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final OAuth2TokenValidator tokenValidator;
+    private final PasswordHashingService passwordHashingService;
 
     @PostMapping("/register")
     public ResponseEntity<GlobalResponse> register(@Valid @RequestBody RegisterRequest request) {
@@ -69,6 +73,19 @@ public class AuthController {
         );
     }
 
+    @PostMapping("/register/bulk")
+    public ResponseEntity<GlobalResponse> registerBulk(@Valid @RequestBody BulkRegisterRequest request) {
+        List<User> users = request.getUsers().stream()
+            .map(AuthController::toUser)
+            .toList();
+
+        return ResponseHelper.successWithData(
+            HttpStatus.CREATED,
+            "Bulk registration completed",
+            authService.registerAll(users)
+        );
+    }
+
     @PostMapping("/login")
     public ResponseEntity<GlobalResponse> login(@Valid @RequestBody LoginRequest request) {
         String token = authService.login(request.getUsername(), request.getPassword());
@@ -81,6 +98,12 @@ public class AuthController {
         return ResponseHelper.successWithData("Login successful", loginData);
     }
 
+    @GetMapping("/login/stats")
+    public ResponseEntity<GlobalResponse> loginStats() {
+        return ResponseHelper.successWithData("Password hashing statistics retrieved successfully",
+            passwordHashingService.getStats());
+    }
+
     @GetMapping("/validate")
     public ResponseEntity<GlobalResponse> validateToken(
             @RequestHeader(value = "Authorization", required = false) String authHeader) {
@@ -94,8 +117,11 @@ public class AuthController {
 
             String token = authHeader.substring(7).trim();
             
-            // Validate token (signature, expiration, etc.)
-            if (!tokenValidator.validateToken(token)) {
+            // Validate token (signature, expiration, etc.) once and read the claims from the result
+            OAuth2TokenValidator.ValidatedToken validatedToken;
+            try {
+                validatedToken = tokenValidator.validate(token);
+            } catch (Exception e) {
                 return ResponseHelper.failure(
                     HttpStatus.UNAUTHORIZED,
                     "Token validation failed"
@@ -103,9 +129,9 @@ public class AuthController {
             }
             
             // Extract claims
-            String username = tokenValidator.extractUsername(token);
-            String email = tokenValidator.extractEmail(token);
-            Date expiration = tokenValidator.extractExpiration(token);
+            String username = validatedToken.username();
+            String email = validatedToken.email();
+            Date expiration = validatedToken.expiration();
 
             Map<String, Object> validationData = new HashMap<>();
             validationData.put("valid", true);
@@ -130,6 +156,33 @@ public class AuthController {
         return ResponseHelper.successWithData("Service is healthy", healthData);
     }
 
+    private static User toUser(RegisterRequest request) {
+        User user = new User();
+        user.setUsername(request.getUsername());
+        user.setEmail(request.getEmail());
+        user.setPassword(request.getPassword());
+        user.setFirstName(request.getFirstName());
+        user.setLastName(request.getLastName());
+        user.setDateOfBirth(request.getDateOfBirth());
+        user.setIdDocumentType(request.getIdDocumentType());
+        user.setIdDocumentNumber(request.getIdDocumentNumber());
+        user.setAddressLine1(request.getAddressLine1());
+        user.setAddressLine2(request.getAddressLine2());
+        user.setCity(request.getCity());
+        user.setState(request.getState());
+        user.setCountry(request.getCountry());
+        user.setPostalCode(request.getPostalCode());
+        user.setPhoneNumber(request.getPhoneNumber());
+        user.setDeviceImei(request.getDeviceImei());
+        user.setDeviceModel(request.getDeviceModel());
+        user.setDeviceManufacturer(request.getDeviceManufacturer());
+        user.setDeviceOs(request.getDeviceOs());
+        user.setDeviceOsVersion(request.getDeviceOsVersion());
+        user.setSimCardNumber(request.getSimCardNumber());
+        user.setSimCardType(request.getSimCardType());
+        return user;
+    }
+
     @Data
     static class RegisterRequest {
         // Basic Information
@@ -174,6 +227,13 @@ public class AuthController {
         private String simCardType; // PHYSICAL, eSIM
     }
 
+    @Data
+    static class BulkRegisterRequest {
+        @NotEmpty
+        @Valid
+        private List<RegisterRequest> users;
+    }
+
     @Data
     static class LoginRequest {
         private String username;
@@ -1,6 +1,6 @@
 package com.service.authservice.controller;
 
-import com.nimbusds.jose.jwk.JWKSet;
+import com.service.authservice.keystore.JwkKeyStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,13 +19,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class JwkSetController {
 
-    private final JWKSet jwkSet;
+    private final JwkKeyStore keyStore;
 
     @GetMapping(value = "/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Map<String, Object>> jwks() {
         try {
-            // Convert JWKSet to Map for JSON response
-            Map<String, Object> jwksMap = jwkSet.toJSONObject();
+            // Public keys of every published kid, including keys not yet or no longer signing
+            Map<String, Object> jwksMap = keyStore.getPublicJwkSet().toJSONObject();
             
             return ResponseEntity.ok()
                     .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,277 @@
+package com.service.authservice.keystore;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Persistent, rotating signing keystore of the auth-service
+ * Keys are kept in a JWK set file (auth.keystore.path) so restarts reuse them instead of generating
+ * a new RSA key pair and invalidating every issued token. A new key is generated every rotation-period;
+ * it is published activation-delay before it starts signing, and replaced keys stay published for
+ * retention so tokens they signed keep validating. RS256 or ES256 (auth.keystore.algorithm).
+ */
+@Slf4j
+@Component
+public class JwkKeyStore {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path path;
+    private final JWSAlgorithm algorithm;
+    private final Duration rotationPeriod;
+    private final Duration activationDelay;
+    private final Duration retention;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile KeySnapshot snapshot;
+
+    public JwkKeyStore(
+            ApplicationEventPublisher eventPublisher,
+            @Value("${auth.keystore.path:./data/jwks.json}") String path,
+            @Value("${auth.keystore.algorithm:RS256}") String algorithm,
+            @Value("${auth.keystore.rotation-period:30d}") Duration rotationPeriod,
+            @Value("${auth.keystore.activation-delay:1h}") Duration activationDelay,
+            @Value("${auth.keystore.retention:2d}") Duration retention
+    ) {
+        this.eventPublisher = eventPublisher;
+        this.path = Path.of(path);
+        this.algorithm = JWSAlgorithm.parse(algorithm);
+        if (!JWSAlgorithm.RS256.equals(this.algorithm) && !JWSAlgorithm.ES256.equals(this.algorithm)) {
+            throw new IllegalStateException("Unsupported keystore algorithm (use RS256 or ES256): " + algorithm);
+        }
+        this.rotationPeriod = rotationPeriod;
+        this.activationDelay = activationDelay;
+        this.retention = retention;
+
+        lock.lock();
+        try {
+            List<JWK> keys = load();
+            if (keys.isEmpty()) {
+                // First start: the key signs immediately
+                keys.add(generate(Instant.now().minus(activationDelay)));
+                persist(keys);
+                log.info("Generated initial {} signing key", this.algorithm);
+            }
+            this.snapshot = KeySnapshot.of(keys, activationDelay);
+            rotateIfDue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void publishInitialKeys() {
+        eventPublisher.publishEvent(new JwkSetChangedEvent(snapshot.publicJwkSet()));
+    }
+
+    /**
+     * All published keys, including private parts (for the authorization server's JWKSource)
+     */
+    public JWKSet getJwkSet() {
+        return snapshot.jwkSet();
+    }
+
+    /**
+     * Public keys of all published kids (for /.well-known/jwks.json and token validation)
+     */
+    public JWKSet getPublicJwkSet() {
+        return snapshot.publicJwkSet();
+    }
+
+    /**
+     * Key currently used for signing
+     */
+    public JWK getSigningKey() {
+        return snapshot.signingKey();
+    }
+
+    public JWSSigner getSigner() {
+        return snapshot.signer();
+    }
+
+    public JWSAlgorithm getSigningAlgorithm() {
+        return JWSAlgorithm.parse(snapshot.signingKey().getAlgorithm().getName());
+    }
+
+    /**
+     * Generate the next key when the newest one has reached its rotation period (or the configured
+     * algorithm changed), drop keys whose retention has passed, and switch to the newest key once its
+     * activation delay has passed
+     */
+    @Scheduled(fixedDelayString = "${auth.keystore.rotation-check-interval-ms:3600000}")
+    public void rotate() {
+        lock.lock();
+        try {
+            if (rotateIfDue()) {
+                eventPublisher.publishEvent(new JwkSetChangedEvent(snapshot.publicJwkSet()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean rotateIfDue() {
+        Instant now = Instant.now();
+        List<JWK> keys = new ArrayList<>(snapshot.jwkSet().getKeys());
+        boolean changed = false;
+
+        JWK newest = keys.getFirst();
+        boolean algorithmChanged = !algorithm.equals(newest.getAlgorithm());
+        if (algorithmChanged || issuedAt(newest).plus(rotationPeriod).isBefore(now)) {
+            keys.addFirst(generate(now));
+            changed = true;
+            log.info("Generated {} key, signing from {}", algorithm, now.plus(activationDelay));
+        }
+
+        // Keys older than the signing key are retained until retention after it took over
+        JWK signingKey = KeySnapshot.signingKey(keys, activationDelay);
+        Instant replacedAt = issuedAt(signingKey).plus(activationDelay);
+        if (replacedAt.plus(retention).isBefore(now)) {
+            int signingIndex = keys.indexOf(signingKey);
+            if (keys.size() > signingIndex + 1) {
+                List<JWK> expired = keys.subList(signingIndex + 1, keys.size());
+                log.info("Removing retired signing keys: {}", expired.stream().map(JWK::getKeyID).toList());
+                expired.clear();
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            persist(keys);
+            snapshot = KeySnapshot.of(keys, activationDelay);
+        } else if (!signingKey.getKeyID().equals(snapshot.signingKey().getKeyID())) {
+            // A published key has passed its activation delay: switch signing without changing the set
+            snapshot = KeySnapshot.of(keys, activationDelay);
+            log.info("Key {} is now the signing key", signingKey.getKeyID());
+        }
+        return changed;
+    }
+
+    private JWK generate(Instant issuedAt) {
+        try {
+            String keyId = UUID.randomUUID().toString();
+            if (JWSAlgorithm.ES256.equals(algorithm)) {
+                return new ECKeyGenerator(Curve.P_256)
+                        .keyID(keyId)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .algorithm(JWSAlgorithm.ES256)
+                        .issueTime(Date.from(issuedAt))
+                        .generate();
+            }
+            return new RSAKeyGenerator(2048)
+                    .keyID(keyId)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .algorithm(JWSAlgorithm.RS256)
+                    .issueTime(Date.from(issuedAt))
+                    .generate();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to generate " + algorithm + " key", e);
+        }
+    }
+
+    private List<JWK> load() {
+        if (!Files.exists(path)) {
+            return new ArrayList<>();
+        }
+        try {
+            List<JWK> keys = new ArrayList<>(JWKSet.load(path.toFile()).getKeys());
+            keys.sort(Comparator.comparing(JwkKeyStore::issuedAt).reversed());
+            log.info("Loaded {} signing keys from {}", keys.size(), path);
+            return keys;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Failed to read keystore " + path, e);
+        }
+    }
+
+    /**
+     * Write the key set atomically, readable by the owner only
+     */
+    private void persist(List<JWK> keys) {
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "jwks", ".tmp");
+            try {
+                Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException e) {
+                log.debug("POSIX permissions not supported for {}", temp);
+            }
+            Files.writeString(temp, new JWKSet(keys).toString(false), StandardCharsets.UTF_8);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write keystore " + path, e);
+        }
+    }
+
+    private static Instant issuedAt(JWK key) {
+        return key.getIssueTime() != null ? key.getIssueTime().toInstant() : Instant.EPOCH;
+    }
+
+    /**
+     * Immutable view of the keys, newest first, with the signer of the current signing key
+     */
+    private record KeySnapshot(JWKSet jwkSet, JWKSet publicJwkSet, JWK signingKey, JWSSigner signer) {
+
+        static KeySnapshot of(List<JWK> keys, Duration activationDelay) {
+            JWKSet jwkSet = new JWKSet(List.copyOf(keys));
+            JWK signingKey = signingKey(keys, activationDelay);
+            return new KeySnapshot(jwkSet, jwkSet.toPublicJWKSet(), signingKey, signer(signingKey));
+        }
+
+        /**
+         * Newest key whose activation delay has passed; the oldest key if none has
+         */
+        static JWK signingKey(List<JWK> keys, Duration activationDelay) {
+            Instant now = Instant.now();
+            return keys.stream()
+                    .filter(key -> !issuedAt(key).plus(activationDelay).isAfter(now))
+                    .findFirst()
+                    .orElse(keys.getLast());
+        }
+
+        private static JWSSigner signer(JWK key) {
+            try {
+                if (key instanceof ECKey ecKey) {
+                    return new ECDSASigner(ecKey);
+                }
+                return new RSASSASigner((RSAKey) key);
+            } catch (JOSEException e) {
+                throw new IllegalStateException("Invalid signing key: " + key.getKeyID(), e);
+            }
+        }
+    }
+}
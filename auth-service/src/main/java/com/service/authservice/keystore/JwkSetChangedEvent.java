@@ -0,0 +1,11 @@
+package com.service.authservice.keystore;
+
+import com.nimbusds.jose.jwk.JWKSet;
+
+/**
+ * Published when the keystore's JWK set changes (startup load or rotation)
+ *
+ * @param publicJwkSet Public keys of every published kid
+ */
+public record JwkSetChangedEvent(JWKSet publicJwkSet) {
+}
@@ -1,15 +1,23 @@
 package com.service.authservice.service;
 
 import com.service.shared.entity.User;
+import com.service.shared.repository.UserCredentials;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserService userService;
+    private final PasswordHashingService passwordHashingService;
+    private final BulkRegistrationService bulkRegistrationService;
     private final OAuth2TokenService oAuth2TokenService;
 
     @Transactional
@@ -31,14 +39,28 @@ public class AuthService {
                 simCardNumber, simCardType);
     }
 
+    /**
+     * Register a fleet of users (e.g. IoT devices) in batches
+     *
+     * @param users New users; password holds the raw password
+     */
+    public Map<String, Object> registerAll(List<User> users) {
+        return bulkRegistrationService.registerAll(users);
+    }
+
     public String login(String username, String password) {
-        User user = userService.findByUsername(username)
+        UserCredentials user = userService.findCredentialsByUsername(username)
             .orElseThrow(() -> new RuntimeException("Invalid username or password"));
 
         if (!userService.validatePassword(password, user.getPassword())) {
             throw new RuntimeException("Invalid username or password");
         }
 
+        if (passwordHashingService.needsUpgrade(user.getPassword())) {
+            userService.updatePassword(user.getId(), passwordHashingService.upgrade(password));
+            log.debug("Upgraded password hash cost for user: {}", username);
+        }
+
         return oAuth2TokenService.generateToken(user.getUsername(), user.getEmail());
     }
 }
@@ -0,0 +1,159 @@
+package com.service.authservice.service;
+
+import com.service.shared.entity.User;
+import com.service.shared.subscriber.SubscriberProfilePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk registration for onboarding device fleets
+ * Users are inserted with one multi-row INSERT ... ON CONFLICT DO NOTHING per batch instead of
+ * one Hibernate insert each (IDENTITY ids disable JDBC batching). Rows that hit a unique constraint
+ * are skipped and reported; each batch commits on its own, so a failure keeps earlier batches.
+ */
+@Slf4j
+@Service
+public class BulkRegistrationService {
+
+    private static final String[] COLUMNS = {
+            "username", "email", "password",
+            "first_name", "last_name", "date_of_birth", "id_document_type", "id_document_number", "kyc_verified",
+            "address_line1", "address_line2", "city", "state", "country", "postal_code",
+            "phone_number", "phone_verified",
+            "device_imei", "device_model", "device_manufacturer", "device_os", "device_os_version", "device_status",
+            "sim_card_number", "sim_card_type", "sim_card_status",
+            "qos_enabled", "created_at", "updated_at"
+    };
+
+    /**
+     * PostgreSQL accepts at most 32767 bind parameters per statement
+     */
+    private static final int MAX_BATCH_SIZE = Short.MAX_VALUE / COLUMNS.length;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordHashingService passwordHashingService;
+    private final UserService userService;
+    private final SubscriberProfilePublisher profilePublisher;
+    private final int batchSize;
+    private final int maxUsers;
+
+    public BulkRegistrationService(
+            JdbcTemplate jdbcTemplate,
+            PasswordHashingService passwordHashingService,
+            UserService userService,
+            SubscriberProfilePublisher profilePublisher,
+            @Value("${auth.bulk-registration.batch-size:1000}") int batchSize,
+            @Value("${auth.bulk-registration.max-users:100000}") int maxUsers
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordHashingService = passwordHashingService;
+        this.userService = userService;
+        this.profilePublisher = profilePublisher;
+        this.batchSize = Math.min(batchSize, MAX_BATCH_SIZE);
+        this.maxUsers = maxUsers;
+    }
+
+    /**
+     * Register users in batches
+     *
+     * @param users New users; password holds the raw password
+     * @return Counts and the usernames skipped because a unique value already existed
+     */
+    public Map<String, Object> registerAll(List<User> users) {
+        if (users.size() > maxUsers) {
+            throw new IllegalArgumentException("At most " + maxUsers + " users can be registered per request");
+        }
+        long start = System.nanoTime();
+        List<String> skipped = new ArrayList<>();
+        int registered = 0;
+
+        for (int from = 0; from < users.size(); from += batchSize) {
+            List<User> batch = users.subList(from, Math.min(from + batchSize, users.size()));
+            List<String> inserted = insertBatch(batch);
+            registered += inserted.size();
+
+            // Removing matches also reports duplicates within the request as skipped
+            Set<String> insertedUsernames = new HashSet<>(inserted);
+            for (User user : batch) {
+                if (insertedUsernames.remove(user.getUsername())) {
+                    userService.forgetUnknownUsername(user.getUsername());
+                    user.setDeviceStatus("ACTIVE");
+                    user.setSimCardStatus("ACTIVE");
+                    profilePublisher.publishChanged(user);
+                } else {
+                    skipped.add(user.getUsername());
+                }
+            }
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Bulk registration: {} registered, {} skipped in {} ms", registered, skipped.size(), elapsedMs);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requested", users.size());
+        result.put("registered", registered);
+        result.put("skipped", skipped.size());
+        result.put("skippedUsernames", skipped);
+        result.put("elapsedMs", elapsedMs);
+        return result;
+    }
+
+    private List<String> insertBatch(List<User> batch) {
+        List<String> passwords = passwordHashingService.encodeAll(batch.stream().map(User::getPassword).toList());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        String row = "(" + String.join(", ", Collections.nCopies(COLUMNS.length, "?")) + ")";
+        String sql = "INSERT INTO users (" + String.join(", ", COLUMNS) + ") VALUES "
+                + String.join(", ", Collections.nCopies(batch.size(), row))
+                + " ON CONFLICT DO NOTHING RETURNING username";
+
+        List<Object> args = new ArrayList<>(batch.size() * COLUMNS.length);
+        for (int i = 0; i < batch.size(); i++) {
+            User user = batch.get(i);
+            args.add(user.getUsername());
+            args.add(user.getEmail());
+            args.add(passwords.get(i));
+            args.add(user.getFirstName());
+            args.add(user.getLastName());
+            args.add(user.getDateOfBirth() != null ? Date.valueOf(user.getDateOfBirth()) : null);
+            args.add(user.getIdDocumentType());
+            args.add(user.getIdDocumentNumber());
+            args.add(false);
+            args.add(user.getAddressLine1());
+            args.add(user.getAddressLine2());
+            args.add(user.getCity());
+            args.add(user.getState());
+            args.add(user.getCountry());
+            args.add(user.getPostalCode());
+            args.add(user.getPhoneNumber());
+            args.add(false);
+            args.add(user.getDeviceImei());
+            args.add(user.getDeviceModel());
+            args.add(user.getDeviceManufacturer());
+            args.add(user.getDeviceOs());
+            args.add(user.getDeviceOsVersion());
+            args.add("ACTIVE");
+            args.add(user.getSimCardNumber());
+            args.add(user.getSimCardType());
+            args.add("ACTIVE");
+            args.add(false);
+            args.add(now);
+            args.add(now);
+        }
+
+        return jdbcTemplate.queryForList(sql, String.class, args.toArray());
+    }
+}
@@ -2,13 +2,11 @@ package com.service.authservice.service;
 
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JOSEObjectType;
-import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.crypto.RSASSASigner;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import com.service.authservice.keystore.JwkKeyStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -19,14 +17,14 @@ import java.util.List;
 import java.util.UUID;
 
 /**
- * Service for generating OAuth2 JWT tokens using RSA keys
+ * Service for generating OAuth2 JWT tokens with the keystore's current signing key
  * This ensures tokens are signed with the same keys as the OAuth2 Authorization Server
  */
 @Service
 @RequiredArgsConstructor
 public class OAuth2TokenService {
 
-    private final JWKSet jwkSet;
+    private final JwkKeyStore keyStore;
     
     @Value("${jwt.expiration:86400000}") // 24 hours default
     private Long expiration;
@@ -35,16 +33,12 @@ public class OAuth2TokenService {
     private String issuerUri;
 
     /**
-     * Generate a JWT token signed with RSA keys (same as OAuth2 Authorization Server)
+     * Generate a JWT token signed with the current signing key (same as OAuth2 Authorization Server)
      */
     public String generateToken(String username, String email) {
         try {
-            // Get the RSA key from the JWK Set
-            RSAKey rsaKey = jwkSet.getKeys().stream()
-                    .filter(key -> key instanceof RSAKey)
-                    .map(key -> (RSAKey) key)
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalStateException("No RSA key found in JWK Set"));
+            // Current signing key; its signer is built once per key, not per token
+            JWK signingKey = keyStore.getSigningKey();
 
             // Create JWT claims
             Instant now = Instant.now();
@@ -62,16 +56,14 @@ public class OAuth2TokenService {
                     .build();
 
             // Create signed JWT
-            JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256)
+            JWSHeader header = new JWSHeader.Builder(keyStore.getSigningAlgorithm())
                     .type(JOSEObjectType.JWT)
-                    .keyID(rsaKey.getKeyID())
+                    .keyID(signingKey.getKeyID())
                     .build();
 
             SignedJWT signedJWT = new SignedJWT(header, claimsSet);
             
-            // Sign with RSA private key
-            RSASSASigner signer = new RSASSASigner(rsaKey.toRSAPrivateKey());
-            signedJWT.sign(signer);
+            signedJWT.sign(keyStore.getSigner());
 
             return signedJWT.serialize();
         } catch (JOSEException e) {
@@ -1,41 +1,67 @@
 package com.service.authservice.service;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import lombok.RequiredArgsConstructor;
+import com.service.authservice.keystore.JwkKeyStore;
+import com.service.authservice.keystore.JwkSetChangedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.text.ParseException;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Service for validating OAuth2 JWT tokens signed with RSA keys
+ * Service for validating OAuth2 JWT tokens signed with the keystore's RSA or EC keys
+ * Verifiers are built once per JWK set and looked up by the token's kid, so a validation
+ * costs one parse and one signature check.
  */
 @Service
-@RequiredArgsConstructor
 public class OAuth2TokenValidator {
 
-    private final JWKSet jwkSet;
+    private volatile VerifierIndex verifiers;
+
+    public OAuth2TokenValidator(JwkKeyStore keyStore) {
+        this.verifiers = VerifierIndex.of(keyStore.getPublicJwkSet());
+    }
+
+    /**
+     * Rebuild the verifiers after the JWK set has changed (key rotation)
+     */
+    public void reload(JWKSet jwkSet) {
+        this.verifiers = VerifierIndex.of(jwkSet);
+    }
+
+    @EventListener
+    public void onJwkSetChanged(JwkSetChangedEvent event) {
+        reload(event.publicJwkSet());
+    }
+
+    /**
+     * Validate a token once and return its claims for all further lookups
+     */
+    public ValidatedToken validate(String token) throws ParseException, JOSEException {
+        return new ValidatedToken(validateAndExtractClaims(token));
+    }
 
     /**
      * Validate and extract claims from a JWT token
      */
     public JWTClaimsSet validateAndExtractClaims(String token) throws ParseException, JOSEException {
         SignedJWT signedJWT = SignedJWT.parse(token);
-        
-        // Get the RSA key from JWK Set
-        RSAKey rsaKey = jwkSet.getKeys().stream()
-                .filter(key -> key instanceof RSAKey)
-                .map(key -> (RSAKey) key)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("No RSA key found in JWK Set"));
-
-        // Verify signature
-        RSASSAVerifier verifier = new RSASSAVerifier(rsaKey.toRSAPublicKey());
+
+        // Verify signature with the verifier of the signing key
+        JWSVerifier verifier = verifiers.forKeyId(signedJWT.getHeader().getKeyID());
         if (!signedJWT.verify(verifier)) {
             throw new JOSEException("Invalid token signature");
         }
@@ -57,8 +83,7 @@ public class OAuth2TokenValidator {
      */
     public String extractUsername(String token) {
         try {
-            JWTClaimsSet claimsSet = validateAndExtractClaims(token);
-            return claimsSet.getSubject();
+            return validate(token).username();
         } catch (Exception e) {
             throw new RuntimeException("Failed to extract username from token", e);
         }
@@ -69,8 +94,7 @@ public class OAuth2TokenValidator {
      */
     public String extractEmail(String token) {
         try {
-            JWTClaimsSet claimsSet = validateAndExtractClaims(token);
-            return claimsSet.getStringClaim("email");
+            return validate(token).email();
         } catch (Exception e) {
             throw new RuntimeException("Failed to extract email from token", e);
         }
@@ -81,8 +105,7 @@ public class OAuth2TokenValidator {
      */
     public Date extractExpiration(String token) {
         try {
-            JWTClaimsSet claimsSet = validateAndExtractClaims(token);
-            return claimsSet.getExpirationTime();
+            return validate(token).expiration();
         } catch (Exception e) {
             throw new RuntimeException("Failed to extract expiration from token", e);
         }
@@ -93,9 +116,8 @@ public class OAuth2TokenValidator {
      */
     public boolean isTokenExpired(String token) {
         try {
-            JWTClaimsSet claimsSet = validateAndExtractClaims(token);
-            Date expirationTime = claimsSet.getExpirationTime();
-            return expirationTime != null && expirationTime.before(new Date());
+            validateAndExtractClaims(token);
+            return false;
         } catch (Exception e) {
             return true; // Consider invalid tokens as expired
         }
@@ -112,4 +134,76 @@ public class OAuth2TokenValidator {
             return false;
         }
     }
+
+    /**
+     * Claims of a validated token, parsed once and shared by all extractors
+     */
+    public record ValidatedToken(JWTClaimsSet claims) {
+
+        public String username() {
+            return claims.getSubject();
+        }
+
+        public String email() {
+            try {
+                return claims.getStringClaim("email");
+            } catch (ParseException e) {
+                throw new IllegalStateException("Email claim is not a string", e);
+            }
+        }
+
+        public Date expiration() {
+            return claims.getExpirationTime();
+        }
+    }
+
+    /**
+     * RSA and EC verifiers of a JWK set indexed by key id
+     */
+    private record VerifierIndex(Map<String, JWSVerifier> byKeyId, JWSVerifier fallback) {
+
+        static VerifierIndex of(JWKSet jwkSet) {
+            Map<String, JWSVerifier> byKeyId = new HashMap<>();
+            JWSVerifier fallback = null;
+            List<JWK> keys = jwkSet.getKeys();
+            for (JWK key : keys) {
+                try {
+                    JWSVerifier verifier;
+                    if (key instanceof RSAKey rsaKey) {
+                        verifier = new RSASSAVerifier(rsaKey.toRSAPublicKey());
+                    } else if (key instanceof ECKey ecKey) {
+                        verifier = new ECDSAVerifier(ecKey.toECPublicKey());
+                    } else {
+                        continue;
+                    }
+                    if (key.getKeyID() != null) {
+                        byKeyId.put(key.getKeyID(), verifier);
+                    }
+                    if (fallback == null) {
+                        fallback = verifier;
+                    }
+                } catch (JOSEException e) {
+                    throw new IllegalStateException("Invalid key in JWK Set: " + key.getKeyID(), e);
+                }
+            }
+            if (fallback == null) {
+                throw new IllegalStateException("No signing key found in JWK Set");
+            }
+            return new VerifierIndex(Map.copyOf(byKeyId), fallback);
+        }
+
+        /**
+         * Verifier of the key; tokens without kid use the first (current) key
+         */
+        JWSVerifier forKeyId(String keyId) throws JOSEException {
+            if (keyId == null) {
+                return fallback;
+            }
+            JWSVerifier verifier = byKeyId.get(keyId);
+            if (verifier == null) {
+                throw new JOSEException("Unknown signing key: " + keyId);
+            }
+            return verifier;
+        }
+    }
 }
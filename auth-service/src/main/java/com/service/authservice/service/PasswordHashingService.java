@@ -0,0 +1,206 @@
+package com.service.authservice.service;
+
+import com.service.shared.exception.GlobalException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs password hashing on a dedicated, bounded pool
+ * BCrypt is CPU-bound, so a login storm on virtual request threads would otherwise
+ * saturate every core. Hashes run on at most `threads` platform threads; once
+ * `queue-capacity` hashes are waiting, further logins are rejected with 503 instead of queueing.
+ * Bulk hashing runs on its own smaller pool (bulk-threads, one batch at a time, bulk-timeout per batch)
+ * so a large registration never takes permits from logins.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final Duration bulkTimeout;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder upgraded = new LongAdder();
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:256}") int queueCapacity,
+            @Value("${auth.password-hashing.timeout:5s}") Duration timeout,
+            @Value("${auth.password-hashing.bulk-threads:0}") int bulkThreads,
+            @Value("${auth.password-hashing.bulk-timeout:5m}") Duration bulkTimeout
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.bulkTimeout = bulkTimeout;
+        int cores = Runtime.getRuntime().availableProcessors();
+        int poolSize = threads > 0 ? threads : cores;
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, cores / 4);
+        this.executor = pool("password-hashing-", poolSize, queueCapacity);
+        // Queue holds the slices of a single batch; a second concurrent batch is rejected
+        this.bulkExecutor = pool("password-hashing-bulk-", bulkPoolSize, bulkPoolSize);
+        log.info("Password hashing pool: {} threads, queue capacity {}; bulk pool: {} threads",
+                poolSize, queueCapacity, bulkPoolSize);
+    }
+
+    /**
+     * Check a raw password against its hash
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Hash a batch of passwords on the bulk pool, one slice per bulk thread
+     * The whole batch must finish within bulk-timeout; a batch arriving while another runs gets 503.
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int slices = Math.min(bulkExecutor.getMaximumPoolSize(), rawPasswords.size());
+        List<Future<List<String>>> futures = new ArrayList<>(slices);
+        try {
+            for (int slice = 0; slice < slices; slice++) {
+                List<String> part = rawPasswords.subList(
+                        slice * rawPasswords.size() / slices, (slice + 1) * rawPasswords.size() / slices);
+                futures.add(bulkExecutor.submit(() -> part.stream().map(passwordEncoder::encode).toList()));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            rejected.increment();
+            throw bulkBusy();
+        }
+
+        long deadline = System.nanoTime() + bulkTimeout.toNanos();
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        try {
+            for (Future<List<String>> future : futures) {
+                encoded.addAll(future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+            }
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            rejected.increment();
+            throw bulkBusy();
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        completed.add(rawPasswords.size());
+        return encoded;
+    }
+
+    /**
+     * Whether the hash was produced with a lower cost than the configured one
+     * Upgrades are deferred while the pool is more than half busy, so a storm is not doubled.
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword)
+                && executor.getQueue().size() < executor.getQueue().remainingCapacity();
+    }
+
+    /**
+     * Re-hash a verified password with the configured cost
+     */
+    public String upgrade(String rawPassword) {
+        String encoded = encode(rawPassword);
+        upgraded.increment();
+        return encoded;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueRemainingCapacity", executor.getQueue().remainingCapacity());
+        stats.put("bulkThreads", bulkExecutor.getMaximumPoolSize());
+        stats.put("bulkActive", bulkExecutor.getActiveCount());
+        stats.put("completed", completed.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("upgraded", upgraded.sum());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor pool(String namePrefix, int size, int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw overloaded();
+        }
+
+        try {
+            T result = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            completed.increment();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private GlobalException overloaded() {
+        return new GlobalException(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Too many login attempts in progress. Please try again later.");
+    }
+
+    private GlobalException bulkBusy() {
+        return new GlobalException(HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Bulk registration is busy or timed out. Please try again later.");
+    }
+}
@@ -1,21 +1,54 @@
 package com.service.authservice.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.service.shared.entity.User;
+import com.service.shared.repository.UserCredentials;
 import com.service.shared.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.service.shared.repository.UserUniqueKeys;
+import com.service.shared.subscriber.SubscriberProfilePublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final SubscriberProfilePublisher profilePublisher;
+
+    /**
+     * Usernames recently looked up without a match, so repeated logins for them skip the database
+     * Registration already reveals whether a username exists, so this adds no enumeration oracle.
+     * The cache is per instance and only invalidated locally: a username registered through another
+     * instance can stay unknown here for up to the TTL, which is why the TTL is kept short.
+     */
+    private final Cache<String, Boolean> unknownUsernames;
+
+    public UserService(
+            UserRepository userRepository,
+            PasswordHashingService passwordHashingService,
+            SubscriberProfilePublisher profilePublisher,
+            @Value("${auth.login.negative-cache.maximum-size:100000}") long negativeCacheSize,
+            @Value("${auth.login.negative-cache.ttl:10s}") Duration negativeCacheTtl
+    ) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.profilePublisher = profilePublisher;
+        this.unknownUsernames = Caffeine.newBuilder()
+                .maximumSize(negativeCacheSize)
+                .expireAfterWrite(negativeCacheTtl)
+                .build();
+    }
 
     @Transactional
     public User registerUser(String username, String email, String password,
@@ -26,26 +59,18 @@ public class UserService {
                            String state, String country, String postalCode,
                            String idDocumentType, String idDocumentNumber,
                            String simCardNumber, String simCardType) {
-        if (userRepository.existsByUsername(username)) {
-            throw new RuntimeException("Username already exists");
-        }
-        if (userRepository.existsByEmail(email)) {
-            throw new RuntimeException("Email already exists");
-        }
-        if (phoneNumber != null && userRepository.existsByPhoneNumber(phoneNumber)) {
-            throw new RuntimeException("Phone number already exists");
-        }
-        if (deviceImei != null && userRepository.existsByDeviceImei(deviceImei)) {
-            throw new RuntimeException("Device IMEI already exists");
-        }
-        if (simCardNumber != null && userRepository.existsBySimCardNumber(simCardNumber)) {
-            throw new RuntimeException("SIM card number already exists");
+        // One lookup across all unique columns; the constraints still guard concurrent inserts
+        List<UserUniqueKeys> conflicts = userRepository.findUniqueKeyConflicts(
+                username, email, phoneNumber, deviceImei, simCardNumber);
+        if (!conflicts.isEmpty()) {
+            throw new RuntimeException(conflictMessage(conflicts,
+                    username, email, phoneNumber, deviceImei, simCardNumber));
         }
 
         User user = new User();
         user.setUsername(username);
         user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(password));
+        user.setPassword(passwordHashingService.encode(password));
         
         // KYC Information
         user.setFirstName(firstName);
@@ -78,7 +103,37 @@ public class UserService {
         user.setSimCardType(simCardType);
         user.setSimCardStatus("ACTIVE");
 
-        return userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent registration of the same values
+            throw new RuntimeException("User with the same username, email, phone number, "
+                    + "device IMEI or SIM card number already exists", e);
+        }
+        forgetUnknownUsername(username);
+        profilePublisher.publishChanged(saved);
+        return saved;
+    }
+
+    /**
+     * Message of the first conflicting column, in the order the checks used to run
+     */
+    private static String conflictMessage(List<UserUniqueKeys> conflicts, String username, String email,
+                                          String phoneNumber, String deviceImei, String simCardNumber) {
+        if (conflicts.stream().anyMatch(c -> username.equals(c.getUsername()))) {
+            return "Username already exists";
+        }
+        if (conflicts.stream().anyMatch(c -> email.equals(c.getEmail()))) {
+            return "Email already exists";
+        }
+        if (phoneNumber != null && conflicts.stream().anyMatch(c -> phoneNumber.equals(c.getPhoneNumber()))) {
+            return "Phone number already exists";
+        }
+        if (deviceImei != null && conflicts.stream().anyMatch(c -> deviceImei.equals(c.getDeviceImei()))) {
+            return "Device IMEI already exists";
+        }
+        return "SIM card number already exists";
     }
 
     public Optional<User> findByPhoneNumber(String phoneNumber) {
@@ -101,7 +156,43 @@ public class UserService {
         return userRepository.findByEmail(email);
     }
 
+    /**
+     * Credential columns of a user, for login
+     */
+    public Optional<UserCredentials> findCredentialsByUsername(String username) {
+        if (unknownUsernames.getIfPresent(username) != null) {
+            return Optional.empty();
+        }
+        Optional<UserCredentials> credentials = userRepository.findCredentialsByUsername(username);
+        if (credentials.isEmpty()) {
+            unknownUsernames.put(username, Boolean.TRUE);
+        }
+        return credentials;
+    }
+
+    /**
+     * Drop a username from the negative cache once it has been registered
+     * Inside a transaction this happens after commit, so a login in between cannot cache it again.
+     */
+    public void forgetUnknownUsername(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    unknownUsernames.invalidate(username);
+                }
+            });
+        } else {
+            unknownUsernames.invalidate(username);
+        }
+    }
+
+    @Transactional
+    public void updatePassword(Long userId, String encodedPassword) {
+        userRepository.updatePassword(userId, encodedPassword);
+    }
+
     public boolean validatePassword(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return passwordHashingService.matches(rawPassword, encodedPassword);
     }
 }
@@ -2,6 +2,8 @@ package com.service.connectivityservice.client;
 
 import com.service.shared.dto.request.CreateSessionRequestDTO;
 import com.service.shared.dto.request.DeviceRequestDTO;
+import com.service.shared.dto.response.QodSessionResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -17,5 +19,22 @@ public interface NokiaNacQosClient {
 
     Mono<Map<String, Object>> getSession(String sessionId);
 
+    Flux<QodSessionResponse> streamSessions(DeviceRequestDTO request);
+
+    /**
+     * Every QoD session of the account, decoded element by element (registry reconciliation)
+     */
+    Flux<QodSessionResponse> streamAllSessions();
+
+    /**
+     * Extend a session by additionalDuration seconds; returns the session with its new expiry
+     */
+    Mono<QodSessionResponse> extendSession(String sessionId, int additionalDuration);
+
+    /**
+     * Delete a session; completes empty when Nokia no longer knows it
+     */
+    Mono<Void> deleteSession(String sessionId);
+
     Mono<Map<String, Object>> postRequest(String endpoint, Object requestBody);
 }
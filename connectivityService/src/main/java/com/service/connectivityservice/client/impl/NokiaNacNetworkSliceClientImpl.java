@@ -4,6 +4,7 @@ import com.service.connectivityservice.client.NokiaNacNetworkSliceClient;
 import com.service.shared.dto.request.CreateNetworkSliceSubscriptionDTO;
 import com.service.shared.exception.GlobalException;
 import com.service.shared.service.NokiaNacTokenManager;
+import com.service.shared.util.NokiaNacResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -19,6 +20,7 @@ import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -31,11 +33,13 @@ public class NokiaNacNetworkSliceClientImpl implements NokiaNacNetworkSliceClien
 
     private static final String NETWORK_SLICE_SUBSCRIPTIONS_PATH = "/network-slice/v0/subscriptions";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+    private static final String SUBSCRIPTIONS_CACHE_ENDPOINT = "network-slice-subscriptions";
 
     private final WebClient webClient;
     private final Retry retrySpec;
     private final Duration timeout;
     private final NokiaNacTokenManager tokenManager;
+    private final NokiaNacResponseCache responseCache;
 
     @Value("${nokia.nac.base-url}")
     private String nokiaBaseUrl;
@@ -48,12 +52,14 @@ public class NokiaNacNetworkSliceClientImpl implements NokiaNacNetworkSliceClien
             @Qualifier("nokiaWebClient") WebClient webClient,
             @Value("${nokia.nac.timeout:30000}") int timeoutMs,
             @Value("${nokia.nac.retry-attempts:3}") int retryAttempts,
-            NokiaNacTokenManager tokenManager
+            NokiaNacTokenManager tokenManager,
+            NokiaNacResponseCache responseCache
     ) {
         this.webClient = webClient;
         this.timeout = Duration.ofMillis(timeoutMs);
         this.retrySpec = createRetrySpec(retryAttempts);
         this.tokenManager = tokenManager;
+        this.responseCache = responseCache;
     }
 
     private Retry createRetrySpec(int retryAttempts) {
@@ -116,6 +122,7 @@ public class NokiaNacNetworkSliceClientImpl implements NokiaNacNetworkSliceClien
                 .map(map -> (Map<String, Object>) map)
                 .timeout(timeout)
                 .retryWhen(retrySpec)
+                .doOnSuccess(result -> responseCache.invalidate(SUBSCRIPTIONS_CACHE_ENDPOINT))
                 .doOnSuccess(result -> log.info("Network slice subscription created successfully: {}", result))
                 .doOnError(error -> log.error("Failed to create network slice subscription", error))
                 .onErrorMap(throwable -> {
@@ -134,32 +141,35 @@ public class NokiaNacNetworkSliceClientImpl implements NokiaNacNetworkSliceClien
     public Mono<Map<String, Object>> getAllNetworkSliceSubscriptions() {
         log.debug("Fetching all network slice subscriptions");
 
-        // Get OAuth2 access token
-        String accessToken = tokenManager.getAccessToken();
-        
-        return webClient.get()
-                .uri(NETWORK_SLICE_SUBSCRIPTIONS_PATH)
-                .header("X-RapidAPI-Key", apiKey)
-                .header("X-RapidAPI-Host", host)
-                .header("Authorization", "Bearer " + accessToken)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleError)
-                .bodyToMono(Map.class)
-                .cast(Map.class)
-                .map(map -> (Map<String, Object>) map)
-                .timeout(timeout)
-                .retryWhen(retrySpec)
-                .doOnSuccess(result -> log.debug("Retrieved network slice subscriptions: {}", result))
-                .doOnError(error -> log.error("Failed to get network slice subscriptions", error))
-                .onErrorMap(throwable -> {
-                    if (throwable instanceof GlobalException) {
-                        return throwable;
-                    }
-                    return new GlobalException(
-                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                            "Failed to get network slice subscriptions: " + throwable.getMessage(),
-                            throwable);
-                });
+        return responseCache.get(SUBSCRIPTIONS_CACHE_ENDPOINT, "all", () -> {
+            // Get OAuth2 access token
+            String accessToken = tokenManager.getAccessToken();
+
+            return webClient.get()
+                    .uri(NETWORK_SLICE_SUBSCRIPTIONS_PATH)
+                    .header("X-RapidAPI-Key", apiKey)
+                    .header("X-RapidAPI-Host", host)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, this::handleError)
+                    .bodyToMono(Map.class)
+                    .cast(Map.class)
+                    // Cached and shared by all callers, so handed out read-only
+                    .map(map -> Collections.unmodifiableMap((Map<String, Object>) map))
+                    .timeout(timeout)
+                    .retryWhen(retrySpec)
+                    .doOnSuccess(result -> log.debug("Retrieved network slice subscriptions: {}", result))
+                    .doOnError(error -> log.error("Failed to get network slice subscriptions", error))
+                    .onErrorMap(throwable -> {
+                        if (throwable instanceof GlobalException) {
+                            return throwable;
+                        }
+                        return new GlobalException(
+                                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                "Failed to get network slice subscriptions: " + throwable.getMessage(),
+                                throwable);
+                    });
+        });
     }
 
     @Override
@@ -229,6 +239,7 @@ public class NokiaNacNetworkSliceClientImpl implements NokiaNacNetworkSliceClien
                 .map(map -> (Map<String, Object>) map)
                 .timeout(timeout)
                 .retryWhen(retrySpec)
+                .doOnSuccess(result -> responseCache.invalidate(SUBSCRIPTIONS_CACHE_ENDPOINT))
                 .doOnSuccess(result -> log.info("Network slice subscription deleted successfully: {}", result))
                 .doOnError(error -> log.error("Failed to delete network slice subscription: {}", subscriptionId, error))
                 .onErrorMap(throwable -> {
@@ -3,12 +3,15 @@ package com.service.connectivityservice.client.impl;
 import com.service.connectivityservice.client.NokiaNacQosClient;
 import com.service.shared.dto.request.CreateSessionRequestDTO;
 import com.service.shared.dto.request.DeviceRequestDTO;
+import com.service.shared.dto.response.QodSessionResponse;
 import com.service.shared.exception.GlobalException;
 import com.service.shared.service.NokiaNacTokenManager;
+import com.service.shared.util.NokiaNacRequestHedger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
@@ -32,11 +36,13 @@ public class NokiaNacQosClientImpl implements NokiaNacQosClient {
 
     private static final String QOD_SESSIONS_PATH = "/qod/v0/sessions";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+    private static final String GET_SESSION_HEDGE_ENDPOINT = "qod-get-session";
 
     private final WebClient webClient;
     private final Retry retrySpec;
     private final Duration timeout;
     private final NokiaNacTokenManager tokenManager;
+    private final NokiaNacRequestHedger requestHedger;
 
     @Value("${nokia.nac.base-url}")
     private String nokiaBaseUrl;
@@ -49,10 +55,12 @@ public class NokiaNacQosClientImpl implements NokiaNacQosClient {
             @Qualifier("nokiaWebClient") WebClient webClient,
             @Value("${nokia.nac.timeout:30000}") int timeoutMs,
             @Value("${nokia.nac.retry-attempts:3}") int retryAttempts,
-            NokiaNacTokenManager tokenManager
+            NokiaNacTokenManager tokenManager,
+            NokiaNacRequestHedger requestHedger
     ) {
         this.webClient = webClient;
         this.tokenManager = tokenManager;
+        this.requestHedger = requestHedger;
         this.timeout = Duration.ofMillis(timeoutMs);
         this.retrySpec = createRetrySpec(retryAttempts);
     }
@@ -214,7 +222,6 @@ public class NokiaNacQosClientImpl implements NokiaNacQosClient {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Mono<Map<String, Object>> getSession(String sessionId) {
         if (sessionId == null || sessionId.trim().isEmpty()) {
             return Mono.error(new GlobalException(
@@ -228,31 +235,160 @@ public class NokiaNacQosClientImpl implements NokiaNacQosClient {
         // Get OAuth2 access token
         String accessToken = tokenManager.getAccessToken();
         
+        // Hedged when enabled: a slow primary is raced against a delayed duplicate request
+        return requestHedger.execute(GET_SESSION_HEDGE_ENDPOINT, () -> webClient.get()
+                        .uri(QOD_SESSIONS_PATH + "/{id}", sessionId)
+                        .header("X-RapidAPI-Key", apiKey)
+                        .header("X-RapidAPI-Host", host)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, this::handleError)
+                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {}))
+                .timeout(timeout)
+                .retryWhen(retrySpec)
+                .doOnSuccess(result -> log.debug("Retrieved QoD session: {}", result))
+                .doOnError(error -> log.error("Failed to get QoD session with ID: {}", sessionId, error))
+                .onErrorMap(throwable -> {
+                    if (throwable instanceof GlobalException) {
+                        return throwable;
+                    }
+                    return new GlobalException(
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            "Failed to get QoD session: " + throwable.getMessage(),
+                            throwable);
+                });
+    }
+
+    @Override
+    public Flux<QodSessionResponse> streamSessions(DeviceRequestDTO request) {
+        // Get OAuth2 access token
+        String accessToken = tokenManager.getAccessToken();
+
+        // The session array is decoded element by element as it arrives instead of
+        // being materialized as one List<Map> graph. Not retried: a mid-stream retry
+        // would replay sessions that were already emitted.
+        return webClient.post()
+                .uri(QOD_SESSIONS_PATH)
+                .header("X-RapidAPI-Key", apiKey)
+                .header("X-RapidAPI-Host", host)
+                .header("Authorization", "Bearer " + accessToken)
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, this::handleError)
+                .bodyToFlux(QodSessionResponse.class)
+                .timeout(timeout)
+                .doOnError(error -> log.error("Failed to stream QoD sessions", error))
+                .onErrorMap(throwable -> {
+                    if (throwable instanceof GlobalException) {
+                        return throwable;
+                    }
+                    return new GlobalException(
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            "Failed to stream QoD sessions: " + throwable.getMessage(),
+                            throwable);
+                });
+    }
+
+    @Override
+    public Flux<QodSessionResponse> streamAllSessions() {
+        // Get OAuth2 access token
+        String accessToken = tokenManager.getAccessToken();
+
         return webClient.get()
-                .uri(QOD_SESSIONS_PATH + "/{id}", sessionId)
+                .uri(QOD_SESSIONS_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", host)
                 .header("Authorization", "Bearer " + accessToken)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, this::handleError)
-                .bodyToMono(Map.class)
-                .cast(Map.class)
-                .map(map -> (Map<String, Object>) map)
+                .bodyToFlux(QodSessionResponse.class)
+                .timeout(timeout)
+                .doOnError(error -> log.error("Failed to stream all QoD sessions", error))
+                .onErrorMap(throwable -> {
+                    if (throwable instanceof GlobalException) {
+                        return throwable;
+                    }
+                    return new GlobalException(
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            "Failed to stream all QoD sessions: " + throwable.getMessage(),
+                            throwable);
+                });
+    }
+
+    @Override
+    public Mono<QodSessionResponse> extendSession(String sessionId, int additionalDuration) {
+        if (sessionId == null || sessionId.trim().isEmpty() || additionalDuration <= 0) {
+            return Mono.error(new GlobalException(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Session ID and a positive additional duration are required"
+            ));
+        }
+
+        // Get OAuth2 access token
+        String accessToken = tokenManager.getAccessToken();
+
+        return webClient.post()
+                .uri(QOD_SESSIONS_PATH + "/{id}/extend", sessionId)
+                .header("X-RapidAPI-Key", apiKey)
+                .header("X-RapidAPI-Host", host)
+                .header("Authorization", "Bearer " + accessToken)
+                .bodyValue(Map.of("requestedAdditionalDuration", additionalDuration))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, this::handleError)
+                .bodyToMono(QodSessionResponse.class)
                 .timeout(timeout)
                 .retryWhen(retrySpec)
-                .doOnSuccess(result -> log.debug("Retrieved QoD session: {}", result))
-                .doOnError(error -> log.error("Failed to get QoD session with ID: {}", sessionId, error))
+                .doOnSuccess(result -> log.info("QoD session {} extended by {}s", sessionId, additionalDuration))
+                .doOnError(error -> log.error("Failed to extend QoD session with ID: {}", sessionId, error))
                 .onErrorMap(throwable -> {
                     if (throwable instanceof GlobalException) {
                         return throwable;
                     }
                     return new GlobalException(
                             HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                            "Failed to get QoD session: " + throwable.getMessage(),
+                            "Failed to extend QoD session: " + throwable.getMessage(),
                             throwable);
                 });
     }
 
+    @Override
+    public Mono<Void> deleteSession(String sessionId) {
+        if (sessionId == null || sessionId.trim().isEmpty()) {
+            return Mono.error(new GlobalException(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Session ID cannot be null or empty"
+            ));
+        }
+
+        // Get OAuth2 access token
+        String accessToken = tokenManager.getAccessToken();
+
+        // A session that is already gone counts as deleted, so several instances may race on expiry
+        return webClient.delete()
+                .uri(QOD_SESSIONS_PATH + "/{id}", sessionId)
+                .header("X-RapidAPI-Key", apiKey)
+                .header("X-RapidAPI-Host", host)
+                .header("Authorization", "Bearer " + accessToken)
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.NOT_FOUND.value(), response -> Mono.empty())
+                .onStatus(HttpStatusCode::isError, this::handleError)
+                .toBodilessEntity()
+                .timeout(timeout)
+                .retryWhen(retrySpec)
+                .doOnSuccess(result -> log.info("QoD session {} deleted", sessionId))
+                .doOnError(error -> log.error("Failed to delete QoD session with ID: {}", sessionId, error))
+                .onErrorMap(throwable -> {
+                    if (throwable instanceof GlobalException) {
+                        return throwable;
+                    }
+                    return new GlobalException(
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            "Failed to delete QoD session: " + throwable.getMessage(),
+                            throwable);
+                })
+                .then();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Mono<Map<String, Object>> postRequest(String endpoint, Object requestBody) {
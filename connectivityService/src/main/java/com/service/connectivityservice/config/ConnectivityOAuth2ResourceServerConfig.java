@@ -1,12 +1,14 @@
 package com.service.connectivityservice.config;
 
+import com.service.shared.security.InternalAssertionBearerTokenResolver;
+import com.service.shared.security.PlatformJwtDecoders;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -14,8 +16,11 @@ import org.springframework.security.web.SecurityFilterChain;
  */
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class ConnectivityOAuth2ResourceServerConfig  {
 
+    private final PlatformJwtDecoders jwtDecoders;
+
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:http://localhost:8085}")
     private String issuerUri;
 
@@ -29,6 +34,7 @@ public class ConnectivityOAuth2ResourceServerConfig  {
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
+                        .bearerTokenResolver(new InternalAssertionBearerTokenResolver())
                         .jwt(jwt -> jwt.decoder(jwtDecoder))
                 );
 
@@ -36,7 +42,7 @@ public class ConnectivityOAuth2ResourceServerConfig  {
     }
     @Bean
     public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
+        return jwtDecoders.create(issuerUri);
     }
 
 }
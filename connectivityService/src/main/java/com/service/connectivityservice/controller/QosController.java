@@ -34,4 +34,28 @@ public class QosController {
         return ResponseEntity.ok(service.getSession(id));
     }
 
+    @GetMapping("/sessions")
+    @MethodCode(value = "RS003", description = "Get all active QoS sessions")
+    public ResponseEntity<GlobalResponse> getSessions(){
+        return ResponseEntity.ok(service.getSessions());
+    }
+
+    @GetMapping("/registry/stats")
+    @MethodCode(value = "RS004", description = "Get QoS session registry statistics")
+    public ResponseEntity<GlobalResponse> getRegistryStats(){
+        return ResponseEntity.ok(service.getRegistryStats());
+    }
+
+    @DeleteMapping("/sessions/{id}")
+    @MethodCode(value = "CS002", description = "Delete QoS session")
+    public ResponseEntity<GlobalResponse> deleteSession(@PathVariable String id){
+        return ResponseEntity.ok(service.deleteSession(id));
+    }
+
+    @GetMapping("/lifecycle/stats")
+    @MethodCode(value = "RS005", description = "Get QoS session lifecycle statistics")
+    public ResponseEntity<GlobalResponse> getLifecycleStats(){
+        return ResponseEntity.ok(service.getLifecycleStats());
+    }
+
 }
@@ -12,4 +12,19 @@ public interface QosService {
     com.service.shared.dto.GlobalResponse getSession(String sessionId);
   com.service.shared.dto.GlobalResponse getSessions();
 
+    /**
+     * Delete a session at Nokia and stop managing it
+     */
+    com.service.shared.dto.GlobalResponse deleteSession(String sessionId);
+
+    /**
+     * Session lifecycle manager statistics
+     */
+    com.service.shared.dto.GlobalResponse getLifecycleStats();
+
+    /**
+     * Local session registry statistics
+     */
+    com.service.shared.dto.GlobalResponse getRegistryStats();
+
 }
@@ -2,11 +2,17 @@ package com.service.connectivityservice.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.service.connectivityservice.client.NokiaNacQosClient;
+import com.service.connectivityservice.session.QosSessionLifecycleManager;
+import com.service.connectivityservice.session.QosSessionLifecycleManager.EnsuredSession;
+import com.service.connectivityservice.session.QosSessionRegistry;
+import com.service.connectivityservice.session.QosSessions;
 import com.service.shared.dto.request.CreateSessionRequestDTO;
 import com.service.shared.dto.request.DeviceRequestDTO;
 import com.service.connectivityservice.service.QosService;
 import com.service.connectivityservice.util.JwtTokenUtil;
 import com.service.shared.dto.GlobalResponse;
+import com.service.shared.dto.response.QodSessionListResponse;
+import com.service.shared.dto.response.QodSessionResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -15,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -25,12 +32,19 @@ public class QosServiceImpl implements QosService {
     private final NokiaNacQosClient nokiaNacQosClient;
     private final JwtTokenUtil jwtTokenUtil;
     private final ObjectMapper objectMapper;
+    private final QosSessionRegistry sessionRegistry;
+    private final QosSessionLifecycleManager lifecycleManager;
     private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(30);
 
     @Override
     @Transactional
     public GlobalResponse getRetrieveSessions(DeviceRequestDTO request) {
-
+        String phoneNumber = request != null && request.getDevice() != null ? request.getDevice().getPhoneNumber() : null;
+        if (phoneNumber != null && sessionRegistry.isWarm()) {
+            List<QodSessionResponse> sessions = sessionRegistry.getByDevice(phoneNumber);
+            return GlobalResponse.successWithData(200, "Data fetched successfully",
+                    new QodSessionListResponse(sessions, sessions.size()));
+        }
 
         try {
             Mono<Map<String, Object>> resMono = nokiaNacQosClient.retrieveSessions(request);
@@ -43,7 +57,9 @@ public class QosServiceImpl implements QosService {
                 );
             }
 
-
+            if (phoneNumber != null && response.get("sessions") instanceof List<?> sessions) {
+                sessionRegistry.replaceDevice(phoneNumber, QosSessions.fromResponses(objectMapper, sessions, phoneNumber));
+            }
             return GlobalResponse.successWithData(200, "Data fetched successfully", response);
         } catch (Exception e) {
             return GlobalResponse.failure(
@@ -59,20 +75,21 @@ public class QosServiceImpl implements QosService {
     public GlobalResponse createSession(CreateSessionRequestDTO requestDTO) {
 
         try {
-            // Convert DTO to Map for API call
-            Mono<Map<String, Object>> resMono = nokiaNacQosClient.createSession(requestDTO);
-            Map<String, Object> response = resMono.block(BLOCK_TIMEOUT);
+            // Reuses or extends a live session of the same device, application server and profile before creating one
+            EnsuredSession ensured = lifecycleManager.ensure(requestDTO).block(BLOCK_TIMEOUT);
 
-            if (response == null) {
+            if (ensured == null) {
                 return GlobalResponse.failure(
                         HttpStatus.INTERNAL_SERVER_ERROR.value(),
                         "Failed to create session from Nokia API"
                 );
             }
 
-            // Save session to database
-
-            return GlobalResponse.successWithData(201, "Session created successfully", response);
+            return switch (ensured.outcome()) {
+                case CREATED -> GlobalResponse.successWithData(201, "Session created successfully", ensured.session());
+                case EXTENDED -> GlobalResponse.successWithData(200, "Existing session extended", ensured.session());
+                case REUSED -> GlobalResponse.successWithData(200, "Existing session reused", ensured.session());
+            };
         } catch (Exception e) {
             return GlobalResponse.failure(
                     HttpStatus.INTERNAL_SERVER_ERROR.value(),
@@ -83,6 +100,11 @@ public class QosServiceImpl implements QosService {
 
     @Override
     public GlobalResponse getSession(String sessionId) {
+        QodSessionResponse registered = sessionRegistry.get(sessionId);
+        if (registered != null) {
+            return GlobalResponse.successWithData(200, "Session retrieve successfully", registered);
+        }
+
         Mono<Map<String, Object>> res = nokiaNacQosClient.getSession(sessionId);
         Map<String, Object> response = res.block(BLOCK_TIMEOUT);
         if (response == null) {
@@ -97,6 +119,33 @@ public class QosServiceImpl implements QosService {
 
     @Override
     public GlobalResponse getSessions() {
-        return null;
+        List<QodSessionResponse> sessions = sessionRegistry.getAll();
+        return GlobalResponse.successWithData(200, "Sessions retrieved successfully",
+                new QodSessionListResponse(sessions, sessions.size()));
+    }
+
+    @Override
+    public GlobalResponse deleteSession(String sessionId) {
+        try {
+            lifecycleManager.release(sessionId).block(BLOCK_TIMEOUT);
+            return GlobalResponse.successWithoutData(200, "Session deleted successfully");
+        } catch (Exception e) {
+            return GlobalResponse.failure(
+                    HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Failed to delete session: " + e.getMessage()
+            );
+        }
+    }
+
+    @Override
+    public GlobalResponse getLifecycleStats() {
+        return GlobalResponse.successWithData(200, "Session lifecycle statistics retrieved successfully",
+                lifecycleManager.getStats());
+    }
+
+    @Override
+    public GlobalResponse getRegistryStats() {
+        return GlobalResponse.successWithData(200, "Session registry statistics retrieved successfully",
+                sessionRegistry.getStats());
     }
 }
@@ -0,0 +1,12 @@
+package com.service.connectivityservice.session;
+
+import com.service.shared.dto.response.QodSessionResponse;
+
+/**
+ * Published by the instance that created or removed a QoD session, applied by every instance
+ *
+ * @param sessionId Session ID
+ * @param session   Session, or null when it was removed
+ */
+public record QosSessionChangedEvent(String sessionId, QodSessionResponse session) {
+}
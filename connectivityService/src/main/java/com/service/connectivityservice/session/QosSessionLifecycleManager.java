@@ -0,0 +1,445 @@
+package com.service.connectivityservice.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.connectivityservice.client.NokiaNacQosClient;
+import com.service.shared.dto.request.CreateSessionRequestDTO;
+import com.service.shared.dto.request.DeviceDTO;
+import com.service.shared.dto.request.DeviceRequestDTO;
+import com.service.shared.dto.response.ApplicationServerIdentifier;
+import com.service.shared.dto.response.QodSessionResponse;
+import com.service.shared.exception.GlobalException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lifecycle of the QoD sessions requested through the connectivity service
+ * Creates are idempotent per device, application server and QoS profile: a live session of the same
+ * profile towards the same server is reused, and extended when it would expire before the requested
+ * duration is over, instead of creating a duplicate. Concurrent requests for the same device, server
+ * and profile share one resolution. Each request
+ * leases the session until now + duration. A managed session has one timer on a hashed wheel: while
+ * its lease runs past expiresAt it is extended renew-ahead before expiry (or replaced once Nokia's
+ * max-duration is reached), otherwise it is deleted at Nokia when it expires. Expired sessions that
+ * Nokia still lists are deleted when reconciliation finds them.
+ */
+@Slf4j
+@Component
+public class QosSessionLifecycleManager {
+
+    public enum Outcome { CREATED, REUSED, EXTENDED }
+
+    public record EnsuredSession(QodSessionResponse session, Outcome outcome) {
+    }
+
+    private enum Action { RENEW, EXPIRE, DELETE }
+
+    private record Task(String sessionId, Action action) {
+    }
+
+    private static final String UNAVAILABLE = "UNAVAILABLE";
+
+    private final NokiaNacQosClient nokiaNacQosClient;
+    private final QosSessionRegistry sessionRegistry;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int defaultDuration;
+    private final int maxDuration;
+    private final long minExtension;
+    private final long renewAhead;
+    private final long deleteGrace;
+    private final Duration tick;
+    private final int cleanupConcurrency;
+
+    private final TimerWheel<Task> wheel;
+    private final Map<String, ManagedSession> managed = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<EnsuredSession>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder extended = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder renewed = new LongAdder();
+    private final LongAdder replaced = new LongAdder();
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder expiredUpstream = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private Disposable tickTask;
+
+    public QosSessionLifecycleManager(
+            NokiaNacQosClient nokiaNacQosClient,
+            QosSessionRegistry sessionRegistry,
+            ObjectMapper objectMapper,
+            @Value("${qos.sessions.lifecycle.enabled:true}") boolean enabled,
+            @Value("${qos.sessions.lifecycle.default-duration:3600}") int defaultDuration,
+            @Value("${qos.sessions.lifecycle.max-duration:86400}") int maxDuration,
+            @Value("${qos.sessions.lifecycle.min-extension:5m}") Duration minExtension,
+            @Value("${qos.sessions.lifecycle.renew-ahead:2m}") Duration renewAhead,
+            @Value("${qos.sessions.lifecycle.delete-grace:10s}") Duration deleteGrace,
+            @Value("${qos.sessions.lifecycle.tick:1s}") Duration tick,
+            @Value("${qos.sessions.lifecycle.wheel-slots:4096}") int wheelSlots,
+            @Value("${qos.sessions.lifecycle.cleanup-concurrency:8}") int cleanupConcurrency
+    ) {
+        this.nokiaNacQosClient = nokiaNacQosClient;
+        this.sessionRegistry = sessionRegistry;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.minExtension = minExtension.toSeconds();
+        this.renewAhead = renewAhead.toSeconds();
+        this.deleteGrace = deleteGrace.toSeconds();
+        this.tick = tick;
+        this.cleanupConcurrency = Math.max(cleanupConcurrency, 1);
+        this.wheel = new TimerWheel<>(tick, wheelSlots);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        sessionRegistry.setExpiredSessionHandler(session -> {
+            expiredUpstream.increment();
+            wheel.schedule(System.currentTimeMillis(), new Task(session.sessionId(), Action.DELETE));
+        });
+        tickTask = Flux.interval(tick, tick)
+                .onBackpressureDrop()
+                .concatMap(t -> Flux.fromIterable(wheel.advanceTo(System.currentTimeMillis()))
+                        .flatMap(this::run, cleanupConcurrency)
+                        .then())
+                .subscribe(null, error -> log.error("QoS session lifecycle timer stopped", error));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.dispose();
+        }
+    }
+
+    /**
+     * Session of the requested device, application server and profile covering at least the requested duration
+     */
+    public Mono<EnsuredSession> ensure(CreateSessionRequestDTO request) {
+        String phoneNumber = request.getDevice() != null ? request.getDevice().getPhoneNumber() : null;
+        if (!enabled || phoneNumber == null || request.getQosProfile() == null) {
+            return create(request, phoneNumber);
+        }
+        String key = poolKey(phoneNumber, applicationServer(request), request.getQosProfile());
+        return Mono.defer(() -> {
+            CompletableFuture<EnsuredSession> result = new CompletableFuture<>();
+            CompletableFuture<EnsuredSession> existing = inFlight.putIfAbsent(key, result);
+            if (existing != null) {
+                coalesced.increment();
+                return Mono.fromFuture(existing, true);
+            }
+            result.whenComplete((session, error) -> inFlight.remove(key, result));
+            try {
+                resolve(request, phoneNumber).subscribe(result::complete, result::completeExceptionally,
+                        () -> result.completeExceptionally(new IllegalStateException("No session resolved")));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            // Cancellation of one caller must not cancel the resolution other callers are waiting on
+            return Mono.fromFuture(result, true);
+        });
+    }
+
+    /**
+     * Delete a session now instead of at expiry
+     */
+    public Mono<Void> release(String sessionId) {
+        managed.computeIfPresent(sessionId, (id, session) -> {
+            session.cancelTimer();
+            return null;
+        });
+        return delete(sessionId);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("managedSessions", managed.size());
+        stats.put("pendingTimers", wheel.pending());
+        stats.put("wheelSlots", wheel.slotCount());
+        stats.put("created", created.sum());
+        stats.put("reused", reused.sum());
+        stats.put("extended", extended.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("renewed", renewed.sum());
+        stats.put("replaced", replaced.sum());
+        stats.put("deleted", deleted.sum());
+        stats.put("expiredUpstream", expiredUpstream.sum());
+        stats.put("failures", failures.sum());
+        return stats;
+    }
+
+    private Mono<EnsuredSession> resolve(CreateSessionRequestDTO request, String phoneNumber) {
+        int duration = requestedDuration(request);
+        return findLive(phoneNumber, applicationServer(request), request.getQosProfile()).flatMap(found -> {
+            if (found.isEmpty()) {
+                return create(request, phoneNumber);
+            }
+            QodSessionResponse session = found.get();
+            long now = Instant.now().getEpochSecond();
+            long leaseUntil = now + duration;
+            long remaining = session.expiresAt() - now;
+            long additional = Math.min(Math.max(duration - remaining, minExtension), maxDuration - session.duration());
+            if (session.expiresAt() <= 0 || remaining >= duration || additional <= 0) {
+                // Once max-duration is reached the renewal timer replaces the session at expiry
+                reused.increment();
+                return Mono.just(new EnsuredSession(manage(session, request, leaseUntil), Outcome.REUSED));
+            }
+            return extend(session, (int) additional)
+                    .map(updated -> {
+                        extended.increment();
+                        return new EnsuredSession(manage(updated, request, leaseUntil), Outcome.EXTENDED);
+                    })
+                    .onErrorResume(error -> {
+                        log.warn("Could not extend QoD session {}, reusing it as is: {}",
+                                session.sessionId(), error.getMessage());
+                        reused.increment();
+                        return Mono.just(new EnsuredSession(manage(session, request, leaseUntil), Outcome.REUSED));
+                    });
+        });
+    }
+
+    /**
+     * Longest-lived usable session of the device, application server and profile; asks Nokia while the
+     * registry is not warm
+     */
+    private Mono<Optional<QodSessionResponse>> findLive(String phoneNumber, String applicationServer,
+                                                        String qosProfile) {
+        Mono<List<QodSessionResponse>> sessions;
+        if (sessionRegistry.isWarm()) {
+            sessions = Mono.just(sessionRegistry.getByDevice(phoneNumber));
+        } else {
+            DeviceDTO device = new DeviceDTO();
+            device.setPhoneNumber(phoneNumber);
+            DeviceRequestDTO lookup = new DeviceRequestDTO();
+            lookup.setDevice(device);
+            sessions = Mono.defer(() -> nokiaNacQosClient.streamSessions(lookup)
+                            .map(session -> QosSessions.complete(session, phoneNumber))
+                            .collectList())
+                    .doOnNext(found -> sessionRegistry.replaceDevice(phoneNumber, found))
+                    .onErrorResume(error -> {
+                        log.warn("QoD session lookup for {} failed, using local sessions: {}",
+                                phoneNumber, error.getMessage());
+                        return Mono.just(sessionRegistry.getByDevice(phoneNumber));
+                    });
+        }
+        long now = Instant.now().getEpochSecond();
+        return sessions.map(found -> found.stream()
+                .filter(session -> qosProfile.equals(session.qosProfile()))
+                .filter(session -> Objects.equals(applicationServer, QosSessions.applicationServerAddress(session)))
+                .filter(session -> !UNAVAILABLE.equals(session.qosStatus()))
+                .filter(session -> session.expiresAt() <= 0 || session.expiresAt() > now)
+                .max(Comparator.comparingLong(QodSessionResponse::expiresAt)));
+    }
+
+    private Mono<EnsuredSession> create(CreateSessionRequestDTO request, String phoneNumber) {
+        CreateSessionRequestDTO capped = CreateSessionRequestDTO.builder()
+                .device(request.getDevice())
+                .applicationServer(request.getApplicationServer())
+                .qosProfile(request.getQosProfile())
+                .duration(Math.min(requestedDuration(request), maxDuration))
+                .build();
+        long leaseUntil = Instant.now().getEpochSecond() + requestedDuration(request);
+        return nokiaNacQosClient.createSession(capped).map(response -> {
+            QodSessionResponse session = QosSessions.fromResponse(objectMapper, response, phoneNumber);
+            if (session == null) {
+                throw new GlobalException(HttpStatus.BAD_GATEWAY.value(), "Nokia API returned no QoD session ID");
+            }
+            String applicationServer = applicationServer(request);
+            if (applicationServer != null) {
+                session = QosSessions.withApplicationServer(session,
+                        new ApplicationServerIdentifier(applicationServer, null));
+            }
+            sessionRegistry.register(session);
+            created.increment();
+            return new EnsuredSession(enabled ? manage(session, request, leaseUntil) : session, Outcome.CREATED);
+        });
+    }
+
+    private Mono<QodSessionResponse> extend(QodSessionResponse session, int additional) {
+        String phoneNumber = session.device() != null ? session.device().phoneNumber() : null;
+        return nokiaNacQosClient.extendSession(session.sessionId(), additional)
+                .map(updated -> QosSessions.withApplicationServer(
+                        QosSessions.complete(updated, phoneNumber), session.applicationServer()))
+                .doOnNext(sessionRegistry::register);
+    }
+
+    /**
+     * Track the session with a lease of at least leaseUntil and (re)arm its timer
+     */
+    private QodSessionResponse manage(QodSessionResponse session, CreateSessionRequestDTO request, long leaseUntil) {
+        managed.compute(session.sessionId(), (sessionId, current) -> {
+            ManagedSession next = current != null ? current : new ManagedSession();
+            next.request = request;
+            next.leaseUntil = Math.max(next.leaseUntil, leaseUntil);
+            next.expiresAt = session.expiresAt();
+            arm(sessionId, next);
+            return next;
+        });
+        return session;
+    }
+
+    /**
+     * One timer per session: renewal ahead of expiry while the lease outlives it, deletion after it otherwise
+     */
+    private void arm(String sessionId, ManagedSession session) {
+        session.cancelTimer();
+        if (session.expiresAt <= 0) {
+            return;
+        }
+        Task task = session.leaseUntil > session.expiresAt
+                ? new Task(sessionId, Action.RENEW)
+                : new Task(sessionId, Action.EXPIRE);
+        long deadline = task.action() == Action.RENEW
+                ? session.expiresAt - renewAhead
+                : session.expiresAt + deleteGrace;
+        session.timer = wheel.schedule(deadline * 1000, task);
+    }
+
+    private Mono<Void> run(Task task) {
+        Mono<Void> action = switch (task.action()) {
+            case RENEW -> Mono.defer(() -> renew(task.sessionId()));
+            case EXPIRE -> Mono.defer(() -> expire(task.sessionId()));
+            case DELETE -> Mono.defer(() -> delete(task.sessionId()));
+        };
+        return action.subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(error -> {
+                    failures.increment();
+                    log.warn("QoS session {} {} failed: {}", task.sessionId(), task.action(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> renew(String sessionId) {
+        ManagedSession session = managed.get(sessionId);
+        QodSessionResponse current = sessionRegistry.get(sessionId);
+        if (session == null || current == null) {
+            managed.remove(sessionId);
+            return Mono.empty();
+        }
+        long needed = session.leaseUntil - current.expiresAt();
+        if (current.expiresAt() > session.expiresAt || needed <= 0) {
+            // Extended elsewhere, or no lease left past expiry
+            manage(current, session.request, session.leaseUntil);
+            return Mono.empty();
+        }
+        long headroom = maxDuration - current.duration();
+        if (headroom > 0) {
+            return extend(current, (int) Math.min(Math.max(needed, minExtension), headroom))
+                    .doOnNext(updated -> {
+                        renewed.increment();
+                        manage(updated, session.request, session.leaseUntil);
+                    })
+                    .doOnError(error -> expireAtCurrent(sessionId))
+                    .then();
+        }
+
+        // Nokia's maximum duration is reached: hand the lease over to a new session
+        long leaseUntil = session.leaseUntil;
+        CreateSessionRequestDTO request = CreateSessionRequestDTO.builder()
+                .device(session.request.getDevice())
+                .applicationServer(session.request.getApplicationServer())
+                .qosProfile(session.request.getQosProfile())
+                .duration((int) Math.max(leaseUntil - Instant.now().getEpochSecond(), minExtension))
+                .build();
+        expireAtCurrent(sessionId);
+        String phoneNumber = request.getDevice() != null ? request.getDevice().getPhoneNumber() : null;
+        return create(request, phoneNumber)
+                .doOnNext(replacement -> {
+                    replaced.increment();
+                    manage(replacement.session(), session.request, leaseUntil);
+                    log.info("QoD session {} replaced by {} at maximum duration",
+                            sessionId, replacement.session().sessionId());
+                })
+                .then();
+    }
+
+    private Mono<Void> expire(String sessionId) {
+        ManagedSession session = managed.get(sessionId);
+        QodSessionResponse current = sessionRegistry.get(sessionId);
+        if (session != null && current != null && current.expiresAt() > session.expiresAt) {
+            // Extended by another instance since the timer was armed
+            manage(current, session.request, session.leaseUntil);
+            return Mono.empty();
+        }
+        managed.remove(sessionId);
+        return delete(sessionId);
+    }
+
+    private Mono<Void> delete(String sessionId) {
+        return nokiaNacQosClient.deleteSession(sessionId)
+                .doOnSuccess(ignored -> {
+                    sessionRegistry.unregister(sessionId);
+                    deleted.increment();
+                });
+    }
+
+    /**
+     * Drop the lease so the session is deleted at its own expiry
+     */
+    private void expireAtCurrent(String sessionId) {
+        managed.computeIfPresent(sessionId, (id, session) -> {
+            session.leaseUntil = 0;
+            arm(id, session);
+            return session;
+        });
+    }
+
+    private int requestedDuration(CreateSessionRequestDTO request) {
+        return request.getDuration() != null && request.getDuration() > 0 ? request.getDuration() : defaultDuration;
+    }
+
+    private static String applicationServer(CreateSessionRequestDTO request) {
+        return request.getApplicationServer() != null ? request.getApplicationServer().getIpv4Address() : null;
+    }
+
+    private static String poolKey(String phoneNumber, String applicationServer, String qosProfile) {
+        return phoneNumber + '|' + applicationServer + '|' + qosProfile;
+    }
+
+    /**
+     * Lease and timer of a managed session; mutated only inside managed.compute
+     */
+    private static final class ManagedSession {
+
+        private CreateSessionRequestDTO request;
+        private long leaseUntil;
+        private long expiresAt;
+        private TimerWheel.Timeout<Task> timer;
+
+        private void cancelTimer() {
+            if (timer != null) {
+                timer.cancel();
+                timer = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.service.connectivityservice.session;
+
+import com.service.connectivityservice.client.NokiaNacQosClient;
+import com.service.shared.config.KafkaConfig;
+import com.service.shared.dto.response.QodSessionResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Local registry of Nokia NAC QoD sessions, indexed by session ID and by device phone number
+ * Sessions are registered on create and shared with the other instances over Kafka. Each device
+ * holds an immutable list that is replaced on write, so lookups are a map read without locking.
+ * Sessions past expiresAt are never returned and are purged every purge-interval. Every
+ * reconcile-interval the registry is replaced by the session list from Nokia; sessions registered
+ * while that list was being fetched are kept. Until the first reconciliation has succeeded the
+ * registry is not warm and device lookups go to Nokia. Sessions Nokia still lists past their expiry are
+ * left out and handed to the expired-session handler, which deletes them.
+ */
+@Slf4j
+@Component
+public class QosSessionRegistry {
+
+    private final NokiaNacQosClient nokiaNacQosClient;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+    private final boolean enabled;
+    private final Duration reconcileInterval;
+    private final Duration purgeInterval;
+
+    private final Map<String, QodSessionResponse> byId = new ConcurrentHashMap<>();
+    private final Map<String, List<QodSessionResponse>> byDevice = new ConcurrentHashMap<>();
+    private final Map<String, Long> registeredAt = new ConcurrentHashMap<>();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder reconciliations = new LongAdder();
+    private final LongAdder reconcileAdded = new LongAdder();
+    private final LongAdder reconcileRemoved = new LongAdder();
+    private final LongAdder reconcileExpired = new LongAdder();
+    private volatile boolean warm;
+    private volatile Instant lastReconciliation;
+    private volatile Consumer<QodSessionResponse> expiredSessionHandler = session -> { };
+    private Disposable reconcileTask;
+    private Disposable purgeTask;
+
+    public QosSessionRegistry(
+            NokiaNacQosClient nokiaNacQosClient,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${qos.sessions.registry.topic:qos-session-changes}") String topic,
+            @Value("${qos.sessions.registry.enabled:true}") boolean enabled,
+            @Value("${qos.sessions.registry.reconcile-interval:5m}") Duration reconcileInterval,
+            @Value("${qos.sessions.registry.purge-interval:30s}") Duration purgeInterval
+    ) {
+        this.nokiaNacQosClient = nokiaNacQosClient;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.enabled = enabled;
+        this.reconcileInterval = reconcileInterval;
+        this.purgeInterval = purgeInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        reconcileTask = Flux.interval(Duration.ZERO, reconcileInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> reconcile()
+                        .onErrorResume(error -> {
+                            log.warn("QoD session reconciliation failed: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe(null, error -> log.error("QoD session reconciliation stopped", error));
+        purgeTask = Flux.interval(purgeInterval, purgeInterval)
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(tick -> purgeExpired(),
+                        error -> log.error("QoD session purge stopped", error));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (reconcileTask != null) {
+            reconcileTask.dispose();
+        }
+        if (purgeTask != null) {
+            purgeTask.dispose();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether device lookups can be answered from the registry alone
+     */
+    public boolean isWarm() {
+        return enabled && warm;
+    }
+
+    /**
+     * Register a session created through this instance and announce it to the others
+     */
+    public void register(QodSessionResponse session) {
+        if (!enabled || session == null || session.sessionId() == null) {
+            return;
+        }
+        put(session);
+        kafkaTemplate.send(topic, session.sessionId(), new QosSessionChangedEvent(session.sessionId(), session))
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to publish QoD session {}", session.sessionId(), ex);
+                    }
+                });
+    }
+
+    /**
+     * Remove a session deleted through this instance and announce it to the others
+     */
+    public void unregister(String sessionId) {
+        if (!enabled || sessionId == null) {
+            return;
+        }
+        remove(sessionId);
+        kafkaTemplate.send(topic, sessionId, new QosSessionChangedEvent(sessionId, null))
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to publish removal of QoD session {}", sessionId, ex);
+                    }
+                });
+    }
+
+    /**
+     * Receives the sessions that reconciliation finds expired but still listed by Nokia
+     */
+    public void setExpiredSessionHandler(Consumer<QodSessionResponse> handler) {
+        this.expiredSessionHandler = handler;
+    }
+
+    @KafkaListener(
+            topics = "${qos.sessions.registry.topic:qos-session-changes}",
+            groupId = "${spring.application.name}-qos-sessions-" + KafkaConfig.INSTANCE_ID,
+            autoStartup = "${qos.sessions.registry.enabled:true}"
+    )
+    public void onChange(QosSessionChangedEvent event) {
+        if (event.session() == null) {
+            remove(event.sessionId());
+        } else {
+            put(event.session());
+        }
+    }
+
+    public QodSessionResponse get(String sessionId) {
+        QodSessionResponse session = sessionId == null ? null : byId.get(sessionId);
+        return session != null && !isExpired(session, Instant.now().getEpochSecond()) ? session : null;
+    }
+
+    public List<QodSessionResponse> getByDevice(String phoneNumber) {
+        lookups.increment();
+        List<QodSessionResponse> sessions = phoneNumber == null ? null : byDevice.get(phoneNumber);
+        if (sessions == null) {
+            return List.of();
+        }
+        long now = Instant.now().getEpochSecond();
+        return sessions.stream()
+                .filter(session -> !isExpired(session, now))
+                .toList();
+    }
+
+    public List<QodSessionResponse> getAll() {
+        long now = Instant.now().getEpochSecond();
+        return byId.values().stream()
+                .filter(session -> !isExpired(session, now))
+                .toList();
+    }
+
+    /**
+     * Replace the sessions of one device with a list Nokia just returned for it
+     */
+    public void replaceDevice(String phoneNumber, Collection<QodSessionResponse> sessions) {
+        if (!enabled || phoneNumber == null) {
+            return;
+        }
+        Set<String> current = new HashSet<>();
+        sessions.forEach(session -> current.add(session.sessionId()));
+        for (QodSessionResponse session : byDevice.getOrDefault(phoneNumber, List.of())) {
+            if (!current.contains(session.sessionId())) {
+                remove(session.sessionId());
+            }
+        }
+        sessions.forEach(this::put);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("warm", warm);
+        stats.put("sessions", byId.size());
+        stats.put("devices", byDevice.size());
+        stats.put("deviceLookups", lookups.sum());
+        stats.put("reconciliations", reconciliations.sum());
+        stats.put("reconcileAdded", reconcileAdded.sum());
+        stats.put("reconcileRemoved", reconcileRemoved.sum());
+        stats.put("reconcileExpired", reconcileExpired.sum());
+        stats.put("lastReconciliation", lastReconciliation != null ? lastReconciliation.toString() : null);
+        return stats;
+    }
+
+    /**
+     * Replace the registry with Nokia's session list
+     */
+    private Mono<Void> reconcile() {
+        long snapshotStart = System.nanoTime();
+        return Mono.defer(() -> nokiaNacQosClient.streamAllSessions().collectList())
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(upstream -> {
+                    long now = Instant.now().getEpochSecond();
+                    Set<String> upstreamIds = new HashSet<>();
+                    for (QodSessionResponse session : upstream) {
+                        if (session.sessionId() == null) {
+                            continue;
+                        }
+                        if (isExpired(session, now)) {
+                            reconcileExpired.increment();
+                            expiredSessionHandler.accept(session);
+                            continue;
+                        }
+                        upstreamIds.add(session.sessionId());
+                        if (!byId.containsKey(session.sessionId())) {
+                            reconcileAdded.increment();
+                        }
+                        put(session);
+                    }
+                    for (String sessionId : new ArrayList<>(byId.keySet())) {
+                        // Sessions registered after the snapshot was requested may not be in it yet
+                        if (!upstreamIds.contains(sessionId)
+                                && registeredAt.getOrDefault(sessionId, Long.MIN_VALUE) - snapshotStart < 0) {
+                            remove(sessionId);
+                            reconcileRemoved.increment();
+                        }
+                    }
+                    reconciliations.increment();
+                    lastReconciliation = Instant.now();
+                    if (!warm) {
+                        warm = true;
+                        log.info("QoD session registry warm with {} sessions", byId.size());
+                    }
+                })
+                .then();
+    }
+
+    private void purgeExpired() {
+        long now = Instant.now().getEpochSecond();
+        byId.values().stream()
+                .filter(session -> isExpired(session, now))
+                .map(QodSessionResponse::sessionId)
+                .toList()
+                .forEach(this::remove);
+    }
+
+    private void put(QodSessionResponse session) {
+        if (session.sessionId() == null) {
+            return;
+        }
+        registeredAt.put(session.sessionId(), System.nanoTime());
+        byId.compute(session.sessionId(), (sessionId, previous) -> {
+            if (previous != null) {
+                unindexDevice(previous);
+            }
+            indexDevice(session);
+            return session;
+        });
+    }
+
+    private void remove(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        registeredAt.remove(sessionId);
+        byId.computeIfPresent(sessionId, (id, existing) -> {
+            unindexDevice(existing);
+            return null;
+        });
+    }
+
+    private void indexDevice(QodSessionResponse session) {
+        String phoneNumber = phoneNumber(session);
+        if (phoneNumber == null) {
+            return;
+        }
+        byDevice.compute(phoneNumber, (phone, sessions) -> {
+            List<QodSessionResponse> updated = new ArrayList<>(sessions != null ? sessions.size() + 1 : 1);
+            if (sessions != null) {
+                sessions.stream()
+                        .filter(existing -> !existing.sessionId().equals(session.sessionId()))
+                        .forEach(updated::add);
+            }
+            updated.add(session);
+            return List.copyOf(updated);
+        });
+    }
+
+    private void unindexDevice(QodSessionResponse session) {
+        String phoneNumber = phoneNumber(session);
+        if (phoneNumber == null) {
+            return;
+        }
+        byDevice.computeIfPresent(phoneNumber, (phone, sessions) -> {
+            List<QodSessionResponse> remaining = sessions.stream()
+                    .filter(existing -> !existing.sessionId().equals(session.sessionId()))
+                    .toList();
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
+    /**
+     * Sessions without expiresAt are kept until reconciliation drops them
+     */
+    private static boolean isExpired(QodSessionResponse session, long nowEpochSecond) {
+        return session.expiresAt() > 0 && session.expiresAt() <= nowEpochSecond;
+    }
+
+    private static String phoneNumber(QodSessionResponse session) {
+        return session.device() != null ? session.device().phoneNumber() : null;
+    }
+}
@@ -0,0 +1,82 @@
+package com.service.connectivityservice.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.shared.dto.response.ApplicationServerIdentifier;
+import com.service.shared.dto.response.DeviceIdentifier;
+import com.service.shared.dto.response.QodSessionResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversion of Nokia QoD session payloads into typed sessions
+ */
+@Slf4j
+public final class QosSessions {
+
+    private QosSessions() {
+    }
+
+    /**
+     * Typed session from a Nokia response, or null when it carries no session ID
+     */
+    public static QodSessionResponse fromResponse(ObjectMapper objectMapper, Object response, String phoneNumber) {
+        try {
+            QodSessionResponse session = objectMapper.convertValue(response, QodSessionResponse.class);
+            return session != null && session.sessionId() != null ? complete(session, phoneNumber) : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("Could not read QoD session from Nokia response: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static List<QodSessionResponse> fromResponses(ObjectMapper objectMapper, List<?> responses, String phoneNumber) {
+        List<QodSessionResponse> result = new ArrayList<>(responses.size());
+        for (Object response : responses) {
+            QodSessionResponse session = fromResponse(objectMapper, response, phoneNumber);
+            if (session != null) {
+                result.add(session);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fill in the device and expiry when Nokia omits them
+     */
+    public static QodSessionResponse complete(QodSessionResponse session, String phoneNumber) {
+        DeviceIdentifier device = session.device() != null || phoneNumber == null
+                ? session.device()
+                : new DeviceIdentifier(phoneNumber, null);
+        long startedAt = session.startedAt() > 0 ? session.startedAt() : Instant.now().getEpochSecond();
+        long expiresAt = session.expiresAt() > 0 || session.duration() <= 0
+                ? session.expiresAt()
+                : startedAt + session.duration();
+        return new QodSessionResponse(session.sessionId(), session.qosProfile(), session.qosStatus(),
+                session.statusInfo(), session.duration(), startedAt, expiresAt, device,
+                session.applicationServer(), session.priority(), session.bandwidth(), session.latency());
+    }
+
+    /**
+     * Fill in the application server the session is known to serve when Nokia omits it
+     */
+    public static QodSessionResponse withApplicationServer(QodSessionResponse session,
+                                                           ApplicationServerIdentifier applicationServer) {
+        if (session.applicationServer() != null || applicationServer == null) {
+            return session;
+        }
+        return new QodSessionResponse(session.sessionId(), session.qosProfile(), session.qosStatus(),
+                session.statusInfo(), session.duration(), session.startedAt(), session.expiresAt(), session.device(),
+                applicationServer,
+                session.priority(), session.bandwidth(), session.latency());
+    }
+
+    /**
+     * IPv4 address of the session's application server, or null when unknown
+     */
+    public static String applicationServerAddress(QodSessionResponse session) {
+        return session.applicationServer() != null ? session.applicationServer().ipv4Address() : null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.service.connectivityservice.session;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timer wheel for session deadlines
+ * Deadlines are bucketed by tick into a power-of-two ring of slots, so scheduling and cancelling are
+ * O(1) however many timers are pending and each tick only visits its own slot. Timers scheduled from
+ * any thread go through a lock-free inbox that the ticking thread drains; slots are only touched by
+ * that thread. Cancelled timers are dropped when their slot comes round.
+ */
+final class TimerWheel<T> {
+
+    private final long tickMillis;
+    private final ArrayDeque<Timeout<T>>[] slots;
+    private final int mask;
+    private final Queue<Timeout<T>> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private long currentTick = -1;
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(Duration tick, int slotCount) {
+        this.tickMillis = Math.max(tick.toMillis(), 1);
+        int size = Integer.highestOneBit(Math.max(slotCount, 2) - 1) << 1;
+        this.slots = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Release the task at the first tick at or after the deadline; safe from any thread
+     */
+    Timeout<T> schedule(long deadlineEpochMillis, T task) {
+        Timeout<T> timeout = new Timeout<>(Math.floorDiv(deadlineEpochMillis, tickMillis), task);
+        pending.incrementAndGet();
+        inbox.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Process every tick up to the given time and return the tasks that became due; one thread only
+     */
+    List<T> advanceTo(long nowEpochMillis) {
+        long target = Math.floorDiv(nowEpochMillis, tickMillis);
+        if (currentTick < 0 || target - currentTick > slots.length) {
+            // First tick or a long pause: one pass over every slot catches up
+            currentTick = target - slots.length;
+        }
+        List<T> due = new ArrayList<>();
+        while (currentTick < target) {
+            currentTick++;
+            drainInbox();
+            Iterator<Timeout<T>> timeouts = slots[(int) (currentTick & mask)].iterator();
+            while (timeouts.hasNext()) {
+                Timeout<T> timeout = timeouts.next();
+                if (timeout.cancelled) {
+                    timeouts.remove();
+                    pending.decrementAndGet();
+                } else if (timeout.deadlineTick <= target) {
+                    timeouts.remove();
+                    pending.decrementAndGet();
+                    due.add(timeout.task);
+                }
+            }
+        }
+        return due;
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    int slotCount() {
+        return slots.length;
+    }
+
+    private void drainInbox() {
+        Timeout<T> timeout;
+        while ((timeout = inbox.poll()) != null) {
+            // Deadlines already passed go into the slot being processed
+            long tick = Math.max(timeout.deadlineTick, currentTick);
+            slots[(int) (tick & mask)].add(timeout);
+        }
+    }
+
+    static final class Timeout<T> {
+
+        private final long deadlineTick;
+        private final T task;
+        private volatile boolean cancelled;
+
+        private Timeout(long deadlineTick, T task) {
+            this.deadlineTick = deadlineTick;
+            this.task = task;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -55,12 +55,11 @@ public class DeviceManagementAgent extends BaseAgent {
             for (AgentAction action : decision.getActions()) {
                 try {
                     if ("DEVICE_SWAP".equals(action.getActionType())) {
-                        // Prepare device swap request
+                        // Prepare device swap request (deviceManagementService answers repeats from its swap state)
                         Map<String, Object> swapRequest = new HashMap<>();
-                        Map<String, Object> device = new HashMap<>();
-                        device.put("phoneNumber", context.getPhoneNumber());
-                        swapRequest.put("device", device);
+                        swapRequest.put("phoneNumber", context.getPhoneNumber());
                         swapRequest.put("maxAge", 60);
+                        swapRequest.put("allowCached", true);
                         
                         // Execute the action
                         internalServiceClient.callService(deviceManagementServiceUrl, "/device/swap/check", swapRequest)
@@ -79,10 +78,9 @@ public class DeviceManagementAgent extends BaseAgent {
                     } else if ("SIM_SWAP".equals(action.getActionType())) {
                         // Prepare SIM swap request
                         Map<String, Object> swapRequest = new HashMap<>();
-                        Map<String, Object> device = new HashMap<>();
-                        device.put("phoneNumber", context.getPhoneNumber());
-                        swapRequest.put("device", device);
+                        swapRequest.put("phoneNumber", context.getPhoneNumber());
                         swapRequest.put("maxAge", 60);
+                        swapRequest.put("allowCached", true);
                         
                         // Execute the action
                         internalServiceClient.callService(deviceManagementServiceUrl, "/device/swap/check", swapRequest)
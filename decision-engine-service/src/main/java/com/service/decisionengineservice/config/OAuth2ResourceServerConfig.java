@@ -1,10 +1,15 @@
 package com.service.decisionengineservice.config;
 
+import com.service.shared.security.InternalAssertionBearerTokenResolver;
+import com.service.shared.security.PlatformJwtDecoders;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -12,7 +17,13 @@ import org.springframework.security.web.SecurityFilterChain;
  */
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class OAuth2ResourceServerConfig {
+
+    private final PlatformJwtDecoders jwtDecoders;
+
+    @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:http://localhost:8085}")
+    private String issuerUri;
     
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -24,9 +35,15 @@ public class OAuth2ResourceServerConfig {
                 .anyRequest().authenticated()
             )
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> {})
+                .bearerTokenResolver(new InternalAssertionBearerTokenResolver())
+                .jwt(jwt -> jwt.decoder(jwtDecoder()))
             );
         
         return http.build();
     }
+
+    @Bean
+    public JwtDecoder jwtDecoder() {
+        return jwtDecoders.create(issuerUri);
+    }
 }
@@ -1,15 +1,27 @@
 package com.service.decisionengineservice.service;
 
 import com.service.decisionengineservice.agent.model.NetworkData;
+import com.service.shared.dto.response.LocationRetrievalResponse;
+import com.service.shared.dto.response.QodSessionListResponse;
+import com.service.shared.dto.response.QodSessionResponse;
+import com.service.shared.dto.response.ServiceResponse;
+import com.service.shared.location.LocationCache;
+import com.service.shared.location.PredictedLocation;
+import com.service.shared.location.TrajectoryStore;
 import com.service.shared.service.InternalServiceClient;
+import com.service.shared.subscriber.SubscriberProfile;
+import com.service.shared.subscriber.SubscriberProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -21,9 +33,16 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class NetworkDataCollectionService {
     
+    private static final ParameterizedTypeReference<ServiceResponse<QodSessionListResponse>> QOD_SESSIONS_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final Duration LOCATION_MAX_AGE = Duration.ofSeconds(60);
+    
     @Qualifier("nokiaWebClient")
     private final WebClient nokiaWebClient;
     private final InternalServiceClient internalServiceClient;
+    private final SubscriberProfileCache subscriberProfileCache;
+    private final LocationCache locationCache;
+    private final TrajectoryStore trajectoryStore;
     
     @Value("${services.connectivity.base-url:http://localhost:8081}")
     private String connectivityServiceUrl;
@@ -37,6 +56,9 @@ public class NetworkDataCollectionService {
     @Value("${ai.agents.data-collection.interval:10}")
     private int collectionInterval;
     
+    @Value("${ai.agents.data-collection.prediction-max-uncertainty:250}")
+    private double predictionMaxUncertainty;
+    
     // Cache for collected data
     private final Map<String, NetworkData> dataCache = new ConcurrentHashMap<>();
     
@@ -65,43 +87,73 @@ public class NetworkDataCollectionService {
     }
     
     /**
-     * Collect location data from Nokia Location API
+     * Collect location data: a dead-reckoned position (only with a velocity from two or more fixes)
+     * while its uncertainty stays within prediction-max-uncertainty meters, otherwise Nokia Location
+     * API through the location cache
      */
     private Mono<NetworkData.LocationData> collectLocationData(String phoneNumber) {
+        Instant now = Instant.now();
+        PredictedLocation predicted = trajectoryStore.predict(phoneNumber, now)
+                .filter(prediction -> prediction.uncertaintyMeters() <= predictionMaxUncertainty)
+                .orElse(null);
+        if (predicted != null) {
+            NetworkData.LocationData location = new NetworkData.LocationData();
+            location.setLatitude(predicted.latitude());
+            location.setLongitude(predicted.longitude());
+            location.setAccuracy(predicted.uncertaintyMeters());
+            location.setLocationType("PREDICTED");
+            location.setMaxAge((int) Duration.between(predicted.lastFixTime(), now).toSeconds());
+            return Mono.just(location);
+        }
+        
         Map<String, Object> requestBody = Map.of(
             "device", Map.of("phoneNumber", phoneNumber),
-            "maxAge", 60
+            "maxAge", LOCATION_MAX_AGE.toSeconds()
         );
         
-        return nokiaWebClient.post()
-                .uri("/location-retrieval/v0/retrieve")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
+        return locationCache.retrieve(phoneNumber, LOCATION_MAX_AGE, null, () -> nokiaWebClient.post()
+                        .uri("/location-retrieval/v0/retrieve")
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToMono(LocationRetrievalResponse.class))
                 .map(response -> {
                     NetworkData.LocationData location = new NetworkData.LocationData();
-                    if (response.containsKey("location")) {
-                        Map<String, Object> loc = (Map<String, Object>) response.get("location");
-                        if (loc.containsKey("latitude")) {
-                            location.setLatitude(Double.parseDouble(loc.get("latitude").toString()));
-                        }
-                        if (loc.containsKey("longitude")) {
-                            location.setLongitude(Double.parseDouble(loc.get("longitude").toString()));
-                        }
-                        if (loc.containsKey("accuracy")) {
-                            location.setAccuracy(Double.parseDouble(loc.get("accuracy").toString()));
-                        }
+                    LocationRetrievalResponse.Point position = response.position();
+                    if (position != null) {
+                        location.setLatitude(position.latitude());
+                        location.setLongitude(position.longitude());
+                        location.setAccuracy(response.accuracy());
                     }
-                    location.setMaxAge(60);
+                    location.setLocationType("NETWORK");
+                    location.setMaxAge((int) LOCATION_MAX_AGE.toSeconds());
                     return location;
                 })
                 .onErrorReturn(new NetworkData.LocationData());
     }
     
     /**
-     * Collect device status from Identification Service
+     * Collect device status from the subscriber profile cache, falling back to the Identification Service
+     * for numbers without a registered profile
      */
     private Mono<NetworkData.DeviceStatus> collectDeviceStatus(String phoneNumber) {
+        return subscriberProfileCache.lookup(phoneNumber)
+                .map(this::toDeviceStatus)
+                .switchIfEmpty(Mono.defer(() -> fetchDeviceStatus(phoneNumber)))
+                .onErrorReturn(new NetworkData.DeviceStatus());
+    }
+    
+    private NetworkData.DeviceStatus toDeviceStatus(SubscriberProfile profile) {
+        NetworkData.DeviceStatus status = new NetworkData.DeviceStatus();
+        status.setStatus(profile.deviceStatus() != null ? profile.deviceStatus() : "UNKNOWN");
+        status.setDeviceId(profile.deviceImei() != null ? profile.deviceImei() : "");
+        status.setImei(profile.deviceImei() != null ? profile.deviceImei() : "");
+        status.setSimCardNumber(profile.simCardNumber());
+        status.setDeviceType(profile.deviceModel());
+        status.setIsActive(profile.isDeviceActive());
+        return status;
+    }
+    
+    private Mono<NetworkData.DeviceStatus> fetchDeviceStatus(String phoneNumber) {
         return internalServiceClient.getFromService(identificationServiceUrl, 
                 "/identification/share-phone-number?phoneNumber=" + phoneNumber)
                 .map(response -> {
@@ -152,18 +204,16 @@ public class NetworkDataCollectionService {
         );
         
         return internalServiceClient.callService(connectivityServiceUrl, 
-                "/connectivity/Qos/sessions", requestBody)
+                "/connectivity/Qos/sessions", requestBody, QOD_SESSIONS_RESPONSE)
                 .map(response -> {
                     NetworkData.QoSMetrics qos = new NetworkData.QoSMetrics();
-                    if (response != null && response.containsKey("data")) {
-                        Map<String, Object> data = (Map<String, Object>) response.get("data");
-                        if (data.containsKey("sessions") && ((java.util.List<?>) data.get("sessions")).size() > 0) {
-                            Map<String, Object> session = (Map<String, Object>) ((java.util.List<?>) data.get("sessions")).get(0);
-                            qos.setQosProfile((String) session.getOrDefault("qosProfile", "DEFAULT"));
-                            qos.setPriority(((Number) session.getOrDefault("priority", 5)).intValue());
-                            qos.setBandwidth(((Number) session.getOrDefault("bandwidth", 0.0)).doubleValue());
-                            qos.setLatency(((Number) session.getOrDefault("latency", 0.0)).doubleValue());
-                        }
+                    QodSessionListResponse data = response.data();
+                    if (data != null && data.sessions() != null && !data.sessions().isEmpty()) {
+                        QodSessionResponse session = data.sessions().get(0);
+                        qos.setQosProfile(session.qosProfile() != null ? session.qosProfile() : "DEFAULT");
+                        qos.setPriority(session.priority() != null ? session.priority() : 5);
+                        qos.setBandwidth(session.bandwidth() != null ? session.bandwidth() : 0.0);
+                        qos.setLatency(session.latency() != null ? session.latency() : 0.0);
                     }
                     return qos;
                 })
@@ -8,6 +8,11 @@ public interface NokiaNacDeviceSwapClient {
 
 
     Mono<Map<String, Object>> retrieveDeviceSwapDate(com.service.shared.dto.request.DeviceDTO device);
+
+    /**
+     * Device swap date straight from Nokia, bypassing the shared response cache (bulk screening)
+     */
+    Mono<Map<String, Object>> retrieveDeviceSwapDateUncached(com.service.shared.dto.request.DeviceDTO device);
     Mono<Map<String, Object>> CheckDeviceSwap(com.service.shared.dto.request.CheckDeviceSwap swap);
 
 
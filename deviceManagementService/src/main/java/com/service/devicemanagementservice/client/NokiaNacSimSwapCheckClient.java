@@ -6,4 +6,9 @@ import java.util.Map;
 
 public interface NokiaNacSimSwapCheckClient {
     Mono<Map<String,Object>> retrieveSimSwap(com.service.shared.dto.request.DeviceDTO device);
+
+    /**
+     * SIM swap date straight from Nokia, bypassing the shared response cache (bulk screening)
+     */
+    Mono<Map<String,Object>> retrieveSimSwapUncached(com.service.shared.dto.request.DeviceDTO device);
 }
@@ -5,10 +5,13 @@ import com.service.shared.dto.CreateDeviceStatusSubscriptionDTO;
 import com.service.shared.dto.DeviceConnectivityStatusDTO;
 import com.service.shared.exception.GlobalException;
 import com.service.shared.service.NokiaNacTokenManager;
+import com.service.shared.util.NokiaNacRequestHedger;
+import com.service.shared.util.NokiaNacResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -20,6 +23,7 @@ import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 
 
@@ -27,39 +31,46 @@ import java.util.Map;
 @Service
 public class NokiaNacDeviceStatusClientImpl implements NokiaNacDeviceStatusClient {
 
-    private static final String DEVICE_STATUS_PATH = "https://device-status.p-eu.rapidapi.com/";
-    private static final String CONNECTIVITY_STATUS_PATH = DEVICE_STATUS_PATH + "connectivity";
-    private static final String ROAMING_STATUS_PATH = DEVICE_STATUS_PATH + "roaming";
-    private static final String SUBSCRIPTIONS_PATH = DEVICE_STATUS_PATH + "subscriptions";
+    private static final String CONNECTIVITY_STATUS_PATH = "/connectivity";
+    private static final String ROAMING_STATUS_PATH = "/roaming";
+    private static final String SUBSCRIPTIONS_PATH = "/subscriptions";
     private static final String host ="device-status.nokia.rapidapi.com";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+    private static final String CONNECTIVITY_HEDGE_ENDPOINT = "device-connectivity-status";
+    private static final String SUBSCRIPTIONS_CACHE_ENDPOINT = "device-status-subscriptions";
 
 
     private final WebClient webClient;
     private final Retry retrySpec;
     private final Duration timeout;
     private final NokiaNacTokenManager tokenManager;
+    private final NokiaNacResponseCache responseCache;
+    private final NokiaNacRequestHedger requestHedger;
 
 
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
+    @Value("${nokia.nac.urls.device-status:https://device-status.p-eu.rapidapi.com}")
+    private String baseUrl;
 
     public NokiaNacDeviceStatusClientImpl(
             @Qualifier("nokiaWebClient") WebClient webClient,
             @Value("${nokia.nac.timeout:30000}") int timeoutMs,
             @Value("${nokia.nac.retry-attempts:3}") int retryAttempts,
-            NokiaNacTokenManager tokenManager
+            NokiaNacTokenManager tokenManager,
+            NokiaNacRequestHedger requestHedger,
+            NokiaNacResponseCache responseCache
     ) {
         this.webClient = webClient;
         this.timeout = Duration.ofMillis(timeoutMs);
         this.retrySpec = createRetrySpec(retryAttempts);
         this.tokenManager = tokenManager;
+        this.requestHedger = requestHedger;
+        this.responseCache = responseCache;
     }
 
 
-
     @Override
-    @SuppressWarnings("unchecked")
     public Mono<Map<String, Object>> getDeviceConnectivityStatus(DeviceConnectivityStatusDTO status) {
         if (status == null) {
             return Mono.error(new GlobalException(
@@ -73,17 +84,16 @@ public class NokiaNacDeviceStatusClientImpl implements NokiaNacDeviceStatusClien
         // Get OAuth2 access token
         String accessToken = tokenManager.getAccessToken();
         
-        return webClient.post()
-                .uri(CONNECTIVITY_STATUS_PATH)
-                .header("X-RapidAPI-Key", apiKey)
-                .header("X-RapidAPI-Host", host)
-                .header("Authorization", "Bearer " + accessToken)
-                .bodyValue(status)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleError)
-                .bodyToMono(Map.class)
-                .cast(Map.class)
-                .map(map -> (Map<String, Object>) map)
+        // Hedged when enabled: a slow primary is raced against a delayed duplicate request
+        return requestHedger.execute(CONNECTIVITY_HEDGE_ENDPOINT, () -> webClient.post()
+                        .uri(baseUrl + CONNECTIVITY_STATUS_PATH)
+                        .header("X-RapidAPI-Key", apiKey)
+                        .header("X-RapidAPI-Host", host)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .bodyValue(status)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, this::handleError)
+                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {}))
                 .timeout(timeout)
                 .retryWhen(retrySpec)
                 .doOnSuccess(result -> log.info("Retrieved device connectivity status successfully: {}", result))
@@ -115,7 +125,7 @@ public class NokiaNacDeviceStatusClientImpl implements NokiaNacDeviceStatusClien
         String accessToken = tokenManager.getAccessToken();
         
         return webClient.post()
-                .uri(ROAMING_STATUS_PATH)
+                .uri(baseUrl + ROAMING_STATUS_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", host)
                 .header("Authorization", "Bearer " + accessToken)
@@ -145,48 +155,51 @@ public class NokiaNacDeviceStatusClientImpl implements NokiaNacDeviceStatusClien
     public Mono<Map<String, Object>> getAllSubscription() {
         log.debug("Fetching all device status subscriptions");
 
-        // Get OAuth2 access token
-        String accessToken = tokenManager.getAccessToken();
-        
-        return webClient.get()
-                .uri(SUBSCRIPTIONS_PATH)
-                .header("X-RapidAPI-Key", apiKey)
-                .header("X-RapidAPI-Host", host)
-                .header("Authorization", "Bearer " + accessToken)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleError)
-                .bodyToMono(Object.class)
-                .map(response -> {
-                    // Handle both array and object responses
-                    Map<String, Object> result = new java.util.HashMap<>();
-                    if (response instanceof java.util.List) {
-                        // If response is an array, wrap it in a map
-                        result.put("subscriptions", response);
-                        result.put("count", ((java.util.List<?>) response).size());
-                    } else if (response instanceof Map) {
-                        // If response is already a map, use it directly
-                        result.putAll((Map<String, Object>) response);
-                    } else {
-                        // For any other type, wrap it
-                        result.put("data", response);
-                    }
-                    return result;
-                })
-                .cast(Map.class)
-                .map(map -> (Map<String, Object>) map)
-                .timeout(timeout)
-                .retryWhen(retrySpec)
-                .doOnSuccess(result -> log.debug("Retrieved all subscriptions: {}", result))
-                .doOnError(error -> log.error("Failed to get all subscriptions", error))
-                .onErrorMap(throwable -> {
-                    if (throwable instanceof GlobalException) {
-                        return throwable;
-                    }
-                    return new GlobalException(
-                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                            "Failed to get all subscriptions: " + throwable.getMessage(),
-                            throwable);
-                });
+        return responseCache.get(SUBSCRIPTIONS_CACHE_ENDPOINT, "all", () -> {
+            // Get OAuth2 access token
+            String accessToken = tokenManager.getAccessToken();
+
+            return webClient.get()
+                    .uri(baseUrl + SUBSCRIPTIONS_PATH)
+                    .header("X-RapidAPI-Key", apiKey)
+                    .header("X-RapidAPI-Host", host)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, this::handleError)
+                    .bodyToMono(Object.class)
+                    .map(response -> {
+                        // Handle both array and object responses
+                        Map<String, Object> result = new java.util.HashMap<>();
+                        if (response instanceof java.util.List) {
+                            // If response is an array, wrap it in a map
+                            result.put("subscriptions", response);
+                            result.put("count", ((java.util.List<?>) response).size());
+                        } else if (response instanceof Map) {
+                            // If response is already a map, use it directly
+                            result.putAll((Map<String, Object>) response);
+                        } else {
+                            // For any other type, wrap it
+                            result.put("data", response);
+                        }
+                        return result;
+                    })
+                    .cast(Map.class)
+                    // Cached and shared by all callers, so handed out read-only
+                    .map(map -> Collections.unmodifiableMap((Map<String, Object>) map))
+                    .timeout(timeout)
+                    .retryWhen(retrySpec)
+                    .doOnSuccess(result -> log.debug("Retrieved all subscriptions: {}", result))
+                    .doOnError(error -> log.error("Failed to get all subscriptions", error))
+                    .onErrorMap(throwable -> {
+                        if (throwable instanceof GlobalException) {
+                            return throwable;
+                        }
+                        return new GlobalException(
+                                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                "Failed to get all subscriptions: " + throwable.getMessage(),
+                                throwable);
+                    });
+        });
     }
 
     @Override
@@ -208,7 +221,7 @@ public class NokiaNacDeviceStatusClientImpl implements NokiaNacDeviceStatusClien
         String accessToken = tokenManager.getAccessToken();
         
         return webClient.post()
-                .uri(SUBSCRIPTIONS_PATH)
+                .uri(baseUrl + SUBSCRIPTIONS_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", host)
                 .header("Authorization", "Bearer " + accessToken)
@@ -220,6 +233,7 @@ public class NokiaNacDeviceStatusClientImpl implements NokiaNacDeviceStatusClien
                 .map(map -> (Map<String, Object>) map)
                 .timeout(timeout)
                 .retryWhen(retrySpec)
+                .doOnSuccess(result -> responseCache.invalidate(SUBSCRIPTIONS_CACHE_ENDPOINT))
                 .doOnSuccess(result -> log.info("Created device status subscription successfully: {}", result))
                 .doOnError(error -> log.error("Failed to create device status subscription", error))
                 .onErrorMap(throwable -> {
@@ -249,7 +263,7 @@ public class NokiaNacDeviceStatusClientImpl implements NokiaNacDeviceStatusClien
         String accessToken = tokenManager.getAccessToken();
         
         return webClient.get()
-                .uri(SUBSCRIPTIONS_PATH + "/{id}", subscriptionId)
+                .uri(baseUrl + SUBSCRIPTIONS_PATH + "/{id}", subscriptionId)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", host)
                 .header("Authorization", "Bearer " + accessToken)
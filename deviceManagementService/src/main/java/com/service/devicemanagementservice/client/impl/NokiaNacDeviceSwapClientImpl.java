@@ -4,6 +4,7 @@ import com.service.devicemanagementservice.client.NokiaNacDeviceSwapClient;
 import com.service.shared.dto.request.CheckDeviceSwap;
 import com.service.shared.dto.request.DeviceDTO;
 import com.service.shared.service.NokiaNacTokenManager;
+import com.service.shared.util.NokiaNacResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -19,35 +20,41 @@ import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 
 @Slf4j
 @Service
 public class NokiaNacDeviceSwapClientImpl implements NokiaNacDeviceSwapClient {
 
-    private static final String DEVICE_STATUS_PATH = "https://device-swap.p-eu.rapidapi.com/";
     private static final String host = "device-swap.nokia.rapidapi.com";
-    private static final String CONNECTIVITY_STATUS_PATH = DEVICE_STATUS_PATH + "retrieve-date";
+    private static final String CONNECTIVITY_STATUS_PATH = "/retrieve-date";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+    private static final String SWAP_DATE_CACHE_ENDPOINT = "device-swap-date";
 
     private final WebClient webClient;
     private final Retry retrySpec;
     private final Duration timeout;
     private final NokiaNacTokenManager tokenManager;
+    private final NokiaNacResponseCache responseCache;
 
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
+    @Value("${nokia.nac.urls.device-swap:https://device-swap.p-eu.rapidapi.com}")
+    private String baseUrl;
 
     public NokiaNacDeviceSwapClientImpl(
             @Qualifier("nokiaWebClient") WebClient webClient,
             @Value("${nokia.nac.timeout:30000}") int timeoutMs,
             @Value("${nokia.nac.retry-attempts:3}") int retryAttempts,
-            NokiaNacTokenManager tokenManager
+            NokiaNacTokenManager tokenManager,
+            NokiaNacResponseCache responseCache
     ) {
         this.webClient = webClient;
         this.timeout = Duration.ofMillis(timeoutMs);
         this.retrySpec = createRetrySpec(retryAttempts);
         this.tokenManager = tokenManager;
+        this.responseCache = responseCache;
     }
 
     private Retry createRetrySpec(int retryAttempts) {
@@ -96,11 +103,32 @@ public class NokiaNacDeviceSwapClientImpl implements NokiaNacDeviceSwapClient {
 
         log.debug("Fetching device connectivity status for device: {}", device.getPhoneNumber());
 
+        if (device.getPhoneNumber() == null || device.getPhoneNumber().isBlank()) {
+            // No per-device key to cache under
+            return fetchDeviceSwapDate(device);
+        }
+        // The cached map is shared by every caller, so it is stored read-only
+        return responseCache.get(SWAP_DATE_CACHE_ENDPOINT, device.getPhoneNumber(),
+                () -> fetchDeviceSwapDate(device).map(Collections::unmodifiableMap));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> retrieveDeviceSwapDateUncached(DeviceDTO device) {
+        if (device == null) {
+            return Mono.error(new com.service.shared.exception.GlobalException(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Device request cannot be null"
+            ));
+        }
+        return fetchDeviceSwapDate(device);
+    }
+
+    private Mono<Map<String, Object>> fetchDeviceSwapDate(DeviceDTO device) {
         // Get OAuth2 access token
         String accessToken = tokenManager.getAccessToken();
-        
+
         return webClient.post()
-                .uri(CONNECTIVITY_STATUS_PATH)
+                .uri(baseUrl + CONNECTIVITY_STATUS_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", host)
                 .header("Authorization", "Bearer " + accessToken)
@@ -140,7 +168,7 @@ public class NokiaNacDeviceSwapClientImpl implements NokiaNacDeviceSwapClient {
         String accessToken = tokenManager.getAccessToken();
         
         return webClient.post()
-                .uri(CONNECTIVITY_STATUS_PATH)
+                .uri(baseUrl + CONNECTIVITY_STATUS_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", host)
                 .header("Authorization", "Bearer " + accessToken)
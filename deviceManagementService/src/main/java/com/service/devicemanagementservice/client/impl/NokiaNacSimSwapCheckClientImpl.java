@@ -3,6 +3,7 @@ package com.service.devicemanagementservice.client.impl;
 import com.service.devicemanagementservice.client.NokiaNacSimSwapCheckClient;
 import com.service.shared.dto.request.DeviceDTO;
 import com.service.shared.service.NokiaNacTokenManager;
+import com.service.shared.util.NokiaNacResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -18,35 +19,41 @@ import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 
 @Service
 @Slf4j
 public class NokiaNacSimSwapCheckClientImpl implements NokiaNacSimSwapCheckClient {
 
-    private static final String DEVICE_STATUS_PATH = "https://network-as-code.p-eu.rapidapi.com/";
     private static final String host = "network-as-code.nokia.rapidapi.com";
-    private static final String CONNECTIVITY_STATUS_PATH = DEVICE_STATUS_PATH + "passthrough/camara/v1/sim-swap/sim-swap/v0/retrieve-date";
+    private static final String CONNECTIVITY_STATUS_PATH = "/passthrough/camara/v1/sim-swap/sim-swap/v0/retrieve-date";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+    private static final String SIM_SWAP_DATE_CACHE_ENDPOINT = "sim-swap-date";
 
     private final WebClient webClient;
     private final Retry retrySpec;
     private final Duration timeout;
     private final NokiaNacTokenManager tokenManager;
+    private final NokiaNacResponseCache responseCache;
 
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
+    @Value("${nokia.nac.urls.sim-swap:https://network-as-code.p-eu.rapidapi.com}")
+    private String baseUrl;
 
     public NokiaNacSimSwapCheckClientImpl(
             @Qualifier("nokiaWebClient") WebClient webClient,
             @Value("${nokia.nac.timeout:30000}") int timeoutMs,
             @Value("${nokia.nac.retry-attempts:3}") int retryAttempts,
-            NokiaNacTokenManager tokenManager
+            NokiaNacTokenManager tokenManager,
+            NokiaNacResponseCache responseCache
     ) {
         this.webClient = webClient;
         this.timeout = Duration.ofMillis(timeoutMs);
         this.retrySpec = createRetrySpec(retryAttempts);
         this.tokenManager = tokenManager;
+        this.responseCache = responseCache;
     }
 
     private Retry createRetrySpec(int retryAttempts) {
@@ -128,11 +135,32 @@ public class NokiaNacSimSwapCheckClientImpl implements NokiaNacSimSwapCheckClien
 
         log.debug("Fetching device connectivity status for device: {}", device.getPhoneNumber());
 
+        if (device.getPhoneNumber() == null || device.getPhoneNumber().isBlank()) {
+            // No per-device key to cache under
+            return fetchSimSwapDate(device);
+        }
+        // The cached map is shared by every caller, so it is stored read-only
+        return responseCache.get(SIM_SWAP_DATE_CACHE_ENDPOINT, device.getPhoneNumber(),
+                () -> fetchSimSwapDate(device).map(Collections::unmodifiableMap));
+    }
+
+    @Override
+    public Mono<Map<String, Object>> retrieveSimSwapUncached(DeviceDTO device) {
+        if (device == null) {
+            return Mono.error(new com.service.shared.exception.GlobalException(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Device request cannot be null"
+            ));
+        }
+        return fetchSimSwapDate(device);
+    }
+
+    private Mono<Map<String, Object>> fetchSimSwapDate(DeviceDTO device) {
         // Get OAuth2 access token
         String accessToken = tokenManager.getAccessToken();
-        
+
         return webClient.post()
-                .uri(CONNECTIVITY_STATUS_PATH)
+                .uri(baseUrl + CONNECTIVITY_STATUS_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", host)
                 .header("Authorization", "Bearer " + accessToken)
@@ -1,5 +1,9 @@
 package com.service.devicemanagementservice.config;
 
+import com.service.shared.security.InternalAssertionBearerTokenResolver;
+import com.service.shared.security.PlatformJwtAuthenticationConverter;
+import com.service.shared.security.PlatformJwtDecoders;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,7 +11,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -15,8 +18,11 @@ import org.springframework.security.web.SecurityFilterChain;
  */
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class OAuth2ResourceServerConfig {
 
+    private final PlatformJwtDecoders jwtDecoders;
+
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:http://localhost:8085}")
     private String issuerUri;
 
@@ -27,10 +33,16 @@ public class OAuth2ResourceServerConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/actuator/**", "/health", "/connectivity/**").permitAll()
+                        // Nokia callbacks authenticate with the notification token, checked by the endpoint
+                        .requestMatchers("/device/status/notifications").permitAll()
+                        // Screening jobs spend the Nokia quota on every subscriber and write their swap dates to disk
+                        .requestMatchers("/device/swap/screening/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
-                        .jwt(jwt -> jwt.decoder(jwtDecoder()))
+                        .bearerTokenResolver(new InternalAssertionBearerTokenResolver("/device/status/notifications"))
+                        .jwt(jwt -> jwt.decoder(jwtDecoder())
+                                .jwtAuthenticationConverter(PlatformJwtAuthenticationConverter.create()))
                 );
 
         return http.build();
@@ -38,6 +50,6 @@ public class OAuth2ResourceServerConfig {
 
     @Bean
     public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
+        return jwtDecoders.create(issuerUri);
     }
 }
@@ -1,19 +1,23 @@
 package com.service.devicemanagementservice.controller;
 
 import com.service.devicemanagementservice.service.DeviceStatusService;
+import com.service.devicemanagementservice.service.DeviceStatusStateService;
 import com.service.devicemanagementservice.service.DeviceSwapService;
+import com.service.devicemanagementservice.service.SwapScreeningService;
 import com.service.shared.annotation.MethodCode;
 import com.service.shared.dto.CreateDeviceStatusSubscriptionDTO;
 import com.service.shared.dto.DeviceConnectivityStatusDTO;
 import com.service.shared.dto.GlobalResponse;
 import com.service.shared.dto.request.CheckDeviceSwap;
-import com.service.shared.dto.request.DeviceDTO;
+import com.service.shared.dto.request.RetrieveDeviceSwapDate;
+import com.service.shared.dto.request.SwapScreeningRequestDTO;
 import com.service.shared.util.ResponseHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -23,6 +27,8 @@ public class DeviceManagementController {
 
     private final DeviceStatusService deviceStatusService;
     private final DeviceSwapService deviceSwapService;
+    private final DeviceStatusStateService deviceStatusStateService;
+    private final SwapScreeningService swapScreeningService;
 
     @GetMapping("/health")
     @MethodCode(value = "HC001", description = "Health check")
@@ -67,10 +73,49 @@ public class DeviceManagementController {
         return ResponseEntity.ok(deviceStatusService.getSubscriptionById(subscriptionId));
     }
 
+    @PostMapping("/status/notifications")
+    @MethodCode(value = "DS006", description = "Receive device status notification")
+    public ResponseEntity<GlobalResponse> receiveDeviceStatusNotification(
+            @RequestBody Map<String, Object> notification,
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        GlobalResponse response = deviceStatusStateService.handleNotification(notification, authorization);
+        // Nokia NAC only sees the HTTP status of the callback
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @GetMapping("/status/state/{phoneNumber}")
+    @MethodCode(value = "DS007", description = "Get device status from state table")
+    public ResponseEntity<GlobalResponse> getDeviceStatusState(
+            @PathVariable String phoneNumber) {
+        return ResponseEntity.ok(deviceStatusStateService.getState(phoneNumber));
+    }
+
+    @PostMapping("/status/state/query")
+    @MethodCode(value = "DS008", description = "Get status of many devices from state table")
+    public ResponseEntity<GlobalResponse> queryDeviceStatusStates(
+            @RequestBody Map<String, List<String>> request) {
+        return ResponseEntity.ok(deviceStatusStateService.getStates(request.get("phoneNumbers")));
+    }
+
+    @GetMapping("/status/state")
+    @MethodCode(value = "DS009", description = "Find devices by status in state table")
+    public ResponseEntity<GlobalResponse> findDeviceStatusStates(
+            @RequestParam(required = false) String connectivityStatus,
+            @RequestParam(required = false) Boolean roaming,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(deviceStatusStateService.findStates(connectivityStatus, roaming, limit));
+    }
+
+    @GetMapping("/status/state/stats")
+    @MethodCode(value = "DS010", description = "Get device status state table statistics")
+    public ResponseEntity<GlobalResponse> getDeviceStatusStateStats() {
+        return ResponseEntity.ok(deviceStatusStateService.getStats());
+    }
+
     @PostMapping("/swap/retrieve-date")
     @MethodCode(value = "DSW001", description = "Retrieve device swap date")
     public ResponseEntity<GlobalResponse> retrieveDeviceSwapDate(
-            @RequestBody DeviceDTO device) {
+            @RequestBody RetrieveDeviceSwapDate device) {
         return ResponseEntity.ok(deviceSwapService.retrieveDeviceSwapDate(device));
     }
 
@@ -80,4 +125,51 @@ public class DeviceManagementController {
             @RequestBody CheckDeviceSwap swap) {
         return ResponseEntity.ok(deviceSwapService.checkDeviceSwap(swap));
     }
+
+    @GetMapping("/swap/state/stats")
+    @MethodCode(value = "DSW008", description = "Get swap state cache statistics")
+    public ResponseEntity<GlobalResponse> getSwapStateStats() {
+        return ResponseEntity.ok(deviceSwapService.getSwapStateStats());
+    }
+
+    @GetMapping("/swap/state/{phoneNumber}")
+    @MethodCode(value = "DSW009", description = "Get last known swap state of a device")
+    public ResponseEntity<GlobalResponse> getSwapState(
+            @PathVariable String phoneNumber) {
+        return ResponseEntity.ok(deviceSwapService.getSwapState(phoneNumber));
+    }
+
+    @PostMapping("/swap/screening")
+    @MethodCode(value = "DSW003", description = "Start bulk swap screening job")
+    public ResponseEntity<GlobalResponse> startSwapScreening(
+            @RequestBody SwapScreeningRequestDTO request) {
+        return ResponseEntity.ok(swapScreeningService.startScreening(request));
+    }
+
+    @GetMapping("/swap/screening")
+    @MethodCode(value = "DSW004", description = "Get all swap screening jobs")
+    public ResponseEntity<GlobalResponse> getSwapScreeningJobs() {
+        return ResponseEntity.ok(swapScreeningService.getScreeningJobs());
+    }
+
+    @GetMapping("/swap/screening/{jobId}")
+    @MethodCode(value = "DSW005", description = "Get swap screening job")
+    public ResponseEntity<GlobalResponse> getSwapScreeningJob(
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(swapScreeningService.getScreeningJob(jobId));
+    }
+
+    @PostMapping("/swap/screening/{jobId}/resume")
+    @MethodCode(value = "DSW006", description = "Resume swap screening job from its checkpoint")
+    public ResponseEntity<GlobalResponse> resumeSwapScreening(
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(swapScreeningService.resumeScreening(jobId));
+    }
+
+    @PostMapping("/swap/screening/{jobId}/cancel")
+    @MethodCode(value = "DSW007", description = "Cancel swap screening job")
+    public ResponseEntity<GlobalResponse> cancelSwapScreening(
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(swapScreeningService.cancelScreening(jobId));
+    }
 }
@@ -0,0 +1,41 @@
+package com.service.devicemanagementservice.screening;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Rate limiter that hands out evenly spaced time slots
+ * Each permit reserves the next slot, 1/rate apart; up to burst slots can be banked while idle.
+ * Callers are delayed until their slot instead of being rejected, so a pipeline runs at exactly
+ * the configured rate.
+ */
+public final class RequestPacer {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private long nextSlot;
+
+    public RequestPacer(double permitsPerSecond, int burst) {
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstNanos = intervalNanos * Math.max(burst, 1);
+        this.nextSlot = System.nanoTime() - burstNanos;
+    }
+
+    /**
+     * Completes when a permit is available
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long slot = Math.max(nextSlot, now - burstNanos);
+        nextSlot = slot + intervalNanos;
+        return Math.max(0, slot - now);
+    }
+}
@@ -0,0 +1,75 @@
+package com.service.devicemanagementservice.screening;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SIM and device swap dates per phone number for bulk screening
+ * Kept apart from the shared Nokia response cache so a nightly run over the whole subscriber base
+ * does not evict interactive entries. Dates are held as two epoch-millis longs per number, and
+ * entries live for swap-screening.cache.ttl so a resumed or repeated run skips numbers already fetched.
+ */
+@Component
+public class SwapDateCache {
+
+    private static final long NO_SWAP = Long.MIN_VALUE;
+
+    private final boolean enabled;
+    private final Cache<String, SwapDates> cache;
+
+    public SwapDateCache(
+            @Value("${swap-screening.cache.enabled:true}") boolean enabled,
+            @Value("${swap-screening.cache.maximum-size:1000000}") long maximumSize,
+            @Value("${swap-screening.cache.ttl:12h}") Duration ttl
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public SwapDates get(String phoneNumber) {
+        return enabled ? cache.getIfPresent(phoneNumber) : null;
+    }
+
+    public void put(String phoneNumber, Instant latestSimChange, Instant latestDeviceChange) {
+        if (enabled) {
+            cache.put(phoneNumber, new SwapDates(
+                    latestSimChange != null ? latestSimChange.toEpochMilli() : NO_SWAP,
+                    latestDeviceChange != null ? latestDeviceChange.toEpochMilli() : NO_SWAP));
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+
+    public record SwapDates(long simChange, long deviceChange) {
+
+        public Instant latestSimChange() {
+            return simChange == NO_SWAP ? null : Instant.ofEpochMilli(simChange);
+        }
+
+        public Instant latestDeviceChange() {
+            return deviceChange == NO_SWAP ? null : Instant.ofEpochMilli(deviceChange);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.service.devicemanagementservice.screening;
+
+import java.time.Instant;
+
+/**
+ * Checkpoint of a swap screening job, persisted after every committed chunk
+ *
+ * @param position Resume point: lines consumed for FILE sources, last user id for USERS
+ * @param parts Number of result part files written
+ */
+public record SwapScreeningJob(
+        String jobId,
+        Source source,
+        String inputPath,
+        int maxAge,
+        Status status,
+        long position,
+        long processed,
+        long flagged,
+        long failed,
+        long cacheHits,
+        int parts,
+        String createdAt,
+        String updatedAt,
+        String error
+) {
+
+    public enum Source {
+        FILE,
+        USERS
+    }
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED,
+        /** Was running when the service stopped; resumable */
+        INTERRUPTED
+    }
+
+    public static SwapScreeningJob create(String jobId, Source source, String inputPath, int maxAge) {
+        String now = Instant.now().toString();
+        return new SwapScreeningJob(jobId, source, inputPath, maxAge, Status.RUNNING,
+                0, 0, 0, 0, 0, 0, now, now, null);
+    }
+
+    public SwapScreeningJob withStatus(Status status, String error) {
+        return new SwapScreeningJob(jobId, source, inputPath, maxAge, status, position, processed, flagged,
+                failed, cacheHits, parts, createdAt, Instant.now().toString(), error);
+    }
+
+    /**
+     * Checkpoint after a chunk's part file has been written
+     */
+    public SwapScreeningJob withChunk(long position, int processed, int flagged, int failed, int cacheHits) {
+        return new SwapScreeningJob(jobId, source, inputPath, maxAge, status, position,
+                this.processed + processed, this.flagged + flagged, this.failed + failed,
+                this.cacheHits + cacheHits, parts + 1, createdAt, Instant.now().toString(), error);
+    }
+}
@@ -0,0 +1,62 @@
+package com.service.devicemanagementservice.screening;
+
+import java.time.Instant;
+
+/**
+ * Screening outcome of one phone number; swap dates are null when Nokia reports no swap
+ */
+public record SwapScreeningResult(
+        String phoneNumber,
+        Instant latestSimChange,
+        Instant latestDeviceChange,
+        boolean simSwapped,
+        boolean deviceSwapped,
+        boolean cached,
+        String error
+) {
+
+    static final String CSV_HEADER =
+            "phoneNumber,latestSimChange,latestDeviceChange,simSwapped,deviceSwapped,cached,error";
+
+    public static SwapScreeningResult of(String phoneNumber, Instant latestSimChange, Instant latestDeviceChange,
+                                         Instant swappedAfter, boolean cached) {
+        return new SwapScreeningResult(phoneNumber, latestSimChange, latestDeviceChange,
+                latestSimChange != null && latestSimChange.isAfter(swappedAfter),
+                latestDeviceChange != null && latestDeviceChange.isAfter(swappedAfter),
+                cached, null);
+    }
+
+    public static SwapScreeningResult failed(String phoneNumber, String error) {
+        return new SwapScreeningResult(phoneNumber, null, null, false, false, false,
+                error != null ? error : "Unknown error");
+    }
+
+    public boolean flagged() {
+        return simSwapped || deviceSwapped;
+    }
+
+    public boolean failed() {
+        return error != null;
+    }
+
+    String toCsvRow() {
+        return String.join(",",
+                csv(phoneNumber),
+                latestSimChange != null ? latestSimChange.toString() : "",
+                latestDeviceChange != null ? latestDeviceChange.toString() : "",
+                String.valueOf(simSwapped),
+                String.valueOf(deviceSwapped),
+                String.valueOf(cached),
+                csv(error));
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,145 @@
+package com.service.devicemanagementservice.screening;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.shared.exception.GlobalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk layout of swap screening jobs
+ * Each job has a directory under swap-screening.work-dir holding checkpoint.json and one gzipped CSV
+ * part per committed chunk (part-00000.csv.gz, ...). Parts and checkpoints are written to a temporary
+ * file and moved into place, so a crash never leaves a half-written part behind a checkpoint.
+ */
+@Slf4j
+@Component
+public class SwapScreeningStore {
+
+    private static final String CHECKPOINT_FILE = "checkpoint.json";
+
+    private final ObjectMapper objectMapper;
+    private final Path workDir;
+    private final Path inputDir;
+
+    public SwapScreeningStore(
+            ObjectMapper objectMapper,
+            @Value("${swap-screening.work-dir:swap-screening/jobs}") String workDir,
+            @Value("${swap-screening.input-dir:swap-screening/input}") String inputDir
+    ) {
+        this.objectMapper = objectMapper;
+        this.workDir = Path.of(workDir).toAbsolutePath().normalize();
+        this.inputDir = Path.of(inputDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Input file inside the input directory
+     */
+    public Path resolveInput(String inputPath) {
+        if (inputPath == null || inputPath.isBlank()) {
+            throw new GlobalException(HttpStatus.BAD_REQUEST.value(), "Input path is required for FILE screening");
+        }
+        Path path = inputDir.resolve(inputPath).normalize();
+        if (!path.startsWith(inputDir)) {
+            throw new GlobalException(HttpStatus.BAD_REQUEST.value(), "Input path must be inside the screening input directory");
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new GlobalException(HttpStatus.NOT_FOUND.value(), "Input file not found: " + inputPath);
+        }
+        return path;
+    }
+
+    public Optional<SwapScreeningJob> load(String jobId) {
+        Path checkpoint = jobDir(jobId).resolve(CHECKPOINT_FILE);
+        if (!Files.isRegularFile(checkpoint)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(checkpoint.toFile(), SwapScreeningJob.class));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read checkpoint of screening job " + jobId, e);
+        }
+    }
+
+    public List<SwapScreeningJob> loadAll() {
+        if (!Files.isDirectory(workDir)) {
+            return List.of();
+        }
+        List<SwapScreeningJob> jobs = new ArrayList<>();
+        try (Stream<Path> dirs = Files.list(workDir)) {
+            dirs.filter(Files::isDirectory).forEach(dir -> {
+                try {
+                    load(dir.getFileName().toString()).ifPresent(jobs::add);
+                } catch (RuntimeException e) {
+                    log.warn("Skipping unreadable screening job directory {}", dir, e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list screening jobs", e);
+        }
+        jobs.sort(Comparator.comparing(SwapScreeningJob::createdAt).reversed());
+        return jobs;
+    }
+
+    public void save(SwapScreeningJob job) {
+        Path dir = jobDir(job.jobId());
+        try {
+            Files.createDirectories(dir);
+            Path tmp = dir.resolve(CHECKPOINT_FILE + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), job);
+            Files.move(tmp, dir.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write checkpoint of screening job " + job.jobId(), e);
+        }
+    }
+
+    /**
+     * Write the results of one chunk as the job's next part file
+     */
+    public Path writePart(SwapScreeningJob job, List<SwapScreeningResult> results) {
+        Path dir = jobDir(job.jobId());
+        Path part = dir.resolve("part-%05d.csv.gz".formatted(job.parts()));
+        Path tmp = dir.resolve(part.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(dir);
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tmp), 64 * 1024), StandardCharsets.UTF_8))) {
+                writer.write(SwapScreeningResult.CSV_HEADER);
+                writer.newLine();
+                for (SwapScreeningResult result : results) {
+                    writer.write(result.toCsvRow());
+                    writer.newLine();
+                }
+            }
+            Files.move(tmp, part, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return part;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write results of screening job " + job.jobId(), e);
+        }
+    }
+
+    public Path jobDir(String jobId) {
+        try {
+            return workDir.resolve(UUID.fromString(jobId).toString());
+        } catch (IllegalArgumentException e) {
+            throw new GlobalException(HttpStatus.BAD_REQUEST.value(), "Invalid screening job id: " + jobId);
+        }
+    }
+}
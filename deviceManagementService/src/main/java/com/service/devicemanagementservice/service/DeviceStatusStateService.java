@@ -0,0 +1,51 @@
+package com.service.devicemanagementservice.service;
+
+import com.service.shared.dto.GlobalResponse;
+
+import java.util.List;
+import java.util.Map;
+
+public interface DeviceStatusStateService {
+
+    /**
+     * Apply a device status notification (CloudEvent) sent by Nokia NAC to the subscription webhook
+     * 
+     * @param notification CloudEvent
+     * @param authorization Authorization header of the callback
+     * @return Handling result
+     */
+    GlobalResponse handleNotification(Map<String, Object> notification, String authorization);
+
+    /**
+     * Current status of a device from the state table
+     * 
+     * @param phoneNumber Device phone number
+     * @return Device status
+     */
+    GlobalResponse getState(String phoneNumber);
+
+    /**
+     * Current status of many devices from the state table
+     * 
+     * @param phoneNumbers Device phone numbers
+     * @return Known states and the numbers without one
+     */
+    GlobalResponse getStates(List<String> phoneNumbers);
+
+    /**
+     * Devices in the state table matching a status
+     * 
+     * @param connectivityStatus CONNECTED_DATA, CONNECTED_SMS or NOT_CONNECTED; null for any
+     * @param roaming Roaming flag; null for any
+     * @param limit Maximum number of devices returned
+     * @return Matching device states
+     */
+    GlobalResponse findStates(String connectivityStatus, Boolean roaming, int limit);
+
+    /**
+     * State table statistics
+     * 
+     * @return Device counts by status and update counters
+     */
+    GlobalResponse getStats();
+}
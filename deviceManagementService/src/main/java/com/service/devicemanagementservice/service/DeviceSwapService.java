@@ -2,11 +2,26 @@ package com.service.devicemanagementservice.service;
 
 import com.service.shared.dto.GlobalResponse;
 import com.service.shared.dto.request.CheckDeviceSwap;
-import com.service.shared.dto.request.DeviceDTO;
+import com.service.shared.dto.request.RetrieveDeviceSwapDate;
 
 public interface DeviceSwapService {
 
-    GlobalResponse retrieveDeviceSwapDate(DeviceDTO device);
+    GlobalResponse retrieveDeviceSwapDate(RetrieveDeviceSwapDate device);
 
     GlobalResponse checkDeviceSwap(CheckDeviceSwap swap);
+
+    /**
+     * Last known swap state of a device, without calling Nokia
+     * 
+     * @param phoneNumber Device phone number
+     * @return Swap state with the next scheduled check
+     */
+    GlobalResponse getSwapState(String phoneNumber);
+
+    /**
+     * Swap state cache statistics
+     * 
+     * @return Checks answered from state, Nokia checks and detected changes
+     */
+    GlobalResponse getSwapStateStats();
 }
@@ -0,0 +1,46 @@
+package com.service.devicemanagementservice.service;
+
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.dto.request.SwapScreeningRequestDTO;
+
+public interface SwapScreeningService {
+
+    /**
+     * Start a bulk SIM/device swap screening job in the background
+     * 
+     * @param request Input source and swap age threshold
+     * @return Created job
+     */
+    GlobalResponse startScreening(SwapScreeningRequestDTO request);
+
+    /**
+     * Continue a cancelled, failed or interrupted job from its last checkpoint
+     * 
+     * @param jobId Job ID
+     * @return Resumed job
+     */
+    GlobalResponse resumeScreening(String jobId);
+
+    /**
+     * Stop a running job; it can be resumed later
+     * 
+     * @param jobId Job ID
+     * @return Cancelled job
+     */
+    GlobalResponse cancelScreening(String jobId);
+
+    /**
+     * Progress of a job
+     * 
+     * @param jobId Job ID
+     * @return Job checkpoint and throughput
+     */
+    GlobalResponse getScreeningJob(String jobId);
+
+    /**
+     * All jobs in the work directory, newest first
+     * 
+     * @return Jobs
+     */
+    GlobalResponse getScreeningJobs();
+}
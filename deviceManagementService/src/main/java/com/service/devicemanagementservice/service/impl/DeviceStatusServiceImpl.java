@@ -2,27 +2,44 @@ package com.service.devicemanagementservice.service.impl;
 
 import com.service.devicemanagementservice.client.NokiaNacDeviceStatusClient;
 import com.service.devicemanagementservice.service.DeviceStatusService;
+import com.service.devicemanagementservice.state.DeviceStatusTable;
+import com.service.devicemanagementservice.state.DeviceStatusUpdate;
 import com.service.shared.dto.CreateDeviceStatusSubscriptionDTO;
 import com.service.shared.dto.DeviceConnectivityStatusDTO;
 import com.service.shared.dto.GlobalResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class DeviceStatusServiceImpl implements DeviceStatusService {
 
     private final NokiaNacDeviceStatusClient nokiaNacDeviceStatusClient;
+    private final DeviceStatusTable deviceStatusTable;
+    private final String notificationAuthToken;
     private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(30);
 
+    public DeviceStatusServiceImpl(
+            NokiaNacDeviceStatusClient nokiaNacDeviceStatusClient,
+            DeviceStatusTable deviceStatusTable,
+            @Value("${device-status.notifications.auth-token:}") String notificationAuthToken
+    ) {
+        this.nokiaNacDeviceStatusClient = nokiaNacDeviceStatusClient;
+        this.deviceStatusTable = deviceStatusTable;
+        this.notificationAuthToken = notificationAuthToken;
+    }
+
     @Override
     @Transactional
     public GlobalResponse getDeviceConnectivityStatus(DeviceConnectivityStatusDTO status) {
@@ -37,6 +54,7 @@ public class DeviceStatusServiceImpl implements DeviceStatusService {
                 );
             }
 
+            recordPolledStatus(status, response);
             return GlobalResponse.successWithData(200, "Device connectivity status retrieved successfully", response);
         } catch (Exception e) {
             log.error("Error retrieving device connectivity status", e);
@@ -61,6 +79,7 @@ public class DeviceStatusServiceImpl implements DeviceStatusService {
                 );
             }
 
+            recordPolledStatus(status, response);
             return GlobalResponse.successWithData(200, "Device roaming status retrieved successfully", response);
         } catch (Exception e) {
             log.error("Error retrieving device roaming status", e);
@@ -99,6 +118,12 @@ public class DeviceStatusServiceImpl implements DeviceStatusService {
     @Transactional
     public GlobalResponse createDeviceStatusSubscription(CreateDeviceStatusSubscriptionDTO request) {
         try {
+            CreateDeviceStatusSubscriptionDTO.WebhookDTO webhook = request.getWebhook();
+            if (webhook != null && webhook.getNotificationAuthToken() == null
+                    && notificationAuthToken != null && !notificationAuthToken.isBlank()) {
+                // Callbacks to this service must carry the configured token
+                webhook.setNotificationAuthToken(notificationAuthToken);
+            }
             Mono<Map<String, Object>> resMono = nokiaNacDeviceStatusClient.createDeviceStatusSubscription(request);
             Map<String, Object> response = resMono.block(BLOCK_TIMEOUT);
 
@@ -142,4 +167,32 @@ public class DeviceStatusServiceImpl implements DeviceStatusService {
             );
         }
     }
+
+    /**
+     * Feed a polled status into the state table, so reads between notifications stay current
+     */
+    private void recordPolledStatus(DeviceConnectivityStatusDTO device, Map<String, Object> response) {
+        if (device == null || device.getPhoneNumber() == null) {
+            return;
+        }
+        deviceStatusTable.apply(new DeviceStatusUpdate(
+                device.getPhoneNumber(),
+                response.get("connectivityStatus") instanceof String connectivity ? connectivity : null,
+                response.get("roaming") instanceof Boolean roaming ? roaming : null,
+                response.get("countryCode") instanceof Number code ? code.intValue() : null,
+                response.get("countryName") instanceof List<?> names ? names.stream().map(String::valueOf).toList() : null,
+                parseStatusTime(response.get("lastStatusTime")),
+                "poll"));
+    }
+
+    private static Instant parseStatusTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value.toString()).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
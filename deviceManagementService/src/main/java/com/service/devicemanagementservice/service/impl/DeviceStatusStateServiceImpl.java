@@ -0,0 +1,164 @@
+package com.service.devicemanagementservice.service.impl;
+
+import com.service.devicemanagementservice.service.DeviceStatusStateService;
+import com.service.devicemanagementservice.state.DeviceStatusState;
+import com.service.devicemanagementservice.state.DeviceStatusTable;
+import com.service.devicemanagementservice.state.DeviceStatusUpdate;
+import com.service.shared.dto.GlobalResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Push-based device status: Nokia status notifications feed the DeviceStatusTable, and reads are
+ * served from it
+ * Event types follow CAMARA device-status (connectivity-data, connectivity-sms,
+ * connectivity-disconnected, roaming-status, roaming-on, roaming-off, roaming-change-country).
+ * Callbacks must carry device-status.notifications.auth-token as a bearer token; while no token is
+ * configured every notification is rejected.
+ */
+@Slf4j
+@Service
+public class DeviceStatusStateServiceImpl implements DeviceStatusStateService {
+
+    private static final Map<String, String> CONNECTIVITY_EVENTS = Map.of(
+            "connectivity-data", "CONNECTED_DATA",
+            "connectivity-sms", "CONNECTED_SMS",
+            "connectivity-disconnected", "NOT_CONNECTED"
+    );
+
+    private final DeviceStatusTable deviceStatusTable;
+    private final String notificationAuthToken;
+    private final int maxQuerySize;
+
+    public DeviceStatusStateServiceImpl(
+            DeviceStatusTable deviceStatusTable,
+            @Value("${device-status.notifications.auth-token:}") String notificationAuthToken,
+            @Value("${device-status.state.max-query-size:10000}") int maxQuerySize
+    ) {
+        this.deviceStatusTable = deviceStatusTable;
+        this.notificationAuthToken = notificationAuthToken;
+        this.maxQuerySize = maxQuerySize;
+    }
+
+    @Override
+    public GlobalResponse handleNotification(Map<String, Object> notification, String authorization) {
+        if (!isAuthorized(authorization)) {
+            log.warn("Rejected device status notification with invalid credentials");
+            return GlobalResponse.failure(HttpStatus.UNAUTHORIZED.value(), "Invalid notification credentials");
+        }
+        Map<String, Object> data = asMap(notification != null ? notification.get("data") : null);
+        Map<String, Object> device = data != null ? asMap(data.get("device")) : null;
+        String phoneNumber = device != null ? asString(device.get("phoneNumber")) : null;
+        if (phoneNumber == null) {
+            return GlobalResponse.failure(HttpStatus.BAD_REQUEST.value(), "Notification has no device phone number");
+        }
+
+        String type = asString(notification.get("type"));
+        String event = type != null ? type.substring(type.lastIndexOf('.') + 1) : "";
+        String connectivityStatus = CONNECTIVITY_EVENTS.getOrDefault(event, asString(data.get("connectivityStatus")));
+        Boolean roaming = switch (event) {
+            case "roaming-on", "roaming-change-country" -> Boolean.TRUE;
+            case "roaming-off" -> Boolean.FALSE;
+            default -> data.get("roaming") instanceof Boolean flag ? flag : null;
+        };
+
+        DeviceStatusState state = deviceStatusTable.apply(new DeviceStatusUpdate(
+                phoneNumber,
+                connectivityStatus,
+                roaming,
+                data.get("countryCode") instanceof Number code ? code.intValue() : null,
+                asStringList(data.get("countryName")),
+                parseInstant(notification.get("time")),
+                type));
+        if (state == null) {
+            log.debug("Device status notification without status data: {}", type);
+        }
+        return GlobalResponse.successWithoutData(200, "Device status notification accepted");
+    }
+
+    @Override
+    public GlobalResponse getState(String phoneNumber) {
+        DeviceStatusState state = deviceStatusTable.get(phoneNumber);
+        if (state == null) {
+            return GlobalResponse.failure(HttpStatus.NOT_FOUND.value(), "No status known for device: " + phoneNumber);
+        }
+        return GlobalResponse.successWithData(200, "Device status retrieved successfully", state);
+    }
+
+    @Override
+    public GlobalResponse getStates(List<String> phoneNumbers) {
+        if (phoneNumbers == null || phoneNumbers.isEmpty()) {
+            return GlobalResponse.failure(HttpStatus.BAD_REQUEST.value(), "Phone numbers cannot be null or empty");
+        }
+        if (phoneNumbers.size() > maxQuerySize) {
+            return GlobalResponse.failure(HttpStatus.BAD_REQUEST.value(),
+                    "At most " + maxQuerySize + " phone numbers per query");
+        }
+        Map<String, DeviceStatusState> states = deviceStatusTable.getAll(phoneNumbers);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("states", states.values());
+        result.put("unknown", phoneNumbers.stream().filter(phone -> !states.containsKey(phone)).toList());
+        return GlobalResponse.successWithData(200, "Device statuses retrieved successfully", result);
+    }
+
+    @Override
+    public GlobalResponse findStates(String connectivityStatus, Boolean roaming, int limit) {
+        List<DeviceStatusState> states = deviceStatusTable.find(connectivityStatus, roaming)
+                .limit(Math.max(0, Math.min(limit, maxQuerySize)))
+                .toList();
+        return GlobalResponse.successWithData(200, "Device statuses retrieved successfully", states);
+    }
+
+    @Override
+    public GlobalResponse getStats() {
+        return GlobalResponse.successWithData(200, "Device status statistics retrieved successfully",
+                deviceStatusTable.getStats());
+    }
+
+    private boolean isAuthorized(String authorization) {
+        if (notificationAuthToken == null || notificationAuthToken.isBlank()) {
+            return false;
+        }
+        if (authorization == null || !authorization.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return false;
+        }
+        return MessageDigest.isEqual(authorization.substring(7).trim().getBytes(StandardCharsets.UTF_8),
+                notificationAuthToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Instant parseInstant(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value.toString()).toInstant();
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable status time: {}", value);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : null;
+    }
+
+    private static List<String> asStringList(Object value) {
+        return value instanceof List<?> list ? list.stream().map(String::valueOf).toList() : null;
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
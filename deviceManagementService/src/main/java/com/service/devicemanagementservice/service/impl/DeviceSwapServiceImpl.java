@@ -2,9 +2,13 @@ package com.service.devicemanagementservice.service.impl;
 
 import com.service.devicemanagementservice.client.NokiaNacDeviceSwapClient;
 import com.service.devicemanagementservice.service.DeviceSwapService;
+import com.service.devicemanagementservice.state.SwapState;
+import com.service.devicemanagementservice.state.SwapStateCache;
 import com.service.shared.dto.GlobalResponse;
 import com.service.shared.dto.request.CheckDeviceSwap;
 import com.service.shared.dto.request.DeviceDTO;
+import com.service.shared.dto.request.RetrieveDeviceSwapDate;
+import com.service.shared.exception.GlobalException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -13,7 +17,13 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -21,22 +31,32 @@ import java.util.Map;
 public class DeviceSwapServiceImpl implements DeviceSwapService {
 
     private final NokiaNacDeviceSwapClient nokiaNacDeviceSwapClient;
+    private final SwapStateCache swapStateCache;
     private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(30);
+    private static final int DEFAULT_MAX_AGE_HOURS = 240;
 
     @Override
     @Transactional
-    public GlobalResponse retrieveDeviceSwapDate(DeviceDTO device) {
+    public GlobalResponse retrieveDeviceSwapDate(RetrieveDeviceSwapDate device) {
         try {
-            Mono<Map<String, Object>> resMono = nokiaNacDeviceSwapClient.retrieveDeviceSwapDate(device);
-            Map<String, Object> response = resMono.block(BLOCK_TIMEOUT);
+            if (device == null || device.getPhoneNumber() == null) {
+                return GlobalResponse.failure(HttpStatus.BAD_REQUEST.value(), "Phone number is required");
+            }
+            // As in checkDeviceSwap, the backoff-cached state only answers callers that opt in
+            SwapState state = device.isAllowCached()
+                    ? loadState(device.getPhoneNumber(), "retrieve-date")
+                    : refreshState(device.getPhoneNumber(), "retrieve-date");
 
-            if (response == null) {
+            if (state == null) {
                 return GlobalResponse.failure(
                         HttpStatus.INTERNAL_SERVER_ERROR.value(),
                         "Failed to retrieve device swap date from Nokia API"
                 );
             }
 
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("latestDeviceChange", state.latestDeviceChange() != null ? state.latestDeviceChange().toString() : null);
+            response.put("checkedAt", state.checkedAt().toString());
             return GlobalResponse.successWithData(200, "Device swap date retrieved successfully", response);
         } catch (Exception e) {
             log.error("Error retrieving device swap date", e);
@@ -51,16 +71,27 @@ public class DeviceSwapServiceImpl implements DeviceSwapService {
     @Transactional
     public GlobalResponse checkDeviceSwap(CheckDeviceSwap swap) {
         try {
-            Mono<Map<String, Object>> resMono = nokiaNacDeviceSwapClient.CheckDeviceSwap(swap);
-            Map<String, Object> response = resMono.block(BLOCK_TIMEOUT);
+            if (swap == null || swap.getPhoneNumber() == null) {
+                return GlobalResponse.failure(HttpStatus.BAD_REQUEST.value(), "Phone number is required");
+            }
+            // A cached "not swapped" answer misses any swap since checkedAt; only repeated checks that opt in accept it
+            SwapState state = swap.isAllowCached()
+                    ? loadState(swap.getPhoneNumber(), "check")
+                    : refreshState(swap.getPhoneNumber(), "check");
 
-            if (response == null) {
+            if (state == null) {
                 return GlobalResponse.failure(
                         HttpStatus.INTERNAL_SERVER_ERROR.value(),
                         "Failed to check device swap from Nokia API"
                 );
             }
 
+            // maxAge is in hours, as in the CAMARA device swap check
+            Duration maxAge = Duration.ofHours(swap.getMaxAge() > 0 ? swap.getMaxAge() : DEFAULT_MAX_AGE_HOURS);
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("swapped", state.swappedWithin(maxAge, Instant.now()));
+            response.put("latestDeviceChange", state.latestDeviceChange() != null ? state.latestDeviceChange().toString() : null);
+            response.put("checkedAt", state.checkedAt().toString());
             return GlobalResponse.successWithData(200, "Device swap check completed successfully", response);
         } catch (Exception e) {
             log.error("Error checking device swap", e);
@@ -70,4 +101,51 @@ public class DeviceSwapServiceImpl implements DeviceSwapService {
             );
         }
     }
+
+    @Override
+    public GlobalResponse getSwapState(String phoneNumber) {
+        SwapState state = swapStateCache.get(phoneNumber);
+        if (state == null) {
+            return GlobalResponse.failure(HttpStatus.NOT_FOUND.value(), "No swap state known for device: " + phoneNumber);
+        }
+        return GlobalResponse.successWithData(200, "Device swap state retrieved successfully", state);
+    }
+
+    @Override
+    public GlobalResponse getSwapStateStats() {
+        return GlobalResponse.successWithData(200, "Swap state statistics retrieved successfully",
+                swapStateCache.getStats());
+    }
+
+    /**
+     * Swap state of the device; Nokia is only asked when the state is due for a re-check
+     */
+    private SwapState loadState(String phoneNumber, String source) {
+        return swapStateCache.get(phoneNumber, source, swapDateLoader(phoneNumber)).block(BLOCK_TIMEOUT);
+    }
+
+    /**
+     * Swap state of the device after asking Nokia, whatever the backoff schedule says
+     */
+    private SwapState refreshState(String phoneNumber, String source) {
+        return swapStateCache.refresh(phoneNumber, source, swapDateLoader(phoneNumber)).block(BLOCK_TIMEOUT);
+    }
+
+    private Supplier<Mono<Optional<Instant>>> swapDateLoader(String phoneNumber) {
+        DeviceDTO device = new DeviceDTO();
+        device.setPhoneNumber(phoneNumber);
+        return () -> nokiaNacDeviceSwapClient.retrieveDeviceSwapDateUncached(device)
+                .map(response -> parseDate(response.get("latestDeviceChange")));
+    }
+
+    private static Optional<Instant> parseDate(Object value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(OffsetDateTime.parse(value.toString()).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new GlobalException(HttpStatus.BAD_GATEWAY.value(), "Unparseable device swap date: " + value);
+        }
+    }
 }
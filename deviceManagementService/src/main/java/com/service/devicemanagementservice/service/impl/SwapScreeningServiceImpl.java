@@ -0,0 +1,426 @@
+package com.service.devicemanagementservice.service.impl;
+
+import com.service.devicemanagementservice.client.NokiaNacDeviceSwapClient;
+import com.service.devicemanagementservice.client.NokiaNacSimSwapCheckClient;
+import com.service.devicemanagementservice.screening.RequestPacer;
+import com.service.devicemanagementservice.screening.SwapDateCache;
+import com.service.devicemanagementservice.screening.SwapScreeningJob;
+import com.service.devicemanagementservice.screening.SwapScreeningResult;
+import com.service.devicemanagementservice.screening.SwapScreeningStore;
+import com.service.devicemanagementservice.service.SwapScreeningService;
+import com.service.devicemanagementservice.state.SwapStateCache;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.dto.request.DeviceDTO;
+import com.service.shared.dto.request.SwapScreeningRequestDTO;
+import com.service.shared.exception.GlobalException;
+import com.service.shared.repository.UserDeviceProfile;
+import com.service.shared.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Bulk SIM/device swap screening
+ * Phone numbers are streamed from a file or the user table in chunks. Within a chunk, numbers are
+ * screened with bounded concurrency; every Nokia call waits for a slot from a shared RequestPacer,
+ * so all jobs together stay within swap-screening.rate-per-second. Each finished chunk is written
+ * as a result part and checkpointed, so a job resumes after the last committed chunk.
+ */
+@Slf4j
+@Service
+public class SwapScreeningServiceImpl implements SwapScreeningService {
+
+    private static final Pattern PHONE_NUMBER = Pattern.compile("\\+?\\d{6,15}");
+
+    private final NokiaNacSimSwapCheckClient simSwapClient;
+    private final NokiaNacDeviceSwapClient deviceSwapClient;
+    private final UserRepository userRepository;
+    private final SwapScreeningStore store;
+    private final SwapDateCache swapDateCache;
+    private final SwapStateCache swapStateCache;
+    private final RequestPacer pacer;
+    private final int concurrency;
+    private final int chunkSize;
+    private final Duration itemTimeout;
+    private final int defaultMaxAge;
+
+    private final Map<String, ActiveRun> running = new ConcurrentHashMap<>();
+
+    public SwapScreeningServiceImpl(
+            NokiaNacSimSwapCheckClient simSwapClient,
+            NokiaNacDeviceSwapClient deviceSwapClient,
+            UserRepository userRepository,
+            SwapScreeningStore store,
+            SwapDateCache swapDateCache,
+            SwapStateCache swapStateCache,
+            @Value("${swap-screening.rate-per-second:100}") double ratePerSecond,
+            @Value("${swap-screening.burst:20}") int burst,
+            @Value("${swap-screening.concurrency:64}") int concurrency,
+            @Value("${swap-screening.chunk-size:10000}") int chunkSize,
+            @Value("${swap-screening.item-timeout:60s}") Duration itemTimeout,
+            @Value("${swap-screening.default-max-age:240}") int defaultMaxAge
+    ) {
+        this.simSwapClient = simSwapClient;
+        this.deviceSwapClient = deviceSwapClient;
+        this.userRepository = userRepository;
+        this.store = store;
+        this.swapDateCache = swapDateCache;
+        this.swapStateCache = swapStateCache;
+        this.pacer = new RequestPacer(ratePerSecond, burst);
+        this.concurrency = concurrency;
+        this.chunkSize = chunkSize;
+        this.itemTimeout = itemTimeout;
+        this.defaultMaxAge = defaultMaxAge;
+    }
+
+    @PreDestroy
+    public void stop() {
+        // Jobs stay RUNNING on disk and show up as INTERRUPTED after a restart
+        running.values().forEach(run -> {
+            synchronized (run) {
+                run.cancelled = true;
+                if (run.task != null) {
+                    run.task.dispose();
+                }
+            }
+        });
+    }
+
+    @Override
+    public GlobalResponse startScreening(SwapScreeningRequestDTO request) {
+        try {
+            SwapScreeningJob.Source source = parseSource(request.getSource());
+            if (source == SwapScreeningJob.Source.FILE) {
+                store.resolveInput(request.getInputPath());
+            }
+            int maxAge = request.getMaxAge() != null ? request.getMaxAge() : defaultMaxAge;
+            if (maxAge <= 0) {
+                return GlobalResponse.failure(HttpStatus.BAD_REQUEST.value(), "maxAge must be positive");
+            }
+
+            SwapScreeningJob job = SwapScreeningJob.create(UUID.randomUUID().toString(), source,
+                    source == SwapScreeningJob.Source.FILE ? request.getInputPath() : null, maxAge);
+            store.save(job);
+            launch(claim(job));
+            log.info("Started swap screening job {} ({})", job.jobId(), source);
+            return GlobalResponse.successWithData(202, "Swap screening job started", view(job));
+        } catch (GlobalException e) {
+            return GlobalResponse.failure(e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("Error starting swap screening job", e);
+            return GlobalResponse.failure(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Failed to start swap screening job: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public GlobalResponse resumeScreening(String jobId) {
+        try {
+            if (running.containsKey(jobId)) {
+                return GlobalResponse.failure(HttpStatus.CONFLICT.value(), "Screening job is already running: " + jobId);
+            }
+            Optional<SwapScreeningJob> stored = store.load(jobId);
+            if (stored.isEmpty()) {
+                return GlobalResponse.failure(HttpStatus.NOT_FOUND.value(), "Screening job not found: " + jobId);
+            }
+            if (stored.get().status() == SwapScreeningJob.Status.COMPLETED) {
+                return GlobalResponse.failure(HttpStatus.BAD_REQUEST.value(), "Screening job already completed: " + jobId);
+            }
+            if (stored.get().source() == SwapScreeningJob.Source.FILE) {
+                store.resolveInput(stored.get().inputPath());
+            }
+
+            SwapScreeningJob job = stored.get().withStatus(SwapScreeningJob.Status.RUNNING, null);
+            ActiveRun run = claim(job);
+            if (run == null) {
+                return GlobalResponse.failure(HttpStatus.CONFLICT.value(), "Screening job is already running: " + jobId);
+            }
+            try {
+                // A concurrent resume may have run the job between our load and the claim
+                if (!store.load(jobId).equals(stored)) {
+                    running.remove(jobId, run);
+                    return GlobalResponse.failure(HttpStatus.CONFLICT.value(),
+                            "Screening job changed while resuming, retry: " + jobId);
+                }
+                store.save(job);
+            } catch (RuntimeException e) {
+                running.remove(jobId, run);
+                throw e;
+            }
+            launch(run);
+            log.info("Resumed swap screening job {} at position {}", jobId, job.position());
+            return GlobalResponse.successWithData(202, "Swap screening job resumed", view(job));
+        } catch (GlobalException e) {
+            return GlobalResponse.failure(e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("Error resuming swap screening job: {}", jobId, e);
+            return GlobalResponse.failure(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Failed to resume swap screening job: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public GlobalResponse cancelScreening(String jobId) {
+        ActiveRun run = running.get(jobId);
+        if (run == null) {
+            return GlobalResponse.failure(HttpStatus.NOT_FOUND.value(), "No running screening job: " + jobId);
+        }
+        synchronized (run) {
+            run.cancelled = true;
+            // Null while launch has not subscribed yet; launch then sees the flag and does not start
+            if (run.task != null) {
+                run.task.dispose();
+            }
+            finish(run, SwapScreeningJob.Status.CANCELLED, null);
+        }
+        return GlobalResponse.successWithData(200, "Swap screening job cancelled", view(run.job));
+    }
+
+    @Override
+    public GlobalResponse getScreeningJob(String jobId) {
+        try {
+            ActiveRun run = running.get(jobId);
+            if (run != null) {
+                return GlobalResponse.successWithData(200, "Swap screening job retrieved successfully", view(run.job));
+            }
+            return store.load(jobId)
+                    .map(job -> GlobalResponse.successWithData(200, "Swap screening job retrieved successfully", view(job)))
+                    .orElseGet(() -> GlobalResponse.failure(HttpStatus.NOT_FOUND.value(), "Screening job not found: " + jobId));
+        } catch (GlobalException e) {
+            return GlobalResponse.failure(e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("Error retrieving swap screening job: {}", jobId, e);
+            return GlobalResponse.failure(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Failed to retrieve swap screening job: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public GlobalResponse getScreeningJobs() {
+        try {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("jobs", store.loadAll().stream()
+                    .map(job -> running.containsKey(job.jobId()) ? running.get(job.jobId()).job : job)
+                    .map(this::view)
+                    .toList());
+            result.put("swapDateCache", swapDateCache.getStats());
+            return GlobalResponse.successWithData(200, "Swap screening jobs retrieved successfully", result);
+        } catch (Exception e) {
+            log.error("Error retrieving swap screening jobs", e);
+            return GlobalResponse.failure(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    "Failed to retrieve swap screening jobs: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Take the job's slot in running; null when a run of the job already holds it
+     */
+    private ActiveRun claim(SwapScreeningJob job) {
+        ActiveRun run = new ActiveRun(job);
+        return running.putIfAbsent(job.jobId(), run) == null ? run : null;
+    }
+
+    /**
+     * Start a claimed run; the task is assigned under the run's lock, so cancel and shutdown never see it half set
+     */
+    private void launch(ActiveRun run) {
+        SwapScreeningJob job = run.job;
+        Instant swappedAfterBase = Instant.now();
+        synchronized (run) {
+            if (run.cancelled) {
+                return;
+            }
+            run.task = input(job)
+                    .buffer(chunkSize)
+                    .concatMap(chunk -> Flux.fromIterable(chunk)
+                            .flatMap(item -> screen(item.phoneNumber(), swappedAfterBase.minus(Duration.ofHours(job.maxAge()))),
+                                    concurrency)
+                            .collectList()
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(results -> commit(run, chunk.getLast().position(), results)))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe(
+                            null,
+                            error -> {
+                                log.error("Swap screening job {} failed", job.jobId(), error);
+                                synchronized (run) {
+                                    finish(run, SwapScreeningJob.Status.FAILED, error.getMessage());
+                                }
+                            },
+                            () -> {
+                                synchronized (run) {
+                                    finish(run, SwapScreeningJob.Status.COMPLETED, null);
+                                }
+                                log.info("Swap screening job {} completed: {} screened, {} flagged, {} failed",
+                                        job.jobId(), run.job.processed(), run.job.flagged(), run.job.failed());
+                            });
+        }
+    }
+
+    /**
+     * Screen one number: cached swap dates, or both Nokia swap APIs at the paced rate
+     */
+    private Mono<SwapScreeningResult> screen(String phoneNumber, Instant swappedAfter) {
+        SwapDateCache.SwapDates cached = swapDateCache.get(phoneNumber);
+        if (cached != null) {
+            return Mono.just(SwapScreeningResult.of(phoneNumber, cached.latestSimChange(),
+                    cached.latestDeviceChange(), swappedAfter, true));
+        }
+
+        DeviceDTO device = new DeviceDTO();
+        device.setPhoneNumber(phoneNumber);
+        Mono<Optional<Instant>> simChange = pacer.acquire()
+                .then(Mono.defer(() -> simSwapClient.retrieveSimSwapUncached(device)))
+                .map(response -> parseDate(response.get("latestSimChange")));
+        Mono<Optional<Instant>> deviceChange = pacer.acquire()
+                .then(Mono.defer(() -> deviceSwapClient.retrieveDeviceSwapDateUncached(device)))
+                .map(response -> parseDate(response.get("latestDeviceChange")));
+
+        return Mono.zip(simChange, deviceChange)
+                .map(dates -> {
+                    swapDateCache.put(phoneNumber, dates.getT1().orElse(null), dates.getT2().orElse(null));
+                    swapStateCache.observe(phoneNumber, dates.getT2().orElse(null), "screening");
+                    return SwapScreeningResult.of(phoneNumber, dates.getT1().orElse(null),
+                            dates.getT2().orElse(null), swappedAfter, false);
+                })
+                .timeout(itemTimeout)
+                .onErrorResume(error -> Mono.just(SwapScreeningResult.failed(phoneNumber, error.getMessage())));
+    }
+
+    /**
+     * Write a chunk's results and move the checkpoint past it
+     */
+    private void commit(ActiveRun run, long position, List<SwapScreeningResult> results) {
+        synchronized (run) {
+            if (run.cancelled) {
+                return;
+            }
+            store.writePart(run.job, results);
+            int flagged = (int) results.stream().filter(SwapScreeningResult::flagged).count();
+            int failed = (int) results.stream().filter(SwapScreeningResult::failed).count();
+            int cacheHits = (int) results.stream().filter(SwapScreeningResult::cached).count();
+            run.job = run.job.withChunk(position, results.size(), flagged, failed, cacheHits);
+            store.save(run.job);
+            log.debug("Swap screening job {}: {} screened", run.job.jobId(), run.job.processed());
+        }
+    }
+
+    private void finish(ActiveRun run, SwapScreeningJob.Status status, String error) {
+        if (running.remove(run.job.jobId(), run)) {
+            run.job = run.job.withStatus(status, error);
+            try {
+                store.save(run.job);
+            } catch (RuntimeException e) {
+                log.error("Failed to save final checkpoint of screening job {}", run.job.jobId(), e);
+            }
+        }
+    }
+
+    /**
+     * Phone numbers after the job's checkpoint position
+     */
+    private Flux<ScreeningInput> input(SwapScreeningJob job) {
+        if (job.source() == SwapScreeningJob.Source.USERS) {
+            return Flux.<List<UserDeviceProfile>, Long>generate(job::position, (lastId, sink) -> {
+                        List<UserDeviceProfile> page = userRepository
+                                .findDeviceProfilesByIdGreaterThanAndPhoneNumberNotNullOrderByIdAsc(lastId, Limit.of(chunkSize));
+                        if (page.isEmpty()) {
+                            sink.complete();
+                            return lastId;
+                        }
+                        sink.next(page);
+                        return page.getLast().getId();
+                    })
+                    .flatMapIterable(page -> page.stream()
+                            .map(profile -> new ScreeningInput(profile.getId(), profile.getPhoneNumber()))
+                            .toList());
+        }
+
+        Path path = store.resolveInput(job.inputPath());
+        return Flux.using(() -> Files.lines(path), Flux::fromStream, Stream::close)
+                .index()
+                .skip(job.position())
+                .map(line -> new ScreeningInput(line.getT1() + 1, firstColumn(line.getT2())))
+                .filter(item -> PHONE_NUMBER.matcher(item.phoneNumber()).matches());
+    }
+
+    private Map<String, Object> view(SwapScreeningJob job) {
+        ActiveRun run = running.get(job.jobId());
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("job", run == null && job.status() == SwapScreeningJob.Status.RUNNING
+                ? job.withStatus(SwapScreeningJob.Status.INTERRUPTED, "Service stopped while the job was running")
+                : job);
+        if (run != null) {
+            double seconds = (System.nanoTime() - run.startNanos) / 1e9;
+            view.put("numbersPerSecond", seconds > 0 ? (job.processed() - run.startProcessed) / seconds : 0.0);
+        }
+        view.put("outputDirectory", store.jobDir(job.jobId()).toString());
+        return view;
+    }
+
+    private static SwapScreeningJob.Source parseSource(String source) {
+        try {
+            return SwapScreeningJob.Source.valueOf(source == null ? "" : source.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new GlobalException(HttpStatus.BAD_REQUEST.value(), "source must be FILE or USERS");
+        }
+    }
+
+    private static String firstColumn(String line) {
+        int comma = line.indexOf(',');
+        return (comma < 0 ? line : line.substring(0, comma)).trim().replace("\"", "");
+    }
+
+    private static Optional<Instant> parseDate(Object value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(OffsetDateTime.parse(value.toString()).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new GlobalException(HttpStatus.BAD_GATEWAY.value(), "Unparseable swap date: " + value);
+        }
+    }
+
+    /**
+     * @param position Checkpoint position once this number is committed
+     */
+    private record ScreeningInput(long position, String phoneNumber) {
+    }
+
+    private static final class ActiveRun {
+
+        private final long startNanos = System.nanoTime();
+        private final long startProcessed;
+        private volatile SwapScreeningJob job;
+        private volatile Disposable task;
+        private boolean cancelled;
+
+        private ActiveRun(SwapScreeningJob job) {
+            this.job = job;
+            this.startProcessed = job.processed();
+        }
+    }
+}
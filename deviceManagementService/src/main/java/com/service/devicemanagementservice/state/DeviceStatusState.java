@@ -0,0 +1,59 @@
+package com.service.devicemanagementservice.state;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Current connectivity and roaming status of a device
+ * Connectivity and roaming are tracked with their own status times, so an event about one never
+ * overwrites a newer observation of the other.
+ */
+public record DeviceStatusState(
+        String phoneNumber,
+        String connectivityStatus,
+        Instant connectivityTime,
+        Boolean roaming,
+        Integer countryCode,
+        List<String> countryName,
+        Instant roamingTime,
+        String lastCause,
+        Instant updatedAt
+) {
+
+    static DeviceStatusState empty(String phoneNumber) {
+        return new DeviceStatusState(phoneNumber, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Apply an update; observations older than the current one of the same kind are ignored
+     */
+    DeviceStatusState apply(DeviceStatusUpdate update, Instant now) {
+        Instant time = update.statusTime() != null ? update.statusTime() : now;
+        boolean connectivityNewer = update.hasConnectivity() && (connectivityTime == null || !time.isBefore(connectivityTime));
+        boolean roamingNewer = update.hasRoaming() && (roamingTime == null || !time.isBefore(roamingTime));
+        if (!connectivityNewer && !roamingNewer) {
+            return this;
+        }
+
+        Boolean nextRoaming = roamingNewer && update.roaming() != null ? update.roaming() : roaming;
+        boolean leftRoaming = roamingNewer && Boolean.FALSE.equals(update.roaming());
+        return new DeviceStatusState(
+                phoneNumber,
+                connectivityNewer ? update.connectivityStatus() : connectivityStatus,
+                connectivityNewer ? time : connectivityTime,
+                nextRoaming,
+                leftRoaming ? null : roamingNewer && update.countryCode() != null ? update.countryCode() : countryCode,
+                leftRoaming ? null : roamingNewer && update.countryName() != null ? update.countryName() : countryName,
+                roamingNewer ? time : roamingTime,
+                update.cause(),
+                now);
+    }
+
+    boolean sameStatus(DeviceStatusState other) {
+        return other != null
+                && Objects.equals(connectivityStatus, other.connectivityStatus)
+                && Objects.equals(roaming, other.roaming)
+                && Objects.equals(countryCode, other.countryCode);
+    }
+}
@@ -0,0 +1,172 @@
+package com.service.devicemanagementservice.state;
+
+import com.service.shared.config.KafkaConfig;
+import com.service.shared.dto.DeviceStatusChangeDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Per-device connectivity and roaming state, kept current by Nokia status notifications and polls
+ * Updates are applied atomically per device. Every update that changes the status is published to
+ * Kafka, so consumers follow the fleet without polling. Reads never call Nokia.
+ * Every instance also consumes that topic in its own group and applies the changes other instances
+ * published, so a notification delivered to any instance reaches all of them.
+ */
+@Slf4j
+@Component
+public class DeviceStatusTable {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+
+    private final Map<String, DeviceStatusState> states = new ConcurrentHashMap<>();
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder changes = new LongAdder();
+    private final LongAdder staleUpdates = new LongAdder();
+    private final LongAdder remoteUpdates = new LongAdder();
+
+    public DeviceStatusTable(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${device-status.state.topic:device-status-changes}") String topic
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+    }
+
+    public DeviceStatusState apply(DeviceStatusUpdate update) {
+        return apply(update, true);
+    }
+
+    /**
+     * Apply a change published by any instance, this one included; it is not published again
+     */
+    @KafkaListener(
+            topics = "${device-status.state.topic:device-status-changes}",
+            groupId = "${spring.application.name}-device-status-" + KafkaConfig.INSTANCE_ID,
+            autoStartup = "${device-status.state.sync:true}"
+    )
+    public void onChange(DeviceStatusChangeDTO change) {
+        remoteUpdates.increment();
+        apply(new DeviceStatusUpdate(
+                change.getPhoneNumber(),
+                change.getConnectivityStatus(),
+                change.getRoaming(),
+                change.getCountryCode(),
+                change.getCountryName(),
+                parseInstant(change.getStatusTime()),
+                change.getCause()), false);
+    }
+
+    private DeviceStatusState apply(DeviceStatusUpdate update, boolean publish) {
+        if (update.phoneNumber() == null || !update.hasConnectivity() && !update.hasRoaming()) {
+            return get(update.phoneNumber());
+        }
+        updates.increment();
+        Instant now = Instant.now();
+        DeviceStatusState[] previous = new DeviceStatusState[1];
+        DeviceStatusState next = states.compute(update.phoneNumber(), (phone, current) -> {
+            previous[0] = current;
+            return (current != null ? current : DeviceStatusState.empty(phone)).apply(update, now);
+        });
+
+        if (next == previous[0]) {
+            staleUpdates.increment();
+        } else if (!next.sameStatus(previous[0])) {
+            changes.increment();
+            if (publish) {
+                publish(previous[0], next, update);
+            }
+        }
+        return next;
+    }
+
+    public DeviceStatusState get(String phoneNumber) {
+        return phoneNumber == null ? null : states.get(phoneNumber);
+    }
+
+    public Map<String, DeviceStatusState> getAll(Collection<String> phoneNumbers) {
+        Map<String, DeviceStatusState> found = new LinkedHashMap<>();
+        for (String phoneNumber : phoneNumbers) {
+            DeviceStatusState state = get(phoneNumber);
+            if (state != null) {
+                found.put(phoneNumber, state);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Devices matching the given status; null criteria match anything
+     */
+    public Stream<DeviceStatusState> find(String connectivityStatus, Boolean roaming) {
+        return states.values().stream()
+                .filter(state -> connectivityStatus == null || connectivityStatus.equals(state.connectivityStatus()))
+                .filter(state -> roaming == null || roaming.equals(state.roaming()));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Long> byConnectivity = new LinkedHashMap<>();
+        long roamingCount = 0;
+        for (DeviceStatusState state : states.values()) {
+            byConnectivity.merge(Objects.requireNonNullElse(state.connectivityStatus(), "UNKNOWN"), 1L, Long::sum);
+            if (Boolean.TRUE.equals(state.roaming())) {
+                roamingCount++;
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("devices", states.size());
+        stats.put("byConnectivityStatus", byConnectivity);
+        stats.put("roaming", roamingCount);
+        stats.put("updates", updates.sum());
+        stats.put("changes", changes.sum());
+        stats.put("staleUpdates", staleUpdates.sum());
+        stats.put("remoteUpdates", remoteUpdates.sum());
+        return stats;
+    }
+
+    private void publish(DeviceStatusState previous, DeviceStatusState next, DeviceStatusUpdate update) {
+        Instant statusTime = update.statusTime() != null ? update.statusTime() : next.updatedAt();
+        DeviceStatusChangeDTO change = DeviceStatusChangeDTO.builder()
+                .phoneNumber(next.phoneNumber())
+                .connectivityStatus(next.connectivityStatus())
+                .previousConnectivityStatus(previous != null ? previous.connectivityStatus() : null)
+                .roaming(next.roaming())
+                .previousRoaming(previous != null ? previous.roaming() : null)
+                .countryCode(next.countryCode())
+                .countryName(next.countryName())
+                .cause(update.cause())
+                .statusTime(statusTime.toString())
+                .build();
+        kafkaTemplate.send(topic, next.phoneNumber(), change)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to publish device status change for {}", next.phoneNumber(), ex);
+                    }
+                });
+    }
+
+    private static Instant parseInstant(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
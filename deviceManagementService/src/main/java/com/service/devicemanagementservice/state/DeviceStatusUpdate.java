@@ -0,0 +1,28 @@
+package com.service.devicemanagementservice.state;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One observed status of a device; null fields are not part of the observation
+ *
+ * @param cause Notification event type, or "poll" for a status read from Nokia
+ */
+public record DeviceStatusUpdate(
+        String phoneNumber,
+        String connectivityStatus,
+        Boolean roaming,
+        Integer countryCode,
+        List<String> countryName,
+        Instant statusTime,
+        String cause
+) {
+
+    boolean hasConnectivity() {
+        return connectivityStatus != null;
+    }
+
+    boolean hasRoaming() {
+        return roaming != null || countryCode != null;
+    }
+}
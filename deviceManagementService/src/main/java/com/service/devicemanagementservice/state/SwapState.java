@@ -0,0 +1,38 @@
+package com.service.devicemanagementservice.state;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Last known device swap date of a device and when Nokia should be asked again
+ *
+ * @param latestDeviceChange Latest swap date reported by Nokia; null when none was ever reported
+ * @param unchangedChecks Consecutive checks that found no new swap; drives the backoff
+ */
+public record SwapState(
+        String phoneNumber,
+        Instant latestDeviceChange,
+        Instant checkedAt,
+        Instant nextCheckAt,
+        int unchangedChecks,
+        Instant changedAt
+) {
+
+    boolean isFresh(Instant now) {
+        return now.isBefore(nextCheckAt);
+    }
+
+    /**
+     * Whether the device was swapped within maxAge before now
+     */
+    public boolean swappedWithin(Duration maxAge, Instant now) {
+        return latestDeviceChange != null && latestDeviceChange.isAfter(now.minus(maxAge));
+    }
+
+    /**
+     * A later swap date than the known one; a missing date never counts (Nokia only looks back so far)
+     */
+    boolean isChangedBy(Instant reportedChange) {
+        return reportedChange != null && (latestDeviceChange == null || reportedChange.isAfter(latestDeviceChange));
+    }
+}
@@ -0,0 +1,203 @@
+package com.service.devicemanagementservice.state;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.shared.dto.DeviceSwapChangeDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Device swap state per phone number, re-checked on an adaptive backoff schedule
+ * A device is asked about again after min-interval; every check that finds no new swap doubles the
+ * interval up to max-interval, and a new swap resets it. Until then swap date reads and swap checks
+ * that accept cached state are answered from the state; other checks always ask Nokia. Concurrent
+ * checks of one device share one Nokia call. Only a later swap date than the known one is published
+ * to Kafka.
+ */
+@Slf4j
+@Component
+public class SwapStateCache {
+
+    private static final double JITTER = 0.1;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+    private final boolean enabled;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final Cache<String, SwapState> states;
+    private final Map<String, CompletableFuture<SwapState>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder changes = new LongAdder();
+
+    public SwapStateCache(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${swap-state.topic:device-swap-changes}") String topic,
+            @Value("${swap-state.enabled:true}") boolean enabled,
+            @Value("${swap-state.min-interval:2m}") Duration minInterval,
+            @Value("${swap-state.max-interval:6h}") Duration maxInterval,
+            @Value("${swap-state.maximum-size:1000000}") long maximumSize,
+            @Value("${swap-state.retention:7d}") Duration retention
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.enabled = enabled;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    /**
+     * Swap state of the device, asking Nokia through the loader only when the state is due for a re-check
+     *
+     * @param loader Latest device swap date from Nokia; empty when Nokia reports none
+     */
+    public Mono<SwapState> get(String phoneNumber, String source, Supplier<Mono<Optional<Instant>>> loader) {
+        if (!enabled || phoneNumber == null) {
+            return Mono.defer(loader).map(change -> next(phoneNumber, null, change.orElse(null), Instant.now()));
+        }
+        return Mono.defer(() -> {
+            SwapState state = states.getIfPresent(phoneNumber);
+            if (state != null && state.isFresh(Instant.now())) {
+                hits.increment();
+                return Mono.just(state);
+            }
+            // Cancellation of one caller must not cancel the check other callers are waiting on
+            return Mono.fromFuture(load(phoneNumber, source, loader), true);
+        });
+    }
+
+    /**
+     * Ask Nokia now whatever the backoff schedule says; the answer still updates the state
+     */
+    public Mono<SwapState> refresh(String phoneNumber, String source, Supplier<Mono<Optional<Instant>>> loader) {
+        if (!enabled || phoneNumber == null) {
+            return get(phoneNumber, source, loader);
+        }
+        return Mono.defer(() -> Mono.fromFuture(load(phoneNumber, source, loader), true));
+    }
+
+    public SwapState get(String phoneNumber) {
+        return phoneNumber == null ? null : states.getIfPresent(phoneNumber);
+    }
+
+    /**
+     * Record a swap date Nokia reported outside a state check (e.g. bulk screening)
+     */
+    public SwapState observe(String phoneNumber, Instant latestDeviceChange, String source) {
+        if (!enabled || phoneNumber == null) {
+            return null;
+        }
+        return apply(phoneNumber, latestDeviceChange, source);
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long checkCount = checks.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("devices", states.estimatedSize());
+        stats.put("answeredFromState", hitCount);
+        stats.put("nokiaChecks", checkCount);
+        stats.put("coalescedChecks", coalesced.sum());
+        stats.put("avoidedRate", hitCount + checkCount == 0 ? 0.0 : (double) hitCount / (hitCount + checkCount));
+        stats.put("swapChanges", changes.sum());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    private CompletableFuture<SwapState> load(String phoneNumber, String source,
+                                              Supplier<Mono<Optional<Instant>>> loader) {
+        CompletableFuture<SwapState> created = new CompletableFuture<>();
+        CompletableFuture<SwapState> existing = inFlight.putIfAbsent(phoneNumber, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+        checks.increment();
+        created.whenComplete((state, error) -> inFlight.remove(phoneNumber, created));
+        try {
+            loader.get().subscribe(
+                    change -> created.complete(apply(phoneNumber, change.orElse(null), source)),
+                    created::completeExceptionally,
+                    () -> created.complete(states.getIfPresent(phoneNumber)));
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private SwapState apply(String phoneNumber, Instant reportedChange, String source) {
+        Instant now = Instant.now();
+        SwapState[] previous = new SwapState[1];
+        SwapState next = states.asMap().compute(phoneNumber, (phone, current) -> {
+            previous[0] = current;
+            return next(phone, current, reportedChange, now);
+        });
+        if (previous[0] != null && previous[0].isChangedBy(reportedChange)) {
+            changes.increment();
+            publish(previous[0], next, source);
+        }
+        return next;
+    }
+
+    private SwapState next(String phoneNumber, SwapState current, Instant reportedChange, Instant now) {
+        if (current == null) {
+            return new SwapState(phoneNumber, reportedChange, now, now.plus(interval(0)), 0, null);
+        }
+        if (current.isChangedBy(reportedChange)) {
+            return new SwapState(phoneNumber, reportedChange, now, now.plus(interval(0)), 0, now);
+        }
+        int unchanged = current.unchangedChecks() + 1;
+        return new SwapState(phoneNumber, current.latestDeviceChange(), now, now.plus(interval(unchanged)),
+                unchanged, current.changedAt());
+    }
+
+    /**
+     * min-interval doubled per unchanged check, capped at max-interval, with jitter so devices
+     * checked together do not stay in lockstep
+     */
+    private Duration interval(int unchangedChecks) {
+        long base = minInterval.toMillis() << Math.min(unchangedChecks, 30);
+        long capped = Math.min(base, maxInterval.toMillis());
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        return Duration.ofMillis((long) (capped * factor));
+    }
+
+    private void publish(SwapState previous, SwapState next, String source) {
+        DeviceSwapChangeDTO change = DeviceSwapChangeDTO.builder()
+                .phoneNumber(next.phoneNumber())
+                .latestDeviceChange(next.latestDeviceChange().toString())
+                .previousDeviceChange(previous.latestDeviceChange() != null ? previous.latestDeviceChange().toString() : null)
+                .source(source)
+                .detectedAt(next.checkedAt().toString())
+                .build();
+        kafkaTemplate.send(topic, next.phoneNumber(), change)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to publish device swap change for {}", next.phoneNumber(), ex);
+                    }
+                });
+        log.info("Device swap detected for {}: {}", next.phoneNumber(), next.latestDeviceChange());
+    }
+}
@@ -0,0 +1,157 @@
+package com.service.devicemanagementservice.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.devicemanagementservice.client.NokiaNacDeviceSwapClient;
+import com.service.devicemanagementservice.client.NokiaNacSimSwapCheckClient;
+import com.service.devicemanagementservice.screening.SwapDateCache;
+import com.service.devicemanagementservice.screening.SwapScreeningJob;
+import com.service.devicemanagementservice.screening.SwapScreeningStore;
+import com.service.devicemanagementservice.state.SwapStateCache;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.dto.request.SwapScreeningRequestDTO;
+import com.service.shared.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SwapScreeningServiceImplTest {
+
+    @TempDir
+    private Path workDir;
+
+    private final NokiaNacSimSwapCheckClient simSwapClient = mock(NokiaNacSimSwapCheckClient.class);
+    private final NokiaNacDeviceSwapClient deviceSwapClient = mock(NokiaNacDeviceSwapClient.class);
+    private SwapScreeningStore store;
+    private SwapScreeningServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path inputDir = Files.createDirectories(workDir.resolve("input"));
+        Files.writeString(inputDir.resolve("numbers.csv"), "+36700000001\n+36700000002\n+36700000003\n");
+        store = new SwapScreeningStore(new ObjectMapper().findAndRegisterModules(),
+                workDir.resolve("jobs").toString(), inputDir.toString());
+        service = new SwapScreeningServiceImpl(simSwapClient, deviceSwapClient, mock(UserRepository.class), store,
+                new SwapDateCache(false, 100, Duration.ofHours(1)), mock(SwapStateCache.class),
+                1000, 100, 4, 2, Duration.ofSeconds(5), 240);
+        nokiaHangs();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void cancelledJobResumesFromItsCheckpoint() throws InterruptedException {
+        String jobId = start();
+
+        assertThat(service.cancelScreening(jobId).getCode()).isEqualTo(200);
+        assertThat(stored(jobId).status()).isEqualTo(SwapScreeningJob.Status.CANCELLED);
+
+        nokiaAnswers();
+        assertThat(service.resumeScreening(jobId).getCode()).isEqualTo(202);
+
+        SwapScreeningJob completed = awaitStatus(jobId, SwapScreeningJob.Status.COMPLETED);
+        assertThat(completed.processed()).isEqualTo(3);
+        assertThat(completed.position()).isEqualTo(3);
+    }
+
+    @Test
+    void runningJobCannotBeResumed() {
+        String jobId = start();
+
+        assertThat(service.resumeScreening(jobId).getCode()).isEqualTo(409);
+    }
+
+    @Test
+    void concurrentResumesStartOneRun() throws Exception {
+        String jobId = start();
+        service.cancelScreening(jobId);
+
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Integer>> codes = new ArrayList<>();
+        for (int caller = 0; caller < callers; caller++) {
+            codes.add(executor.submit(() -> {
+                go.await();
+                return service.resumeScreening(jobId).getCode();
+            }));
+        }
+        go.countDown();
+        List<Integer> results = new ArrayList<>();
+        for (Future<Integer> code : codes) {
+            results.add(code.get());
+        }
+        executor.shutdown();
+
+        assertThat(results).containsOnlyOnce(202);
+        assertThat(results).filteredOn(code -> code != 202).containsOnly(409);
+    }
+
+    @Test
+    void cancelRightAfterStartAndShutdownDoNotFail() {
+        String cancelled = start();
+        String running = start();
+
+        assertThat(service.cancelScreening(cancelled).getCode()).isEqualTo(200);
+        service.stop();
+
+        assertThat(stored(running).status()).isEqualTo(SwapScreeningJob.Status.RUNNING);
+        assertThat(service.cancelScreening(cancelled).getCode()).isEqualTo(404);
+    }
+
+    private String start() {
+        SwapScreeningRequestDTO request = new SwapScreeningRequestDTO();
+        request.setSource("FILE");
+        request.setInputPath("numbers.csv");
+        GlobalResponse response = service.startScreening(request);
+        assertThat(response.getCode()).isEqualTo(202);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> view = (Map<String, Object>) response.getData();
+        return ((SwapScreeningJob) view.get("job")).jobId();
+    }
+
+    private SwapScreeningJob stored(String jobId) {
+        return store.load(jobId).orElseThrow();
+    }
+
+    private SwapScreeningJob awaitStatus(String jobId, SwapScreeningJob.Status status) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        SwapScreeningJob job = stored(jobId);
+        while (job.status() != status && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            job = stored(jobId);
+        }
+        assertThat(job.status()).isEqualTo(status);
+        return job;
+    }
+
+    private void nokiaHangs() {
+        when(simSwapClient.retrieveSimSwapUncached(any())).thenReturn(Mono.never());
+        when(deviceSwapClient.retrieveDeviceSwapDateUncached(any())).thenReturn(Mono.never());
+    }
+
+    private void nokiaAnswers() {
+        when(simSwapClient.retrieveSimSwapUncached(any())).thenReturn(Mono.just(Map.of()));
+        when(deviceSwapClient.retrieveDeviceSwapDateUncached(any())).thenReturn(Mono.just(Map.of()));
+    }
+}
@@ -0,0 +1,123 @@
+package com.service.devicemanagementservice.state;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SwapStateCacheTest {
+
+    private static final String PHONE = "+3670000001";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final AtomicInteger nokiaCalls = new AtomicInteger();
+
+    SwapStateCacheTest() {
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+    }
+
+    @Test
+    void freshStateAnswersWithoutNokia() {
+        SwapStateCache cache = cache(Duration.ofHours(1));
+        Instant swapped = Instant.parse("2026-01-01T00:00:00Z");
+
+        SwapState first = cache.get(PHONE, "check", loader(swapped)).block(TIMEOUT);
+        SwapState second = cache.get(PHONE, "check", loader(swapped)).block(TIMEOUT);
+
+        assertThat(nokiaCalls).hasValue(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.getStats()).containsEntry("answeredFromState", 1L);
+    }
+
+    @Test
+    void refreshAlwaysAsksNokia() {
+        SwapStateCache cache = cache(Duration.ofHours(1));
+
+        cache.get(PHONE, "check", loader(null)).block(TIMEOUT);
+        SwapState refreshed = cache.refresh(PHONE, "check", loader(null)).block(TIMEOUT);
+
+        assertThat(nokiaCalls).hasValue(2);
+        assertThat(refreshed.unchangedChecks()).isEqualTo(1);
+    }
+
+    @Test
+    void unchangedChecksDoubleTheIntervalUpToTheCap() {
+        SwapStateCache cache = new SwapStateCache(kafkaTemplate, "swaps", true,
+                Duration.ofMinutes(2), Duration.ofMinutes(10), 1000, Duration.ofDays(7));
+
+        SwapState state = null;
+        for (int check = 0; check < 5; check++) {
+            state = cache.refresh(PHONE, "check", loader(null)).block(TIMEOUT);
+        }
+
+        assertThat(state.unchangedChecks()).isEqualTo(4);
+        // 2m << 4 = 32m, capped at 10m, with 10% jitter
+        assertThat(Duration.between(state.checkedAt(), state.nextCheckAt()))
+                .isBetween(Duration.ofMinutes(9), Duration.ofMinutes(11));
+    }
+
+    @Test
+    void newerSwapResetsTheIntervalAndIsPublishedOnce() {
+        SwapStateCache cache = cache(Duration.ofMinutes(2));
+        Instant before = Instant.parse("2026-01-01T00:00:00Z");
+        Instant after = Instant.parse("2026-02-01T00:00:00Z");
+
+        cache.refresh(PHONE, "check", loader(before)).block(TIMEOUT);
+        cache.refresh(PHONE, "check", loader(before)).block(TIMEOUT);
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+
+        SwapState changed = cache.refresh(PHONE, "check", loader(after)).block(TIMEOUT);
+        cache.refresh(PHONE, "check", loader(after)).block(TIMEOUT);
+
+        assertThat(changed.latestDeviceChange()).isEqualTo(after);
+        assertThat(changed.unchangedChecks()).isZero();
+        assertThat(changed.changedAt()).isNotNull();
+        verify(kafkaTemplate, times(1)).send(eq("swaps"), eq(PHONE), any());
+    }
+
+    @Test
+    void concurrentChecksShareOneNokiaCall() {
+        SwapStateCache cache = cache(Duration.ofHours(1));
+        Supplier<Mono<Optional<Instant>>> slow = () -> {
+            nokiaCalls.incrementAndGet();
+            return Mono.just(Optional.<Instant>empty()).delayElement(Duration.ofMillis(200));
+        };
+
+        Mono<SwapState> first = cache.refresh(PHONE, "check", slow);
+        Mono<SwapState> second = cache.refresh(PHONE, "check", slow);
+        Mono.zip(first, second).block(TIMEOUT);
+
+        assertThat(nokiaCalls).hasValue(1);
+        assertThat(cache.getStats()).containsEntry("coalescedChecks", 1L);
+    }
+
+    private SwapStateCache cache(Duration minInterval) {
+        return new SwapStateCache(kafkaTemplate, "swaps", true, minInterval, Duration.ofHours(6),
+                1000, Duration.ofDays(7));
+    }
+
+    private Supplier<Mono<Optional<Instant>>> loader(Instant latestDeviceChange) {
+        return () -> {
+            nokiaCalls.incrementAndGet();
+            return Mono.just(Optional.ofNullable(latestDeviceChange));
+        };
+    }
+}
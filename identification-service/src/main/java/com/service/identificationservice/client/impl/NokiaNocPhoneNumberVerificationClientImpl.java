@@ -24,9 +24,8 @@ import java.util.Map;
 @Service
 public class NokiaNocPhoneNumberVerificationClientImpl implements NokiaNocPhoneNumberVerificationClient {
 
-    private static final String DEVICE_STATUS_PATH = "https://number-verification.p-eu.rapidapi.com/";
-    private static final String CONNECTIVITY_STATUS_PATH = DEVICE_STATUS_PATH + "verify";
-    private static final String PHONE_NUMBER_SHARE = DEVICE_STATUS_PATH + "device-phone-number";
+    private static final String CONNECTIVITY_STATUS_PATH = "/verify";
+    private static final String PHONE_NUMBER_SHARE = "/device-phone-number";
     private static final String host = "number-verification.nokia.rapidapi.com";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
 
@@ -39,6 +38,8 @@ public class NokiaNocPhoneNumberVerificationClientImpl implements NokiaNocPhoneN
 
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
+    @Value("${nokia.nac.urls.number-verification:https://number-verification.p-eu.rapidapi.com}")
+    private String baseUrl;
 
     public NokiaNocPhoneNumberVerificationClientImpl(
             @Qualifier("nokiaWebClient") WebClient webClient,
@@ -59,7 +60,7 @@ public class NokiaNocPhoneNumberVerificationClientImpl implements NokiaNocPhoneN
         String accessToken = tokenManager.getAccessToken();
         
         return webClient.post()
-                .uri(CONNECTIVITY_STATUS_PATH)
+                .uri(baseUrl + CONNECTIVITY_STATUS_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", host)
                 .header("Authorization", "Bearer " + accessToken)
@@ -90,7 +91,7 @@ public class NokiaNocPhoneNumberVerificationClientImpl implements NokiaNocPhoneN
         String accessToken = tokenManager.getAccessToken();
         
         return webClient.get()
-                .uri(CONNECTIVITY_STATUS_PATH)
+                .uri(baseUrl + CONNECTIVITY_STATUS_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", host)
                 .header("Authorization", "Bearer " + accessToken)
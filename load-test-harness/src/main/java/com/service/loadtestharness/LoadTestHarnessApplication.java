@@ -0,0 +1,14 @@
+package com.service.loadtestharness;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+
+@SpringBootApplication
+public class LoadTestHarnessApplication {
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(LoadTestHarnessApplication.class, args)));
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.service.loadtestharness;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.service.loadtestharness.config.LoadTestSettings;
+import com.service.loadtestharness.engine.OpenModelLoadGenerator;
+import com.service.loadtestharness.engine.RouteRecorder;
+import com.service.loadtestharness.report.JwtValidationProbe;
+import com.service.loadtestharness.report.LoadTestReport;
+import com.service.loadtestharness.report.ReportService;
+import com.service.loadtestharness.scenario.RequestTemplate;
+import com.service.loadtestharness.scenario.ScenarioLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs one load test: log in, load scenarios, generate load, then write and compare the report.
+ * Exits with code 1 when regressions against the baseline were found and fail-on-regression is set.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements CommandLineRunner, ExitCodeGenerator {
+
+    private static final Duration LOGIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestSettings settings;
+    private final ScenarioLoader scenarioLoader;
+    private final OpenModelLoadGenerator loadGenerator;
+    private final ReportService reportService;
+    private final JwtValidationProbe jwtValidationProbe;
+
+    private int exitCode;
+
+    @Override
+    public void run(String... args) {
+        Map<String, String> runtimeVariables = new HashMap<>();
+        runtimeVariables.put("baseUrl", settings.getTargetUrl());
+        if (!settings.getUsername().isBlank()) {
+            runtimeVariables.put("authToken", login());
+        }
+
+        List<RequestTemplate> templates = scenarioLoader.load(runtimeVariables);
+        double durationSeconds = settings.parsedStages().stream()
+                .mapToDouble(stage -> stage.duration().toMillis() / 1000.0)
+                .sum();
+
+        String authToken = runtimeVariables.get("authToken");
+        Map<String, Long> jwtStatsBefore = jwtValidationProbe.isEnabled() ? jwtValidationProbe.snapshot(authToken) : Map.of();
+
+        Instant startedAt = Instant.now();
+        Map<String, RouteRecorder> recorders = loadGenerator.run(templates);
+
+        LoadTestReport report = reportService.build(startedAt, durationSeconds, recorders);
+        if (jwtValidationProbe.isEnabled() && report.getTotal() != null) {
+            report.setJwtValidation(jwtValidationProbe.difference(jwtStatsBefore,
+                    jwtValidationProbe.snapshot(authToken), report.getTotal().getRequests()));
+        }
+        List<LoadTestReport.Regression> regressions = reportService.compare(report);
+        Path file = reportService.write(report);
+        reportService.print(report);
+        log.info("Load test report written to {}", file.toAbsolutePath());
+
+        if (!regressions.isEmpty() && settings.isFailOnRegression()) {
+            log.error("{} regression(s) against baseline {}", regressions.size(), settings.getBaseline());
+            exitCode = 1;
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private String login() {
+        JsonNode response = WebClient.create(settings.getTargetUrl())
+                .post()
+                .uri("/auth/login")
+                .bodyValue(Map.of("username", settings.getUsername(), "password", settings.getPassword()))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block(LOGIN_TIMEOUT);
+        String token = response == null ? "" : response.path("data").path("token").asText();
+        if (token.isEmpty()) {
+            throw new IllegalStateException("Login as " + settings.getUsername() + " returned no token");
+        }
+        log.info("Logged in as {}", settings.getUsername());
+        return token;
+    }
+}
@@ -0,0 +1,147 @@
+package com.service.loadtestharness.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Load test settings (loadtest.*)
+ */
+@Getter
+@Component
+public class LoadTestSettings {
+
+    private final Environment environment;
+
+    @Value("${loadtest.target-url:http://localhost:8080}")
+    private String targetUrl;
+
+    @Value("${loadtest.label:local}")
+    private String label;
+
+    @Value("${loadtest.collection:}")
+    private String collection;
+
+    @Value("${loadtest.environment:}")
+    private String postmanEnvironment;
+
+    @Value("${loadtest.scenarios:}")
+    private String scenarios;
+
+    @Value("${loadtest.include:}")
+    private String include;
+
+    @Value("${loadtest.exclude:}")
+    private String exclude;
+
+    @Value("${loadtest.arrival:POISSON}")
+    private ArrivalProcess arrival;
+
+    @Value("${loadtest.stages:10@60s}")
+    private String stages;
+
+    @Value("${loadtest.warmup:10s}")
+    private Duration warmup;
+
+    @Value("${loadtest.max-in-flight:2000}")
+    private int maxInFlight;
+
+    @Value("${loadtest.request-timeout:10s}")
+    private Duration requestTimeout;
+
+    @Value("${loadtest.device-pool-size:0}")
+    private int devicePoolSize;
+
+    @Value("${loadtest.auth.username:}")
+    private String username;
+
+    @Value("${loadtest.auth.password:}")
+    private String password;
+
+    @Value("${loadtest.report-dir:build/load-test}")
+    private String reportDir;
+
+    @Value("${loadtest.baseline:}")
+    private String baseline;
+
+    @Value("${loadtest.regression.p99-percent:10}")
+    private double p99RegressionPercent;
+
+    @Value("${loadtest.regression.throughput-percent:5}")
+    private double throughputRegressionPercent;
+
+    @Value("${loadtest.fail-on-regression:true}")
+    private boolean failOnRegression;
+
+    @Value("${loadtest.jwt-stats-urls:}")
+    private List<String> jwtStatsUrls;
+
+    public LoadTestSettings(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Value of a scenario variable override (loadtest.variables.{name})
+     */
+    public String variable(String name) {
+        return environment.getProperty("loadtest.variables." + name);
+    }
+
+    /**
+     * Weight of a route in the mix (loadtest.weights.{route}), defaulting to the scenario's own weight
+     */
+    public double weight(String route, double defaultWeight) {
+        String key = route.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("(^-|-$)", "").toLowerCase();
+        return environment.getProperty("loadtest.weights." + key, Double.class, defaultWeight);
+    }
+
+    /**
+     * Parse stages of the form "rate@duration,rate@duration", e.g. "50@30s,200@2m"
+     */
+    public List<Stage> parsedStages() {
+        List<Stage> parsed = new ArrayList<>();
+        for (String stage : stages.split(",")) {
+            String[] parts = stage.trim().split("@");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load test stage (expected rate@duration): " + stage);
+            }
+            parsed.add(new Stage(Double.parseDouble(parts[0].trim()), parseDuration(parts[1].trim())));
+        }
+        return parsed;
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.startsWith("P") || value.startsWith("p")) {
+            return Duration.parse(value);
+        }
+        char unit = value.charAt(value.length() - 1);
+        long amount = Long.parseLong(value.substring(0, value.length() - (Character.isDigit(unit) ? 0 : 1)));
+        return switch (unit) {
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> Duration.ofSeconds(amount);
+        };
+    }
+
+    public enum ArrivalProcess {
+        /**
+         * Exponential inter-arrival times (open model with Poisson arrivals)
+         */
+        POISSON,
+        /**
+         * Evenly spaced arrivals
+         */
+        CONSTANT
+    }
+
+    /**
+     * Constant arrival rate held for a duration
+     */
+    public record Stage(double ratePerSecond, Duration duration) {
+    }
+}
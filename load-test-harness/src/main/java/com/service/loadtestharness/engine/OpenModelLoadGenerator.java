@@ -0,0 +1,165 @@
+package com.service.loadtestharness.engine;
+
+import com.service.loadtestharness.config.LoadTestSettings;
+import com.service.loadtestharness.scenario.RequestTemplate;
+import com.service.loadtestharness.scenario.ScenarioLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are sent on a precomputed arrival schedule regardless of
+ * how many are still outstanding, so a slow system sees growing concurrency instead of a
+ * throttled client. Latency is measured from the intended send time, which keeps queueing
+ * inside the harness visible (no coordinated omission).
+ */
+@Slf4j
+@Component
+public class OpenModelLoadGenerator {
+
+    private final LoadTestSettings settings;
+    private final WebClient webClient;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OpenModelLoadGenerator(LoadTestSettings settings) {
+        this.settings = settings;
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                .maxConnections(settings.getMaxInFlight())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.webClient = WebClient.builder()
+                .baseUrl(settings.getTargetUrl())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .build();
+    }
+
+    /**
+     * Run the warm-up and all stages
+     *
+     * @return recorders keyed by route, containing only measurements taken after warm-up
+     */
+    public Map<String, RouteRecorder> run(List<RequestTemplate> templates) {
+        if (templates.isEmpty()) {
+            throw new IllegalStateException("No load test routes selected");
+        }
+        List<LoadTestSettings.Stage> stages = settings.parsedStages();
+        WeightedMix mix = new WeightedMix(templates);
+
+        if (!settings.getWarmup().isZero()) {
+            log.info("Warming up for {} at {} req/s", settings.getWarmup(), stages.get(0).ratePerSecond());
+            Map<String, RouteRecorder> discarded = new LinkedHashMap<>();
+            runStage(new LoadTestSettings.Stage(stages.get(0).ratePerSecond(), settings.getWarmup()), mix, discarded);
+        }
+
+        Map<String, RouteRecorder> recorders = new LinkedHashMap<>();
+        templates.forEach(template -> recorders.put(template.getRoute(), new RouteRecorder()));
+        for (LoadTestSettings.Stage stage : stages) {
+            log.info("Running stage: {} req/s for {}", stage.ratePerSecond(), stage.duration());
+            runStage(stage, mix, recorders);
+        }
+        awaitDrain();
+        return recorders;
+    }
+
+    private void runStage(LoadTestSettings.Stage stage, WeightedMix mix, Map<String, RouteRecorder> recorders) {
+        double meanIntervalNanos = 1_000_000_000.0 / stage.ratePerSecond();
+        long start = System.nanoTime();
+        long end = start + stage.duration().toNanos();
+        long nextArrival = start;
+
+        while (nextArrival < end) {
+            long wait = nextArrival - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            RequestTemplate template = mix.next();
+            RouteRecorder recorder = recorders.computeIfAbsent(template.getRoute(), route -> new RouteRecorder());
+            send(template, recorder, nextArrival);
+
+            nextArrival += settings.getArrival() == LoadTestSettings.ArrivalProcess.POISSON
+                    ? (long) (-meanIntervalNanos * Math.log(1 - ThreadLocalRandom.current().nextDouble()))
+                    : (long) meanIntervalNanos;
+        }
+    }
+
+    private void send(RequestTemplate template, RouteRecorder recorder, long intendedStart) {
+        if (inFlight.get() >= settings.getMaxInFlight()) {
+            recorder.recordDropped();
+            return;
+        }
+        inFlight.incrementAndGet();
+
+        String path = template.getPath();
+        String body = template.getBody();
+        if (settings.getDevicePoolSize() > 0) {
+            String phoneNumber = String.format("+3670%07d", ThreadLocalRandom.current().nextInt(settings.getDevicePoolSize()));
+            String placeholder = "{{" + ScenarioLoader.PHONE_NUMBER_VARIABLE + "}}";
+            path = path.replace(placeholder, phoneNumber);
+            body = body == null ? null : body.replace(placeholder, phoneNumber);
+        }
+
+        WebClient.RequestBodySpec request = webClient.method(HttpMethod.valueOf(template.getMethod()))
+                .uri(path)
+                .headers(headers -> template.getHeaders().forEach(headers::set));
+        if (body != null && !body.isEmpty()) {
+            request.contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+        }
+
+        request.exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                .timeout(settings.getRequestTimeout())
+                .onErrorReturn(0)
+                .subscribe(status -> {
+                    recorder.record(System.nanoTime() - intendedStart, status);
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    private void awaitDrain() {
+        long deadline = System.nanoTime() + settings.getRequestTimeout().plusSeconds(1).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+        }
+    }
+
+    /**
+     * Weighted random choice over the request templates
+     */
+    private static final class WeightedMix {
+
+        private final RequestTemplate[] templates;
+        private final double[] cumulativeWeights;
+
+        private WeightedMix(List<RequestTemplate> templates) {
+            this.templates = templates.toArray(RequestTemplate[]::new);
+            this.cumulativeWeights = new double[this.templates.length];
+            double total = 0;
+            for (int i = 0; i < this.templates.length; i++) {
+                total += this.templates[i].getWeight();
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        private RequestTemplate next() {
+            double point = ThreadLocalRandom.current().nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (point < cumulativeWeights[i]) {
+                    return templates[i];
+                }
+            }
+            return templates[templates.length - 1];
+        }
+    }
+}
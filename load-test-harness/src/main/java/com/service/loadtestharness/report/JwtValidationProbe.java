@@ -0,0 +1,74 @@
+package com.service.loadtestharness.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.service.loadtestharness.config.LoadTestSettings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the JWT validation counters (loadtest.jwt-stats-urls) before and after a run, so runs with
+ * and without the validated-token cache and internal assertions can be compared
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtValidationProbe {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String[] COUNTERS = {"signatureVerifications", "cacheHits", "assertionVerifications"};
+
+    private final LoadTestSettings settings;
+
+    public boolean isEnabled() {
+        return !settings.getJwtStatsUrls().isEmpty();
+    }
+
+    /**
+     * Sum of each counter across all configured stats endpoints
+     */
+    public Map<String, Long> snapshot(String authToken) {
+        Map<String, Long> totals = new HashMap<>();
+        for (String url : settings.getJwtStatsUrls()) {
+            try {
+                JsonNode response = WebClient.create(url)
+                        .get()
+                        .headers(headers -> {
+                            if (authToken != null) {
+                                headers.setBearerAuth(authToken);
+                            }
+                        })
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)
+                        .block(TIMEOUT);
+                // Services wrap the statistics in GlobalResponse.data, the gateway actuator endpoint does not
+                JsonNode stats = response != null && response.has("data") ? response.get("data") : response;
+                for (String counter : COUNTERS) {
+                    totals.merge(counter, stats == null ? 0 : stats.path(counter).asLong(), Long::sum);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to read JWT validation stats from {}: {}", url, e.getMessage());
+            }
+        }
+        return totals;
+    }
+
+    public LoadTestReport.JwtValidation difference(Map<String, Long> before, Map<String, Long> after, long requests) {
+        long verifications = delta(before, after, "signatureVerifications");
+        return LoadTestReport.JwtValidation.builder()
+                .signatureVerifications(verifications)
+                .cacheHits(delta(before, after, "cacheHits"))
+                .assertionVerifications(delta(before, after, "assertionVerifications"))
+                .signatureVerificationsPerRequest(requests == 0 ? 0 : (double) verifications / requests)
+                .build();
+    }
+
+    private long delta(Map<String, Long> before, Map<String, Long> after, String counter) {
+        return after.getOrDefault(counter, 0L) - before.getOrDefault(counter, 0L);
+    }
+}
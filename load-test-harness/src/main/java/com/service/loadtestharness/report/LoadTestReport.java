@@ -0,0 +1,88 @@
+package com.service.loadtestharness.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Comparable result of a load test run, written as JSON
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadTestReport {
+
+    private String label;
+    private String startedAt;
+    private String targetUrl;
+    private String arrival;
+    private String stages;
+    private double durationSeconds;
+    private RouteStats total;
+    private Map<String, RouteStats> routes;
+    private List<Regression> regressions;
+    private JwtValidation jwtValidation;
+
+    /**
+     * Throughput and latency percentiles (milliseconds) of a route
+     * Throughput counts successful responses only; errors and timeouts are reported in errors and errorRate.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RouteStats {
+        private long requests;
+        private long successes;
+        private long errors;
+        private double errorRate;
+        private long dropped;
+        private double throughput;
+        private double meanMs;
+        private double p50Ms;
+        private double p90Ms;
+        private double p99Ms;
+        private double p999Ms;
+        private double maxMs;
+        private Map<Integer, Long> statusCounts;
+
+        /**
+         * Compressed, base64-encoded HdrHistogram (microseconds) for merging or re-analysis
+         */
+        private String histogram;
+    }
+
+    /**
+     * A metric that got worse than the configured threshold compared to the baseline
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Regression {
+        private String route;
+        private String metric;
+        private double baseline;
+        private double current;
+        private double changePercent;
+    }
+
+    /**
+     * JWT validation work done by the gateway and services during the run
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JwtValidation {
+        private long signatureVerifications;
+        private long cacheHits;
+        private long assertionVerifications;
+        private double signatureVerificationsPerRequest;
+    }
+}
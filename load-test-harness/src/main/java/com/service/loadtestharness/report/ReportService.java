@@ -0,0 +1,201 @@
+package com.service.loadtestharness.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.service.loadtestharness.config.LoadTestSettings;
+import com.service.loadtestharness.engine.RouteRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds, writes and compares load test reports
+ * Each run is written to {report-dir}/report-{label}-{timestamp}.json and latest.json;
+ * when a baseline report is configured, p99 and throughput regressions are listed in the report.
+ */
+@Slf4j
+@Component
+public class ReportService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final String TOTAL = "TOTAL";
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public ReportService(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public LoadTestReport build(Instant startedAt, double durationSeconds, Map<String, RouteRecorder> recorders) {
+        Histogram total = null;
+        long errors = 0;
+        long dropped = 0;
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        Map<String, LoadTestReport.RouteStats> routes = new TreeMap<>();
+
+        for (Map.Entry<String, RouteRecorder> entry : recorders.entrySet()) {
+            RouteRecorder recorder = entry.getValue();
+            Histogram histogram = recorder.histogram();
+            if (histogram.getTotalCount() == 0 && recorder.dropped() == 0) {
+                continue;
+            }
+            routes.put(entry.getKey(), stats(histogram, recorder.errors(), recorder.dropped(),
+                    recorder.statusCounts(), durationSeconds));
+
+            if (total == null) {
+                total = histogram.copy();
+            } else {
+                total.add(histogram);
+            }
+            errors += recorder.errors();
+            dropped += recorder.dropped();
+            recorder.statusCounts().forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+        }
+
+        return LoadTestReport.builder()
+                .label(settings.getLabel())
+                .startedAt(startedAt.toString())
+                .targetUrl(settings.getTargetUrl())
+                .arrival(settings.getArrival().name())
+                .stages(settings.getStages())
+                .durationSeconds(durationSeconds)
+                .total(total == null ? null : stats(total, errors, dropped, statusCounts, durationSeconds))
+                .routes(routes)
+                .regressions(new ArrayList<>())
+                .build();
+    }
+
+    /**
+     * Compare against the baseline report, recording regressions above the configured thresholds
+     */
+    public List<LoadTestReport.Regression> compare(LoadTestReport report) {
+        if (settings.getBaseline().isBlank()) {
+            return List.of();
+        }
+        LoadTestReport baseline;
+        try {
+            baseline = objectMapper.readValue(Path.of(settings.getBaseline()).toFile(), LoadTestReport.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read baseline report: " + settings.getBaseline(), e);
+        }
+
+        List<LoadTestReport.Regression> regressions = new ArrayList<>();
+        compare(TOTAL, baseline.getTotal(), report.getTotal(), regressions);
+        report.getRoutes().forEach((route, current) -> compare(route, baseline.getRoutes().get(route), current, regressions));
+        report.setRegressions(regressions);
+        return regressions;
+    }
+
+    public Path write(LoadTestReport report) {
+        try {
+            Path directory = Path.of(settings.getReportDir());
+            Files.createDirectories(directory);
+            Path file = directory.resolve("report-" + settings.getLabel() + "-"
+                    + FILE_TIMESTAMP.format(Instant.parse(report.getStartedAt())) + ".json");
+            objectMapper.writeValue(file.toFile(), report);
+            objectMapper.writeValue(directory.resolve("latest.json").toFile(), report);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write load test report", e);
+        }
+    }
+
+    public void print(LoadTestReport report) {
+        StringBuilder table = new StringBuilder(String.format("%n%-70s %9s %7s %7s %7s %9s %9s %9s %9s %9s%n",
+                "route", "requests", "errors", "err %", "dropped", "ok/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        report.getRoutes().forEach((route, stats) -> appendRow(table, route, stats));
+        if (report.getTotal() != null) {
+            appendRow(table, TOTAL, report.getTotal());
+        }
+        report.getRegressions().forEach(regression -> table.append(String.format(
+                "REGRESSION %s %s: %.2f -> %.2f (%+.1f%%)%n", regression.getRoute(), regression.getMetric(),
+                regression.getBaseline(), regression.getCurrent(), regression.getChangePercent())));
+        if (report.getJwtValidation() != null) {
+            LoadTestReport.JwtValidation jwt = report.getJwtValidation();
+            table.append(String.format("JWT signature verifications: %d (%.3f per request), cache hits: %d, assertions: %d%n",
+                    jwt.getSignatureVerifications(), jwt.getSignatureVerificationsPerRequest(),
+                    jwt.getCacheHits(), jwt.getAssertionVerifications()));
+        }
+        log.info(table.toString());
+    }
+
+    private void appendRow(StringBuilder table, String route, LoadTestReport.RouteStats stats) {
+        table.append(String.format("%-70s %9d %7d %7.2f %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                route.length() > 70 ? route.substring(0, 67) + "..." : route,
+                stats.getRequests(), stats.getErrors(), stats.getErrorRate() * 100, stats.getDropped(), stats.getThroughput(),
+                stats.getP50Ms(), stats.getP99Ms(), stats.getP999Ms(), stats.getMaxMs()));
+    }
+
+    private void compare(String route, LoadTestReport.RouteStats baseline, LoadTestReport.RouteStats current,
+                         List<LoadTestReport.Regression> regressions) {
+        if (baseline == null || current == null) {
+            return;
+        }
+        double p99Change = percentChange(baseline.getP99Ms(), current.getP99Ms());
+        if (p99Change > settings.getP99RegressionPercent()) {
+            regressions.add(regression(route, "p99Ms", baseline.getP99Ms(), current.getP99Ms(), p99Change));
+        }
+        double throughputChange = percentChange(baseline.getThroughput(), current.getThroughput());
+        if (-throughputChange > settings.getThroughputRegressionPercent()) {
+            regressions.add(regression(route, "throughput", baseline.getThroughput(), current.getThroughput(), throughputChange));
+        }
+    }
+
+    private static LoadTestReport.Regression regression(String route, String metric, double baseline, double current, double change) {
+        return LoadTestReport.Regression.builder()
+                .route(route)
+                .metric(metric)
+                .baseline(baseline)
+                .current(current)
+                .changePercent(change)
+                .build();
+    }
+
+    private static double percentChange(double baseline, double current) {
+        return baseline == 0 ? 0 : (current - baseline) / baseline * 100;
+    }
+
+    private static LoadTestReport.RouteStats stats(Histogram histogram, long errors, long dropped,
+                                                   Map<Integer, Long> statusCounts, double durationSeconds) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        byte[] encoded = new byte[length];
+        buffer.flip();
+        buffer.get(encoded);
+
+        long requests = histogram.getTotalCount();
+        long successes = Math.max(requests - errors, 0);
+
+        return LoadTestReport.RouteStats.builder()
+                .requests(requests)
+                .successes(successes)
+                .errors(errors)
+                .errorRate(requests == 0 ? 0 : (double) errors / requests)
+                .dropped(dropped)
+                .throughput(durationSeconds == 0 ? 0 : successes / durationSeconds)
+                .meanMs(histogram.getMean() / 1000.0)
+                .p50Ms(histogram.getValueAtPercentile(50) / 1000.0)
+                .p90Ms(histogram.getValueAtPercentile(90) / 1000.0)
+                .p99Ms(histogram.getValueAtPercentile(99) / 1000.0)
+                .p999Ms(histogram.getValueAtPercentile(99.9) / 1000.0)
+                .maxMs(histogram.getMaxValue() / 1000.0)
+                .statusCounts(statusCounts)
+                .histogram(Base64.getEncoder().encodeToString(encoded))
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.service.loadtestharness.scenario;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * A request to replay; path and body may still contain {{variables}}
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestTemplate {
+
+    /**
+     * Stable route name used to key latency histograms, e.g. "POST /location/retrieve"
+     */
+    private String route;
+
+    private String method;
+
+    /**
+     * Path (and query) relative to the target URL
+     */
+    private String path;
+
+    private Map<String, String> headers;
+
+    private String body;
+
+    /**
+     * Relative weight in the request mix
+     */
+    private double weight;
+}
@@ -0,0 +1,181 @@
+package com.service.loadtestharness.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.loadtestharness.config.LoadTestSettings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Loads replayable requests from a Postman collection and/or a JSONL scenario file
+ * JSONL lines have the form {"method": "POST", "path": "/location/retrieve", "headers": {...}, "body": {...}, "weight": 2}.
+ * Static {{variables}} are resolved at load time from the collection, the Postman environment and
+ * loadtest.variables.*; {{phoneNumber}} is left for per-request substitution when a device pool is configured.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScenarioLoader {
+
+    public static final String PHONE_NUMBER_VARIABLE = "phoneNumber";
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{([^}]+)}}");
+    private static final String BASE_URL_VARIABLE = "{{baseUrl}}";
+
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * @param runtimeVariables Variables known only at run time (e.g. authToken)
+     */
+    public List<RequestTemplate> load(Map<String, String> runtimeVariables) {
+        Map<String, String> variables = new HashMap<>();
+        List<RequestTemplate> templates = new ArrayList<>();
+
+        if (!settings.getCollection().isBlank()) {
+            JsonNode collection = read(settings.getCollection());
+            collection.path("variable").forEach(variable ->
+                    variables.put(variable.path("key").asText(), variable.path("value").asText()));
+            if (!settings.getPostmanEnvironment().isBlank()) {
+                read(settings.getPostmanEnvironment()).path("values").forEach(value -> {
+                    if (value.path("enabled").asBoolean(true)) {
+                        variables.put(value.path("key").asText(), value.path("value").asText());
+                    }
+                });
+            }
+            collectPostmanItems(collection.path("item"), templates);
+        }
+
+        if (!settings.getScenarios().isBlank()) {
+            templates.addAll(readJsonl(settings.getScenarios()));
+        }
+
+        variables.keySet().forEach(name -> {
+            String override = settings.variable(name);
+            if (override != null) {
+                variables.put(name, override);
+            }
+        });
+        variables.putAll(runtimeVariables);
+
+        Pattern include = settings.getInclude().isBlank() ? null : Pattern.compile(settings.getInclude());
+        Pattern exclude = settings.getExclude().isBlank() ? null : Pattern.compile(settings.getExclude());
+        List<RequestTemplate> selected = new ArrayList<>();
+        for (RequestTemplate template : templates) {
+            if ((include != null && !include.matcher(template.getRoute()).find())
+                    || (exclude != null && exclude.matcher(template.getRoute()).find())) {
+                continue;
+            }
+            double weight = settings.weight(template.getRoute(), template.getWeight());
+            if (weight <= 0) {
+                continue;
+            }
+            selected.add(resolve(template, variables).toBuilder().weight(weight).build());
+        }
+
+        log.info("Loaded {} load test routes ({} before filtering)", selected.size(), templates.size());
+        return selected;
+    }
+
+    private void collectPostmanItems(JsonNode items, List<RequestTemplate> templates) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                collectPostmanItems(item.path("item"), templates);
+                continue;
+            }
+            JsonNode request = item.path("request");
+            JsonNode url = request.path("url");
+            String rawUrl = url.isTextual() ? url.asText() : url.path("raw").asText();
+            String path = rawUrl.startsWith(BASE_URL_VARIABLE) ? rawUrl.substring(BASE_URL_VARIABLE.length()) : rawUrl;
+            String method = request.path("method").asText("GET");
+
+            Map<String, String> headers = new LinkedHashMap<>();
+            request.path("header").forEach(header -> {
+                if (!header.path("disabled").asBoolean(false)) {
+                    headers.put(header.path("key").asText(), header.path("value").asText());
+                }
+            });
+
+            JsonNode body = request.path("body");
+            templates.add(RequestTemplate.builder()
+                    .route(method + " " + path)
+                    .method(method)
+                    .path(path)
+                    .headers(headers)
+                    .body("raw".equals(body.path("mode").asText()) ? body.path("raw").asText() : null)
+                    .weight(1.0)
+                    .build());
+        }
+    }
+
+    private List<RequestTemplate> readJsonl(String file) {
+        List<RequestTemplate> templates = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(Path.of(file))) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(line);
+                String method = node.path("method").asText("GET");
+                String path = node.path("path").asText();
+                Map<String, String> headers = new LinkedHashMap<>();
+                node.path("headers").properties().forEach(header -> headers.put(header.getKey(), header.getValue().asText()));
+                JsonNode body = node.path("body");
+                templates.add(RequestTemplate.builder()
+                        .route(node.path("route").asText(method + " " + path))
+                        .method(method)
+                        .path(path)
+                        .headers(headers)
+                        .body(body.isMissingNode() || body.isNull() ? null : body.isTextual() ? body.asText() : body.toString())
+                        .weight(node.path("weight").asDouble(1.0))
+                        .build());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read load test scenarios: " + file, e);
+        }
+        return templates;
+    }
+
+    private RequestTemplate resolve(RequestTemplate template, Map<String, String> variables) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        template.getHeaders().forEach((name, value) -> headers.put(name, substitute(value, variables)));
+        return template.toBuilder()
+                .path(substitute(template.getPath(), variables))
+                .headers(headers)
+                .body(template.getBody() == null ? null : substitute(template.getBody(), variables))
+                .build();
+    }
+
+    private String substitute(String value, Map<String, String> variables) {
+        Matcher matcher = VARIABLE.matcher(value);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            boolean deferred = PHONE_NUMBER_VARIABLE.equals(name) && settings.getDevicePoolSize() > 0;
+            String replacement = deferred ? matcher.group() : variables.getOrDefault(name, "");
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private JsonNode read(String file) {
+        try {
+            return objectMapper.readTree(Path.of(file).toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + file, e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.service.locationservice.client;
 
 import com.service.shared.dto.request.CreateGeofencingSubscriptionDTO;
+import com.service.shared.dto.response.GeofencingSubscriptionResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -12,6 +14,8 @@ public interface NokiaNacGeofencingSubscriptionClient {
 
     Mono<Map<String, Object>> getAllGeofencingSubscriptions();
 
+    Flux<GeofencingSubscriptionResponse> streamGeofencingSubscriptions();
+
     Mono<Map<String, Object>> getGeofencingSubscriptionById(String subscriptionId);
 
     Mono<Map<String, Object>> deleteGeofencingSubscription(String subscriptionId);
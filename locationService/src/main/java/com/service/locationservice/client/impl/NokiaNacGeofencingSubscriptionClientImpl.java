@@ -2,7 +2,9 @@ package com.service.locationservice.client.impl;
 
 import com.service.locationservice.client.NokiaNacGeofencingSubscriptionClient;
 import com.service.shared.dto.request.CreateGeofencingSubscriptionDTO;
+import com.service.shared.dto.response.GeofencingSubscriptionResponse;
 import com.service.shared.service.NokiaNacTokenManager;
+import com.service.shared.util.NokiaNacResponseCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,10 +15,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -27,32 +31,37 @@ import java.util.Map;
 @Slf4j
 public class NokiaNacGeofencingSubscriptionClientImpl implements NokiaNacGeofencingSubscriptionClient {
 
-    private static final String BASE_PATH = "https://geofencing-subscriptions.p-eu.rapidapi.com/v0.3/";
-    private static final String CREATE_SUBSCRIPTION_PATH = BASE_PATH + "subscriptions";
-    private static final String GET_ALL_SUBSCRIPTIONS_PATH = BASE_PATH + "subscriptions";
-    private static final String GET_SUBSCRIPTION_BY_ID_PATH = BASE_PATH + "subscriptions/";
-    private static final String DELETE_SUBSCRIPTION_PATH = BASE_PATH + "subscriptions/";
+    private static final String CREATE_SUBSCRIPTION_PATH = "/v0.3/subscriptions";
+    private static final String GET_ALL_SUBSCRIPTIONS_PATH = "/v0.3/subscriptions";
+    private static final String GET_SUBSCRIPTION_BY_ID_PATH = "/v0.3/subscriptions/";
+    private static final String DELETE_SUBSCRIPTION_PATH = "/v0.3/subscriptions/";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
     private static final String HOST = "geofencing-subscriptions.p-eu.rapidapi.com";
+    private static final String SUBSCRIPTIONS_CACHE_ENDPOINT = "geofencing-subscriptions";
 
     private final WebClient webClient;
     private final Retry retrySpec;
     private final Duration timeout;
     private final NokiaNacTokenManager tokenManager;
+    private final NokiaNacResponseCache responseCache;
 
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
+    @Value("${nokia.nac.urls.geofencing-subscriptions:https://geofencing-subscriptions.p-eu.rapidapi.com}")
+    private String baseUrl;
 
     public NokiaNacGeofencingSubscriptionClientImpl(
             @Qualifier("nokiaWebClient") WebClient webClient,
             @Value("${nokia.nac.timeout:30000}") int timeoutMs,
             @Value("${nokia.nac.retry-attempts:3}") int retryAttempts,
-            NokiaNacTokenManager tokenManager
+            NokiaNacTokenManager tokenManager,
+            NokiaNacResponseCache responseCache
     ) {
         this.webClient = webClient;
         this.timeout = Duration.ofMillis(timeoutMs);
         this.retrySpec = createRetrySpec(retryAttempts);
         this.tokenManager = tokenManager;
+        this.responseCache = responseCache;
     }
 
     private Retry createRetrySpec(int retryAttempts) {
@@ -102,7 +111,7 @@ public class NokiaNacGeofencingSubscriptionClientImpl implements NokiaNacGeofenc
         String accessToken = tokenManager.getAccessToken();
 
         return webClient.post()
-                .uri(CREATE_SUBSCRIPTION_PATH)
+                .uri(baseUrl + CREATE_SUBSCRIPTION_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", HOST)
                 .header("Authorization", "Bearer " + accessToken)
@@ -114,6 +123,7 @@ public class NokiaNacGeofencingSubscriptionClientImpl implements NokiaNacGeofenc
                 .map(map -> (Map<String, Object>) map)
                 .timeout(timeout)
                 .retryWhen(retrySpec)
+                .doOnSuccess(result -> responseCache.invalidate(SUBSCRIPTIONS_CACHE_ENDPOINT))
                 .doOnSuccess(result -> log.info("Geofencing subscription created successfully: {}", result))
                 .doOnError(error -> log.error("Failed to create geofencing subscription", error))
                 .onErrorMap(throwable -> {
@@ -131,30 +141,63 @@ public class NokiaNacGeofencingSubscriptionClientImpl implements NokiaNacGeofenc
     public Mono<Map<String, Object>> getAllGeofencingSubscriptions() {
         log.info("Retrieving all geofencing subscriptions");
 
+        return responseCache.get(SUBSCRIPTIONS_CACHE_ENDPOINT, "all", () -> {
+            // Get OAuth2 access token
+            String accessToken = tokenManager.getAccessToken();
+
+            return webClient.get()
+                    .uri(baseUrl + GET_ALL_SUBSCRIPTIONS_PATH)
+                    .header("X-RapidAPI-Key", apiKey)
+                    .header("X-RapidAPI-Host", HOST)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, this::handleError)
+                    .bodyToMono(Map.class)
+                    .cast(Map.class)
+                    // Cached and shared by all callers, so handed out read-only
+                    .map(map -> Collections.unmodifiableMap((Map<String, Object>) map))
+                    .timeout(timeout)
+                    .retryWhen(retrySpec)
+                    .doOnSuccess(result -> log.info("Retrieved all geofencing subscriptions successfully: {}", result))
+                    .doOnError(error -> log.error("Failed to get all geofencing subscriptions", error))
+                    .onErrorMap(throwable -> {
+                        if (throwable instanceof com.service.shared.exception.GlobalException) {
+                            return throwable;
+                        }
+                        return new com.service.shared.exception.GlobalException(
+                                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                "Failed to get all geofencing subscriptions: " + throwable.getMessage(),
+                                throwable);
+                    });
+        });
+    }
+
+    @Override
+    public Flux<GeofencingSubscriptionResponse> streamGeofencingSubscriptions() {
+        log.info("Streaming all geofencing subscriptions");
+
         // Get OAuth2 access token
         String accessToken = tokenManager.getAccessToken();
 
+        // The subscription array is decoded element by element as it arrives. Not retried:
+        // a mid-stream retry would replay subscriptions that were already emitted.
         return webClient.get()
-                .uri(GET_ALL_SUBSCRIPTIONS_PATH)
+                .uri(baseUrl + GET_ALL_SUBSCRIPTIONS_PATH)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", HOST)
                 .header("Authorization", "Bearer " + accessToken)
                 .retrieve()
                 .onStatus(HttpStatusCode::isError, this::handleError)
-                .bodyToMono(Map.class)
-                .cast(Map.class)
-                .map(map -> (Map<String, Object>) map)
+                .bodyToFlux(GeofencingSubscriptionResponse.class)
                 .timeout(timeout)
-                .retryWhen(retrySpec)
-                .doOnSuccess(result -> log.info("Retrieved all geofencing subscriptions successfully: {}", result))
-                .doOnError(error -> log.error("Failed to get all geofencing subscriptions", error))
+                .doOnError(error -> log.error("Failed to stream geofencing subscriptions", error))
                 .onErrorMap(throwable -> {
                     if (throwable instanceof com.service.shared.exception.GlobalException) {
                         return throwable;
                     }
                     return new com.service.shared.exception.GlobalException(
                             HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                            "Failed to get all geofencing subscriptions: " + throwable.getMessage(),
+                            "Failed to stream geofencing subscriptions: " + throwable.getMessage(),
                             throwable);
                 });
     }
@@ -167,7 +210,7 @@ public class NokiaNacGeofencingSubscriptionClientImpl implements NokiaNacGeofenc
         String accessToken = tokenManager.getAccessToken();
 
         return webClient.get()
-                .uri(GET_SUBSCRIPTION_BY_ID_PATH + subscriptionId)
+                .uri(baseUrl + GET_SUBSCRIPTION_BY_ID_PATH + subscriptionId)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", HOST)
                 .header("Authorization", "Bearer " + accessToken)
@@ -199,7 +242,7 @@ public class NokiaNacGeofencingSubscriptionClientImpl implements NokiaNacGeofenc
         String accessToken = tokenManager.getAccessToken();
 
         return webClient.delete()
-                .uri(DELETE_SUBSCRIPTION_PATH + subscriptionId)
+                .uri(baseUrl + DELETE_SUBSCRIPTION_PATH + subscriptionId)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", HOST)
                 .header("Authorization", "Bearer " + accessToken)
@@ -210,6 +253,7 @@ public class NokiaNacGeofencingSubscriptionClientImpl implements NokiaNacGeofenc
                 .map(map -> (Map<String, Object>) map)
                 .timeout(timeout)
                 .retryWhen(retrySpec)
+                .doOnSuccess(result -> responseCache.invalidate(SUBSCRIPTIONS_CACHE_ENDPOINT))
                 .doOnSuccess(result -> log.info("Deleted geofencing subscription successfully: {}", result))
                 .doOnError(error -> log.error("Failed to delete geofencing subscription: {}", subscriptionId, error))
                 .onErrorMap(throwable -> {
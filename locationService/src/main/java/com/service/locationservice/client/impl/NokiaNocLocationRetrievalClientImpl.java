@@ -3,10 +3,12 @@ package com.service.locationservice.client.impl;
 import com.service.locationservice.client.NokiaNocLocationRetrievalClient;
 import com.service.shared.dto.request.LocationRetrievalDTO;
 import com.service.shared.service.NokiaNacTokenManager;
+import com.service.shared.util.NokiaNacRequestHedger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -24,33 +26,38 @@ import java.util.Map;
 @Slf4j
 public class NokiaNocLocationRetrievalClientImpl implements NokiaNocLocationRetrievalClient {
 
-    private static final String BASE_URL = "https://location-retrieval.p-eu.rapidapi.com";
-    private static final String LOCATION_RETRIEVAL_PATH = BASE_URL + "/v0/retrieve";
+    private static final String LOCATION_RETRIEVAL_PATH = "/v0/retrieve";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
     // RapidAPI host header format: {service}.nokia.rapidapi.com or {service}.p-eu.rapidapi.com
     private static final String HOST = "location-retrieval.nokia.rapidapi.com";
+    private static final String HEDGE_ENDPOINT = "location-retrieval";
 
 
     private final WebClient webClient;
     private final Retry retrySpec;
     private final Duration timeout;
     private final NokiaNacTokenManager tokenManager;
+    private final NokiaNacRequestHedger requestHedger;
 
 
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
+    @Value("${nokia.nac.urls.location-retrieval:https://location-retrieval.p-eu.rapidapi.com}")
+    private String baseUrl;
 
     public NokiaNocLocationRetrievalClientImpl(
             @Qualifier("nokiaWebClient") WebClient webClient,
             @Value("${nokia.nac.timeout:30000}") int timeoutMs,
             @Value("${nokia.nac.retry-attempts:3}") int retryAttempts,
             com.service.shared.util.ClientUtil clientUtil,
-            NokiaNacTokenManager tokenManager
+            NokiaNacTokenManager tokenManager,
+            NokiaNacRequestHedger requestHedger
     ) {
         this.webClient = webClient;
         this.timeout = Duration.ofMillis(timeoutMs);
         this.retrySpec = createRetrySpec(retryAttempts);
         this.tokenManager = tokenManager;
+        this.requestHedger = requestHedger;
     }
 
     public Retry createRetrySpec(int retryAttempts) {
@@ -103,18 +110,17 @@ public class NokiaNocLocationRetrievalClientImpl implements NokiaNocLocationRetr
         // Get OAuth2 access token
         String accessToken = tokenManager.getAccessToken();
         
-        return locationWebClient.post()
-                .uri(LOCATION_RETRIEVAL_PATH)
-                .header("X-RapidAPI-Key", apiKey)
-                .header("X-RapidAPI-Host", HOST)
-                .header("Authorization", "Bearer " + accessToken)
-                .header("Content-Type", "application/json")
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleError)
-                .bodyToMono(Map.class)
-                .cast(Map.class)
-                .map(map -> (Map<String, Object>) map)
+        // Hedged when enabled: a slow primary is raced against a delayed duplicate request
+        return requestHedger.execute(HEDGE_ENDPOINT, () -> locationWebClient.post()
+                        .uri(baseUrl + LOCATION_RETRIEVAL_PATH)
+                        .header("X-RapidAPI-Key", apiKey)
+                        .header("X-RapidAPI-Host", HOST)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .header("Content-Type", "application/json")
+                        .bodyValue(request)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, this::handleError)
+                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {}))
                 .timeout(timeout)
                 .retryWhen(retrySpec)
                 .doOnSuccess(result -> log.info("Retrieved location successfully: {}", result))
@@ -129,6 +135,7 @@ public class NokiaNocLocationRetrievalClientImpl implements NokiaNocLocationRetr
                             throwable);
                 });
     }
+
     private Mono<? extends Throwable> handleError(ClientResponse response) {
         HttpStatusCode statusCode = response.statusCode();
 
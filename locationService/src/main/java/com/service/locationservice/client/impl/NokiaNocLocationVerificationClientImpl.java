@@ -23,10 +23,9 @@ import java.util.Map;
 @Slf4j
 public class NokiaNocLocationVerificationClientImpl implements NokiaNocLocationVerificationClient {
 
-    private static final String BASE_URL = "https://location-verification.p-eu.rapidapi.com";
-    private static final String CONNECTIVITY_STATUS_PATH = BASE_URL + "/v1/verify";
-    private static final String CONNECTIVITY_STATUS_PATH_V2 = BASE_URL + "/v2/verify";
-    private static final String CONNECTIVITY_STATUS_PATH_v3 = BASE_URL + "/v3/verify";
+    private static final String CONNECTIVITY_STATUS_PATH = "/v1/verify";
+    private static final String CONNECTIVITY_STATUS_PATH_V2 = "/v2/verify";
+    private static final String CONNECTIVITY_STATUS_PATH_v3 = "/v3/verify";
     // RapidAPI host header format: {service}.nokia.rapidapi.com
     private static final String HOST = "location-verification.nokia.rapidapi.com";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
@@ -40,6 +39,8 @@ public class NokiaNocLocationVerificationClientImpl implements NokiaNocLocationV
 
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
+    @Value("${nokia.nac.urls.location-verification:https://location-verification.p-eu.rapidapi.com}")
+    private String baseUrl;
 
     public NokiaNocLocationVerificationClientImpl(
             @Qualifier("nokiaWebClient") WebClient webClient,
@@ -77,7 +78,7 @@ public class NokiaNocLocationVerificationClientImpl implements NokiaNocLocationV
         String accessToken = tokenManager.getAccessToken();
         
         return locationWebClient.post()
-                .uri(url)
+                .uri(baseUrl + url)
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", HOST)
                 .header("Authorization", "Bearer " + accessToken)
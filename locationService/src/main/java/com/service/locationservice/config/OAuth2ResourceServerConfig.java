@@ -1,5 +1,8 @@
 package com.service.locationservice.config;
 
+import com.service.shared.security.InternalAssertionBearerTokenResolver;
+import com.service.shared.security.PlatformJwtDecoders;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,7 +10,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -15,8 +17,11 @@ import org.springframework.security.web.SecurityFilterChain;
  */
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class OAuth2ResourceServerConfig {
 
+    private final PlatformJwtDecoders jwtDecoders;
+
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:http://localhost:8085}")
     private String issuerUri;
 
@@ -30,6 +35,7 @@ public class OAuth2ResourceServerConfig {
                         .anyRequest().authenticated()
                 )
                 .oauth2ResourceServer(oauth2 -> oauth2
+                        .bearerTokenResolver(new InternalAssertionBearerTokenResolver("/location/geofencing/notifications"))
                         .jwt(jwt -> jwt.decoder(jwtDecoder()))
                 );
 
@@ -38,6 +44,6 @@ public class OAuth2ResourceServerConfig {
 
     @Bean
     public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withIssuerLocation(issuerUri).build();
+        return jwtDecoders.create(issuerUri);
     }
 }
@@ -0,0 +1,86 @@
+package com.service.locationservice.controller;
+
+import com.service.locationservice.geofence.Geofence;
+import com.service.locationservice.geofence.GeofenceEngine;
+import com.service.locationservice.geofence.GeofenceEvent;
+import com.service.shared.annotation.MethodCode;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.dto.request.DeviceLocationUpdateDTO;
+import com.service.shared.dto.request.GeofenceDefinitionDTO;
+import com.service.shared.util.ResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Controller for locally evaluated geofences
+ */
+@RestController
+@RequestMapping("/location/geofences")
+@RequiredArgsConstructor
+public class GeofenceController {
+
+    private final GeofenceEngine geofenceEngine;
+
+    @PostMapping
+    @MethodCode(value = "GE001", description = "Register local geofence")
+    public ResponseEntity<GlobalResponse> register(@RequestBody GeofenceDefinitionDTO request) {
+        String id = request.getId() != null && !request.getId().isBlank()
+                ? request.getId() : UUID.randomUUID().toString();
+        Geofence fence = geofenceEngine.register(id, request.getArea());
+        return ResponseHelper.successWithData(HttpStatus.CREATED, "Geofence registered successfully", fence);
+    }
+
+    @GetMapping
+    @MethodCode(value = "GE002", description = "Get all local geofences")
+    public ResponseEntity<GlobalResponse> getAll() {
+        return ResponseHelper.successWithData("Geofences retrieved successfully", geofenceEngine.getAll());
+    }
+
+    @GetMapping("/{geofenceId}")
+    @MethodCode(value = "GE003", description = "Get local geofence by ID")
+    public ResponseEntity<GlobalResponse> get(@PathVariable String geofenceId) {
+        Geofence fence = geofenceEngine.get(geofenceId);
+        if (fence == null) {
+            return ResponseHelper.notFound("Geofence not found: " + geofenceId);
+        }
+        return ResponseHelper.successWithData("Geofence retrieved successfully", fence);
+    }
+
+    @DeleteMapping("/{geofenceId}")
+    @MethodCode(value = "GE004", description = "Delete local geofence")
+    public ResponseEntity<GlobalResponse> delete(@PathVariable String geofenceId) {
+        if (!geofenceEngine.remove(geofenceId)) {
+            return ResponseHelper.notFound("Geofence not found: " + geofenceId);
+        }
+        return ResponseHelper.successWithoutData("Geofence deleted successfully");
+    }
+
+    @PostMapping("/evaluate")
+    @MethodCode(value = "GE005", description = "Evaluate device location against local geofences")
+    public ResponseEntity<GlobalResponse> evaluate(@RequestBody DeviceLocationUpdateDTO request) {
+        if (request.getPhoneNumber() == null || request.getLatitude() == null || request.getLongitude() == null) {
+            return ResponseHelper.badRequest("phoneNumber, latitude and longitude are required");
+        }
+        List<GeofenceEvent> events = geofenceEngine.updateLocation(
+                request.getPhoneNumber(), request.getLatitude(), request.getLongitude());
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("phoneNumber", request.getPhoneNumber());
+        result.put("geofences", geofenceEngine.getDeviceFences(request.getPhoneNumber()));
+        result.put("events", events);
+        return ResponseHelper.successWithData("Device location evaluated successfully", result);
+    }
+
+    @GetMapping("/stats")
+    @MethodCode(value = "GE006", description = "Get geofence engine statistics")
+    public ResponseEntity<GlobalResponse> getStats() {
+        return ResponseHelper.successWithData("Geofence statistics retrieved successfully", geofenceEngine.getStats());
+    }
+}
@@ -1,16 +1,22 @@
 package com.service.locationservice.controller;
 
 import com.service.locationservice.service.GeofencingSubscriptionService;
+import com.service.locationservice.service.LocationBatchService;
 import com.service.locationservice.service.LocationService;
 import com.service.shared.annotation.MethodCode;
 import com.service.shared.dto.GlobalResponse;
+import com.service.shared.dto.request.BatchLocationRetrievalDTO;
+import com.service.shared.dto.request.BatchLocationVerificationDTO;
 import com.service.shared.dto.request.CreateGeofencingSubscriptionDTO;
 import com.service.shared.dto.request.LocationRetrievalDTO;
 import com.service.shared.dto.request.LocationVerificationDto;
+import com.service.shared.dto.response.LocationBatchResult;
 import com.service.shared.util.ResponseHelper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,6 +27,7 @@ import java.util.Map;
 public class LocationController {
 
     private final LocationService locationService;
+    private final LocationBatchService locationBatchService;
     private final GeofencingSubscriptionService geofencingSubscriptionService;
 
     @GetMapping("/health")
@@ -68,6 +75,21 @@ public class LocationController {
         return ResponseEntity.ok(locationService.retrieveLocation(request));
     }
 
+    @PostMapping(value = "/retrieve/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @MethodCode(value = "LR002", description = "Retrieve locations of many devices (NDJSON stream)")
+    public Flux<LocationBatchResult> retrieveLocations(
+            @RequestBody BatchLocationRetrievalDTO request) {
+        return locationBatchService.retrieveLocations(request);
+    }
+
+    @PostMapping(value = "/verify/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @MethodCode(value = "LV005", description = "Verify locations of many devices (NDJSON stream)")
+    public Flux<LocationBatchResult> verifyLocations(
+            @RequestBody BatchLocationVerificationDTO request,
+            @RequestParam(value = "version", defaultValue = "v1") String version) {
+        return locationBatchService.verifyLocations(request, version);
+    }
+
     @PostMapping("/geofencing/subscriptions")
     @MethodCode(value = "GF001", description = "Create geofencing subscription")
     public ResponseEntity<GlobalResponse> createGeofencingSubscription(
@@ -77,8 +99,16 @@ public class LocationController {
 
     @GetMapping("/geofencing/subscriptions")
     @MethodCode(value = "GF002", description = "Get all geofencing subscriptions")
-    public ResponseEntity<GlobalResponse> getAllGeofencingSubscriptions() {
-        return ResponseEntity.ok(geofencingSubscriptionService.getAllGeofencingSubscriptions());
+    public ResponseEntity<GlobalResponse> getAllGeofencingSubscriptions(
+            @RequestParam(value = "refresh", defaultValue = "false") boolean refresh) {
+        return ResponseEntity.ok(geofencingSubscriptionService.getAllGeofencingSubscriptions(refresh));
+    }
+
+    @GetMapping("/geofencing/subscriptions/device/{phoneNumber}")
+    @MethodCode(value = "GF005", description = "Get geofencing subscriptions of a device")
+    public ResponseEntity<GlobalResponse> getGeofencingSubscriptionsByDevice(
+            @PathVariable String phoneNumber) {
+        return ResponseEntity.ok(geofencingSubscriptionService.getGeofencingSubscriptionsByDevice(phoneNumber));
     }
 
     @GetMapping("/geofencing/subscriptions/{subscriptionId}")
@@ -94,4 +124,14 @@ public class LocationController {
             @PathVariable String subscriptionId) {
         return ResponseEntity.ok(geofencingSubscriptionService.deleteGeofencingSubscription(subscriptionId));
     }
+
+    @PostMapping("/geofencing/notifications")
+    @MethodCode(value = "GF006", description = "Receive geofencing notification")
+    public ResponseEntity<GlobalResponse> receiveGeofencingNotification(
+            @RequestBody Map<String, Object> notification,
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        GlobalResponse response = geofencingSubscriptionService.handleGeofencingNotification(notification, authorization);
+        // Nokia NAC only sees the HTTP status of the callback
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
 }
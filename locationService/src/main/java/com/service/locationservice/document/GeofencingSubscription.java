@@ -0,0 +1,77 @@
+package com.service.locationservice.document;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MongoDB document of a geofencing subscription created through Nokia NAC
+ */
+@Document(collection = "geofencing_subscriptions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeofencingSubscription {
+
+    /**
+     * Subscription ID assigned by Nokia NAC
+     */
+    @Id
+    private String subscriptionId;
+
+    /**
+     * Phone number of the monitored device
+     */
+    @Indexed
+    private String phoneNumber;
+
+    private String protocol;
+
+    private String sink;
+
+    private List<String> types;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Double radius;
+
+    private String status;
+
+    private Instant startsAt;
+
+    private Instant expiresAt;
+
+    private Integer maxEvents;
+
+    /**
+     * SHA-256 (hex) of the access token Nokia NAC presents when calling the sink; null if none was set
+     */
+    @JsonIgnore
+    private String sinkTokenHash;
+
+    private long notificationCount;
+
+    private Instant createdAt;
+
+    /**
+     * Subscription as returned by Nokia NAC
+     */
+    private Map<String, Object> details;
+
+    @JsonIgnore
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
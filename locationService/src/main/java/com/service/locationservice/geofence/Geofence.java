@@ -0,0 +1,14 @@
+package com.service.locationservice.geofence;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.service.shared.dto.AreaDTO;
+
+/**
+ * A locally evaluated geofence
+ *
+ * @param id    Geofence id
+ * @param area  Area as defined by the client
+ * @param shape Shape compiled from the area
+ */
+public record Geofence(String id, AreaDTO area, @JsonIgnore GeofenceShape shape) {
+}
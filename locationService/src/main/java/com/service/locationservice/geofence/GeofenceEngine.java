@@ -0,0 +1,306 @@
+package com.service.locationservice.geofence;
+
+import com.service.shared.dto.AreaDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process geofence evaluation
+ * Fences are indexed in a uniform latitude/longitude grid: each fence is listed in every cell its
+ * bounding box overlaps, so a location is tested only against the fences of its own cell (fences
+ * spanning more than max-cells-per-fence cells are kept in a separate list). Cells are copy-on-write
+ * arrays, so evaluations never lock. Per device the fences it is inside are kept, and each location
+ * update publishes ENTERED/EXITED GeofenceEvents for the difference, which GeofenceEventForwarder
+ * sends to Kafka. Fence changes are serialized per id, so the index never holds two versions of a fence.
+ */
+@Slf4j
+@Component
+public class GeofenceEngine {
+
+    private static final Geofence[] NO_FENCES = new Geofence[0];
+    private static final String[] NOT_INSIDE = new String[0];
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final double cellDegrees;
+    private final int maxCellsPerFence;
+    private final Duration deviceTtl;
+
+    private final Map<String, Geofence> fences = new ConcurrentHashMap<>();
+    private final Map<Long, Geofence[]> cells = new ConcurrentHashMap<>();
+    private final ReentrantLock largeFencesLock = new ReentrantLock();
+    private volatile Geofence[] largeFences = NO_FENCES;
+    private final Map<String, DeviceState> devices = new ConcurrentHashMap<>();
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder evaluationNanos = new LongAdder();
+    private final LongAdder candidatesTested = new LongAdder();
+    private final LongAdder transitions = new LongAdder();
+    private Disposable evictionTask;
+
+    public GeofenceEngine(
+            ApplicationEventPublisher eventPublisher,
+            @Value("${geofence.index.cell-degrees:0.01}") double cellDegrees,
+            @Value("${geofence.index.max-cells-per-fence:256}") int maxCellsPerFence,
+            @Value("${geofence.device-ttl:1h}") Duration deviceTtl
+    ) {
+        this.eventPublisher = eventPublisher;
+        this.cellDegrees = cellDegrees;
+        this.maxCellsPerFence = maxCellsPerFence;
+        this.deviceTtl = deviceTtl;
+    }
+
+    @PostConstruct
+    public void start() {
+        // Forget devices that stopped reporting, so their state does not accumulate
+        Duration interval = deviceTtl.dividedBy(4).isZero() ? deviceTtl : deviceTtl.dividedBy(4);
+        evictionTask = Flux.interval(interval, interval)
+                .subscribe(tick -> evictIdleDevices(),
+                        error -> log.error("Geofence device eviction stopped", error));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (evictionTask != null) {
+            evictionTask.dispose();
+        }
+    }
+
+    /**
+     * Register or replace a geofence
+     */
+    public Geofence register(String id, AreaDTO area) {
+        Geofence fence = new Geofence(id, area, GeofenceShapes.fromArea(area));
+        fences.compute(id, (key, previous) -> {
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(fence);
+            return fence;
+        });
+        log.debug("Registered geofence: {}", id);
+        return fence;
+    }
+
+    public boolean remove(String id) {
+        Geofence removed = fences.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        // Unindexing is by identity, so a fence registered under the same id meanwhile stays indexed
+        unindex(removed);
+        log.debug("Removed geofence: {}", id);
+        return true;
+    }
+
+    public Geofence get(String id) {
+        return fences.get(id);
+    }
+
+    public Collection<Geofence> getAll() {
+        return fences.values();
+    }
+
+    /**
+     * Ids of the fences containing the point, without touching device state
+     */
+    public List<String> fencesContaining(double latitude, double longitude) {
+        List<String> inside = new ArrayList<>(2);
+        collectContaining(latitude, longitude, inside);
+        return inside;
+    }
+
+    /**
+     * Apply a device location and publish the resulting enter/exit events
+     *
+     * @return Events caused by this update, empty when the device stayed in the same fences
+     */
+    public List<GeofenceEvent> updateLocation(String phoneNumber, double latitude, double longitude) {
+        long start = System.nanoTime();
+        List<String> containing = fencesContaining(latitude, longitude);
+        String[] inside = containing.isEmpty() ? NOT_INSIDE : containing.toArray(String[]::new);
+        long now = System.currentTimeMillis();
+
+        // Transitions are computed atomically per device, so concurrent updates never double-report
+        List<GeofenceEvent> events = new ArrayList<>(0);
+        devices.compute(phoneNumber, (key, previous) -> {
+            String[] before = previous != null ? previous.inside() : NOT_INSIDE;
+            if (!Arrays.equals(before, inside)) {
+                Instant timestamp = Instant.ofEpochMilli(now);
+                for (String fenceId : before) {
+                    // Fences removed since the last update are dropped without an event
+                    if (!contains(inside, fenceId) && fences.containsKey(fenceId)) {
+                        events.add(new GeofenceEvent(GeofenceEvent.Type.EXITED, fenceId, phoneNumber, latitude, longitude, timestamp));
+                    }
+                }
+                for (String fenceId : inside) {
+                    if (!contains(before, fenceId)) {
+                        events.add(new GeofenceEvent(GeofenceEvent.Type.ENTERED, fenceId, phoneNumber, latitude, longitude, timestamp));
+                    }
+                }
+            }
+            return new DeviceState(inside, now);
+        });
+        evaluations.increment();
+        evaluationNanos.add(System.nanoTime() - start);
+
+        if (!events.isEmpty()) {
+            transitions.add(events.size());
+            events.forEach(eventPublisher::publishEvent);
+        }
+        return events;
+    }
+
+    /**
+     * Fences the device was inside at its last update
+     */
+    public List<String> getDeviceFences(String phoneNumber) {
+        DeviceState state = devices.get(phoneNumber);
+        return state != null ? List.of(state.inside()) : List.of();
+    }
+
+    public Map<String, Object> getStats() {
+        long count = evaluations.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("fences", fences.size());
+        stats.put("largeFences", largeFences.length);
+        stats.put("indexedCells", cells.size());
+        stats.put("trackedDevices", devices.size());
+        stats.put("evaluations", count);
+        stats.put("averageEvaluationMicros", count == 0 ? 0.0 : evaluationNanos.sum() / 1000.0 / count);
+        stats.put("averageCandidates", count == 0 ? 0.0 : (double) candidatesTested.sum() / count);
+        stats.put("transitions", transitions.sum());
+        return stats;
+    }
+
+    private void collectContaining(double latitude, double longitude, List<String> inside) {
+        Geofence[] candidates = cells.getOrDefault(cellKey(cell(latitude), cell(longitude)), NO_FENCES);
+        Geofence[] large = largeFences;
+        candidatesTested.add(candidates.length + large.length);
+        for (Geofence fence : candidates) {
+            if (fence.shape().contains(latitude, longitude)) {
+                inside.add(fence.id());
+            }
+        }
+        for (Geofence fence : large) {
+            if (fence.shape().contains(latitude, longitude)) {
+                inside.add(fence.id());
+            }
+        }
+        if (inside.size() > 1) {
+            inside.sort(null);
+        }
+    }
+
+    private void index(Geofence fence) {
+        GeofenceShape.BoundingBox bounds = fence.shape().bounds();
+        int minRow = cell(bounds.minLatitude());
+        int maxRow = cell(bounds.maxLatitude());
+        int minColumn = cell(bounds.minLongitude());
+        int maxColumn = cell(bounds.maxLongitude());
+        if ((long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1) > maxCellsPerFence) {
+            updateLargeFences(fence, true);
+            return;
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                cells.compute(cellKey(row, column), (key, current) -> {
+                    Geofence[] base = current != null ? current : NO_FENCES;
+                    Geofence[] grown = Arrays.copyOf(base, base.length + 1);
+                    grown[base.length] = fence;
+                    return grown;
+                });
+            }
+        }
+    }
+
+    private void unindex(Geofence fence) {
+        GeofenceShape.BoundingBox bounds = fence.shape().bounds();
+        int minRow = cell(bounds.minLatitude());
+        int maxRow = cell(bounds.maxLatitude());
+        int minColumn = cell(bounds.minLongitude());
+        int maxColumn = cell(bounds.maxLongitude());
+        if ((long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1) > maxCellsPerFence) {
+            updateLargeFences(fence, false);
+            return;
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                cells.computeIfPresent(cellKey(row, column), (key, current) -> {
+                    Geofence[] remaining = Arrays.stream(current)
+                            .filter(candidate -> candidate != fence)
+                            .toArray(Geofence[]::new);
+                    return remaining.length == 0 ? null : remaining;
+                });
+            }
+        }
+    }
+
+    private void updateLargeFences(Geofence fence, boolean add) {
+        largeFencesLock.lock();
+        try {
+            Geofence[] current = largeFences;
+            if (add) {
+                Geofence[] grown = Arrays.copyOf(current, current.length + 1);
+                grown[current.length] = fence;
+                largeFences = grown;
+            } else {
+                largeFences = Arrays.stream(current)
+                        .filter(candidate -> candidate != fence)
+                        .toArray(Geofence[]::new);
+            }
+        } finally {
+            largeFencesLock.unlock();
+        }
+    }
+
+    private void evictIdleDevices() {
+        long cutoff = System.currentTimeMillis() - deviceTtl.toMillis();
+        int before = devices.size();
+        devices.values().removeIf(state -> state.lastUpdatedMillis() < cutoff);
+        int evicted = before - devices.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle geofence devices", evicted);
+        }
+    }
+
+    private int cell(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    private static boolean contains(String[] ids, String id) {
+        for (String candidate : ids) {
+            if (candidate.equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sorted ids of the fences a device is inside
+     */
+    private record DeviceState(String[] inside, long lastUpdatedMillis) {
+    }
+}
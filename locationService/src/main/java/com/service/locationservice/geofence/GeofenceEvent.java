@@ -0,0 +1,21 @@
+package com.service.locationservice.geofence;
+
+import java.time.Instant;
+
+/**
+ * A device crossed a geofence boundary; published as a Spring application event
+ */
+public record GeofenceEvent(
+        Type type,
+        String geofenceId,
+        String phoneNumber,
+        double latitude,
+        double longitude,
+        Instant timestamp
+) {
+
+    public enum Type {
+        ENTERED,
+        EXITED
+    }
+}
@@ -0,0 +1,55 @@
+package com.service.locationservice.geofence;
+
+import com.service.shared.dto.GeofencingNotificationDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Forwards local geofence crossings to the geofencing notification topic, next to the Nokia
+ * notifications; they carry the CAMARA event types and a geofenceId instead of a subscriptionId
+ */
+@Slf4j
+@Component
+public class GeofenceEventForwarder {
+
+    private static final String EVENT_TYPE_PREFIX = "org.camaraproject.geofencing-subscriptions.v0.";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+
+    public GeofenceEventForwarder(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${geofence.events.topic:geofencing-notifications}") String topic
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+    }
+
+    @EventListener
+    public void onGeofenceEvent(GeofenceEvent event) {
+        GeofencingNotificationDTO notification = GeofencingNotificationDTO.builder()
+                .eventId(UUID.randomUUID().toString())
+                .type(EVENT_TYPE_PREFIX + (event.type() == GeofenceEvent.Type.ENTERED ? "area-entered" : "area-left"))
+                .time(event.timestamp().toString())
+                .geofenceId(event.geofenceId())
+                .phoneNumber(event.phoneNumber())
+                .data(Map.of(
+                        "device", Map.of("phoneNumber", event.phoneNumber()),
+                        "location", Map.of("latitude", event.latitude(), "longitude", event.longitude())
+                ))
+                .build();
+
+        kafkaTemplate.send(topic, event.phoneNumber(), notification)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to publish geofence event for fence {}: {}", event.geofenceId(), event.type(), ex);
+                    }
+                });
+    }
+}
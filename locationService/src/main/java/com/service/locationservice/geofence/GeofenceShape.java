@@ -0,0 +1,133 @@
+package com.service.locationservice.geofence;
+
+import java.util.List;
+
+/**
+ * Geofence area that can test whether a point lies inside it
+ * Distances use a local equirectangular projection around the shape, which is accurate to well
+ * under a meter for fences of a few tens of kilometers.
+ */
+public sealed interface GeofenceShape
+        permits GeofenceShape.Circle, GeofenceShape.Rectangle, GeofenceShape.Ellipse, GeofenceShape.Polygon {
+
+    double EARTH_RADIUS_METERS = 6_371_008.8;
+    double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_METERS;
+
+    boolean contains(double latitude, double longitude);
+
+    BoundingBox bounds();
+
+    record BoundingBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+
+        boolean contains(double latitude, double longitude) {
+            return latitude >= minLatitude && latitude <= maxLatitude
+                    && longitude >= minLongitude && longitude <= maxLongitude;
+        }
+
+        static BoundingBox around(double latitude, double longitude, double radiusMeters) {
+            double latitudeDelta = radiusMeters / METERS_PER_DEGREE;
+            double longitudeDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 1e-6));
+            return new BoundingBox(latitude - latitudeDelta, longitude - longitudeDelta,
+                    latitude + latitudeDelta, longitude + longitudeDelta);
+        }
+    }
+
+    record Circle(double latitude, double longitude, double radiusMeters, double cosLatitude, BoundingBox bounds)
+            implements GeofenceShape {
+
+        public Circle(double latitude, double longitude, double radiusMeters) {
+            this(latitude, longitude, radiusMeters, Math.cos(Math.toRadians(latitude)),
+                    BoundingBox.around(latitude, longitude, radiusMeters));
+        }
+
+        @Override
+        public boolean contains(double pointLatitude, double pointLongitude) {
+            if (!bounds.contains(pointLatitude, pointLongitude)) {
+                return false;
+            }
+            double north = (pointLatitude - latitude) * METERS_PER_DEGREE;
+            double east = (pointLongitude - longitude) * METERS_PER_DEGREE * cosLatitude;
+            return north * north + east * east <= radiusMeters * radiusMeters;
+        }
+    }
+
+    record Rectangle(BoundingBox bounds) implements GeofenceShape {
+
+        @Override
+        public boolean contains(double latitude, double longitude) {
+            return bounds.contains(latitude, longitude);
+        }
+    }
+
+    /**
+     * Ellipse with semi-axes in meters; orientation is the major axis' bearing in degrees from north
+     */
+    record Ellipse(double latitude, double longitude, double semiMajorAxis, double semiMinorAxis,
+                   double sinOrientation, double cosOrientation, double cosLatitude, BoundingBox bounds)
+            implements GeofenceShape {
+
+        public Ellipse(double latitude, double longitude, double semiMajorAxis, double semiMinorAxis, double orientation) {
+            this(latitude, longitude, semiMajorAxis, semiMinorAxis,
+                    Math.sin(Math.toRadians(orientation)), Math.cos(Math.toRadians(orientation)),
+                    Math.cos(Math.toRadians(latitude)),
+                    BoundingBox.around(latitude, longitude, Math.max(semiMajorAxis, semiMinorAxis)));
+        }
+
+        @Override
+        public boolean contains(double pointLatitude, double pointLongitude) {
+            if (!bounds.contains(pointLatitude, pointLongitude)) {
+                return false;
+            }
+            double north = (pointLatitude - latitude) * METERS_PER_DEGREE;
+            double east = (pointLongitude - longitude) * METERS_PER_DEGREE * cosLatitude;
+            double major = north * cosOrientation + east * sinOrientation;
+            double minor = east * cosOrientation - north * sinOrientation;
+            return (major * major) / (semiMajorAxis * semiMajorAxis)
+                    + (minor * minor) / (semiMinorAxis * semiMinorAxis) <= 1.0;
+        }
+    }
+
+    /**
+     * Simple polygon tested by ray casting; vertices are held in primitive arrays
+     */
+    record Polygon(double[] latitudes, double[] longitudes, BoundingBox bounds) implements GeofenceShape {
+
+        public static Polygon of(List<double[]> vertices) {
+            if (vertices.size() < 3) {
+                throw new IllegalArgumentException("A polygon needs at least 3 points");
+            }
+            double[] latitudes = new double[vertices.size()];
+            double[] longitudes = new double[vertices.size()];
+            double minLatitude = Double.MAX_VALUE;
+            double minLongitude = Double.MAX_VALUE;
+            double maxLatitude = -Double.MAX_VALUE;
+            double maxLongitude = -Double.MAX_VALUE;
+            for (int i = 0; i < vertices.size(); i++) {
+                latitudes[i] = vertices.get(i)[0];
+                longitudes[i] = vertices.get(i)[1];
+                minLatitude = Math.min(minLatitude, latitudes[i]);
+                minLongitude = Math.min(minLongitude, longitudes[i]);
+                maxLatitude = Math.max(maxLatitude, latitudes[i]);
+                maxLongitude = Math.max(maxLongitude, longitudes[i]);
+            }
+            return new Polygon(latitudes, longitudes,
+                    new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude));
+        }
+
+        @Override
+        public boolean contains(double latitude, double longitude) {
+            if (!bounds.contains(latitude, longitude)) {
+                return false;
+            }
+            boolean inside = false;
+            for (int i = 0, j = latitudes.length - 1; i < latitudes.length; j = i++) {
+                if ((latitudes[i] > latitude) != (latitudes[j] > latitude)
+                        && longitude < (longitudes[j] - longitudes[i]) * (latitude - latitudes[i])
+                        / (latitudes[j] - latitudes[i]) + longitudes[i]) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.service.locationservice.geofence;
+
+import com.service.shared.dto.AreaDTO;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds geofence shapes from AreaDTO definitions
+ * Area type codes: C = Circle, R = Rectangle, E = Ellipse, I = Irregular polygon
+ * (the CAMARA names CIRCLE, RECTANGLE, ELLIPSE and POLYGON are accepted as well).
+ * Line areas (L) enclose nothing and are rejected.
+ */
+public final class GeofenceShapes {
+
+    private GeofenceShapes() {
+    }
+
+    public static GeofenceShape fromArea(AreaDTO area) {
+        if (area == null) {
+            throw new IllegalArgumentException("Area is required");
+        }
+        return switch (typeCode(area.getAreaType())) {
+            case "C", "CIRCLE" -> {
+                AreaDTO.CenterDTO center = requireCenter(area);
+                yield new GeofenceShape.Circle(center.getLatitude(), center.getLongitude(),
+                        positive(toDouble(area.getRadius()), "radius"));
+            }
+            case "R", "RECTANGLE" -> {
+                List<double[]> corners = points(area.getPointList());
+                if (corners.size() != 2) {
+                    throw new IllegalArgumentException("A rectangle needs its two opposite corners in pointList");
+                }
+                yield new GeofenceShape.Rectangle(new GeofenceShape.BoundingBox(
+                        Math.min(corners.get(0)[0], corners.get(1)[0]), Math.min(corners.get(0)[1], corners.get(1)[1]),
+                        Math.max(corners.get(0)[0], corners.get(1)[0]), Math.max(corners.get(0)[1], corners.get(1)[1])));
+            }
+            case "E", "ELLIPSE" -> {
+                AreaDTO.CenterDTO center = requireCenter(area);
+                if (!(area.getRadius() instanceof Map<?, ?> axes)) {
+                    throw new IllegalArgumentException("An ellipse radius needs semiMajorAxis and semiMinorAxis");
+                }
+                yield new GeofenceShape.Ellipse(center.getLatitude(), center.getLongitude(),
+                        positive(toDouble(axes.get("semiMajorAxis")), "semiMajorAxis"),
+                        positive(toDouble(axes.get("semiMinorAxis")), "semiMinorAxis"),
+                        axes.get("orientation") != null ? toDouble(axes.get("orientation")) : 0.0);
+            }
+            case "I", "POLYGON" -> GeofenceShape.Polygon.of(points(area.getPointList()));
+            default -> throw new IllegalArgumentException("Unsupported area type: " + area.getAreaType());
+        };
+    }
+
+    /**
+     * The area type map holds one code; the first non-blank value is used
+     */
+    private static String typeCode(Map<String, String> areaType) {
+        if (areaType == null) {
+            throw new IllegalArgumentException("Area type is required");
+        }
+        return areaType.values().stream()
+                .filter(value -> value != null && !value.isBlank())
+                .map(value -> value.trim().toUpperCase())
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Area type is required"));
+    }
+
+    private static AreaDTO.CenterDTO requireCenter(AreaDTO area) {
+        AreaDTO.CenterDTO center = area.getCenter();
+        if (center == null || center.getLatitude() == null || center.getLongitude() == null) {
+            throw new IllegalArgumentException("Area center is required");
+        }
+        return center;
+    }
+
+    private static List<double[]> points(List<AreaDTO.CenterDTO> pointList) {
+        if (pointList == null) {
+            throw new IllegalArgumentException("Area pointList is required");
+        }
+        return pointList.stream()
+                .map(point -> {
+                    if (point == null || point.getLatitude() == null || point.getLongitude() == null) {
+                        throw new IllegalArgumentException("Area points need latitude and longitude");
+                    }
+                    return new double[]{point.getLatitude(), point.getLongitude()};
+                })
+                .toList();
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Double.parseDouble(text.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a number: " + text);
+            }
+        }
+        throw new IllegalArgumentException("Missing numeric area value");
+    }
+
+    private static double positive(double value, String name) {
+        if (!(value > 0)) {
+            throw new IllegalArgumentException("Area " + name + " must be positive");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,212 @@
+package com.service.locationservice.geofence;
+
+import com.service.locationservice.document.GeofencingSubscription;
+import com.service.locationservice.repository.GeofencingSubscriptionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local registry of Nokia NAC geofencing subscriptions
+ * Subscriptions are persisted in MongoDB and mirrored in memory, indexed by subscription ID and by
+ * device phone number, so listing and lookups never call Nokia NAC. Writes go to MongoDB first; a
+ * lookup that misses memory reads MongoDB, so subscriptions created on another instance are found.
+ * Expired subscriptions are dropped every purge-interval.
+ */
+@Slf4j
+@Component
+public class GeofencingSubscriptionRegistry {
+
+    private final GeofencingSubscriptionRepository repository;
+    private final Duration purgeInterval;
+
+    private final Map<String, GeofencingSubscription> byId = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byDevice = new ConcurrentHashMap<>();
+    private volatile Instant lastSync;
+    private Disposable purgeTask;
+
+    public GeofencingSubscriptionRegistry(
+            GeofencingSubscriptionRepository repository,
+            @Value("${geofencing.subscriptions.purge-interval:5m}") Duration purgeInterval
+    ) {
+        this.repository = repository;
+        this.purgeInterval = purgeInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            List<GeofencingSubscription> stored = repository.findAll();
+            stored.forEach(this::index);
+            log.info("Loaded {} geofencing subscriptions", stored.size());
+        } catch (Exception e) {
+            log.error("Failed to load geofencing subscriptions; starting with an empty registry", e);
+        }
+        purgeTask = Flux.interval(purgeInterval, purgeInterval)
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(tick -> purgeExpired(),
+                        error -> log.error("Geofencing subscription purge stopped", error));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (purgeTask != null) {
+            purgeTask.dispose();
+        }
+    }
+
+    public GeofencingSubscription save(GeofencingSubscription subscription) {
+        GeofencingSubscription saved = repository.save(subscription);
+        GeofencingSubscription previous = byId.get(saved.getSubscriptionId());
+        if (previous != null) {
+            unindexDevice(previous);
+        }
+        index(saved);
+        return saved;
+    }
+
+    /**
+     * Subscription by ID; falls back to MongoDB when it was created through another instance
+     */
+    public GeofencingSubscription get(String subscriptionId) {
+        if (subscriptionId == null) {
+            return null;
+        }
+        GeofencingSubscription subscription = byId.get(subscriptionId);
+        if (subscription != null) {
+            return subscription;
+        }
+        subscription = repository.findById(subscriptionId).orElse(null);
+        if (subscription == null || subscription.isExpired(Instant.now())) {
+            return null;
+        }
+        index(subscription);
+        return subscription;
+    }
+
+    /**
+     * Subscriptions that have not expired
+     */
+    public List<GeofencingSubscription> getAll() {
+        Instant now = Instant.now();
+        return byId.values().stream()
+                .filter(subscription -> !subscription.isExpired(now))
+                .toList();
+    }
+
+    public List<GeofencingSubscription> getByDevice(String phoneNumber) {
+        Set<String> ids = phoneNumber == null ? null : byDevice.get(phoneNumber);
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public boolean remove(String subscriptionId) {
+        if (subscriptionId == null) {
+            return false;
+        }
+        repository.deleteById(subscriptionId);
+        GeofencingSubscription removed = byId.remove(subscriptionId);
+        if (removed != null) {
+            unindexDevice(removed);
+        }
+        return removed != null;
+    }
+
+    /**
+     * Count a delivered notification against the subscription
+     */
+    public void recordNotification(GeofencingSubscription subscription) {
+        subscription.setNotificationCount(subscription.getNotificationCount() + 1);
+        repository.save(subscription);
+    }
+
+    /**
+     * Replace the registry contents with the subscriptions currently known to Nokia NAC
+     * Known subscriptions only take the upstream status, sink and validity; local fields (device,
+     * area, sink token hash, notification count) are kept.
+     */
+    public void replaceAll(Collection<GeofencingSubscription> upstream) {
+        Set<String> upstreamIds = new HashSet<>();
+        for (GeofencingSubscription subscription : upstream) {
+            GeofencingSubscription existing = byId.get(subscription.getSubscriptionId());
+            if (existing != null) {
+                existing.setStatus(subscription.getStatus());
+                existing.setSink(subscription.getSink());
+                existing.setTypes(subscription.getTypes());
+                existing.setStartsAt(subscription.getStartsAt());
+                existing.setExpiresAt(subscription.getExpiresAt());
+                repository.save(existing);
+            } else {
+                save(subscription);
+            }
+            upstreamIds.add(subscription.getSubscriptionId());
+        }
+        byId.keySet().stream()
+                .filter(id -> !upstreamIds.contains(id))
+                .toList()
+                .forEach(this::remove);
+        lastSync = Instant.now();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscriptions", byId.size());
+        stats.put("devices", byDevice.size());
+        stats.put("lastSync", lastSync);
+        return stats;
+    }
+
+    private void purgeExpired() {
+        Instant now = Instant.now();
+        List<String> expired = byId.values().stream()
+                .filter(subscription -> subscription.isExpired(now))
+                .map(GeofencingSubscription::getSubscriptionId)
+                .toList();
+        expired.forEach(this::remove);
+        if (!expired.isEmpty()) {
+            log.info("Purged {} expired geofencing subscriptions", expired.size());
+        }
+    }
+
+    private void index(GeofencingSubscription subscription) {
+        byId.put(subscription.getSubscriptionId(), subscription);
+        if (subscription.getPhoneNumber() != null) {
+            byDevice.compute(subscription.getPhoneNumber(), (phone, ids) -> {
+                Set<String> updated = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                updated.add(subscription.getSubscriptionId());
+                return updated;
+            });
+        }
+    }
+
+    private void unindexDevice(GeofencingSubscription subscription) {
+        if (subscription.getPhoneNumber() == null) {
+            return;
+        }
+        byDevice.computeIfPresent(subscription.getPhoneNumber(), (phone, ids) -> {
+            ids.remove(subscription.getSubscriptionId());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
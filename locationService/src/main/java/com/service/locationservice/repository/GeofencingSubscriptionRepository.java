@@ -0,0 +1,12 @@
+package com.service.locationservice.repository;
+
+import com.service.locationservice.document.GeofencingSubscription;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MongoDB repository for geofencing subscriptions
+ */
+@Repository
+public interface GeofencingSubscriptionRepository extends MongoRepository<GeofencingSubscription, String> {
+}
@@ -3,6 +3,8 @@ package com.service.locationservice.service;
 import com.service.shared.dto.GlobalResponse;
 import com.service.shared.dto.request.CreateGeofencingSubscriptionDTO;
 
+import java.util.Map;
+
 public interface GeofencingSubscriptionService {
 
     /**
@@ -14,11 +16,20 @@ public interface GeofencingSubscriptionService {
     GlobalResponse createGeofencingSubscription(CreateGeofencingSubscriptionDTO request);
 
     /**
-     * Get all geofencing subscriptions
+     * Get all geofencing subscriptions from the local registry
      * 
+     * @param refresh Re-synchronize the registry with Nokia NAC first
      * @return List of all subscriptions
      */
-    GlobalResponse getAllGeofencingSubscriptions();
+    GlobalResponse getAllGeofencingSubscriptions(boolean refresh);
+
+    /**
+     * Get the geofencing subscriptions of a device
+     * 
+     * @param phoneNumber Device phone number
+     * @return Subscriptions of the device
+     */
+    GlobalResponse getGeofencingSubscriptionsByDevice(String phoneNumber);
 
     /**
      * Get geofencing subscription by ID
@@ -35,4 +46,13 @@ public interface GeofencingSubscriptionService {
      * @return Deletion result
      */
     GlobalResponse deleteGeofencingSubscription(String subscriptionId);
+
+    /**
+     * Handle a geofencing notification (CloudEvent) sent by Nokia NAC to the subscription sink
+     * 
+     * @param notification CloudEvent
+     * @param authorization Authorization header of the callback
+     * @return Handling result
+     */
+    GlobalResponse handleGeofencingNotification(Map<String, Object> notification, String authorization);
 }
@@ -0,0 +1,26 @@
+package com.service.locationservice.service;
+
+import com.service.shared.dto.request.BatchLocationRetrievalDTO;
+import com.service.shared.dto.request.BatchLocationVerificationDTO;
+import com.service.shared.dto.response.LocationBatchResult;
+import reactor.core.publisher.Flux;
+
+public interface LocationBatchService {
+
+    /**
+     * Retrieve the location of many devices
+     * 
+     * @param request Retrieval requests
+     * @return One result per item, in completion order
+     */
+    Flux<LocationBatchResult> retrieveLocations(BatchLocationRetrievalDTO request);
+
+    /**
+     * Verify the location of many devices
+     * 
+     * @param request Verification requests
+     * @param version API version (v1, v2, v3)
+     * @return One result per item, in completion order
+     */
+    Flux<LocationBatchResult> verifyLocations(BatchLocationVerificationDTO request, String version);
+}
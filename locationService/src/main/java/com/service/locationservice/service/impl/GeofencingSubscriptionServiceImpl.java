@@ -1,25 +1,54 @@
 package com.service.locationservice.service.impl;
 
 import com.service.locationservice.client.NokiaNacGeofencingSubscriptionClient;
+import com.service.locationservice.document.GeofencingSubscription;
+import com.service.locationservice.geofence.GeofencingSubscriptionRegistry;
 import com.service.locationservice.service.GeofencingSubscriptionService;
+import com.service.shared.dto.GeofencingNotificationDTO;
 import com.service.shared.dto.GlobalResponse;
 import com.service.shared.dto.request.CreateGeofencingSubscriptionDTO;
+import com.service.shared.dto.response.GeofencingSubscriptionResponse;
+import com.service.shared.location.LocationCache;
+import com.service.shared.service.EmergencyContextService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Geofencing subscriptions backed by the local registry
+ * Creates and deletes go to Nokia NAC and are then recorded locally; listing and lookups are served
+ * from the registry. Notifications posted to the sink are fanned out to Kafka and to emergency detection.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeofencingSubscriptionServiceImpl implements GeofencingSubscriptionService {
 
+    private static final String NOTIFICATIONS_TOPIC = "geofencing-notifications";
+    private static final String EVENT_TYPE_PREFIX = "org.camaraproject.geofencing-subscriptions.";
+    private static final String SUBSCRIPTION_ENDS = "subscription-ends";
+    private static final String AREA_ENTERED = "area-entered";
+
     private final NokiaNacGeofencingSubscriptionClient geofencingSubscriptionClient;
+    private final GeofencingSubscriptionRegistry subscriptionRegistry;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EmergencyContextService emergencyContextService;
+    private final LocationCache locationCache;
     private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(30);
 
     @Override
@@ -32,6 +61,14 @@ public class GeofencingSubscriptionServiceImpl implements GeofencingSubscription
                         "Geofencing subscription request cannot be null"
                 );
             }
+            if (request.getSinkCredential() == null || request.getSinkCredential().getAccessToken() == null
+                    || request.getSinkCredential().getAccessToken().isBlank()) {
+                // The sink is public: the token is the only thing authenticating notifications
+                return GlobalResponse.failure(
+                        HttpStatus.BAD_REQUEST.value(),
+                        "Geofencing subscription requires a sinkCredential access token"
+                );
+            }
 
             log.debug("Creating geofencing subscription for device: {}", 
                     request.getConfig() != null && 
@@ -49,6 +86,13 @@ public class GeofencingSubscriptionServiceImpl implements GeofencingSubscription
                 );
             }
 
+            GeofencingSubscription subscription = toSubscription(response, request);
+            if (subscription.getSubscriptionId() != null) {
+                subscriptionRegistry.save(subscription);
+            } else {
+                log.warn("Nokia NAC returned no subscription ID; subscription not registered locally");
+            }
+
             return GlobalResponse.successWithData(200, "Geofencing subscription created successfully", response);
         } catch (Exception e) {
             log.error("Error creating geofencing subscription", e);
@@ -60,22 +104,25 @@ public class GeofencingSubscriptionServiceImpl implements GeofencingSubscription
     }
 
     @Override
-    @Transactional
-    public GlobalResponse getAllGeofencingSubscriptions() {
+    public GlobalResponse getAllGeofencingSubscriptions(boolean refresh) {
         try {
-            log.debug("Retrieving all geofencing subscriptions");
-
-            Mono<Map<String, Object>> resMono = geofencingSubscriptionClient.getAllGeofencingSubscriptions();
-            Map<String, Object> response = resMono.block(BLOCK_TIMEOUT);
-
-            if (response == null) {
-                return GlobalResponse.failure(
-                        HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                        "Failed to retrieve geofencing subscriptions from Nokia API"
-                );
+            if (refresh) {
+                log.debug("Re-synchronizing geofencing subscriptions with Nokia API");
+                List<GeofencingSubscriptionResponse> upstream = geofencingSubscriptionClient
+                        .streamGeofencingSubscriptions()
+                        .collectList()
+                        .block(BLOCK_TIMEOUT);
+                if (upstream == null) {
+                    return GlobalResponse.failure(
+                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                            "Failed to retrieve geofencing subscriptions from Nokia API"
+                    );
+                }
+                subscriptionRegistry.replaceAll(upstream.stream().map(this::toSubscription).toList());
             }
 
-            return GlobalResponse.successWithData(200, "Geofencing subscriptions retrieved successfully", response);
+            return GlobalResponse.successWithData(200, "Geofencing subscriptions retrieved successfully",
+                    subscriptionRegistry.getAll());
         } catch (Exception e) {
             log.error("Error retrieving all geofencing subscriptions", e);
             return GlobalResponse.failure(
@@ -85,6 +132,18 @@ public class GeofencingSubscriptionServiceImpl implements GeofencingSubscription
         }
     }
 
+    @Override
+    public GlobalResponse getGeofencingSubscriptionsByDevice(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.trim().isEmpty()) {
+            return GlobalResponse.failure(
+                    HttpStatus.BAD_REQUEST.value(),
+                    "Phone number cannot be null or empty"
+            );
+        }
+        return GlobalResponse.successWithData(200, "Geofencing subscriptions retrieved successfully",
+                subscriptionRegistry.getByDevice(phoneNumber));
+    }
+
     @Override
     @Transactional
     public GlobalResponse getGeofencingSubscriptionById(String subscriptionId) {
@@ -98,6 +157,11 @@ public class GeofencingSubscriptionServiceImpl implements GeofencingSubscription
 
             log.debug("Retrieving geofencing subscription by ID: {}", subscriptionId);
 
+            GeofencingSubscription registered = subscriptionRegistry.get(subscriptionId);
+            if (registered != null) {
+                return GlobalResponse.successWithData(200, "Geofencing subscription retrieved successfully", registered);
+            }
+
             Mono<Map<String, Object>> resMono = geofencingSubscriptionClient.getGeofencingSubscriptionById(subscriptionId);
             Map<String, Object> response = resMono.block(BLOCK_TIMEOUT);
 
@@ -132,13 +196,12 @@ public class GeofencingSubscriptionServiceImpl implements GeofencingSubscription
             log.debug("Deleting geofencing subscription by ID: {}", subscriptionId);
 
             Mono<Map<String, Object>> resMono = geofencingSubscriptionClient.deleteGeofencingSubscription(subscriptionId);
+            // Nokia answers 204 without a body; failures surface as exceptions
             Map<String, Object> response = resMono.block(BLOCK_TIMEOUT);
+            subscriptionRegistry.remove(subscriptionId);
 
             if (response == null) {
-                return GlobalResponse.failure(
-                        HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                        "Failed to delete geofencing subscription from Nokia API"
-                );
+                response = Map.of("subscriptionId", subscriptionId);
             }
 
             return GlobalResponse.successWithData(200, "Geofencing subscription deleted successfully", response);
@@ -150,4 +213,163 @@ public class GeofencingSubscriptionServiceImpl implements GeofencingSubscription
             );
         }
     }
+
+    @Override
+    public GlobalResponse handleGeofencingNotification(Map<String, Object> notification, String authorization) {
+        Map<String, Object> data = asMap(notification != null ? notification.get("data") : null);
+        String subscriptionId = data != null ? asString(data.get("subscriptionId")) : null;
+        if (subscriptionId == null) {
+            return GlobalResponse.failure(HttpStatus.BAD_REQUEST.value(), "Notification has no subscriptionId");
+        }
+
+        GeofencingSubscription subscription = subscriptionRegistry.get(subscriptionId);
+        if (subscription == null) {
+            log.warn("Geofencing notification for unknown subscription: {}", subscriptionId);
+            return GlobalResponse.failure(HttpStatus.NOT_FOUND.value(), "Subscription not found: " + subscriptionId);
+        }
+        if (!isAuthorized(subscription, authorization)) {
+            log.warn("Rejected geofencing notification with invalid credentials for subscription: {}", subscriptionId);
+            return GlobalResponse.failure(HttpStatus.UNAUTHORIZED.value(), "Invalid notification credentials");
+        }
+
+        String type = asString(notification.get("type"));
+        String phoneNumber = phoneNumber(data);
+        Map<String, Object> area = asMap(data.get("area"));
+        Map<String, Object> center = area != null ? asMap(area.get("center")) : null;
+        GeofencingNotificationDTO event = GeofencingNotificationDTO.builder()
+                .eventId(asString(notification.get("id")))
+                .type(type)
+                .time(asString(notification.get("time")))
+                .subscriptionId(subscriptionId)
+                .phoneNumber(phoneNumber != null ? phoneNumber : subscription.getPhoneNumber())
+                .latitude(center != null ? asDouble(center.get("latitude")) : subscription.getLatitude())
+                .longitude(center != null ? asDouble(center.get("longitude")) : subscription.getLongitude())
+                .radius(area != null ? asDouble(area.get("radius")) : subscription.getRadius())
+                .data(data)
+                .build();
+
+        kafkaTemplate.send(NOTIFICATIONS_TOPIC, event.getPhoneNumber(), event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to publish geofencing notification: {}", event.getEventId(), ex);
+                    }
+                });
+
+        if (type != null && type.endsWith(SUBSCRIPTION_ENDS)) {
+            subscriptionRegistry.remove(subscriptionId);
+            log.info("Geofencing subscription {} ended: {}", subscriptionId, data.get("terminationReason"));
+        } else {
+            subscriptionRegistry.recordNotification(subscription);
+            if (type != null && type.endsWith(AREA_ENTERED) && event.getLatitude() != null
+                    && event.getLongitude() != null && event.getRadius() != null) {
+                // The device was inside the circle when the event fired
+                locationCache.recordArea(event.getPhoneNumber(), event.getLatitude(), event.getLongitude(),
+                        event.getRadius(), parseInstant(event.getTime()), "geofencing");
+            }
+            if (type != null && type.startsWith(EVENT_TYPE_PREFIX) && event.getPhoneNumber() != null) {
+                emergencyContextService.detectEmergencyFromGeofence(
+                        event.getPhoneNumber(), subscriptionId, event.getLatitude(), event.getLongitude());
+            }
+        }
+
+        return GlobalResponse.successWithoutData(200, "Geofencing notification accepted");
+    }
+
+    private GeofencingSubscription toSubscription(Map<String, Object> response, CreateGeofencingSubscriptionDTO request) {
+        String subscriptionId = asString(response.get("subscriptionId"));
+        if (subscriptionId == null) {
+            subscriptionId = asString(response.get("id"));
+        }
+
+        CreateGeofencingSubscriptionDTO.SubscriptionConfigDTO config = request.getConfig();
+        CreateGeofencingSubscriptionDTO.GeofencingSubscriptionDetailDTO detail =
+                config != null ? config.getSubscriptionDetail() : null;
+        CreateGeofencingSubscriptionDTO.GeofencingAreaDTO area = detail != null ? detail.getArea() : null;
+        CreateGeofencingSubscriptionDTO.SinkCredentialDTO credential = request.getSinkCredential();
+
+        return GeofencingSubscription.builder()
+                .subscriptionId(subscriptionId)
+                .phoneNumber(detail != null && detail.getDevice() != null ? detail.getDevice().getPhoneNumber() : null)
+                .protocol(request.getProtocol())
+                .sink(request.getSink())
+                .types(request.getTypes())
+                .latitude(area != null && area.getCenter() != null ? area.getCenter().getLatitude() : null)
+                .longitude(area != null && area.getCenter() != null ? area.getCenter().getLongitude() : null)
+                .radius(area != null && area.getRadius() != null ? area.getRadius().doubleValue() : null)
+                .status(asString(response.get("status")))
+                .startsAt(parseInstant(response.get("startsAt")))
+                .expiresAt(parseInstant(response.getOrDefault("expiresAt",
+                        config != null ? config.getSubscriptionExpireTime() : null)))
+                .maxEvents(config != null ? config.getSubscriptionMaxEvents() : null)
+                .sinkTokenHash(credential != null && credential.getAccessToken() != null
+                        ? sha256(credential.getAccessToken()) : null)
+                .createdAt(Instant.now())
+                .details(response)
+                .build();
+    }
+
+    private GeofencingSubscription toSubscription(GeofencingSubscriptionResponse response) {
+        return GeofencingSubscription.builder()
+                .subscriptionId(response.id())
+                .protocol(response.protocol())
+                .sink(response.sink())
+                .types(response.types())
+                .status(response.status())
+                .startsAt(parseInstant(response.startsAt()))
+                .expiresAt(parseInstant(response.expiresAt()))
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    private boolean isAuthorized(GeofencingSubscription subscription, String authorization) {
+        if (subscription.getSinkTokenHash() == null) {
+            // No token was registered (e.g. a subscription only known from a Nokia sync): reject
+            return false;
+        }
+        if (authorization == null || !authorization.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sha256(authorization.substring(7).trim()).getBytes(StandardCharsets.US_ASCII),
+                subscription.getSinkTokenHash().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String phoneNumber(Map<String, Object> data) {
+        Map<String, Object> device = asMap(data.get("device"));
+        return device != null ? asString(device.get("phoneNumber")) : null;
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Instant parseInstant(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value.toString()).toInstant();
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable timestamp: {}", value);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : null;
+    }
+
+    private static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static Double asDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
 }
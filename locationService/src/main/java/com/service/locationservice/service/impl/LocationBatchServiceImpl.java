@@ -0,0 +1,150 @@
+package com.service.locationservice.service.impl;
+
+import com.service.locationservice.client.NokiaNocLocationRetrievalClient;
+import com.service.locationservice.client.NokiaNocLocationVerificationClient;
+import com.service.locationservice.geofence.GeofenceEngine;
+import com.service.locationservice.service.LocationBatchService;
+import com.service.shared.dto.request.BatchLocationRetrievalDTO;
+import com.service.shared.dto.request.BatchLocationVerificationDTO;
+import com.service.shared.dto.request.LocationRetrievalDTO;
+import com.service.shared.dto.request.LocationVerificationDto;
+import com.service.shared.dto.response.LocationBatchResult;
+import com.service.shared.dto.response.LocationRetrievalResponse;
+import com.service.shared.exception.GlobalException;
+import com.service.shared.location.LocationCache;
+import com.service.shared.location.LocationRetrieval;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Batch location retrieval and verification
+ * Items are sent to Nokia with at most concurrency requests in flight per batch, each bounded by
+ * item-timeout. Results are emitted as soon as each item completes, so a slow device only delays its
+ * own line. A failed item yields an error result instead of failing the batch.
+ */
+@Slf4j
+@Service
+public class LocationBatchServiceImpl implements LocationBatchService {
+
+    private static final Set<String> VERSIONS = Set.of("v1", "v2", "v3");
+
+    private final NokiaNocLocationRetrievalClient locationRetrievalClient;
+    private final NokiaNocLocationVerificationClient locationVerificationClient;
+    private final GeofenceEngine geofenceEngine;
+    private final LocationCache locationCache;
+    private final int maxItems;
+    private final int concurrency;
+    private final Duration itemTimeout;
+
+    public LocationBatchServiceImpl(
+            NokiaNocLocationRetrievalClient locationRetrievalClient,
+            NokiaNocLocationVerificationClient locationVerificationClient,
+            GeofenceEngine geofenceEngine,
+            LocationCache locationCache,
+            @Value("${location.batch.max-items:5000}") int maxItems,
+            @Value("${location.batch.concurrency:32}") int concurrency,
+            @Value("${location.batch.item-timeout:10s}") Duration itemTimeout
+    ) {
+        this.locationRetrievalClient = locationRetrievalClient;
+        this.locationVerificationClient = locationVerificationClient;
+        this.geofenceEngine = geofenceEngine;
+        this.locationCache = locationCache;
+        this.maxItems = maxItems;
+        this.concurrency = concurrency;
+        this.itemTimeout = itemTimeout;
+    }
+
+    @Override
+    public Flux<LocationBatchResult> retrieveLocations(BatchLocationRetrievalDTO request) {
+        List<LocationRetrievalDTO> items = validate(request != null ? request.getItems() : null);
+        log.debug("Retrieving locations for {} devices", items.size());
+        return execute(items, item -> locationCache.retrieve(item, () -> locationRetrievalClient.retriveLocation(item))
+                .doOnNext(retrieval -> trackGeofences(item, retrieval.response()))
+                .map(LocationRetrieval::payload));
+    }
+
+    @Override
+    public Flux<LocationBatchResult> verifyLocations(BatchLocationVerificationDTO request, String version) {
+        String resolvedVersion = version == null || version.isBlank() ? "v1" : version;
+        if (!VERSIONS.contains(resolvedVersion)) {
+            throw new GlobalException(HttpStatus.BAD_REQUEST.value(), "Unsupported version: " + version);
+        }
+        List<LocationVerificationDto> items = validate(request != null ? request.getItems() : null);
+        log.debug("Verifying locations for {} devices with version: {}", items.size(), resolvedVersion);
+        return execute(items, item -> locationVerificationClient.verifyLocation(item, resolvedVersion)
+                .doOnNext(response -> locationCache.recordVerification(item, response)));
+    }
+
+    private <T> List<T> validate(List<T> items) {
+        if (items == null || items.isEmpty()) {
+            throw new GlobalException(HttpStatus.BAD_REQUEST.value(), "Batch request must contain at least one item");
+        }
+        if (items.size() > maxItems) {
+            throw new GlobalException(HttpStatus.BAD_REQUEST.value(),
+                    "Batch request exceeds the maximum of " + maxItems + " items");
+        }
+        return items;
+    }
+
+    private <T extends LocationRetrievalDTO> Flux<LocationBatchResult> execute(
+            List<T> items, Function<T, Mono<?>> call) {
+        return Flux.range(0, items.size())
+                .flatMap(index -> executeItem(index, items.get(index), call), concurrency);
+    }
+
+    private <T extends LocationRetrievalDTO> Mono<LocationBatchResult> executeItem(
+            int index, T item, Function<T, Mono<?>> call) {
+        if (item == null || item.getDevice() == null) {
+            return Mono.just(new LocationBatchResult(index, null, HttpStatus.BAD_REQUEST.value(),
+                    "Item has no device", null, 0));
+        }
+        String phoneNumber = item.getDevice().getPhoneNumber();
+
+        long start = System.nanoTime();
+        // Subscribed on boundedElastic: building the request may block while an access token is fetched
+        return Mono.defer(() -> call.apply(item))
+                .subscribeOn(Schedulers.boundedElastic())
+                .timeout(itemTimeout)
+                .<LocationBatchResult>map(data -> new LocationBatchResult(index, phoneNumber,
+                        HttpStatus.OK.value(), "OK", data, elapsedMillis(start)))
+                .switchIfEmpty(Mono.fromSupplier(() -> new LocationBatchResult(index, phoneNumber,
+                        HttpStatus.BAD_GATEWAY.value(), "Empty response from Nokia API", null, elapsedMillis(start))))
+                .onErrorResume(error -> Mono.just(failure(index, phoneNumber, error, start)));
+    }
+
+    private LocationBatchResult failure(int index, String phoneNumber, Throwable error, long start) {
+        if (error instanceof TimeoutException) {
+            return new LocationBatchResult(index, phoneNumber, HttpStatus.GATEWAY_TIMEOUT.value(),
+                    "No response within " + itemTimeout.toMillis() + " ms", null, elapsedMillis(start));
+        }
+        if (error instanceof GlobalException globalException) {
+            return new LocationBatchResult(index, phoneNumber, globalException.getErrorCode(),
+                    globalException.getErrorMessage(), null, elapsedMillis(start));
+        }
+        log.debug("Batch item {} failed", index, error);
+        return new LocationBatchResult(index, phoneNumber, HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                error.getMessage(), null, elapsedMillis(start));
+    }
+
+    private void trackGeofences(LocationRetrievalDTO item, LocationRetrievalResponse response) {
+        LocationRetrievalResponse.Point position = response != null ? response.position() : null;
+        if (position != null && item.getDevice().getPhoneNumber() != null) {
+            geofenceEngine.updateLocation(item.getDevice().getPhoneNumber(), position.latitude(), position.longitude());
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
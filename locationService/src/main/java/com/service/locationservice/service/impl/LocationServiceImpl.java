@@ -2,10 +2,14 @@ package com.service.locationservice.service.impl;
 
 import com.service.locationservice.client.NokiaNocLocationRetrievalClient;
 import com.service.locationservice.client.NokiaNocLocationVerificationClient;
+import com.service.locationservice.geofence.GeofenceEngine;
 import com.service.locationservice.service.LocationService;
 import com.service.shared.dto.GlobalResponse;
 import com.service.shared.dto.request.LocationRetrievalDTO;
 import com.service.shared.dto.request.LocationVerificationDto;
+import com.service.shared.dto.response.LocationRetrievalResponse;
+import com.service.shared.location.LocationCache;
+import com.service.shared.location.LocationRetrieval;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -23,6 +27,8 @@ public class LocationServiceImpl implements LocationService {
 
     private final NokiaNocLocationVerificationClient locationVerificationClient;
     private final NokiaNocLocationRetrievalClient locationRetrievalClient;
+    private final GeofenceEngine geofenceEngine;
+    private final LocationCache locationCache;
     private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(30);
 
     @Override
@@ -53,6 +59,8 @@ public class LocationServiceImpl implements LocationService {
                 );
             }
 
+            locationCache.recordVerification(request, response);
+
             return GlobalResponse.successWithData(200, "Location verified successfully", response);
         } catch (Exception e) {
             log.error("Error verifying location", e);
@@ -77,8 +85,10 @@ public class LocationServiceImpl implements LocationService {
             log.debug("Retrieving location for device: {}", 
                     request.getDevice() != null ? request.getDevice().toString() : "unknown");
 
-            Mono<Map<String, Object>> resMono = locationRetrievalClient.retriveLocation(request);
-            Map<String, Object> response = resMono.block(BLOCK_TIMEOUT);
+            // Served from the location cache when a fix satisfies the request's maxAge/maxAccuracy
+            Mono<LocationRetrieval> resMono = locationCache.retrieve(request,
+                    () -> locationRetrievalClient.retriveLocation(request));
+            LocationRetrieval response = resMono.block(BLOCK_TIMEOUT);
 
             if (response == null) {
                 return GlobalResponse.failure(
@@ -87,7 +97,8 @@ public class LocationServiceImpl implements LocationService {
                 );
             }
 
-            return GlobalResponse.successWithData(200, "Location retrieved successfully", response);
+            trackGeofences(request, response.response());
+            return GlobalResponse.successWithData(200, "Location retrieved successfully", response.payload());
         } catch (Exception e) {
             log.error("Error retrieving location", e);
             return GlobalResponse.failure(
@@ -96,4 +107,18 @@ public class LocationServiceImpl implements LocationService {
             );
         }
     }
+
+    /**
+     * Feed a retrieved position into the local geofence engine
+     */
+    private void trackGeofences(LocationRetrievalDTO request, LocationRetrievalResponse response) {
+        if (response == null || request.getDevice() == null || request.getDevice().getPhoneNumber() == null) {
+            return;
+        }
+        LocationRetrievalResponse.Point position = response.position();
+        if (position != null) {
+            geofenceEngine.updateLocation(request.getDevice().getPhoneNumber(),
+                    position.latitude(), position.longitude());
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package com.service.locationservice.geofence;
+
+import com.service.shared.dto.AreaDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeofenceEngineTest {
+
+    private final List<Object> published = new ArrayList<>();
+    private final GeofenceEngine engine = new GeofenceEngine(published::add, 0.01, 256, Duration.ofHours(1));
+
+    @Test
+    void findsFenceThroughItsCell() {
+        engine.register("office", circle(48.0, 11.0, 200));
+
+        assertThat(engine.fencesContaining(48.0, 11.0)).containsExactly("office");
+        assertThat(engine.fencesContaining(48.1, 11.1)).isEmpty();
+    }
+
+    @Test
+    void replacingFenceDropsItsOldCells() {
+        engine.register("office", circle(48.0, 11.0, 200));
+        engine.register("office", circle(49.0, 12.0, 200));
+
+        assertThat(engine.fencesContaining(48.0, 11.0)).isEmpty();
+        assertThat(engine.fencesContaining(49.0, 12.0)).containsExactly("office");
+    }
+
+    @Test
+    void removedFenceIsNoLongerMatched() {
+        engine.register("office", circle(48.0, 11.0, 200));
+
+        assertThat(engine.remove("office")).isTrue();
+        assertThat(engine.remove("office")).isFalse();
+        assertThat(engine.fencesContaining(48.0, 11.0)).isEmpty();
+        assertThat(engine.getStats()).containsEntry("indexedCells", 0);
+    }
+
+    @Test
+    void largeFenceIsCheckedEverywhereInside() {
+        engine.register("region", rectangle(40.0, 5.0, 50.0, 15.0));
+
+        assertThat(engine.getStats()).containsEntry("largeFences", 1).containsEntry("indexedCells", 0);
+        assertThat(engine.fencesContaining(45.0, 10.0)).containsExactly("region");
+        assertThat(engine.fencesContaining(55.0, 10.0)).isEmpty();
+    }
+
+    @Test
+    void publishesEnterAndExitOnce() {
+        engine.register("office", circle(48.0, 11.0, 200));
+
+        assertThat(engine.updateLocation("+100", 48.0, 11.0))
+                .extracting(GeofenceEvent::type).containsExactly(GeofenceEvent.Type.ENTERED);
+        assertThat(engine.updateLocation("+100", 48.0, 11.0)).isEmpty();
+        assertThat(engine.updateLocation("+100", 49.0, 12.0))
+                .extracting(GeofenceEvent::type).containsExactly(GeofenceEvent.Type.EXITED);
+        assertThat(published).hasSize(2);
+    }
+
+    @Test
+    void concurrentReplacementsLeaveOneVersionIndexed() throws InterruptedException {
+        int writers = 8;
+        int rounds = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int writer = 0; writer < writers; writer++) {
+            double latitude = 10.0 + writer;
+            executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < rounds; round++) {
+                    engine.register("moving", circle(latitude, 20.0, 200));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        double latitude = engine.get("moving").area().getCenter().getLatitude();
+        for (int writer = 0; writer < writers; writer++) {
+            List<String> inside = engine.fencesContaining(10.0 + writer, 20.0);
+            if (10.0 + writer == latitude) {
+                assertThat(inside).containsExactly("moving");
+            } else {
+                assertThat(inside).isEmpty();
+            }
+        }
+    }
+
+    private static AreaDTO circle(double latitude, double longitude, double radius) {
+        return AreaDTO.builder()
+                .areaType(Map.of("0", "C"))
+                .center(new AreaDTO.CenterDTO(latitude, longitude))
+                .radius(radius)
+                .build();
+    }
+
+    private static AreaDTO rectangle(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        return AreaDTO.builder()
+                .areaType(Map.of("0", "R"))
+                .pointList(List.of(new AreaDTO.CenterDTO(minLatitude, minLongitude),
+                        new AreaDTO.CenterDTO(maxLatitude, maxLongitude)))
+                .build();
+    }
+}
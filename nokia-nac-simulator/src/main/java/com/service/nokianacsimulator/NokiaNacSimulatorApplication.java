@@ -0,0 +1,14 @@
+package com.service.nokianacsimulator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+
+@SpringBootApplication
+public class NokiaNacSimulatorApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(NokiaNacSimulatorApplication.class, args);
+    }
+
+}
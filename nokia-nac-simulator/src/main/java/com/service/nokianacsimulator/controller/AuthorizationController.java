@@ -0,0 +1,62 @@
+package com.service.nokianacsimulator.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Simulated Nokia NAC authorization: client credentials, token and authorize endpoints
+ */
+@RestController
+public class AuthorizationController {
+
+    @Value("${simulator.auth.token-ttl-seconds:3600}")
+    private int tokenTtlSeconds;
+
+    @GetMapping("/nac-authorization-server/auth/clientcredentials")
+    public Map<String, Object> clientCredentials() {
+        return Map.of(
+                "client_id", "simulator-client",
+                "client_secret", "simulator-secret"
+        );
+    }
+
+    /**
+     * Token response carries both the camelCase and the OAuth2 snake_case attribute names
+     */
+    @PostMapping("/authorization/token")
+    public Map<String, Object> token() {
+        String accessToken = "sim-" + UUID.randomUUID();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("accessToken", accessToken);
+        response.put("tokenType", "Bearer");
+        response.put("expiresIn", tokenTtlSeconds);
+        response.put("access_token", accessToken);
+        response.put("token_type", "Bearer");
+        response.put("expires_in", tokenTtlSeconds);
+        return response;
+    }
+
+    @GetMapping("/authorization/oauth2/authorize")
+    public ResponseEntity<Void> authorize(@RequestParam("redirect_uri") String redirectUri,
+                                          @RequestParam(value = "state", required = false) String state) {
+        UriComponentsBuilder location = UriComponentsBuilder.fromUriString(redirectUri)
+                .queryParam("code", UUID.randomUUID());
+        if (state != null) {
+            location.queryParam("state", state);
+        }
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .header(HttpHeaders.LOCATION, location.build().toUriString())
+                .build();
+    }
+}
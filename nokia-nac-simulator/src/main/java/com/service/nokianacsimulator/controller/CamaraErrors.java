@@ -0,0 +1,32 @@
+package com.service.nokianacsimulator.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CAMARA-style error responses of the simulated APIs
+ */
+final class CamaraErrors {
+
+    private CamaraErrors() {
+    }
+
+    static ResponseEntity<Map<String, Object>> notFound(String message) {
+        return error(HttpStatus.NOT_FOUND, "NOT_FOUND", message);
+    }
+
+    static ResponseEntity<Map<String, Object>> invalidArgument(String message) {
+        return error(HttpStatus.BAD_REQUEST, "INVALID_ARGUMENT", message);
+    }
+
+    private static ResponseEntity<Map<String, Object>> error(HttpStatus status, String code, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", status.value());
+        body.put("code", code);
+        body.put("message", message);
+        return ResponseEntity.status(status).body(body);
+    }
+}
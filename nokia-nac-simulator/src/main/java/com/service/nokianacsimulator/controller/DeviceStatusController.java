@@ -0,0 +1,65 @@
+package com.service.nokianacsimulator.controller;
+
+import com.service.nokianacsimulator.store.ResourceStore;
+import com.service.nokianacsimulator.store.SimulatedNetwork;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulated Device Status API (connectivity, roaming and subscriptions)
+ */
+@RestController
+@RequestMapping("/device-status")
+@RequiredArgsConstructor
+public class DeviceStatusController {
+
+    private final SimulatedNetwork network;
+    private final ResourceStore store;
+
+    @PostMapping("/connectivity")
+    public Map<String, Object> connectivity(@RequestBody Map<String, Object> body) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("connectivityStatus", network.connectivityStatus(SimulatedNetwork.deviceKey(body)));
+        response.put("lastStatusTime", Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
+        return response;
+    }
+
+    @PostMapping("/roaming")
+    public Map<String, Object> roaming(@RequestBody Map<String, Object> body) {
+        return network.roaming(SimulatedNetwork.deviceKey(body));
+    }
+
+    @PostMapping("/subscriptions")
+    public ResponseEntity<Map<String, Object>> createSubscription(@RequestBody Map<String, Object> body) {
+        Map<String, Object> subscription = new LinkedHashMap<>(body);
+        subscription.put("startsAt", Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(store.create(ResourceStore.DEVICE_STATUS_SUBSCRIPTIONS, "subscriptionId", subscription));
+    }
+
+    @GetMapping("/subscriptions")
+    public List<Map<String, Object>> getSubscriptions() {
+        return store.list(ResourceStore.DEVICE_STATUS_SUBSCRIPTIONS);
+    }
+
+    @GetMapping("/subscriptions/{id}")
+    public ResponseEntity<Map<String, Object>> getSubscription(@PathVariable String id) {
+        Map<String, Object> subscription = store.get(ResourceStore.DEVICE_STATUS_SUBSCRIPTIONS, id);
+        return subscription != null ? ResponseEntity.ok(subscription) : CamaraErrors.notFound("Subscription not found: " + id);
+    }
+
+    @DeleteMapping("/subscriptions/{id}")
+    public ResponseEntity<?> deleteSubscription(@PathVariable String id) {
+        return store.delete(ResourceStore.DEVICE_STATUS_SUBSCRIPTIONS, id)
+                ? ResponseEntity.noContent().build()
+                : CamaraErrors.notFound("Subscription not found: " + id);
+    }
+}
@@ -0,0 +1,51 @@
+package com.service.nokianacsimulator.controller;
+
+import com.service.nokianacsimulator.store.ResourceStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulated Geofencing subscriptions API
+ */
+@RestController
+@RequestMapping("/geofencing-subscriptions/v0.3/subscriptions")
+@RequiredArgsConstructor
+public class GeofencingController {
+
+    private final ResourceStore store;
+
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> create(@RequestBody Map<String, Object> body) {
+        Map<String, Object> subscription = new LinkedHashMap<>(body);
+        subscription.put("startsAt", Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
+        subscription.put("status", "ACTIVE");
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(store.create(ResourceStore.GEOFENCING_SUBSCRIPTIONS, "id", subscription));
+    }
+
+    @GetMapping
+    public List<Map<String, Object>> getAll() {
+        return store.list(ResourceStore.GEOFENCING_SUBSCRIPTIONS);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> getById(@PathVariable String id) {
+        Map<String, Object> subscription = store.get(ResourceStore.GEOFENCING_SUBSCRIPTIONS, id);
+        return subscription != null ? ResponseEntity.ok(subscription) : CamaraErrors.notFound("Subscription not found: " + id);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> delete(@PathVariable String id) {
+        return store.delete(ResourceStore.GEOFENCING_SUBSCRIPTIONS, id)
+                ? ResponseEntity.noContent().build()
+                : CamaraErrors.notFound("Subscription not found: " + id);
+    }
+}
@@ -0,0 +1,54 @@
+package com.service.nokianacsimulator.controller;
+
+import com.service.nokianacsimulator.store.SimulatedNetwork;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Simulated Location Retrieval and Location Verification APIs
+ */
+@RestController
+@RequiredArgsConstructor
+public class LocationController {
+
+    private final SimulatedNetwork network;
+
+    @PostMapping("/location-retrieval/v0/retrieve")
+    public Map<String, Object> retrieve(@RequestBody Map<String, Object> body) {
+        return network.location(SimulatedNetwork.deviceKey(body));
+    }
+
+    /**
+     * Verifies against a circular area; PARTIAL when the device lies within twice the radius
+     */
+    @PostMapping("/location-verification/{version}/verify")
+    public ResponseEntity<Map<String, Object>> verify(@PathVariable String version, @RequestBody Map<String, Object> body) {
+        if (!(body.get("area") instanceof Map<?, ?> area)
+                || !(area.get("center") instanceof Map<?, ?> center)
+                || !(center.get("latitude") instanceof Number latitude)
+                || !(center.get("longitude") instanceof Number longitude)) {
+            return CamaraErrors.invalidArgument("area.center is required");
+        }
+        double radius = area.get("radius") instanceof Number number ? number.doubleValue() : 0;
+
+        double distance = network.distanceMeters(SimulatedNetwork.deviceKey(body),
+                latitude.doubleValue(), longitude.doubleValue());
+        Map<String, Object> response = new LinkedHashMap<>();
+        if (distance <= radius) {
+            response.put("verificationResult", "TRUE");
+        } else if (distance <= 2 * radius) {
+            response.put("verificationResult", "PARTIAL");
+            response.put("matchRate", (int) Math.round(100 * (2 - distance / radius)));
+        } else {
+            response.put("verificationResult", "FALSE");
+        }
+        response.put("lastLocationTime", Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
+        return ResponseEntity.ok(response);
+    }
+}
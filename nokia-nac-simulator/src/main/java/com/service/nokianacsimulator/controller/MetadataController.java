@@ -0,0 +1,38 @@
+package com.service.nokianacsimulator.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulated well-known metadata API, advertising the simulator's own authorization endpoints
+ */
+@RestController
+@RequestMapping("/well-known-metadata")
+public class MetadataController {
+
+    @Value("${simulator.public-url:http://localhost:8090}")
+    private String publicUrl;
+
+    @GetMapping({"/openid-configuration", "/oauth-authorization-server"})
+    public Map<String, Object> authorizationServer() {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("issuer", publicUrl + "/authorization");
+        metadata.put("authorization_endpoint", publicUrl + "/authorization/oauth2/authorize");
+        metadata.put("token_endpoint", publicUrl + "/authorization/token");
+        metadata.put("grant_types_supported", List.of("client_credentials", "authorization_code", "refresh_token"));
+        metadata.put("response_types_supported", List.of("code"));
+        return metadata;
+    }
+
+    @GetMapping(value = "/security.txt", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String securityTxt() {
+        return "Contact: mailto:security@simulator.local\nExpires: 2099-12-31T23:59:59Z\n";
+    }
+}
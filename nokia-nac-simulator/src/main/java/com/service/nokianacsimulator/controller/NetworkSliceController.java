@@ -0,0 +1,48 @@
+package com.service.nokianacsimulator.controller;
+
+import com.service.nokianacsimulator.store.ResourceStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulated Network Slice subscriptions API
+ */
+@RestController
+@RequestMapping("/network-slice/v0/subscriptions")
+@RequiredArgsConstructor
+public class NetworkSliceController {
+
+    private final ResourceStore store;
+
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> create(@RequestBody Map<String, Object> body) {
+        Map<String, Object> subscription = new LinkedHashMap<>(body);
+        subscription.put("status", "ACTIVE");
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(store.create(ResourceStore.NETWORK_SLICE_SUBSCRIPTIONS, "id", subscription));
+    }
+
+    @GetMapping
+    public List<Map<String, Object>> getAll() {
+        return store.list(ResourceStore.NETWORK_SLICE_SUBSCRIPTIONS);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> getById(@PathVariable String id) {
+        Map<String, Object> subscription = store.get(ResourceStore.NETWORK_SLICE_SUBSCRIPTIONS, id);
+        return subscription != null ? ResponseEntity.ok(subscription) : CamaraErrors.notFound("Subscription not found: " + id);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> delete(@PathVariable String id) {
+        return store.delete(ResourceStore.NETWORK_SLICE_SUBSCRIPTIONS, id)
+                ? ResponseEntity.noContent().build()
+                : CamaraErrors.notFound("Subscription not found: " + id);
+    }
+}
@@ -0,0 +1,28 @@
+package com.service.nokianacsimulator.controller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Simulated Number Verification API
+ */
+@RestController
+@RequestMapping("/number-verification")
+public class NumberVerificationController {
+
+    @Value("${simulator.network.device-phone-number:+99999991000}")
+    private String devicePhoneNumber;
+
+    @PostMapping("/verify")
+    public Map<String, Object> verify(@RequestBody Map<String, Object> body) {
+        Object phoneNumber = body.get("phoneNumber");
+        return Map.of("devicePhoneNumberVerified", phoneNumber != null && !phoneNumber.toString().isBlank());
+    }
+
+    @GetMapping("/device-phone-number")
+    public Map<String, Object> devicePhoneNumber() {
+        return Map.of("devicePhoneNumber", devicePhoneNumber);
+    }
+}
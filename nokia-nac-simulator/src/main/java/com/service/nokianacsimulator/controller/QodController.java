@@ -0,0 +1,92 @@
+package com.service.nokianacsimulator.controller;
+
+import com.service.nokianacsimulator.store.ResourceStore;
+import com.service.nokianacsimulator.store.SimulatedNetwork;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Simulated Quality on Demand API
+ */
+@RestController
+@RequestMapping("/qod/v0/sessions")
+@RequiredArgsConstructor
+public class QodController {
+
+    private static final int DEFAULT_DURATION_SECONDS = 3600;
+    private static final int MAX_DURATION_SECONDS = 86_400;
+
+    private final ResourceStore store;
+
+    /**
+     * Creates a session when the body carries a qosProfile, otherwise lists the sessions of the device
+     * (the platform uses POST with only a device to retrieve sessions)
+     */
+    @PostMapping
+    public ResponseEntity<?> createOrRetrieve(@RequestBody Map<String, Object> body) {
+        if (!body.containsKey("qosProfile")) {
+            String deviceKey = SimulatedNetwork.deviceKey(body);
+            List<Map<String, Object>> sessions = store.list(ResourceStore.QOD_SESSIONS).stream()
+                    .filter(session -> deviceKey.equals(SimulatedNetwork.deviceKey(session)))
+                    .toList();
+            return ResponseEntity.ok(sessions);
+        }
+
+        int duration = body.get("duration") instanceof Number number ? number.intValue() : DEFAULT_DURATION_SECONDS;
+        long now = Instant.now().getEpochSecond();
+        Map<String, Object> session = new LinkedHashMap<>(body);
+        session.put("duration", duration);
+        session.put("qosStatus", "AVAILABLE");
+        session.put("startedAt", now);
+        session.put("expiresAt", now + duration);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(store.create(ResourceStore.QOD_SESSIONS, "sessionId", session));
+    }
+
+    @GetMapping
+    public List<Map<String, Object>> getSessions() {
+        return store.list(ResourceStore.QOD_SESSIONS);
+    }
+
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<Map<String, Object>> getSession(@PathVariable String sessionId) {
+        Map<String, Object> session = store.get(ResourceStore.QOD_SESSIONS, sessionId);
+        return session != null ? ResponseEntity.ok(session) : CamaraErrors.notFound("Session not found: " + sessionId);
+    }
+
+    /**
+     * Extends a session by requestedAdditionalDuration seconds, capped at MAX_DURATION_SECONDS in total
+     */
+    @PostMapping("/{sessionId}/extend")
+    public ResponseEntity<Map<String, Object>> extendSession(@PathVariable String sessionId,
+                                                             @RequestBody Map<String, Object> body) {
+        Map<String, Object> session = store.get(ResourceStore.QOD_SESSIONS, sessionId);
+        if (session == null) {
+            return CamaraErrors.notFound("Session not found: " + sessionId);
+        }
+        int additional = body.get("requestedAdditionalDuration") instanceof Number number ? number.intValue() : 0;
+        if (additional <= 0) {
+            return CamaraErrors.invalidArgument("requestedAdditionalDuration must be positive");
+        }
+        int duration = session.get("duration") instanceof Number number ? number.intValue() : 0;
+        int extended = Math.min(duration + additional, MAX_DURATION_SECONDS);
+        long startedAt = session.get("startedAt") instanceof Number number ? number.longValue() : Instant.now().getEpochSecond();
+        session.put("duration", extended);
+        session.put("expiresAt", startedAt + extended);
+        return ResponseEntity.ok(session);
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<?> deleteSession(@PathVariable String sessionId) {
+        return store.delete(ResourceStore.QOD_SESSIONS, sessionId)
+                ? ResponseEntity.noContent().build()
+                : CamaraErrors.notFound("Session not found: " + sessionId);
+    }
+}
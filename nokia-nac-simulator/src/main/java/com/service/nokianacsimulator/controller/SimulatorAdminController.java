@@ -0,0 +1,76 @@
+package com.service.nokianacsimulator.controller;
+
+import com.service.nokianacsimulator.fault.FaultProfile;
+import com.service.nokianacsimulator.fault.FaultProfileRegistry;
+import com.service.nokianacsimulator.filter.SimulatorRoutes;
+import com.service.nokianacsimulator.store.ResourceStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Admin API to program fault profiles at runtime and read simulator counters
+ */
+@RestController
+@RequestMapping("/simulator")
+@RequiredArgsConstructor
+public class SimulatorAdminController {
+
+    private final FaultProfileRegistry registry;
+    private final ResourceStore store;
+
+    @GetMapping("/profiles")
+    public Map<String, FaultProfile> getProfiles() {
+        Map<String, FaultProfile> profiles = new LinkedHashMap<>();
+        SimulatorRoutes.names().forEach(route -> profiles.put(route, registry.getProfile(route)));
+        return profiles;
+    }
+
+    @GetMapping("/profiles/{route}")
+    public ResponseEntity<?> getProfile(@PathVariable String route) {
+        if (!SimulatorRoutes.names().contains(route)) {
+            return CamaraErrors.notFound("Unknown route: " + route);
+        }
+        return ResponseEntity.ok(registry.getProfile(route));
+    }
+
+    @PutMapping("/profiles/{route}")
+    public ResponseEntity<?> updateProfile(@PathVariable String route, @RequestBody FaultProfile profile) {
+        if (!SimulatorRoutes.names().contains(route)) {
+            return CamaraErrors.notFound("Unknown route: " + route);
+        }
+        return ResponseEntity.ok(registry.updateProfile(route, profile));
+    }
+
+    /**
+     * Apply one profile to every route
+     */
+    @PutMapping("/profiles")
+    public Map<String, FaultProfile> updateAllProfiles(@RequestBody FaultProfile profile) {
+        SimulatorRoutes.names().forEach(route -> registry.updateProfile(route, profile));
+        return getProfiles();
+    }
+
+    @DeleteMapping("/profiles")
+    public ResponseEntity<Void> resetProfiles() {
+        registry.reset();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/stats")
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("routes", registry.getStats());
+        stats.put("resources", store.sizes());
+        return stats;
+    }
+
+    @DeleteMapping("/resources")
+    public ResponseEntity<Void> clearResources() {
+        store.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.service.nokianacsimulator.controller;
+
+import com.service.nokianacsimulator.store.SimulatedNetwork;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Simulated Device Swap and SIM Swap APIs
+ * A body carrying maxAge (hours) is answered as a check, otherwise with the latest change date.
+ */
+@RestController
+@RequiredArgsConstructor
+public class SwapController {
+
+    private static final int DEFAULT_MAX_AGE_HOURS = 240;
+
+    private final SimulatedNetwork network;
+
+    @PostMapping({"/device-swap/retrieve-date", "/device-swap/check"})
+    public Map<String, Object> deviceSwap(@RequestBody Map<String, Object> body) {
+        return respond(body, "device", "latestDeviceChange");
+    }
+
+    @PostMapping({"/passthrough/camara/v1/sim-swap/sim-swap/v0/retrieve-date",
+            "/passthrough/camara/v1/sim-swap/sim-swap/v0/check"})
+    public Map<String, Object> simSwap(@RequestBody Map<String, Object> body) {
+        return respond(body, "sim", "latestSimChange");
+    }
+
+    private Map<String, Object> respond(Map<String, Object> body, String kind, String dateField) {
+        Instant latestChange = network.latestChange(SimulatedNetwork.deviceKey(body), kind);
+        if (body.get("maxAge") instanceof Number maxAge) {
+            Duration window = Duration.ofHours(maxAge.longValue() > 0 ? maxAge.longValue() : DEFAULT_MAX_AGE_HOURS);
+            return Map.of("swapped", latestChange.isAfter(Instant.now().minus(window)));
+        }
+        return Map.of(dateField, latestChange.toString());
+    }
+}
@@ -0,0 +1,61 @@
+package com.service.nokianacsimulator.fault;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Fault profile of a simulated Nokia NAC route: latency, error rate and throttling
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class FaultProfile {
+
+    /**
+     * Latency distribution
+     */
+    private LatencyDistribution distribution;
+
+    /**
+     * Mean latency (median for LOG_NORMAL)
+     */
+    private long latencyMs;
+
+    /**
+     * Spread: half-width for UNIFORM, standard deviation for NORMAL
+     */
+    private long jitterMs;
+
+    /**
+     * Shape of the LOG_NORMAL distribution
+     */
+    private double sigma;
+
+    /**
+     * Upper bound of the injected latency (0 = unbounded)
+     */
+    private long maxLatencyMs;
+
+    /**
+     * Fraction of requests (0.0 - 1.0) answered with errorStatus
+     */
+    private double errorRate;
+
+    /**
+     * HTTP status of injected errors
+     */
+    private int errorStatus;
+
+    /**
+     * Sustained requests per second before answering 429 (0 = unlimited)
+     */
+    private double throttleRps;
+
+    /**
+     * Requests allowed above throttleRps in a burst
+     */
+    private int throttleBurst;
+}
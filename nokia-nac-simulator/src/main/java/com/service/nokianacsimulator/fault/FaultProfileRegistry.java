@@ -0,0 +1,151 @@
+package com.service.nokianacsimulator.fault;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of per-route fault profiles and counters
+ * Initial profiles come from simulator.routes.{route}.* falling back to simulator.default.*;
+ * they can be reprogrammed at runtime through the admin API.
+ */
+@Slf4j
+@Component
+public class FaultProfileRegistry {
+
+    private static final String DEFAULT_PREFIX = "simulator.default.";
+    private static final String ROUTE_PREFIX = "simulator.routes.";
+
+    private final Environment environment;
+    private final FaultProfile defaultProfile;
+    private final Map<String, RouteState> routes = new ConcurrentHashMap<>();
+
+    public FaultProfileRegistry(Environment environment) {
+        this.environment = environment;
+        this.defaultProfile = bind(DEFAULT_PREFIX, FaultProfile.builder()
+                .distribution(LatencyDistribution.FIXED)
+                .sigma(0.5)
+                .errorStatus(503)
+                .build());
+    }
+
+    public RouteState route(String route) {
+        return routes.computeIfAbsent(route, key -> new RouteState(bind(ROUTE_PREFIX + key + ".", defaultProfile)));
+    }
+
+    public FaultProfile getProfile(String route) {
+        return route(route).profile;
+    }
+
+    /**
+     * Replace the fault profile of a route; its throttle bucket is rebuilt
+     */
+    public FaultProfile updateProfile(String route, FaultProfile profile) {
+        if (profile.getDistribution() == null) {
+            profile.setDistribution(LatencyDistribution.FIXED);
+        }
+        if (profile.getErrorStatus() < 400) {
+            profile.setErrorStatus(defaultProfile.getErrorStatus());
+        }
+        route(route).apply(profile);
+        log.info("Updated fault profile of route {}: {}", route, profile);
+        return profile;
+    }
+
+    /**
+     * Drop runtime overrides and counters, returning every route to its configured profile
+     */
+    public void reset() {
+        routes.clear();
+        log.info("Reset all fault profiles to configuration");
+    }
+
+    public Map<String, FaultProfile> getProfiles() {
+        Map<String, FaultProfile> profiles = new TreeMap<>();
+        routes.forEach((route, state) -> profiles.put(route, state.profile));
+        return profiles;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new TreeMap<>();
+        routes.forEach((route, state) -> {
+            long requests = state.requests.sum();
+            Map<String, Object> routeStats = new LinkedHashMap<>();
+            routeStats.put("requests", requests);
+            routeStats.put("throttled", state.throttled.sum());
+            routeStats.put("injectedErrors", state.errors.sum());
+            routeStats.put("meanInjectedLatencyMs", requests == 0 ? 0.0 : (double) state.injectedLatencyMs.sum() / requests);
+            stats.put(route, routeStats);
+        });
+        return stats;
+    }
+
+    private FaultProfile bind(String prefix, FaultProfile fallback) {
+        return FaultProfile.builder()
+                .distribution(environment.getProperty(prefix + "distribution", LatencyDistribution.class, fallback.getDistribution()))
+                .latencyMs(environment.getProperty(prefix + "latency-ms", Long.class, fallback.getLatencyMs()))
+                .jitterMs(environment.getProperty(prefix + "jitter-ms", Long.class, fallback.getJitterMs()))
+                .sigma(environment.getProperty(prefix + "sigma", Double.class, fallback.getSigma()))
+                .maxLatencyMs(environment.getProperty(prefix + "max-latency-ms", Long.class, fallback.getMaxLatencyMs()))
+                .errorRate(environment.getProperty(prefix + "error-rate", Double.class, fallback.getErrorRate()))
+                .errorStatus(environment.getProperty(prefix + "error-status", Integer.class, fallback.getErrorStatus()))
+                .throttleRps(environment.getProperty(prefix + "throttle-rps", Double.class, fallback.getThrottleRps()))
+                .throttleBurst(environment.getProperty(prefix + "throttle-burst", Integer.class, fallback.getThrottleBurst()))
+                .build();
+    }
+
+    /**
+     * Live state of a route
+     */
+    public static final class RouteState {
+
+        private volatile FaultProfile profile;
+        private volatile TokenBucket throttle;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder injectedLatencyMs = new LongAdder();
+
+        private RouteState(FaultProfile profile) {
+            apply(profile);
+        }
+
+        private void apply(FaultProfile profile) {
+            this.throttle = profile.getThrottleRps() > 0
+                    ? new TokenBucket(profile.getThrottleRps(), profile.getThrottleBurst())
+                    : null;
+            this.profile = profile;
+        }
+
+        public FaultProfile profile() {
+            return profile;
+        }
+
+        /**
+         * @return 0 if the request may proceed, otherwise nanos until it would be admitted
+         */
+        public long acquire() {
+            requests.increment();
+            TokenBucket bucket = throttle;
+            long wait = bucket == null ? 0 : bucket.tryAcquire();
+            if (wait > 0) {
+                throttled.increment();
+            }
+            return wait;
+        }
+
+        public void recordLatency(long millis) {
+            injectedLatencyMs.add(millis);
+        }
+
+        public void recordError() {
+            errors.increment();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.service.nokianacsimulator.fault;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency distributions the simulator can inject
+ * latencyMs is the mean (median for LOG_NORMAL), jitterMs the spread.
+ */
+public enum LatencyDistribution {
+
+    /**
+     * Always latencyMs
+     */
+    FIXED {
+        @Override
+        double sample(FaultProfile profile, ThreadLocalRandom random) {
+            return profile.getLatencyMs();
+        }
+    },
+
+    /**
+     * Uniform in [latencyMs - jitterMs, latencyMs + jitterMs]
+     */
+    UNIFORM {
+        @Override
+        double sample(FaultProfile profile, ThreadLocalRandom random) {
+            return profile.getLatencyMs() + (random.nextDouble() * 2 - 1) * profile.getJitterMs();
+        }
+    },
+
+    /**
+     * Normal with mean latencyMs and standard deviation jitterMs
+     */
+    NORMAL {
+        @Override
+        double sample(FaultProfile profile, ThreadLocalRandom random) {
+            return profile.getLatencyMs() + random.nextGaussian() * profile.getJitterMs();
+        }
+    },
+
+    /**
+     * Log-normal with median latencyMs and shape sigma, the usual long-tail shape of a remote API
+     */
+    LOG_NORMAL {
+        @Override
+        double sample(FaultProfile profile, ThreadLocalRandom random) {
+            return profile.getLatencyMs() * Math.exp(random.nextGaussian() * profile.getSigma());
+        }
+    },
+
+    /**
+     * Exponential with mean latencyMs
+     */
+    EXPONENTIAL {
+        @Override
+        double sample(FaultProfile profile, ThreadLocalRandom random) {
+            return -profile.getLatencyMs() * Math.log(1 - random.nextDouble());
+        }
+    };
+
+    abstract double sample(FaultProfile profile, ThreadLocalRandom random);
+
+    /**
+     * Sample a latency in milliseconds, clamped to [0, maxLatencyMs]
+     */
+    public static long sampleMillis(FaultProfile profile) {
+        LatencyDistribution distribution = profile.getDistribution() != null ? profile.getDistribution() : FIXED;
+        double millis = Math.max(0, distribution.sample(profile, ThreadLocalRandom.current()));
+        if (profile.getMaxLatencyMs() > 0) {
+            millis = Math.min(millis, profile.getMaxLatencyMs());
+        }
+        return Math.round(millis);
+    }
+}
@@ -0,0 +1,85 @@
+package com.service.nokianacsimulator.filter;
+
+import com.service.nokianacsimulator.fault.FaultProfile;
+import com.service.nokianacsimulator.fault.FaultProfileRegistry;
+import com.service.nokianacsimulator.fault.LatencyDistribution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the fault profile of the matched route before the simulated API handles the request:
+ * throttling (429 with Retry-After), then injected latency, then injected errors.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class FaultInjectionWebFilter implements WebFilter {
+
+    private final FaultProfileRegistry registry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String route = SimulatorRoutes.resolve(exchange.getRequest().getPath().value());
+        if (route == null) {
+            return chain.filter(exchange);
+        }
+
+        FaultProfileRegistry.RouteState state = registry.route(route);
+        FaultProfile profile = state.profile();
+
+        long waitNanos = state.acquire();
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos));
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return writeError(exchange.getResponse(), HttpStatus.TOO_MANY_REQUESTS.value(),
+                    "TOO_MANY_REQUESTS", "Simulated throttling of route " + route);
+        }
+
+        long latencyMs = LatencyDistribution.sampleMillis(profile);
+        state.recordLatency(latencyMs);
+        boolean fail = profile.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < profile.getErrorRate();
+
+        Mono<Void> proceed = Mono.defer(() -> {
+            if (fail) {
+                state.recordError();
+                return writeError(exchange.getResponse(), profile.getErrorStatus(),
+                        "SIMULATED_FAULT", "Simulated failure of route " + route);
+            }
+            return chain.filter(exchange);
+        });
+
+        return latencyMs > 0
+                ? Mono.delay(Duration.ofMillis(latencyMs)).then(proceed)
+                : proceed;
+    }
+
+    /**
+     * Write a CAMARA-style error body
+     */
+    private Mono<Void> writeError(ServerHttpResponse response, int status, String code, String message) {
+        response.setStatusCode(HttpStatusCode.valueOf(status));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        String body = String.format("{\"status\":%d,\"code\":\"%s\",\"message\":\"%s\"}", status, code, message);
+        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+}
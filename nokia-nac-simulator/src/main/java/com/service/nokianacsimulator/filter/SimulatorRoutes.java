@@ -0,0 +1,48 @@
+package com.service.nokianacsimulator.filter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps request paths to simulated route names
+ * Paths are the Nokia paths prefixed with the API host name, e.g. the location-retrieval
+ * host https://location-retrieval.p-eu.rapidapi.com becomes {simulator}/location-retrieval.
+ */
+public final class SimulatorRoutes {
+
+    private static final List<Map.Entry<String, String>> ROUTES = List.of(
+            Map.entry("/qod/v0/sessions", "qod-sessions"),
+            Map.entry("/network-slice/v0/subscriptions", "network-slice-subscriptions"),
+            Map.entry("/location-retrieval/", "location-retrieval"),
+            Map.entry("/location-verification/", "location-verification"),
+            Map.entry("/geofencing-subscriptions/", "geofencing-subscriptions"),
+            Map.entry("/device-status/connectivity", "device-status-connectivity"),
+            Map.entry("/device-status/roaming", "device-status-roaming"),
+            Map.entry("/device-status/subscriptions", "device-status-subscriptions"),
+            Map.entry("/device-swap/", "device-swap"),
+            Map.entry("/passthrough/camara/v1/sim-swap/", "sim-swap"),
+            Map.entry("/number-verification/", "number-verification"),
+            Map.entry("/nac-authorization-server/", "client-credentials"),
+            Map.entry("/authorization/", "token"),
+            Map.entry("/well-known-metadata/", "metadata")
+    );
+
+    private SimulatorRoutes() {
+    }
+
+    /**
+     * @return the route name, or null for paths that are not simulated Nokia APIs
+     */
+    public static String resolve(String path) {
+        for (Map.Entry<String, String> route : ROUTES) {
+            if (path.startsWith(route.getKey())) {
+                return route.getValue();
+            }
+        }
+        return null;
+    }
+
+    public static List<String> names() {
+        return ROUTES.stream().map(Map.Entry::getValue).toList();
+    }
+}
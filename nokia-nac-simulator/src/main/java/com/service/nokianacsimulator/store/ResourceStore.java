@@ -0,0 +1,63 @@
+package com.service.nokianacsimulator.store;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory store of resources created against the simulator (QoD sessions, subscriptions)
+ */
+@Component
+public class ResourceStore {
+
+    public static final String QOD_SESSIONS = "qod-sessions";
+    public static final String NETWORK_SLICE_SUBSCRIPTIONS = "network-slice-subscriptions";
+    public static final String GEOFENCING_SUBSCRIPTIONS = "geofencing-subscriptions";
+    public static final String DEVICE_STATUS_SUBSCRIPTIONS = "device-status-subscriptions";
+
+    private final Map<String, Map<String, Map<String, Object>>> collections = new ConcurrentHashMap<>();
+
+    /**
+     * Store a copy of the resource under a new id
+     *
+     * @param idField Name of the id attribute (sessionId, id, subscriptionId)
+     */
+    public Map<String, Object> create(String collection, String idField, Map<String, Object> resource) {
+        String id = UUID.randomUUID().toString();
+        Map<String, Object> stored = new LinkedHashMap<>();
+        stored.put(idField, id);
+        stored.putAll(resource);
+        collection(collection).put(id, stored);
+        return stored;
+    }
+
+    public Map<String, Object> get(String collection, String id) {
+        return collection(collection).get(id);
+    }
+
+    public List<Map<String, Object>> list(String collection) {
+        return List.copyOf(collection(collection).values());
+    }
+
+    public boolean delete(String collection, String id) {
+        return collection(collection).remove(id) != null;
+    }
+
+    public void clear() {
+        collections.clear();
+    }
+
+    public Map<String, Integer> sizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        collections.forEach((name, resources) -> sizes.put(name, resources.size()));
+        return sizes;
+    }
+
+    private Map<String, Map<String, Object>> collection(String collection) {
+        return collections.computeIfAbsent(collection, key -> new ConcurrentHashMap<>());
+    }
+}
@@ -0,0 +1,140 @@
+package com.service.nokianacsimulator.store;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic simulated network state per device
+ * Every value is derived from a hash of the device identifier, so repeated reads of the same
+ * device are stable (and cacheable) while different devices spread across the simulated area.
+ */
+@Component
+public class SimulatedNetwork {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final String[] CONNECTIVITY_STATES = {"CONNECTED_DATA", "CONNECTED_DATA", "CONNECTED_SMS", "NOT_CONNECTED"};
+    private static final int[] ROAMING_COUNTRY_CODES = {262, 208, 214};
+    private static final String[][] ROAMING_COUNTRY_NAMES = {{"DE"}, {"FR"}, {"ES"}};
+
+    private final double centerLatitude;
+    private final double centerLongitude;
+    private final double radiusMeters;
+    private final double accuracyMeters;
+    private final double roamingRate;
+    private final Instant epoch = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    public SimulatedNetwork(
+            @Value("${simulator.network.center-latitude:60.1699}") double centerLatitude,
+            @Value("${simulator.network.center-longitude:24.9384}") double centerLongitude,
+            @Value("${simulator.network.radius-meters:20000}") double radiusMeters,
+            @Value("${simulator.network.accuracy-meters:100}") double accuracyMeters,
+            @Value("${simulator.network.roaming-rate:0.1}") double roamingRate
+    ) {
+        this.centerLatitude = centerLatitude;
+        this.centerLongitude = centerLongitude;
+        this.radiusMeters = radiusMeters;
+        this.accuracyMeters = accuracyMeters;
+        this.roamingRate = roamingRate;
+    }
+
+    /**
+     * Device identifier of a CAMARA request body ({"device": {...}} or the device object itself)
+     */
+    @SuppressWarnings("unchecked")
+    public static String deviceKey(Map<String, Object> body) {
+        if (body == null) {
+            return "";
+        }
+        Object device = body.getOrDefault("device", body);
+        if (device instanceof Map<?, ?> map) {
+            for (String field : List.of("phoneNumber", "networkAccessIdentifier", "ipv4Address", "ipv6Address")) {
+                Object value = ((Map<String, Object>) map).get(field);
+                if (value != null) {
+                    return value.toString();
+                }
+            }
+        }
+        return "";
+    }
+
+    public double[] position(String deviceKey) {
+        long hash = mix(deviceKey.hashCode());
+        double angle = (hash & 0xFFFF) / 65536.0 * 2 * Math.PI;
+        double distance = Math.sqrt(((hash >>> 16) & 0xFFFF) / 65536.0) * radiusMeters;
+        double latitude = centerLatitude + distance * Math.cos(angle) / METERS_PER_DEGREE;
+        double longitude = centerLongitude
+                + distance * Math.sin(angle) / (METERS_PER_DEGREE * Math.cos(Math.toRadians(centerLatitude)));
+        return new double[]{latitude, longitude};
+    }
+
+    public Map<String, Object> location(String deviceKey) {
+        double[] position = position(deviceKey);
+        Map<String, Object> center = new LinkedHashMap<>();
+        center.put("latitude", position[0]);
+        center.put("longitude", position[1]);
+
+        Map<String, Object> area = new LinkedHashMap<>();
+        area.put("areaType", "CIRCLE");
+        area.put("center", center);
+        area.put("radius", accuracyMeters);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("lastLocationTime", Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
+        response.put("area", area);
+        return response;
+    }
+
+    /**
+     * Distance in meters between the device and a point (equirectangular approximation)
+     */
+    public double distanceMeters(String deviceKey, double latitude, double longitude) {
+        double[] position = position(deviceKey);
+        double x = Math.toRadians(longitude - position[1]) * Math.cos(Math.toRadians((latitude + position[0]) / 2));
+        double y = Math.toRadians(latitude - position[0]);
+        return Math.sqrt(x * x + y * y) * 6_371_000;
+    }
+
+    public String connectivityStatus(String deviceKey) {
+        return CONNECTIVITY_STATES[(int) (mix(deviceKey.hashCode() * 31L) & 0x3)];
+    }
+
+    public Map<String, Object> roaming(String deviceKey) {
+        long hash = mix(deviceKey.hashCode() * 17L);
+        boolean roaming = (hash & 0xFFFF) / 65536.0 < roamingRate;
+        int country = (int) ((hash >>> 16) % ROAMING_COUNTRY_CODES.length);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("roaming", roaming);
+        if (roaming) {
+            response.put("countryCode", ROAMING_COUNTRY_CODES[country]);
+            response.put("countryName", List.of(ROAMING_COUNTRY_NAMES[country]));
+        }
+        response.put("lastStatusTime", Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
+        return response;
+    }
+
+    /**
+     * Time of the last simulated SIM or device change, between 1 hour and 90 days before start-up
+     */
+    public Instant latestChange(String deviceKey, String kind) {
+        long hash = mix((deviceKey + kind).hashCode());
+        long minutes = 60 + (hash >>> 1) % Duration.ofDays(90).toMinutes();
+        return epoch.minus(Duration.ofMinutes(minutes));
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,136 @@
+package com.service.shared.benchmark;
+
+import com.service.shared.dto.response.LocationRetrievalResponse;
+import com.service.shared.dto.response.QodSessionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding cost of Nokia NAC responses: Map graphs walked with casts (the old client path) against
+ * typed records read by the Blackbird mapper of WebClientConfig, whole or element by element.
+ * Run with ./gradlew jmh; the gc profiler reports gc.alloc.rate.norm, the bytes allocated per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseDecodingBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {};
+    private static final TypeReference<List<Map<String, Object>>> MAP_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<QodSessionResponse>> SESSION_LIST = new TypeReference<>() {};
+
+    @Param({"1", "100", "1000"})
+    private int sessions;
+
+    private final JsonMapper plainMapper = JsonMapper.builder().build();
+    private final JsonMapper responseMapper = JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+            .build();
+    private ObjectReader sessionReader;
+    private byte[] sessionsJson;
+    private byte[] locationJson;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < sessions; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("""
+                    {"sessionId":"3fa85f64-5717-4562-b3fc-2c963f66a%03d","qosProfile":"HIGH_BANDWIDTH",\
+                    "qosStatus":"AVAILABLE","duration":3600,"startedAt":1760000000,"expiresAt":1760003600,\
+                    "device":{"phoneNumber":"+3670123%04d"},\
+                    "applicationServer":{"ipv4Address":"233.252.0.2"},"priority":7,"bandwidth":150.5,"latency":12.5}"""
+                    .formatted(i % 1000, i % 10_000));
+        }
+        sessionsJson = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        locationJson = """
+                {"lastLocationTime":"2026-10-18T12:00:00Z","area":{"areaType":"CIRCLE",\
+                "center":{"latitude":47.48627616952785,"longitude":19.07915612501993},"radius":1000}}"""
+                .getBytes(StandardCharsets.UTF_8);
+        sessionReader = responseMapper.readerFor(QodSessionResponse.class);
+    }
+
+    @Benchmark
+    public void sessionsAsMaps(Blackhole blackhole) {
+        for (Map<String, Object> session : plainMapper.readValue(sessionsJson, MAP_LIST)) {
+            blackhole.consume((String) session.getOrDefault("qosProfile", "DEFAULT"));
+            blackhole.consume(((Number) session.getOrDefault("priority", 5)).intValue());
+            blackhole.consume(((Number) session.getOrDefault("bandwidth", 0.0)).doubleValue());
+            blackhole.consume(((Number) session.getOrDefault("latency", 0.0)).doubleValue());
+        }
+    }
+
+    @Benchmark
+    public void sessionsAsRecords(Blackhole blackhole) {
+        for (QodSessionResponse session : responseMapper.readValue(sessionsJson, SESSION_LIST)) {
+            consume(session, blackhole);
+        }
+    }
+
+    /**
+     * Element-by-element decoding, as bodyToFlux does for list responses
+     */
+    @Benchmark
+    public void sessionsStreamed(Blackhole blackhole) {
+        try (MappingIterator<QodSessionResponse> iterator = sessionReader.readValues(sessionsJson)) {
+            while (iterator.hasNextValue()) {
+                consume(iterator.nextValue(), blackhole);
+            }
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void locationAsMap(Blackhole blackhole) {
+        Map<String, Object> response = plainMapper.readValue(locationJson, MAP);
+        Map<String, Object> area = (Map<String, Object>) response.get("area");
+        Map<String, Object> center = (Map<String, Object>) area.get("center");
+        blackhole.consume(Double.parseDouble(center.get("latitude").toString()));
+        blackhole.consume(Double.parseDouble(center.get("longitude").toString()));
+        blackhole.consume(Double.parseDouble(area.get("radius").toString()));
+    }
+
+    @Benchmark
+    public void locationAsRecord(Blackhole blackhole) {
+        LocationRetrievalResponse response = responseMapper.readValue(locationJson, LocationRetrievalResponse.class);
+        LocationRetrievalResponse.Point position = response.position();
+        blackhole.consume(position.latitude());
+        blackhole.consume(position.longitude());
+        blackhole.consume(response.accuracy());
+    }
+
+    private static void consume(QodSessionResponse session, Blackhole blackhole) {
+        blackhole.consume(session.qosProfile());
+        blackhole.consume(session.priority() != null ? session.priority() : 5);
+        blackhole.consume(session.bandwidth() != null ? session.bandwidth() : 0.0);
+        blackhole.consume(session.latency() != null ? session.latency() : 0.0);
+    }
+}
@@ -122,6 +122,9 @@ public class ApiLoggingAspect {
                 } catch (Exception e) {
                     log.debug("Could not serialize response body: {}", e.getMessage());
                 }
+            } else if (result instanceof org.reactivestreams.Publisher<?>) {
+                // Streamed responses are written after the method returns; the body is not captured
+                logBuilder.statusCode(org.springframework.http.HttpStatus.OK.value());
             } else if (result != null) {
                 logBuilder.statusCode(org.springframework.http.HttpStatus.OK.value());
                 try {
@@ -41,7 +41,7 @@ public class NokiaNacAuthorizationClientImpl implements NokiaNacAuthorizationCli
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
     
-    @Value("${nokia.nac.authorization-server-url:}")
+    @Value("${nokia.nac.authorization-server-url:https://authorization.p-eu.rapidapi.com}")
     private String authorizationServerUrl;
     
     public NokiaNacAuthorizationClientImpl(
@@ -90,21 +90,16 @@ public class NokiaNacAuthorizationClientImpl implements NokiaNacAuthorizationCli
     }
     
     /**
-     * Get token endpoint URL from authorization server metadata
-     * In production, this should be retrieved from the metadata endpoint
+     * Token endpoint under the configured authorization server, so the simulator profile
+     * and any regional server are honoured
      */
     private String getTokenEndpoint() {
-        // Default token endpoint - should be retrieved from metadata in production
-        if (authorizationServerUrl != null && !authorizationServerUrl.isEmpty()) {
-            // Try both /token and /oauth2/token paths
-            String endpoint = authorizationServerUrl + "/token";
-            log.debug("Using token endpoint: {}", endpoint);
-            return endpoint;
-        }
-        // Fallback to a default endpoint structure
-        String fallbackEndpoint = "https://authorization.p-eu.rapidapi.com/token";
-        log.debug("Using fallback token endpoint: {}", fallbackEndpoint);
-        return fallbackEndpoint;
+        String baseUrl = authorizationServerUrl.endsWith("/")
+                ? authorizationServerUrl.substring(0, authorizationServerUrl.length() - 1)
+                : authorizationServerUrl;
+        String endpoint = baseUrl + "/token";
+        log.debug("Using token endpoint: {}", endpoint);
+        return endpoint;
     }
     
     @Override
@@ -27,7 +27,7 @@ import java.time.Duration;
 @Component
 public class NokiaNacClientCredentialsClientImpl implements NokiaNacClientCredentialsClient {
 
-    private static final String CLIENT_CREDENTIALS_ENDPOINT = "https://nac-authorization-server.p-eu.rapidapi.com/auth/clientcredentials";
+    private static final String CLIENT_CREDENTIALS_PATH = "/auth/clientcredentials";
     private static final String RAPIDAPI_HOST = "nac-authorization-server.nokia.rapidapi.com";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
     
@@ -37,6 +37,8 @@ public class NokiaNacClientCredentialsClientImpl implements NokiaNacClientCreden
     
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
+    @Value("${nokia.nac.urls.client-credentials:https://nac-authorization-server.p-eu.rapidapi.com}")
+    private String baseUrl;
     
     public NokiaNacClientCredentialsClientImpl(
             @Qualifier("nokiaWebClient") WebClient webClient,
@@ -88,7 +90,7 @@ public class NokiaNacClientCredentialsClientImpl implements NokiaNacClientCreden
         log.info("Retrieving client credentials from Nokia NAC authorization server");
         
         return webClient.get()
-                .uri(URI.create(CLIENT_CREDENTIALS_ENDPOINT))
+                .uri(URI.create(baseUrl + CLIENT_CREDENTIALS_PATH))
                 .header("X-RapidAPI-Key", apiKey)
                 .header("X-RapidAPI-Host", RAPIDAPI_HOST)
                 .retrieve()
@@ -3,6 +3,7 @@ package com.service.shared.client.impl;
 import com.service.shared.client.NokiaNacMetadataClient;
 import com.service.shared.dto.NokiaNacMetadataDTO;
 import com.service.shared.exception.GlobalException;
+import com.service.shared.util.NokiaNacResponseCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,28 +28,33 @@ import java.time.Duration;
 @Component
 public class NokiaNacMetadataClientImpl implements NokiaNacMetadataClient {
 
-    private static final String METADATA_BASE_URL = "https://well-known-metadata.p-eu.rapidapi.com";
     private static final String OPENID_CONFIG_PATH = "/openid-configuration";
     private static final String SECURITY_TXT_PATH = "/security.txt";
     private static final String OAUTH_AUTH_SERVER_PATH = "/oauth-authorization-server";
     private static final String RAPIDAPI_HOST = "well-known-metadata.nokia.rapidapi.com";
     private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+    private static final String METADATA_CACHE_ENDPOINT = "nokia-metadata";
 
     private final WebClient webClient;
     private final Retry retrySpec;
     private final Duration timeout;
+    private final NokiaNacResponseCache responseCache;
 
     @Value("${nokia.nac.rapidapi-key}")
     private String apiKey;
+    @Value("${nokia.nac.urls.well-known-metadata:https://well-known-metadata.p-eu.rapidapi.com}")
+    private String metadataBaseUrl;
 
     public NokiaNacMetadataClientImpl(
             @Qualifier("nokiaWebClient") WebClient webClient,
             @Value("${nokia.nac.timeout:30000}") int timeoutMs,
-            @Value("${nokia.nac.retry-attempts:3}") int retryAttempts
+            @Value("${nokia.nac.retry-attempts:3}") int retryAttempts,
+            NokiaNacResponseCache responseCache
     ) {
         this.webClient = webClient;
         this.timeout = Duration.ofMillis(timeoutMs);
         this.retrySpec = createRetrySpec(retryAttempts);
+        this.responseCache = responseCache;
     }
 
     private Retry createRetrySpec(int retryAttempts) {
@@ -93,78 +99,78 @@ public class NokiaNacMetadataClientImpl implements NokiaNacMetadataClient {
     public Mono<NokiaNacMetadataDTO> getOpenIdConfiguration() {
         log.debug("Fetching OpenID configuration metadata");
 
-        return webClient.get()
-                .uri(URI.create(METADATA_BASE_URL + OPENID_CONFIG_PATH))
-                .header("X-RapidAPI-Key", apiKey)
-                .header("X-RapidAPI-Host", RAPIDAPI_HOST)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleError)
-                .bodyToMono(NokiaNacMetadataDTO.class)
-                .timeout(timeout)
-                .retryWhen(retrySpec)
-                .doOnSuccess(result -> log.debug("Retrieved OpenID configuration: {}", result))
-                .doOnError(error -> log.error("Failed to get OpenID configuration", error))
-                .onErrorMap(throwable -> {
-                    if (throwable instanceof GlobalException) {
-                        return throwable;
-                    }
-                    return new GlobalException(
-                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                            "Failed to get OpenID configuration: " + throwable.getMessage(),
-                            throwable);
-                });
+        return responseCache.get(METADATA_CACHE_ENDPOINT, OPENID_CONFIG_PATH, () -> webClient.get()
+                    .uri(URI.create(metadataBaseUrl + OPENID_CONFIG_PATH))
+                    .header("X-RapidAPI-Key", apiKey)
+                    .header("X-RapidAPI-Host", RAPIDAPI_HOST)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, this::handleError)
+                    .bodyToMono(NokiaNacMetadataDTO.class)
+                    .timeout(timeout)
+                    .retryWhen(retrySpec)
+                    .doOnSuccess(result -> log.debug("Retrieved OpenID configuration: {}", result))
+                    .doOnError(error -> log.error("Failed to get OpenID configuration", error))
+                    .onErrorMap(throwable -> {
+                        if (throwable instanceof GlobalException) {
+                            return throwable;
+                        }
+                        return new GlobalException(
+                                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                "Failed to get OpenID configuration: " + throwable.getMessage(),
+                                throwable);
+                    }));
     }
 
     @Override
     public Mono<String> getSecurityTxt() {
         log.debug("Fetching security.txt");
 
-        return webClient.get()
-                .uri(URI.create(METADATA_BASE_URL + SECURITY_TXT_PATH))
-                .header("X-RapidAPI-Key", apiKey)
-                .header("X-RapidAPI-Host", RAPIDAPI_HOST)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleError)
-                .bodyToMono(String.class)
-                .timeout(timeout)
-                .retryWhen(retrySpec)
-                .doOnSuccess(result -> log.debug("Retrieved security.txt: {}", result))
-                .doOnError(error -> log.error("Failed to get security.txt", error))
-                .onErrorMap(throwable -> {
-                    if (throwable instanceof GlobalException) {
-                        return throwable;
-                    }
-                    return new GlobalException(
-                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                            "Failed to get security.txt: " + throwable.getMessage(),
-                            throwable);
-                });
+        return responseCache.get(METADATA_CACHE_ENDPOINT, SECURITY_TXT_PATH, () -> webClient.get()
+                    .uri(URI.create(metadataBaseUrl + SECURITY_TXT_PATH))
+                    .header("X-RapidAPI-Key", apiKey)
+                    .header("X-RapidAPI-Host", RAPIDAPI_HOST)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, this::handleError)
+                    .bodyToMono(String.class)
+                    .timeout(timeout)
+                    .retryWhen(retrySpec)
+                    .doOnSuccess(result -> log.debug("Retrieved security.txt: {}", result))
+                    .doOnError(error -> log.error("Failed to get security.txt", error))
+                    .onErrorMap(throwable -> {
+                        if (throwable instanceof GlobalException) {
+                            return throwable;
+                        }
+                        return new GlobalException(
+                                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                "Failed to get security.txt: " + throwable.getMessage(),
+                                throwable);
+                    }));
     }
 
     @Override
     public Mono<NokiaNacMetadataDTO> getOAuthAuthorizationServer() {
         log.debug("Fetching OAuth authorization server metadata");
 
-        return webClient.get()
-                .uri(URI.create(METADATA_BASE_URL + OAUTH_AUTH_SERVER_PATH))
-                .header("X-RapidAPI-Key", apiKey)
-                .header("X-RapidAPI-Host", RAPIDAPI_HOST)
-                .retrieve()
-                .onStatus(HttpStatusCode::isError, this::handleError)
-                .bodyToMono(NokiaNacMetadataDTO.class)
-                .timeout(timeout)
-                .retryWhen(retrySpec)
-                .doOnSuccess(result -> log.debug("Retrieved OAuth authorization server metadata: {}", result))
-                .doOnError(error -> log.error("Failed to get OAuth authorization server metadata", error))
-                .onErrorMap(throwable -> {
-                    if (throwable instanceof GlobalException) {
-                        return throwable;
-                    }
-                    return new GlobalException(
-                            HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                            "Failed to get OAuth authorization server metadata: " + throwable.getMessage(),
-                            throwable);
-                });
+        return responseCache.get(METADATA_CACHE_ENDPOINT, OAUTH_AUTH_SERVER_PATH, () -> webClient.get()
+                    .uri(URI.create(metadataBaseUrl + OAUTH_AUTH_SERVER_PATH))
+                    .header("X-RapidAPI-Key", apiKey)
+                    .header("X-RapidAPI-Host", RAPIDAPI_HOST)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, this::handleError)
+                    .bodyToMono(NokiaNacMetadataDTO.class)
+                    .timeout(timeout)
+                    .retryWhen(retrySpec)
+                    .doOnSuccess(result -> log.debug("Retrieved OAuth authorization server metadata: {}", result))
+                    .doOnError(error -> log.error("Failed to get OAuth authorization server metadata", error))
+                    .onErrorMap(throwable -> {
+                        if (throwable instanceof GlobalException) {
+                            return throwable;
+                        }
+                        return new GlobalException(
+                                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                                "Failed to get OAuth authorization server metadata: " + throwable.getMessage(),
+                                throwable);
+                    }));
     }
 
     /**
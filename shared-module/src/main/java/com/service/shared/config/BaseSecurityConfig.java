@@ -1,5 +1,6 @@
 package com.service.shared.config;
 
+import com.service.shared.security.InternalAssertionBearerTokenResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -32,6 +33,7 @@ public abstract class BaseSecurityConfig {
                     auth.anyRequest().authenticated();
                 })
                 .oauth2ResourceServer(oauth2 -> oauth2
+                        .bearerTokenResolver(new InternalAssertionBearerTokenResolver())
                         .jwt(jwt -> jwt.decoder(jwtDecoder))
                 );
 
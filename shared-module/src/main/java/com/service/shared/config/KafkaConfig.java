@@ -21,6 +21,12 @@ import java.util.Map;
 @Configuration
 public class KafkaConfig {
 
+    /**
+     * Consumer group suffix for listeners every instance must receive all records on; stable across
+     * restarts (platform.instance-id, else host and port) so restarts do not leave orphaned groups behind
+     */
+    public static final String INSTANCE_ID = "${platform.instance-id:${HOSTNAME:localhost}-${server.port:8080}}";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
@@ -4,8 +4,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.JacksonJsonDecoder;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.module.blackbird.BlackbirdModule;
 
 import java.time.Duration;
 
@@ -28,6 +32,17 @@ public class WebClientConfig {
     @Value("${nokia.nac.timeout:30000}")
     private int timeout;
 
+    /**
+     * JsonMapper used to decode responses
+     * Blackbird replaces reflective property access with generated lambdas, which cuts
+     * per-response CPU and allocation when decoding typed response records
+     */
+    private final JsonMapper responseMapper = JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES)
+            .build();
+
     /**
      * WebClient for service-to-service internal calls
      * Used for communication between microservices
@@ -40,6 +55,8 @@ public class WebClientConfig {
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .jacksonJsonDecoder(new JacksonJsonDecoder(responseMapper)))
                 .defaultHeader("Content-Type", "application/json")
                 .defaultHeader("Accept", "application/json")
                 .build();
@@ -58,6 +75,8 @@ public class WebClientConfig {
         return WebClient.builder()
                 .baseUrl(nokiaBaseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .jacksonJsonDecoder(new JacksonJsonDecoder(responseMapper)))
                 .defaultHeader("Content-Type", "application/json")
                 .defaultHeader("Accept", "application/json")
                 .defaultHeader("x-rapidapi-key", rapidApiKey)
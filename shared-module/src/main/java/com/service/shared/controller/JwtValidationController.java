@@ -0,0 +1,28 @@
+package com.service.shared.controller;
+
+import com.service.shared.annotation.MethodCode;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.security.PlatformJwtDecoders;
+import com.service.shared.util.ResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller exposing JWT validation statistics
+ */
+@RestController
+@RequestMapping("/security/jwt")
+@RequiredArgsConstructor
+public class JwtValidationController {
+
+    private final PlatformJwtDecoders jwtDecoders;
+
+    @GetMapping("/stats")
+    @MethodCode(value = "JW001", description = "Get JWT validation statistics")
+    public ResponseEntity<GlobalResponse> getStats() {
+        return ResponseHelper.successWithData("JWT validation statistics retrieved successfully", jwtDecoders.getStats());
+    }
+}
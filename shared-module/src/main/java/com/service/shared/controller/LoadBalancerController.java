@@ -0,0 +1,30 @@
+package com.service.shared.controller;
+
+import com.service.shared.annotation.MethodCode;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.loadbalancer.ServiceInstanceRegistry;
+import com.service.shared.util.ResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller exposing the internal service instances seen by the client-side load balancer
+ */
+@RestController
+@RequestMapping("/load-balancer")
+@ConditionalOnProperty(name = "services.registry.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class LoadBalancerController {
+
+    private final ServiceInstanceRegistry serviceInstanceRegistry;
+
+    @GetMapping("/instances")
+    @MethodCode(value = "LB001", description = "Get load-balanced service instances")
+    public ResponseEntity<GlobalResponse> getInstances() {
+        return ResponseHelper.successWithData("Service instances retrieved successfully", serviceInstanceRegistry.getStats());
+    }
+}
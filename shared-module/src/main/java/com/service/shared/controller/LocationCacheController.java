@@ -0,0 +1,59 @@
+package com.service.shared.controller;
+
+import com.service.shared.annotation.MethodCode;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.location.LocationCache;
+import com.service.shared.location.TrajectoryStore;
+import com.service.shared.util.ResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controller exposing the device location cache and trajectories
+ */
+@RestController
+@ConditionalOnProperty(name = "platform.location-cache.enabled", havingValue = "true")
+@RequestMapping("/location-cache")
+@RequiredArgsConstructor
+public class LocationCacheController {
+
+    private final LocationCache locationCache;
+    private final ObjectProvider<TrajectoryStore> trajectoryStore;
+
+    @GetMapping("/stats")
+    @MethodCode(value = "LC001", description = "Get location cache statistics")
+    public ResponseEntity<GlobalResponse> getStats() {
+        return ResponseHelper.successWithData("Location cache statistics retrieved successfully", locationCache.getStats());
+    }
+
+    @GetMapping("/trajectories/stats")
+    @MethodCode(value = "LC002", description = "Get trajectory store statistics")
+    public ResponseEntity<GlobalResponse> getTrajectoryStats() {
+        TrajectoryStore trajectories = trajectoryStore.getIfAvailable();
+        if (trajectories == null) {
+            return ResponseHelper.notFound("Trajectory store is disabled");
+        }
+        return ResponseHelper.successWithData("Trajectory statistics retrieved successfully", trajectories.getStats());
+    }
+
+    @GetMapping("/trajectories/{phoneNumber}")
+    @MethodCode(value = "LC003", description = "Get device trajectory and predicted location")
+    public ResponseEntity<GlobalResponse> getTrajectory(@PathVariable String phoneNumber) {
+        TrajectoryStore trajectories = trajectoryStore.getIfAvailable();
+        if (trajectories == null) {
+            return ResponseHelper.notFound("Trajectory store is disabled");
+        }
+        Map<String, Object> trajectory = new LinkedHashMap<>();
+        trajectory.put("phoneNumber", phoneNumber);
+        trajectory.put("points", trajectories.getTrajectory(phoneNumber));
+        trajectory.put("predicted", trajectories.predict(phoneNumber, Instant.now()).orElse(null));
+        return ResponseHelper.successWithData("Trajectory retrieved successfully", trajectory);
+    }
+}
@@ -0,0 +1,36 @@
+package com.service.shared.controller;
+
+import com.service.shared.annotation.MethodCode;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.util.NokiaNacResponseCache;
+import com.service.shared.util.ResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controller exposing the Nokia NAC response cache
+ * Only registered in services that set nokia.nac.cache.stats-endpoint, i.e. the ones whose clients cache
+ */
+@RestController
+@ConditionalOnProperty(name = "nokia.nac.cache.stats-endpoint", havingValue = "true")
+@RequestMapping("/nokia-nac/cache")
+@RequiredArgsConstructor
+public class NokiaNacCacheController {
+
+    private final NokiaNacResponseCache responseCache;
+
+    @GetMapping("/stats")
+    @MethodCode(value = "NC001", description = "Get response cache statistics")
+    public ResponseEntity<GlobalResponse> getStats() {
+        return ResponseHelper.successWithData("Cache statistics retrieved successfully", responseCache.getStats());
+    }
+
+    @DeleteMapping("/{endpoint}")
+    @MethodCode(value = "NC002", description = "Invalidate cached responses of an endpoint")
+    public ResponseEntity<GlobalResponse> invalidate(@PathVariable String endpoint) {
+        responseCache.invalidate(endpoint);
+        return ResponseHelper.successWithoutData("Cache invalidated successfully");
+    }
+}
@@ -0,0 +1,31 @@
+package com.service.shared.controller;
+
+import com.service.shared.annotation.MethodCode;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.util.NokiaNacRequestHedger;
+import com.service.shared.util.ResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller exposing Nokia NAC request hedging statistics
+ * Only registered in services that set nokia.nac.hedging.stats-endpoint, i.e. the ones that hedge
+ */
+@RestController
+@ConditionalOnProperty(name = "nokia.nac.hedging.stats-endpoint", havingValue = "true")
+@RequestMapping("/nokia-nac/hedging")
+@RequiredArgsConstructor
+public class NokiaNacHedgingController {
+
+    private final NokiaNacRequestHedger requestHedger;
+
+    @GetMapping("/stats")
+    @MethodCode(value = "NH001", description = "Get request hedging statistics")
+    public ResponseEntity<GlobalResponse> getStats() {
+        return ResponseHelper.successWithData("Hedging statistics retrieved successfully", requestHedger.getStats());
+    }
+}
@@ -0,0 +1,29 @@
+package com.service.shared.controller;
+
+import com.service.shared.annotation.MethodCode;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.subscriber.SubscriberProfileCache;
+import com.service.shared.util.ResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller exposing the subscriber profile cache
+ */
+@RestController
+@RequestMapping("/subscribers/profile-cache")
+@RequiredArgsConstructor
+public class SubscriberProfileCacheController {
+
+    private final SubscriberProfileCache profileCache;
+
+    @GetMapping("/stats")
+    @MethodCode(value = "SP001", description = "Get subscriber profile cache statistics")
+    public ResponseEntity<GlobalResponse> getStats() {
+        return ResponseHelper.successWithData("Subscriber profile cache statistics retrieved successfully",
+                profileCache.getStats());
+    }
+}
@@ -0,0 +1,28 @@
+package com.service.shared.controller;
+
+import com.service.shared.annotation.MethodCode;
+import com.service.shared.dto.GlobalResponse;
+import com.service.shared.util.ResponseHelper;
+import com.service.shared.util.VirtualThreadPinningDetector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller exposing virtual thread pinning statistics
+ */
+@RestController
+@RequestMapping("/virtual-threads")
+@RequiredArgsConstructor
+public class VirtualThreadController {
+
+    private final VirtualThreadPinningDetector pinningDetector;
+
+    @GetMapping("/pinning")
+    @MethodCode(value = "VT001", description = "Get virtual thread pinning statistics")
+    public ResponseEntity<GlobalResponse> getPinningStats() {
+        return ResponseHelper.successWithData("Pinning statistics retrieved successfully", pinningDetector.getStats());
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,9 +34,15 @@ public class AreaDTO {
 
     /**
      * Radius information (can be a number or object depending on area type)
+     * Circle: meters. Ellipse: {semiMajorAxis, semiMinorAxis, orientation} in meters and degrees from north.
      */
     private Object radius;
 
+    /**
+     * Vertices of an irregular area, or the two opposite corners of a rectangle
+     */
+    private List<CenterDTO> pointList;
+
     /**
      * Nested DTO for center coordinates
      */
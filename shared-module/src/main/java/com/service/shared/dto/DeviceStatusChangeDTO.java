@@ -0,0 +1,48 @@
+package com.service.shared.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Kafka Event DTO for device connectivity/roaming status changes
+ * Published to device-status-changes, keyed by phone number, whenever the state table changes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeviceStatusChangeDTO {
+
+    private String phoneNumber;
+
+    /**
+     * CONNECTED_DATA, CONNECTED_SMS or NOT_CONNECTED
+     */
+    private String connectivityStatus;
+
+    private String previousConnectivityStatus;
+
+    private Boolean roaming;
+
+    private Boolean previousRoaming;
+
+    private Integer countryCode;
+
+    private List<String> countryName;
+
+    /**
+     * Event type that caused the change, or "poll" for a status read from Nokia
+     */
+    private String cause;
+
+    /**
+     * When the network reported the status (ISO 8601)
+     */
+    private String statusTime;
+}
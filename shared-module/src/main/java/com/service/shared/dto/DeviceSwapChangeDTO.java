@@ -0,0 +1,39 @@
+package com.service.shared.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kafka Event DTO for a newly observed device swap
+ * Published to device-swap-changes, keyed by phone number, when Nokia reports a later swap date
+ * than the one last seen for the device
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeviceSwapChangeDTO {
+
+    private String phoneNumber;
+
+    /**
+     * Swap date reported by Nokia (ISO 8601)
+     */
+    private String latestDeviceChange;
+
+    /**
+     * Swap date seen before; null when the device had no known swap
+     */
+    private String previousDeviceChange;
+
+    /**
+     * check, retrieve-date or screening
+     */
+    private String source;
+
+    private String detectedAt;
+}
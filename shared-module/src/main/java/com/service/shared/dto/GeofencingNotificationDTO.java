@@ -0,0 +1,59 @@
+package com.service.shared.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Kafka Event DTO for geofencing notifications received from Nokia NAC
+ * Keyed by the device phone number on the geofencing-notifications topic
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GeofencingNotificationDTO {
+
+    /**
+     * CloudEvent ID
+     */
+    private String eventId;
+
+    /**
+     * CloudEvent type, e.g. org.camaraproject.geofencing-subscriptions.v0.area-entered
+     */
+    private String type;
+
+    /**
+     * CloudEvent time (ISO 8601)
+     */
+    private String time;
+
+    private String subscriptionId;
+
+    /**
+     * Local geofence that produced the event; null for Nokia notifications
+     */
+    private String geofenceId;
+
+    private String phoneNumber;
+
+    /**
+     * Center and radius (meters) of the subscribed area
+     */
+    private Double latitude;
+
+    private Double longitude;
+
+    private Double radius;
+
+    /**
+     * CloudEvent data as received
+     */
+    private Map<String, Object> data;
+}
@@ -0,0 +1,14 @@
+package com.service.shared.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Location retrieval for many devices; each item is a regular retrieval request
+ */
+@Data
+public class BatchLocationRetrievalDTO {
+
+    private List<LocationRetrievalDTO> items;
+}
@@ -0,0 +1,14 @@
+package com.service.shared.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Location verification for many devices; each item is a regular verification request
+ */
+@Data
+public class BatchLocationVerificationDTO {
+
+    private List<LocationVerificationDto> items;
+}
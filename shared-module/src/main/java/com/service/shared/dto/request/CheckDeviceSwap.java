@@ -7,4 +7,8 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(callSuper = false)
 public class CheckDeviceSwap extends DeviceDTO{
      private int maxAge;
+     /**
+      * Accept the locally known swap state until its backoff re-check is due; otherwise Nokia is asked
+      */
+     private boolean allowCached;
 }
@@ -0,0 +1,16 @@
+package com.service.shared.dto.request;
+
+import lombok.Data;
+
+/**
+ * Device position to evaluate against the local geofences
+ */
+@Data
+public class DeviceLocationUpdateDTO {
+
+    private String phoneNumber;
+
+    private Double latitude;
+
+    private Double longitude;
+}
@@ -0,0 +1,18 @@
+package com.service.shared.dto.request;
+
+import com.service.shared.dto.AreaDTO;
+import lombok.Data;
+
+/**
+ * Request to register a locally evaluated geofence
+ */
+@Data
+public class GeofenceDefinitionDTO {
+
+    /**
+     * Geofence id; generated when absent
+     */
+    private String id;
+
+    private AreaDTO area;
+}
@@ -1,5 +1,6 @@
 package com.service.shared.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 @Data
@@ -8,5 +9,11 @@ public class LocationRetrievalDTO  {
     DeviceDetailDTO device;
     String maxAge;
 
+    /**
+     * Coarsest acceptable accuracy in meters for a cached answer; not forwarded to Nokia
+     */
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    Double maxAccuracy;
+
 
 }
@@ -0,0 +1,13 @@
+package com.service.shared.dto.request;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = false)
+public class RetrieveDeviceSwapDate extends DeviceDTO {
+    /**
+     * Accept the locally known swap state until its backoff re-check is due; otherwise Nokia is asked
+     */
+    private boolean allowCached;
+}
@@ -0,0 +1,19 @@
+package com.service.shared.dto.request;
+
+import lombok.Data;
+
+/**
+ * Bulk SIM/device swap screening job
+ * source is FILE (inputPath, relative to the screening input directory, one phone number per line
+ * or CSV with the number in the first column) or USERS (every user with a phone number).
+ * A swap within maxAge hours flags the number.
+ */
+@Data
+public class SwapScreeningRequestDTO {
+
+    private String source;
+
+    private String inputPath;
+
+    private Integer maxAge;
+}
@@ -0,0 +1,13 @@
+package com.service.shared.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Application server as echoed back by Nokia NAC QoD session responses
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ApplicationServerIdentifier(
+        String ipv4Address,
+        String ipv6Address
+) {
+}
@@ -0,0 +1,13 @@
+package com.service.shared.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Device identifier as echoed back by Nokia NAC responses
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record DeviceIdentifier(
+        String phoneNumber,
+        String networkAccessIdentifier
+) {
+}
@@ -0,0 +1,20 @@
+package com.service.shared.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Typed Nokia NAC geofencing subscription
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GeofencingSubscriptionResponse(
+        String id,
+        String protocol,
+        String sink,
+        List<String> types,
+        String startsAt,
+        String expiresAt,
+        String status
+) {
+}
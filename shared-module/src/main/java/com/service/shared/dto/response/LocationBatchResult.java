@@ -0,0 +1,22 @@
+package com.service.shared.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a batch location request, streamed as one NDJSON line
+ *
+ * @param index      Position of the item in the request
+ * @param code       HTTP-style status of the item (200 on success)
+ * @param data       Nokia response on success
+ * @param durationMs Time spent on the item
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LocationBatchResult(
+        int index,
+        String phoneNumber,
+        int code,
+        String message,
+        Object data,
+        long durationMs
+) {
+}
@@ -0,0 +1,55 @@
+package com.service.shared.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Typed Nokia NAC location retrieval response
+ * The CAMARA shape reports an area (circle center/radius or polygon boundary);
+ * some gateways flatten it into a single location point, so both are accepted.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record LocationRetrievalResponse(
+        String lastLocationTime,
+        Area area,
+        Point location
+) {
+
+    /**
+     * Best known position: the flattened location if present, otherwise the area center
+     */
+    public Point position() {
+        if (location != null) {
+            return location;
+        }
+        return area != null ? area.center() : null;
+    }
+
+    /**
+     * Accuracy in meters: the reported accuracy, otherwise the area radius
+     */
+    public double accuracy() {
+        if (location != null && location.accuracy() > 0) {
+            return location.accuracy();
+        }
+        return area != null ? area.radius() : 0.0;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Area(
+            String areaType,
+            Point center,
+            double radius,
+            List<Point> boundary
+    ) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Point(
+            double latitude,
+            double longitude,
+            double accuracy
+    ) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.service.shared.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Typed Nokia NAC network slice subscription
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NetworkSliceSubscriptionResponse(
+        String id,
+        String protocol,
+        String sink,
+        List<String> types,
+        String startsAt,
+        String expiresAt,
+        String status
+) {
+}
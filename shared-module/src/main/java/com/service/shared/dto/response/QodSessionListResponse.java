@@ -0,0 +1,15 @@
+package com.service.shared.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Typed QoD session listing as returned by the connectivity service
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record QodSessionListResponse(
+        List<QodSessionResponse> sessions,
+        int count
+) {
+}
@@ -0,0 +1,24 @@
+package com.service.shared.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Typed Nokia NAC Quality of Service on Demand session
+ * priority, bandwidth and latency are optional metrics; they are null when the response omits them
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record QodSessionResponse(
+        String sessionId,
+        String qosProfile,
+        String qosStatus,
+        String statusInfo,
+        int duration,
+        long startedAt,
+        long expiresAt,
+        DeviceIdentifier device,
+        ApplicationServerIdentifier applicationServer,
+        Integer priority,
+        Double bandwidth,
+        Double latency
+) {
+}
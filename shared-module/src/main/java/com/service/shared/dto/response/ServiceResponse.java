@@ -0,0 +1,15 @@
+package com.service.shared.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Typed view of a GlobalResponse returned by an internal service
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ServiceResponse<T>(
+        Integer code,
+        String message,
+        T data,
+        Long timestamp
+) {
+}
@@ -0,0 +1,48 @@
+package com.service.shared.loadbalancer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Instance selection strategies of the client-side load balancer
+ */
+public enum LoadBalancingStrategy {
+
+    /**
+     * Pick two random instances and take the less loaded one
+     */
+    POWER_OF_TWO_CHOICES {
+        @Override
+        public ServiceInstance choose(List<ServiceInstance> instances) {
+            int size = instances.size();
+            if (size == 1) {
+                return instances.getFirst();
+            }
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+            ServiceInstance a = instances.get(first);
+            ServiceInstance b = instances.get(second);
+            return a.load() <= b.load() ? a : b;
+        }
+    },
+
+    /**
+     * Take the instance with the fewest outstanding requests
+     */
+    LEAST_OUTSTANDING {
+        @Override
+        public ServiceInstance choose(List<ServiceInstance> instances) {
+            return instances.stream()
+                    .min(Comparator.comparingInt(ServiceInstance::getOutstanding)
+                            .thenComparingDouble(ServiceInstance::getLatencyEwmaMs))
+                    .orElseThrow();
+        }
+    };
+
+    public abstract ServiceInstance choose(List<ServiceInstance> instances);
+}
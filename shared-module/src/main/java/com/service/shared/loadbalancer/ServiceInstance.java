@@ -0,0 +1,105 @@
+package com.service.shared.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One replica of an internal service, with the load and outlier state used by the load balancer
+ */
+public class ServiceInstance {
+
+    private static final double EWMA_WEIGHT = 0.2;
+
+    private final String serviceId;
+    private final String url;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger ejections = new AtomicInteger();
+    private volatile double latencyEwmaMs;
+    private volatile boolean healthy = true;
+    private volatile long ejectedUntilNanos;
+
+    public ServiceInstance(String serviceId, String url) {
+        this.serviceId = serviceId;
+        this.url = url;
+    }
+
+    public String getServiceId() {
+        return serviceId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public boolean isAvailable(long nowNanos) {
+        return healthy && nowNanos - ejectedUntilNanos >= 0;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public void setHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public double getLatencyEwmaMs() {
+        return latencyEwmaMs;
+    }
+
+    public boolean isEjected(long nowNanos) {
+        return nowNanos - ejectedUntilNanos < 0;
+    }
+
+    /**
+     * Load score used to compare instances: outstanding requests weighted by observed latency
+     */
+    public double load() {
+        return (outstanding.get() + 1) * Math.max(latencyEwmaMs, 1.0);
+    }
+
+    void acquire() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * Release a request and record its outcome
+     *
+     * @param elapsedNanos Latency of the request, negative when the request was cancelled
+     * @return Number of consecutive failures of the instance
+     */
+    int release(long elapsedNanos, boolean failed) {
+        outstanding.decrementAndGet();
+        if (elapsedNanos >= 0) {
+            double sampleMs = elapsedNanos / 1_000_000.0;
+            double current = latencyEwmaMs;
+            latencyEwmaMs = current == 0 ? sampleMs : current + EWMA_WEIGHT * (sampleMs - current);
+        }
+        if (failed) {
+            return consecutiveFailures.incrementAndGet();
+        }
+        consecutiveFailures.set(0);
+        return 0;
+    }
+
+    /**
+     * Eject the instance; every further ejection lengthens the ejection period
+     */
+    void eject(long nowNanos, long baseEjectionNanos, long maxEjectionNanos) {
+        int count = ejections.incrementAndGet();
+        ejectedUntilNanos = nowNanos + Math.min(baseEjectionNanos * count, maxEjectionNanos);
+        consecutiveFailures.set(0);
+    }
+
+    /**
+     * Reset the ejection backoff once the instance has served successfully again
+     */
+    void resetEjections() {
+        ejections.set(0);
+    }
+}
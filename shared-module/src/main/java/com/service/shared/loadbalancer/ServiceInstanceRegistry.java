@@ -0,0 +1,281 @@
+package com.service.shared.loadbalancer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of internal service replicas for client-side load balancing (lb://{service} URLs)
+ * Instances come from services.{service}.instances (falling back to services.{service}.base-url) or,
+ * when services.registry.file is set, from a properties file of service=url1,url2 lines that is
+ * re-read when it changes. Instances are health-checked periodically and ejected for a while after
+ * consecutive failures or when their latency is far above the other replicas of the service.
+ * Only created with services.registry.enabled=true, so services without lb:// URLs run no health checker.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "services.registry.enabled", havingValue = "true")
+public class ServiceInstanceRegistry {
+
+    private final Environment environment;
+    private final WebClient internalWebClient;
+    private final LoadBalancingStrategy strategy;
+    private final String registryFile;
+    private final Duration healthCheckInterval;
+    private final Duration healthCheckTimeout;
+    private final String healthCheckPath;
+    private final int consecutiveFailureThreshold;
+    private final double slowCallFactor;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final double maxEjectionPercent;
+
+    private final Map<String, List<ServiceInstance>> services = new ConcurrentHashMap<>();
+    private volatile Map<String, List<String>> fileInstances = Map.of();
+    private volatile FileTime fileModified;
+    private Disposable healthCheck;
+
+    public ServiceInstanceRegistry(
+            Environment environment,
+            @Qualifier("internalWebClient") WebClient internalWebClient,
+            @Value("${services.registry.strategy:POWER_OF_TWO_CHOICES}") LoadBalancingStrategy strategy,
+            @Value("${services.registry.file:}") String registryFile,
+            @Value("${services.registry.health-check.interval:10s}") Duration healthCheckInterval,
+            @Value("${services.registry.health-check.timeout:2s}") Duration healthCheckTimeout,
+            @Value("${services.registry.health-check.path:/actuator/health}") String healthCheckPath,
+            @Value("${services.registry.ejection.consecutive-failures:5}") int consecutiveFailureThreshold,
+            @Value("${services.registry.ejection.slow-call-factor:3.0}") double slowCallFactor,
+            @Value("${services.registry.ejection.duration:30s}") Duration ejectionDuration,
+            @Value("${services.registry.ejection.max-duration:5m}") Duration maxEjectionDuration,
+            @Value("${services.registry.ejection.max-percent:50}") double maxEjectionPercent
+    ) {
+        this.environment = environment;
+        this.internalWebClient = internalWebClient;
+        this.strategy = strategy;
+        this.registryFile = registryFile;
+        this.healthCheckInterval = healthCheckInterval;
+        this.healthCheckTimeout = healthCheckTimeout;
+        this.healthCheckPath = healthCheckPath;
+        this.consecutiveFailureThreshold = consecutiveFailureThreshold;
+        this.slowCallFactor = slowCallFactor;
+        this.baseEjectionNanos = ejectionDuration.toNanos();
+        this.maxEjectionNanos = maxEjectionDuration.toNanos();
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    @PostConstruct
+    public void start() {
+        reloadFile();
+        healthCheck = Flux.interval(healthCheckInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> {
+                    reloadFile();
+                    return checkHealth();
+                })
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (healthCheck != null) {
+            healthCheck.dispose();
+        }
+    }
+
+    /**
+     * Choose an instance of the service with the configured strategy.
+     * Ejected and unhealthy instances are skipped unless no other instance is left.
+     */
+    public ServiceInstance choose(String serviceId) {
+        List<ServiceInstance> instances = instances(serviceId);
+        if (instances.isEmpty()) {
+            throw new IllegalStateException("No instances registered for service: " + serviceId);
+        }
+        long now = System.nanoTime();
+        List<ServiceInstance> available = instances.stream()
+                .filter(instance -> instance.isAvailable(now))
+                .toList();
+        if (available.isEmpty()) {
+            List<ServiceInstance> healthy = instances.stream().filter(ServiceInstance::isHealthy).toList();
+            available = healthy.isEmpty() ? instances : healthy;
+        }
+        ServiceInstance chosen = strategy.choose(available);
+        chosen.acquire();
+        return chosen;
+    }
+
+    /**
+     * Record the outcome of a request and eject the instance if it has become an outlier
+     *
+     * @param elapsedNanos Latency of the request, negative when the request was cancelled
+     * @param failed       Whether the request failed because of the instance (connection error or 5xx)
+     */
+    public void release(ServiceInstance instance, long elapsedNanos, boolean failed) {
+        int failures = instance.release(elapsedNanos, failed);
+        if (failures >= consecutiveFailureThreshold) {
+            eject(instance, failures + " consecutive failures");
+        } else if (!failed && elapsedNanos >= 0 && isSlowOutlier(instance)) {
+            eject(instance, String.format("latency %.0fms", instance.getLatencyEwmaMs()));
+        } else if (!failed) {
+            instance.resetEjections();
+        }
+    }
+
+    /**
+     * Current state of every registered instance
+     */
+    public Map<String, Object> getStats() {
+        long now = System.nanoTime();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        services.forEach((serviceId, instances) -> stats.put(serviceId, instances.stream()
+                .map(instance -> {
+                    Map<String, Object> instanceStats = new LinkedHashMap<>();
+                    instanceStats.put("url", instance.getUrl());
+                    instanceStats.put("healthy", instance.isHealthy());
+                    instanceStats.put("ejected", instance.isEjected(now));
+                    instanceStats.put("outstanding", instance.getOutstanding());
+                    instanceStats.put("latencyEwmaMs", instance.getLatencyEwmaMs());
+                    return instanceStats;
+                })
+                .toList()));
+        return stats;
+    }
+
+    /**
+     * Re-read the configured instances of every known service, e.g. after a configuration refresh
+     */
+    public void refresh() {
+        services.keySet().forEach(this::refreshInstances);
+    }
+
+    private List<ServiceInstance> instances(String serviceId) {
+        return services.computeIfAbsent(serviceId, id -> configuredUrls(id).stream()
+                .map(url -> new ServiceInstance(id, url))
+                .toList());
+    }
+
+    private List<String> configuredUrls(String serviceId) {
+        List<String> fromFile = fileInstances.get(serviceId);
+        if (fromFile != null && !fromFile.isEmpty()) {
+            return fromFile;
+        }
+        String[] urls = environment.getProperty("services." + serviceId + ".instances", String[].class);
+        if (urls == null || urls.length == 0) {
+            String baseUrl = environment.getProperty("services." + serviceId + ".base-url");
+            urls = StringUtils.hasText(baseUrl) ? new String[]{baseUrl} : new String[0];
+        }
+        return Arrays.stream(urls).map(String::trim).filter(StringUtils::hasText).toList();
+    }
+
+    private boolean isSlowOutlier(ServiceInstance instance) {
+        List<ServiceInstance> instances = services.getOrDefault(instance.getServiceId(), List.of());
+        if (instances.size() < 2) {
+            return false;
+        }
+        double[] latencies = instances.stream()
+                .mapToDouble(ServiceInstance::getLatencyEwmaMs)
+                .filter(latency -> latency > 0)
+                .sorted()
+                .toArray();
+        if (latencies.length < 2) {
+            return false;
+        }
+        double median = latencies[latencies.length / 2];
+        return instance.getLatencyEwmaMs() > median * slowCallFactor;
+    }
+
+    private void eject(ServiceInstance instance, String reason) {
+        List<ServiceInstance> instances = services.getOrDefault(instance.getServiceId(), List.of());
+        long now = System.nanoTime();
+        long ejected = instances.stream().filter(other -> other.isEjected(now)).count();
+        if (instance.isEjected(now) || (ejected + 1) * 100.0 / instances.size() > maxEjectionPercent) {
+            return;
+        }
+        instance.eject(now, baseEjectionNanos, maxEjectionNanos);
+        log.warn("Ejected instance {} of service {}: {}", instance.getUrl(), instance.getServiceId(), reason);
+    }
+
+    private Mono<Void> checkHealth() {
+        return Flux.fromIterable(services.values())
+                .flatMapIterable(instances -> instances)
+                .flatMap(instance -> internalWebClient.get()
+                        .uri(instance.getUrl() + healthCheckPath)
+                        .exchangeToMono(response -> Mono.just(!response.statusCode().is5xxServerError()))
+                        .timeout(healthCheckTimeout)
+                        .onErrorReturn(false)
+                        .doOnNext(healthy -> {
+                            if (instance.isHealthy() != healthy) {
+                                log.info("Instance {} of service {} is now {}", instance.getUrl(),
+                                        instance.getServiceId(), healthy ? "healthy" : "unhealthy");
+                            }
+                            instance.setHealthy(healthy);
+                        }))
+                .then();
+    }
+
+    private void reloadFile() {
+        if (!StringUtils.hasText(registryFile)) {
+            return;
+        }
+        Path path = Path.of(registryFile);
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            if (modified.equals(fileModified)) {
+                return;
+            }
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            }
+            Map<String, List<String>> loaded = new LinkedHashMap<>();
+            properties.forEach((serviceId, urls) -> loaded.put(serviceId.toString(),
+                    Arrays.stream(urls.toString().split(",")).map(String::trim).filter(StringUtils::hasText).toList()));
+            fileInstances = loaded;
+            fileModified = modified;
+            loaded.keySet().forEach(this::refreshInstances);
+            log.info("Loaded service registry file {}: {}", registryFile, loaded);
+        } catch (IOException e) {
+            log.warn("Failed to read service registry file {}: {}", registryFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Replace the instances of a service, keeping the state of instances that are still listed
+     */
+    private void refreshInstances(String serviceId) {
+        services.computeIfPresent(serviceId, (id, current) -> {
+            List<ServiceInstance> refreshed = new ArrayList<>();
+            for (String url : configuredUrls(id)) {
+                refreshed.add(current.stream()
+                        .filter(instance -> instance.getUrl().equals(url))
+                        .findFirst()
+                        .orElseGet(() -> new ServiceInstance(id, url)));
+            }
+            return List.copyOf(refreshed);
+        });
+    }
+}
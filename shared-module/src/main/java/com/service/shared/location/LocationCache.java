@@ -0,0 +1,249 @@
+package com.service.shared.location;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.service.shared.dto.AreaDTO;
+import com.service.shared.dto.request.LocationRetrievalDTO;
+import com.service.shared.dto.request.LocationVerificationDto;
+import com.service.shared.dto.response.LocationRetrievalResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Last known location of each device, keyed by phone number
+ * A retrieval is answered locally when the cached fix is younger than the caller's maxAge (seconds,
+ * as in the CAMARA request; default-max-age when absent) and at least as accurate as maxAccuracy.
+ * Concurrent misses for the same device share one Nokia call, and a hit returns the body Nokia sent.
+ * Besides retrievals, circles are learned from successful location verifications and geofencing
+ * area-entered events (the device is inside the circle); their centre is no position, so they only
+ * answer requests whose maxAccuracy the radius meets. A newer fix replaces the cached one unless it is
+ * coarser, or learned while the cached one is a retrieval, and the cached one is still within
+ * default-max-age. Retrieved fixes are also appended to the device's trajectory; learned circles only
+ * say the device was somewhere inside them, so they are not.
+ * Only created where platform.location-cache.enabled is true.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "platform.location-cache.enabled", havingValue = "true")
+public class LocationCache {
+
+    private final ObjectProvider<TrajectoryStore> trajectoryStore;
+    private final ObjectMapper objectMapper;
+    private final Duration defaultMaxAge;
+    private final Cache<String, LocationFix> fixes;
+    private final Map<String, CompletableFuture<LocationRetrieval>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder learned = new LongAdder();
+
+    public LocationCache(
+            ObjectProvider<TrajectoryStore> trajectoryStore,
+            ObjectMapper objectMapper,
+            @Value("${platform.location-cache.maximum-size:100000}") long maximumSize,
+            @Value("${platform.location-cache.retention:10m}") Duration retention,
+            @Value("${platform.location-cache.default-max-age:60s}") Duration defaultMaxAge
+    ) {
+        this.trajectoryStore = trajectoryStore;
+        this.objectMapper = objectMapper;
+        this.defaultMaxAge = defaultMaxAge;
+        this.fixes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    /**
+     * Retrieve the location for a request, calling the loader only when no cached fix qualifies
+     *
+     * @param loader Nokia's response body; it is returned to the caller as is
+     */
+    public Mono<LocationRetrieval> retrieve(LocationRetrievalDTO request, Supplier<Mono<Map<String, Object>>> loader) {
+        String phoneNumber = request.getDevice() != null ? request.getDevice().getPhoneNumber() : null;
+        return lookup(phoneNumber, parseMaxAge(request.getMaxAge()), request.getMaxAccuracy(),
+                () -> loader.get().map(body -> new LocationRetrieval(decode(body), body)));
+    }
+
+    public Mono<LocationRetrievalResponse> retrieve(String phoneNumber, Duration maxAge, Double maxAccuracyMeters,
+                                                    Supplier<Mono<LocationRetrievalResponse>> loader) {
+        return lookup(phoneNumber, maxAge, maxAccuracyMeters,
+                () -> loader.get().map(response -> new LocationRetrieval(response, null)))
+                .map(LocationRetrieval::response);
+    }
+
+    public LocationFix get(String phoneNumber) {
+        return phoneNumber == null ? null : fixes.getIfPresent(phoneNumber);
+    }
+
+    /**
+     * Learn that the device was inside a circle at the given time
+     */
+    public void recordArea(String phoneNumber, double latitude, double longitude, double radiusMeters,
+                           Instant time, String source) {
+        if (phoneNumber == null) {
+            return;
+        }
+        record(new LocationFix(phoneNumber, latitude, longitude, radiusMeters,
+                time != null ? time : Instant.now(), source, null));
+        learned.increment();
+    }
+
+    /**
+     * Learn from a verification that placed the device inside a circular area
+     */
+    public void recordVerification(LocationVerificationDto request, Map<String, Object> response) {
+        if (request == null || response == null || request.getDevice() == null || request.getArea() == null
+                || !"TRUE".equals(response.get("verificationResult"))) {
+            return;
+        }
+        AreaDTO.CenterDTO center = request.getArea().getCenter();
+        if (center == null || center.getLatitude() == null || center.getLongitude() == null
+                || !(request.getArea().getRadius() instanceof Number radius)) {
+            return;
+        }
+        recordArea(request.getDevice().getPhoneNumber(), center.getLatitude(), center.getLongitude(),
+                radius.doubleValue(), parseTime(response.get("lastLocationTime")), "verification");
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", fixes.estimatedSize());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("coalescedMisses", coalesced.sum());
+        stats.put("nokiaCalls", loads.sum());
+        stats.put("learnedFixes", learned.sum());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    private Mono<LocationRetrieval> lookup(String phoneNumber, Duration maxAge, Double maxAccuracyMeters,
+                                           Supplier<Mono<LocationRetrieval>> loader) {
+        if (phoneNumber == null) {
+            return Mono.defer(loader);
+        }
+        return Mono.defer(() -> {
+            LocationFix fix = fixes.getIfPresent(phoneNumber);
+            if (fix != null && fix.satisfies(maxAge != null ? maxAge : defaultMaxAge, maxAccuracyMeters, Instant.now())) {
+                hits.increment();
+                return Mono.just(fix.toRetrieval());
+            }
+            misses.increment();
+            // Cancellation of one caller must not cancel the call other callers are waiting on
+            return Mono.fromFuture(load(phoneNumber, loader), true);
+        });
+    }
+
+    private CompletableFuture<LocationRetrieval> load(String phoneNumber, Supplier<Mono<LocationRetrieval>> loader) {
+        CompletableFuture<LocationRetrieval> created = new CompletableFuture<>();
+        CompletableFuture<LocationRetrieval> existing = inFlight.putIfAbsent(phoneNumber, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+        loads.increment();
+        created.whenComplete((response, error) -> inFlight.remove(phoneNumber, created));
+        try {
+            loader.get().subscribe(
+                    retrieval -> {
+                        recordRetrieval(phoneNumber, retrieval);
+                        created.complete(retrieval);
+                    },
+                    created::completeExceptionally,
+                    () -> created.complete(null));
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private void recordRetrieval(String phoneNumber, LocationRetrieval retrieval) {
+        LocationRetrievalResponse response = retrieval.response();
+        LocationRetrievalResponse.Point position = response != null ? response.position() : null;
+        if (position == null) {
+            return;
+        }
+        Instant time = parseTime(response.lastLocationTime());
+        record(new LocationFix(phoneNumber, position.latitude(), position.longitude(), response.accuracy(),
+                time != null ? time : Instant.now(), "retrieval", retrieval));
+    }
+
+    private void record(LocationFix candidate) {
+        fixes.asMap().merge(candidate.phoneNumber(), candidate, (current, next) -> preferred(current, next));
+        // Every retrieved fix is movement history, even one the cache keeps a more accurate fix over
+        TrajectoryStore trajectories = trajectoryStore.getIfAvailable();
+        if (trajectories != null && !candidate.isLearned()) {
+            trajectories.record(candidate.phoneNumber(), candidate.latitude(), candidate.longitude(),
+                    candidate.fixTime(), candidate.accuracyMeters());
+        }
+    }
+
+    private LocationFix preferred(LocationFix current, LocationFix candidate) {
+        if (!candidate.fixTime().isAfter(current.fixTime())) {
+            return current;
+        }
+        // A learned circle must not push out a position callers without maxAccuracy can still use
+        boolean worse = candidate.accuracyMeters() > current.accuracyMeters()
+                || candidate.isLearned() && !current.isLearned();
+        return worse && !current.fixTime().plus(defaultMaxAge).isBefore(Instant.now()) ? current : candidate;
+    }
+
+    /**
+     * Typed view of a Nokia body; null when it does not have the retrieval shape (the body is then not cached)
+     */
+    private LocationRetrievalResponse decode(Map<String, Object> body) {
+        try {
+            return body != null ? objectMapper.convertValue(body, LocationRetrievalResponse.class) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Could not read location retrieval response: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * CAMARA maxAge in seconds; null when absent or unparseable
+     */
+    private static Duration parseMaxAge(String maxAge) {
+        if (maxAge == null || maxAge.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(maxAge.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Instant parseTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value.toString()).toInstant();
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable location time: {}", value);
+            return null;
+        }
+    }
+}
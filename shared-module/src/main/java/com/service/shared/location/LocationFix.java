@@ -0,0 +1,67 @@
+package com.service.shared.location;
+
+import com.service.shared.dto.response.LocationRetrievalResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Last known position of a device
+ *
+ * @param accuracyMeters Radius of the area the device is known to be in
+ * @param fixTime        When the network located the device (not when it was cached)
+ * @param source         retrieval, verification or geofencing
+ * @param retrieval      Nokia's retrieval answer, when the fix came from a retrieval; null for learned circles
+ */
+public record LocationFix(
+        String phoneNumber,
+        double latitude,
+        double longitude,
+        double accuracyMeters,
+        Instant fixTime,
+        String source,
+        LocationRetrieval retrieval
+) {
+
+    /**
+     * Whether the fix is the centre of a circle the device was found in rather than a position Nokia reported
+     */
+    public boolean isLearned() {
+        return retrieval == null;
+    }
+
+    /**
+     * Learned circles only answer requests that set a maxAccuracy they meet
+     */
+    public boolean satisfies(Duration maxAge, Double maxAccuracyMeters, Instant now) {
+        if (fixTime.plus(maxAge).isBefore(now)) {
+            return false;
+        }
+        if (maxAccuracyMeters == null) {
+            return !isLearned();
+        }
+        return accuracyMeters <= maxAccuracyMeters;
+    }
+
+    /**
+     * The fix as a retrieval; learned circles are reported in the CAMARA circle shape
+     */
+    public LocationRetrieval toRetrieval() {
+        if (retrieval != null) {
+            return retrieval;
+        }
+        LocationRetrievalResponse.Point center = new LocationRetrievalResponse.Point(latitude, longitude, 0.0);
+        LocationRetrievalResponse response = new LocationRetrievalResponse(fixTime.toString(),
+                new LocationRetrievalResponse.Area("CIRCLE", center, accuracyMeters, null), null);
+        Map<String, Object> area = new LinkedHashMap<>();
+        area.put("areaType", "CIRCLE");
+        area.put("center", Map.of("latitude", latitude, "longitude", longitude));
+        area.put("radius", accuracyMeters);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("lastLocationTime", fixTime.toString());
+        body.put("area", area);
+        return new LocationRetrieval(response, body);
+    }
+}
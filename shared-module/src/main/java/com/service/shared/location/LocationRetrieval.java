@@ -0,0 +1,24 @@
+package com.service.shared.location;
+
+import com.service.shared.dto.response.LocationRetrievalResponse;
+
+import java.util.Map;
+
+/**
+ * A location retrieval as Nokia answered it: the typed response and, when the caller loaded it, the
+ * original body
+ *
+ * @param body Nokia's response body, passed back to API callers unchanged; null for typed-only loads
+ */
+public record LocationRetrieval(
+        LocationRetrievalResponse response,
+        Map<String, Object> body
+) {
+
+    /**
+     * What to return to API callers: the original body when known, otherwise the typed response
+     */
+    public Object payload() {
+        return body != null ? body : response;
+    }
+}
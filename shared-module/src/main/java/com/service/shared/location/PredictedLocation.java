@@ -0,0 +1,23 @@
+package com.service.shared.location;
+
+import java.time.Instant;
+
+/**
+ * Dead-reckoned position of a device
+ *
+ * @param uncertaintyMeters Accuracy of the last fix, grown with the distance travelled since
+ * @param speedMps          Estimated ground speed in meters per second
+ * @param headingDegrees    Estimated course, clockwise from north
+ * @param lastFixTime       Time of the newest recorded fix the estimate starts from
+ * @param time              Time the position is estimated for
+ */
+public record PredictedLocation(
+        double latitude,
+        double longitude,
+        double uncertaintyMeters,
+        double speedMps,
+        double headingDegrees,
+        Instant lastFixTime,
+        Instant time
+) {
+}
@@ -0,0 +1,214 @@
+package com.service.shared.location;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta-encoded position history of one device
+ * The oldest point is kept absolutely (1e-5 degree units, about 1.1 m, and epoch seconds); every later
+ * point is three shorts (latitude, longitude and time deltas to its predecessor) in one interleaved array,
+ * so a point costs 6 bytes. The newest point is also kept absolutely for O(1) appends and predictions.
+ * When the buffer is full, every other point of the older half is merged away, so recent movement
+ * stays at full resolution while older history thins out. A jump that does not fit a delta (over
+ * ~36 km or ~9 h) restarts the trajectory. Not thread-safe; TrajectoryStore serializes access.
+ */
+final class Trajectory {
+
+    static final double UNITS_PER_DEGREE = 100_000.0;
+    private static final double METERS_PER_UNIT = 111_320.0 / UNITS_PER_DEGREE;
+
+    private final short[] deltas;
+    private final int capacity;
+    private int size;
+
+    private int anchorLatitude;
+    private int anchorLongitude;
+    private long anchorTime;
+    private int latestLatitude;
+    private int latestLongitude;
+    private long latestTime;
+    private float latestAccuracy;
+
+    Trajectory(int capacity) {
+        this.capacity = capacity;
+        this.deltas = new short[(capacity - 1) * 3];
+    }
+
+    /**
+     * Append a fix; fixes not newer than the latest one are ignored
+     */
+    boolean append(double latitude, double longitude, long epochSecond, double accuracyMeters) {
+        int pointLatitude = (int) Math.round(latitude * UNITS_PER_DEGREE);
+        int pointLongitude = (int) Math.round(longitude * UNITS_PER_DEGREE);
+        if (size > 0 && epochSecond <= latestTime) {
+            return false;
+        }
+        if (size > 0) {
+            long latitudeDelta = pointLatitude - latestLatitude;
+            long longitudeDelta = pointLongitude - latestLongitude;
+            long timeDelta = epochSecond - latestTime;
+            if (!fits(latitudeDelta) || !fits(longitudeDelta) || !fits(timeDelta)) {
+                size = 0;
+            } else {
+                if (size == capacity) {
+                    compact();
+                }
+                int offset = (size - 1) * 3;
+                deltas[offset] = (short) latitudeDelta;
+                deltas[offset + 1] = (short) longitudeDelta;
+                deltas[offset + 2] = (short) timeDelta;
+            }
+        }
+        if (size == 0) {
+            anchorLatitude = pointLatitude;
+            anchorLongitude = pointLongitude;
+            anchorTime = epochSecond;
+        }
+        size++;
+        latestLatitude = pointLatitude;
+        latestLongitude = pointLongitude;
+        latestTime = epochSecond;
+        latestAccuracy = (float) accuracyMeters;
+        return true;
+    }
+
+    /**
+     * Drop points older than the cutoff; the newest point is always kept
+     */
+    void expireBefore(long cutoffEpochSecond) {
+        while (size > 1 && anchorTime < cutoffEpochSecond) {
+            dropOldest();
+        }
+    }
+
+    /**
+     * Dead-reckoned position; null without two fixes to estimate a velocity from, or beyond the horizon
+     */
+    PredictedLocation predict(long atEpochSecond, long velocityWindowSeconds, long horizonSeconds) {
+        if (size < 2) {
+            // A single fix gives no velocity; assuming the device stands still is no prediction
+            return null;
+        }
+        long elapsed = Math.max(0, atEpochSecond - latestTime);
+        if (elapsed > horizonSeconds) {
+            return null;
+        }
+
+        // Walk back from the newest point until the velocity window is covered
+        int referenceLatitude = latestLatitude;
+        int referenceLongitude = latestLongitude;
+        long referenceTime = latestTime;
+        for (int index = size - 2; index >= 0 && latestTime - referenceTime < velocityWindowSeconds; index--) {
+            referenceLatitude -= deltas[index * 3];
+            referenceLongitude -= deltas[index * 3 + 1];
+            referenceTime -= deltas[index * 3 + 2];
+        }
+
+        if (referenceTime == latestTime) {
+            return null;
+        }
+        double latitudeVelocity = (double) (latestLatitude - referenceLatitude) / (latestTime - referenceTime);
+        double longitudeVelocity = (double) (latestLongitude - referenceLongitude) / (latestTime - referenceTime);
+        double cosLatitude = Math.cos(Math.toRadians(latestLatitude / UNITS_PER_DEGREE));
+        double northMps = latitudeVelocity * METERS_PER_UNIT;
+        double eastMps = longitudeVelocity * METERS_PER_UNIT * cosLatitude;
+        double speed = Math.hypot(northMps, eastMps);
+        double heading = (Math.toDegrees(Math.atan2(eastMps, northMps)) + 360.0) % 360.0;
+
+        return new PredictedLocation(
+                (latestLatitude + latitudeVelocity * elapsed) / UNITS_PER_DEGREE,
+                (latestLongitude + longitudeVelocity * elapsed) / UNITS_PER_DEGREE,
+                // Course changes are unknown: allow half the distance travelled as drift
+                latestAccuracy + 0.5 * speed * elapsed,
+                speed,
+                heading,
+                Instant.ofEpochSecond(latestTime),
+                Instant.ofEpochSecond(atEpochSecond));
+    }
+
+    List<TrajectoryPoint> points() {
+        List<TrajectoryPoint> points = new ArrayList<>(size);
+        if (size == 0) {
+            return points;
+        }
+        int latitude = anchorLatitude;
+        int longitude = anchorLongitude;
+        long time = anchorTime;
+        points.add(point(latitude, longitude, time));
+        for (int index = 0; index < size - 1; index++) {
+            latitude += deltas[index * 3];
+            longitude += deltas[index * 3 + 1];
+            time += deltas[index * 3 + 2];
+            points.add(point(latitude, longitude, time));
+        }
+        return points;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long latestTime() {
+        return latestTime;
+    }
+
+    /**
+     * Approximate heap footprint: object header and fields plus the delta array
+     */
+    int footprintBytes() {
+        return 64 + 16 + deltas.length * Short.BYTES;
+    }
+
+    /**
+     * Merge every other delta pair of the older half, thinning old history to half resolution
+     */
+    private void compact() {
+        int deltaCount = size - 1;
+        int olderHalf = deltaCount / 2;
+        int write = 0;
+        int read = 0;
+        while (read < deltaCount) {
+            int offset = read * 3;
+            if (read < olderHalf && read + 1 < deltaCount) {
+                int latitude = deltas[offset] + deltas[offset + 3];
+                int longitude = deltas[offset + 1] + deltas[offset + 4];
+                int time = deltas[offset + 2] + deltas[offset + 5];
+                if (fits(latitude) && fits(longitude) && fits(time)) {
+                    store(write++, latitude, longitude, time);
+                    read += 2;
+                    continue;
+                }
+            }
+            store(write++, deltas[offset], deltas[offset + 1], deltas[offset + 2]);
+            read++;
+        }
+        size = write + 1;
+        if (size == capacity) {
+            dropOldest();
+        }
+    }
+
+    private void dropOldest() {
+        anchorLatitude += deltas[0];
+        anchorLongitude += deltas[1];
+        anchorTime += deltas[2];
+        System.arraycopy(deltas, 3, deltas, 0, (size - 2) * 3);
+        size--;
+    }
+
+    private void store(int index, int latitude, int longitude, int time) {
+        deltas[index * 3] = (short) latitude;
+        deltas[index * 3 + 1] = (short) longitude;
+        deltas[index * 3 + 2] = (short) time;
+    }
+
+    private static boolean fits(long value) {
+        return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE;
+    }
+
+    private static TrajectoryPoint point(int latitude, int longitude, long time) {
+        return new TrajectoryPoint(latitude / UNITS_PER_DEGREE, longitude / UNITS_PER_DEGREE,
+                Instant.ofEpochSecond(time));
+    }
+}
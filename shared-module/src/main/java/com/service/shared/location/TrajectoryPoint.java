@@ -0,0 +1,9 @@
+package com.service.shared.location;
+
+import java.time.Instant;
+
+/**
+ * One recorded position of a device trajectory
+ */
+public record TrajectoryPoint(double latitude, double longitude, Instant time) {
+}
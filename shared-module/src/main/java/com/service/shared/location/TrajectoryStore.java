@@ -0,0 +1,147 @@
+package com.service.shared.location;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Movement history of each device, keyed by phone number
+ * Every location fix at least as accurate as max-accuracy is appended to a compact per-device
+ * Trajectory (6 bytes per point, capacity points, older history thinned out). Points older than
+ * retention are dropped, and devices without a fix for that long are forgotten. predict() dead-reckons
+ * the position from the velocity over the last velocity-window, up to prediction-horizon after the
+ * newest fix, so callers can use an estimate instead of asking Nokia.
+ * Only created where platform.trajectory.enabled is true.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "platform.trajectory.enabled", havingValue = "true")
+public class TrajectoryStore {
+
+    private final int capacity;
+    private final Duration retention;
+    private final double maxAccuracyMeters;
+    private final Duration velocityWindow;
+    private final Duration predictionHorizon;
+
+    private final Map<String, Trajectory> trajectories = new ConcurrentHashMap<>();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder predictions = new LongAdder();
+    private Disposable expiryTask;
+
+    public TrajectoryStore(
+            @Value("${platform.trajectory.capacity:48}") int capacity,
+            @Value("${platform.trajectory.retention:1h}") Duration retention,
+            @Value("${platform.trajectory.max-accuracy:1000}") double maxAccuracyMeters,
+            @Value("${platform.trajectory.velocity-window:2m}") Duration velocityWindow,
+            @Value("${platform.trajectory.prediction-horizon:5m}") Duration predictionHorizon
+    ) {
+        this.capacity = Math.max(2, capacity);
+        this.retention = retention;
+        this.maxAccuracyMeters = maxAccuracyMeters;
+        this.velocityWindow = velocityWindow;
+        this.predictionHorizon = predictionHorizon;
+    }
+
+    @PostConstruct
+    public void start() {
+        Duration interval = retention.dividedBy(4).isZero() ? retention : retention.dividedBy(4);
+        expiryTask = Flux.interval(interval, interval)
+                .subscribe(tick -> expire(),
+                        error -> log.error("Trajectory expiry stopped", error));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (expiryTask != null) {
+            expiryTask.dispose();
+        }
+    }
+
+    public void record(String phoneNumber, double latitude, double longitude, Instant time, double accuracyMeters) {
+        if (phoneNumber == null || time == null || accuracyMeters > maxAccuracyMeters) {
+            return;
+        }
+        trajectories.compute(phoneNumber, (phone, trajectory) -> {
+            Trajectory target = trajectory != null ? trajectory : new Trajectory(capacity);
+            synchronized (target) {
+                if (target.append(latitude, longitude, time.getEpochSecond(), accuracyMeters)) {
+                    recorded.increment();
+                }
+            }
+            return target;
+        });
+    }
+
+    public List<TrajectoryPoint> getTrajectory(String phoneNumber) {
+        Trajectory trajectory = phoneNumber == null ? null : trajectories.get(phoneNumber);
+        if (trajectory == null) {
+            return List.of();
+        }
+        synchronized (trajectory) {
+            return trajectory.points();
+        }
+    }
+
+    /**
+     * Estimated position at the given time; empty with fewer than two fixes or beyond the prediction horizon
+     */
+    public Optional<PredictedLocation> predict(String phoneNumber, Instant at) {
+        Trajectory trajectory = phoneNumber == null ? null : trajectories.get(phoneNumber);
+        if (trajectory == null) {
+            return Optional.empty();
+        }
+        PredictedLocation predicted;
+        synchronized (trajectory) {
+            predicted = trajectory.predict(at.getEpochSecond(), velocityWindow.toSeconds(),
+                    predictionHorizon.toSeconds());
+        }
+        if (predicted != null) {
+            predictions.increment();
+        }
+        return Optional.ofNullable(predicted);
+    }
+
+    public Map<String, Object> getStats() {
+        long points = 0;
+        long bytes = 0;
+        for (Trajectory trajectory : trajectories.values()) {
+            synchronized (trajectory) {
+                points += trajectory.size();
+                bytes += trajectory.footprintBytes();
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("devices", trajectories.size());
+        stats.put("points", points);
+        stats.put("approximateBytes", bytes);
+        stats.put("bytesPerDevice", trajectories.isEmpty() ? 0 : bytes / trajectories.size());
+        stats.put("recordedFixes", recorded.sum());
+        stats.put("predictions", predictions.sum());
+        return stats;
+    }
+
+    private void expire() {
+        long cutoff = Instant.now().minus(retention).getEpochSecond();
+        trajectories.entrySet().removeIf(entry -> {
+            synchronized (entry.getValue()) {
+                entry.getValue().expireBefore(cutoff);
+                return entry.getValue().latestTime() < cutoff;
+            }
+        });
+    }
+}
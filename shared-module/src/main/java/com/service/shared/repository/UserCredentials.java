@@ -0,0 +1,16 @@
+package com.service.shared.repository;
+
+/**
+ * Projection of the credential columns of a user, for the login path
+ * Avoids loading the KYC, device and SIM columns of the full entity.
+ */
+public interface UserCredentials {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getPassword();
+}
@@ -0,0 +1,21 @@
+package com.service.shared.repository;
+
+/**
+ * Projection of the device and SIM columns of a user, for the subscriber profile cache
+ */
+public interface UserDeviceProfile {
+
+    Long getId();
+
+    String getPhoneNumber();
+
+    String getDeviceImei();
+
+    String getSimCardNumber();
+
+    String getDeviceModel();
+
+    String getDeviceStatus();
+
+    String getSimCardStatus();
+}
@@ -1,9 +1,14 @@
 package com.service.shared.repository;
 
 import com.service.shared.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,4 +24,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByPhoneNumber(String phoneNumber);
     boolean existsByDeviceImei(String deviceImei);
     boolean existsBySimCardNumber(String simCardNumber);
+
+    Optional<UserCredentials> findCredentialsByUsername(String username);
+
+    Optional<UserDeviceProfile> findDeviceProfileByPhoneNumber(String phoneNumber);
+
+    /**
+     * Keyset page of device profiles with a phone number, for cache preloading
+     */
+    List<UserDeviceProfile> findDeviceProfilesByIdGreaterThanAndPhoneNumberNotNullOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Users holding any of the given unique values, in one query
+     */
+    @Query("select u.username as username, u.email as email, u.phoneNumber as phoneNumber, "
+            + "u.deviceImei as deviceImei, u.simCardNumber as simCardNumber from User u "
+            + "where u.username = :username or u.email = :email or u.phoneNumber = :phoneNumber "
+            + "or u.deviceImei = :deviceImei or u.simCardNumber = :simCardNumber")
+    List<UserUniqueKeys> findUniqueKeyConflicts(@Param("username") String username,
+                                                @Param("email") String email,
+                                                @Param("phoneNumber") String phoneNumber,
+                                                @Param("deviceImei") String deviceImei,
+                                                @Param("simCardNumber") String simCardNumber);
+
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
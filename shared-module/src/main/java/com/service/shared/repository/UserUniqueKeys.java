@@ -0,0 +1,17 @@
+package com.service.shared.repository;
+
+/**
+ * Projection of the uniquely constrained columns of a user, for registration conflict checks
+ */
+public interface UserUniqueKeys {
+
+    String getUsername();
+
+    String getEmail();
+
+    String getPhoneNumber();
+
+    String getDeviceImei();
+
+    String getSimCardNumber();
+}
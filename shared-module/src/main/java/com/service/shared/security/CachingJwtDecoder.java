@@ -0,0 +1,112 @@
+package com.service.shared.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JwtDecoder that caches successfully validated tokens, keyed by the SHA-256 of the token.
+ * An entry never outlives the token's exp claim (nor max-ttl), so an expired token is always
+ * re-validated and rejected by the delegate. Failed validations are not cached.
+ * With caching disabled it only counts verifications, for before/after comparisons.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final boolean enabled;
+    private final Duration maxTtl;
+    private final Cache<String, Jwt> cache;
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
+    public CachingJwtDecoder(JwtDecoder delegate, boolean enabled, long maximumSize, Duration maxTtl) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Jwt>() {
+                    @Override
+                    public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+                        return retainNanos(jwt);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return retainNanos(jwt);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (!enabled) {
+            verifications.increment();
+            return delegate.decode(token);
+        }
+        String key = hash(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null && (cached.getExpiresAt() == null || Instant.now().isBefore(cached.getExpiresAt()))) {
+            cacheHits.increment();
+            return cached;
+        }
+        verifications.increment();
+        Jwt jwt = delegate.decode(token);
+        cache.put(key, jwt);
+        return jwt;
+    }
+
+    /**
+     * Number of tokens validated by the delegate (signature verifications)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getVerifications() {
+        return verifications.sum();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    private long retainNanos(Jwt jwt) {
+        long maxNanos = maxTtl.toNanos();
+        if (jwt.getExpiresAt() == null) {
+            return maxNanos;
+        }
+        long untilExpiry = Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos();
+        return Math.max(0, Math.min(untilExpiry, maxNanos));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.service.shared.security;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Internal assertion issued by the API gateway after it has validated the caller's JWT.
+ * A short-lived HS256 JWT carrying the caller's subject and scopes, which downstream services
+ * verify with an HMAC instead of a second RSA signature check.
+ */
+public final class InternalAssertion {
+
+    public static final String HEADER = "X-Internal-Assertion";
+    public static final String ISSUER = "api-gateway";
+    public static final String ALGORITHM = "HS256";
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private InternalAssertion() {
+    }
+
+    public static SecretKey key(String secret) {
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("Internal assertion secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        return new SecretKeySpec(bytes, "HmacSHA256");
+    }
+}
@@ -0,0 +1,36 @@
+package com.service.shared.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.util.StringUtils;
+
+import java.util.Set;
+
+/**
+ * Resolves the gateway's internal assertion when present, otherwise the Authorization bearer token
+ * Webhook paths are skipped: their Authorization header carries the callback's own token, which the
+ * endpoint checks itself, and must not be decoded as a JWT.
+ */
+public class InternalAssertionBearerTokenResolver implements BearerTokenResolver {
+
+    private final DefaultBearerTokenResolver defaultResolver = new DefaultBearerTokenResolver();
+    private final Set<String> webhookPaths;
+
+    public InternalAssertionBearerTokenResolver(String... webhookPaths) {
+        this.webhookPaths = Set.of(webhookPaths);
+    }
+
+    @Override
+    public String resolve(HttpServletRequest request) {
+        if (!webhookPaths.isEmpty()
+                && webhookPaths.contains(request.getRequestURI().substring(request.getContextPath().length()))) {
+            return null;
+        }
+        String assertion = request.getHeader(InternalAssertion.HEADER);
+        if (StringUtils.hasText(assertion)) {
+            return assertion;
+        }
+        return defaultResolver.resolve(request);
+    }
+}
@@ -0,0 +1,106 @@
+package com.service.shared.security;
+
+import com.nimbusds.jwt.JWTParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Builds the JwtDecoder of the resource servers: RSA-signed tokens from the issuer go through a
+ * validated-token cache, and internal assertions issued by the API gateway are verified with HMAC.
+ * The decoder is picked by the token's issuer and each one accepts only its own algorithm, so a
+ * token's alg header never selects how it is verified. Building a decoder requires
+ * platform.internal-assertion.secret of at least 256 bits.
+ */
+@Component
+public class PlatformJwtDecoders {
+
+    private final boolean cacheEnabled;
+    private final long cacheMaximumSize;
+    private final Duration cacheMaxTtl;
+    private final String assertionSecret;
+    private volatile JwtDecoder assertionDecoder;
+
+    private final List<CachingJwtDecoder> cachingDecoders = new CopyOnWriteArrayList<>();
+    private final LongAdder assertionVerifications = new LongAdder();
+
+    public PlatformJwtDecoders(
+            @Value("${platform.jwt.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${platform.jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${platform.jwt.cache.max-ttl:5m}") Duration cacheMaxTtl,
+            @Value("${platform.internal-assertion.secret:}") String assertionSecret
+    ) {
+        this.cacheEnabled = cacheEnabled;
+        this.cacheMaximumSize = cacheMaximumSize;
+        this.cacheMaxTtl = cacheMaxTtl;
+        this.assertionSecret = assertionSecret;
+    }
+
+    /**
+     * Decoder for tokens of the given issuer that also accepts the gateway's internal assertions
+     */
+    public JwtDecoder create(String issuerUri) {
+        JwtDecoder assertions = assertionDecoder();
+        CachingJwtDecoder tokenDecoder = new CachingJwtDecoder(NimbusJwtDecoder.withIssuerLocation(issuerUri).build(),
+                cacheEnabled, cacheMaximumSize, cacheMaxTtl);
+        cachingDecoders.add(tokenDecoder);
+        return token -> {
+            if (isInternalAssertion(token)) {
+                assertionVerifications.increment();
+                return assertions.decode(token);
+            }
+            return tokenDecoder.decode(token);
+        };
+    }
+
+    /**
+     * Validation counters: RSA signature verifications against cache hits and HMAC-verified assertions
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cacheEnabled", cacheEnabled);
+        stats.put("signatureVerifications", cachingDecoders.stream().mapToLong(CachingJwtDecoder::getVerifications).sum());
+        stats.put("cacheHits", cachingDecoders.stream().mapToLong(CachingJwtDecoder::getCacheHits).sum());
+        stats.put("cacheSize", cachingDecoders.stream().mapToLong(CachingJwtDecoder::getSize).sum());
+        stats.put("assertionVerifications", assertionVerifications.sum());
+        return stats;
+    }
+
+    /**
+     * HS256-only decoder for the gateway's assertions; fails when the shared secret is missing or too short
+     */
+    private synchronized JwtDecoder assertionDecoder() {
+        if (assertionDecoder == null) {
+            if (!StringUtils.hasText(assertionSecret)) {
+                throw new IllegalStateException("platform.internal-assertion.secret (PLATFORM_INTERNAL_ASSERTION_SECRET) is not set");
+            }
+            NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(InternalAssertion.key(assertionSecret))
+                    .macAlgorithm(MacAlgorithm.HS256)
+                    .build();
+            decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(InternalAssertion.ISSUER));
+            assertionDecoder = decoder;
+        }
+        return assertionDecoder;
+    }
+
+    private boolean isInternalAssertion(String token) {
+        try {
+            return InternalAssertion.ISSUER.equals(JWTParser.parse(token).getJWTClaimsSet().getIssuer());
+        } catch (ParseException e) {
+            throw new BadJwtException("Malformed token: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,42 +1,138 @@
 package com.service.shared.service;
 
+import com.service.shared.loadbalancer.ServiceInstance;
+import com.service.shared.loadbalancer.ServiceInstanceRegistry;
+import com.service.shared.security.InternalAssertion;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 
 @Service
 public class InternalServiceClient {
 
+    /**
+     * Service URLs of the form lb://{service} are load balanced across the registered instances
+     */
+    private static final String LOAD_BALANCED_SCHEME = "lb://";
+
     private final WebClient internalWebClient;
+    private final ObjectProvider<ServiceInstanceRegistry> serviceInstanceRegistry;
 
-    public InternalServiceClient(@Qualifier("internalWebClient") WebClient internalWebClient) {
+    public InternalServiceClient(@Qualifier("internalWebClient") WebClient internalWebClient,
+                                 ObjectProvider<ServiceInstanceRegistry> serviceInstanceRegistry) {
         this.internalWebClient = internalWebClient;
+        this.serviceInstanceRegistry = serviceInstanceRegistry;
     }
 
 
     @SuppressWarnings("unchecked")
     public Mono<Map<String, Object>> callService(String serviceUrl, String endpoint, Object requestBody) {
-        return internalWebClient.post()
-                .uri(serviceUrl + endpoint)
+        return exchange(serviceUrl, (baseUrl, headers) -> internalWebClient.post()
+                .uri(baseUrl + endpoint)
+                .headers(headers)
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(Map.class)
                 .cast(Map.class)
-                .map(map -> (Map<String, Object>) map);
+                .map(map -> (Map<String, Object>) map));
     }
 
 
     @SuppressWarnings("unchecked")
     public Mono<Map<String, Object>> getFromService(String serviceUrl, String endpoint) {
-        return internalWebClient.get()
-                .uri(serviceUrl + endpoint)
+        return exchange(serviceUrl, (baseUrl, headers) -> internalWebClient.get()
+                .uri(baseUrl + endpoint)
+                .headers(headers)
                 .retrieve()
                 .bodyToMono(Map.class)
                 .cast(Map.class)
-                .map(map -> (Map<String, Object>) map);
+                .map(map -> (Map<String, Object>) map));
+    }
+
+
+    /**
+     * POST to an internal service and decode the response directly into the given type
+     */
+    public <T> Mono<T> callService(String serviceUrl, String endpoint, Object requestBody,
+                                   ParameterizedTypeReference<T> responseType) {
+        return exchange(serviceUrl, (baseUrl, headers) -> internalWebClient.post()
+                .uri(baseUrl + endpoint)
+                .headers(headers)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(responseType));
+    }
+
+    /**
+     * GET from an internal service and decode the response directly into the given type
+     */
+    public <T> Mono<T> getFromService(String serviceUrl, String endpoint,
+                                      ParameterizedTypeReference<T> responseType) {
+        return exchange(serviceUrl, (baseUrl, headers) -> internalWebClient.get()
+                .uri(baseUrl + endpoint)
+                .headers(headers)
+                .retrieve()
+                .bodyToMono(responseType));
+    }
+
+    /**
+     * Run the call against the service URL, choosing an instance first for lb:// URLs.
+     * The gateway's internal assertion of the current request is forwarded so the called service
+     * can authenticate the caller without another RSA signature check.
+     */
+    private <T> Mono<T> exchange(String serviceUrl, BiFunction<String, Consumer<HttpHeaders>, Mono<T>> call) {
+        String assertion = currentAssertion();
+        Consumer<HttpHeaders> headers = httpHeaders -> {
+            if (assertion != null) {
+                httpHeaders.set(InternalAssertion.HEADER, assertion);
+            }
+        };
+        if (!serviceUrl.startsWith(LOAD_BALANCED_SCHEME)) {
+            return call.apply(serviceUrl, headers);
+        }
+        String serviceId = serviceUrl.substring(LOAD_BALANCED_SCHEME.length());
+        ServiceInstanceRegistry registry = serviceInstanceRegistry.getIfAvailable();
+        if (registry == null) {
+            return Mono.error(new IllegalStateException(
+                    "Load-balanced URL " + serviceUrl + " requires services.registry.enabled=true"));
+        }
+        return Mono.defer(() -> {
+            ServiceInstance instance = registry.choose(serviceId);
+            long start = System.nanoTime();
+            AtomicBoolean failed = new AtomicBoolean();
+            return call.apply(instance.getUrl(), headers)
+                    .doOnError(error -> failed.set(isInstanceFailure(error)))
+                    .doFinally(signal -> registry.release(instance,
+                            signal == SignalType.CANCEL ? -1 : System.nanoTime() - start, failed.get()));
+        });
+    }
+
+    private String currentAssertion() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(InternalAssertion.HEADER);
+        }
+        return null;
+    }
+
+    /**
+     * Client errors (4xx) are the caller's fault and do not count against the instance
+     */
+    private boolean isInstanceFailure(Throwable error) {
+        return !(error instanceof WebClientResponseException responseException)
+                || responseException.getStatusCode().is5xxServerError();
     }
 }
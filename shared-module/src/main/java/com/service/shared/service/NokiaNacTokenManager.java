@@ -109,6 +109,12 @@ public class NokiaNacTokenManager {
      * Dynamically retrieves client credentials if needed
      */
     public String getAccessToken() {
+        // Lock-free fast path: callers only queue on the lock while a token is being fetched
+        String validToken = validCachedToken();
+        if (validToken != null) {
+            return validToken;
+        }
+
         tokenLock.lock();
         try {
             // Check if we have a valid cached token
@@ -167,6 +173,16 @@ public class NokiaNacTokenManager {
         }
     }
 
+    private String validCachedToken() {
+        NokiaNacTokenResponseDTO token = cachedToken;
+        LocalDateTime expiresAt = tokenExpiresAt;
+        if (token != null && expiresAt != null
+                && LocalDateTime.now().isBefore(expiresAt.minusSeconds(REFRESH_BUFFER_SECONDS))) {
+            return token.getAccessToken();
+        }
+        return null;
+    }
+
     /**
      * Force refresh the token
      */
@@ -8,6 +8,7 @@ import com.service.shared.service.NokiaNacAuthorizationService;
 import com.service.shared.service.NokiaNacMetadataService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +33,9 @@ public class NokiaNacAuthorizationServiceImpl implements NokiaNacAuthorizationSe
     private final NokiaNacMetadataService metadataService;
     private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(30);
 
+    @Value("${nokia.nac.authorization-server-url:https://authorization.p-eu.rapidapi.com}")
+    private String authorizationServerUrl;
+
     @Override
     @Transactional
     public GlobalResponse requestClientCredentialsToken(String clientId, String clientSecret, String scope) {
@@ -178,7 +182,7 @@ public class NokiaNacAuthorizationServiceImpl implements NokiaNacAuthorizationSe
             // Get authorization endpoint from metadata
             GlobalResponse metadataResponse = metadataService.getOAuthAuthorizationServer();
             
-            String authorizationEndpoint = "https://authorization.p-eu.rapidapi.com/oauth2/authorize";
+            String authorizationEndpoint = authorizationServerUrl + "/oauth2/authorize";
             
             if (metadataResponse != null && metadataResponse.getData() != null) {
                 // Extract authorization endpoint from metadata if available
@@ -4,10 +4,14 @@ import com.service.shared.dto.EmergencyContextDTO;
 import com.service.shared.dto.GlobalResponse;
 import com.service.shared.dto.TrustValidationDTO;
 import com.service.shared.service.TrustValidationService;
+import com.service.shared.subscriber.SubscriberProfile;
+import com.service.shared.subscriber.SubscriberProfileCache;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * Implementation of Trust Validation Service
@@ -15,15 +19,19 @@ import java.time.LocalDateTime;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class TrustValidationServiceImpl implements TrustValidationService {
 
+    private final SubscriberProfileCache profileCache;
+
     @Override
     public GlobalResponse validateDeviceTrust(String phoneNumber, String deviceImei,
                                               EmergencyContextDTO.DeviceRole deviceRole) {
         log.info("Validating device trust for phone: {}, IMEI: {}, Role: {}", phoneNumber, deviceImei, deviceRole);
         
-        // Basic validation logic - in production, this would check against device registry
-        double trustScore = calculateTrustScore(phoneNumber, deviceImei, null);
+        // Registered device data comes from the subscriber profile cache
+        Optional<SubscriberProfile> profile = profileCache.get(phoneNumber);
+        double trustScore = trustScore(profile, phoneNumber, deviceImei, null);
         TrustValidationDTO.ValidationStatus status = trustScore >= 0.8 
                 ? TrustValidationDTO.ValidationStatus.TRUSTED 
                 : TrustValidationDTO.ValidationStatus.UNTRUSTED;
@@ -35,8 +43,8 @@ public class TrustValidationServiceImpl implements TrustValidationService {
                 .verifiedRole(deviceRole)
                 .trustScore(trustScore)
                 .validatedAt(LocalDateTime.now())
-                .deviceIdentityValid(true)
-                .simIntegrityValid(true)
+                .deviceIdentityValid(profile.map(p -> matches(p.deviceImei(), deviceImei)).orElse(true))
+                .simIntegrityValid(profile.map(SubscriberProfile::isSimActive).orElse(true))
                 .build();
         
         return GlobalResponse.successWithData(200, "Device trust validated", validation);
@@ -46,11 +54,14 @@ public class TrustValidationServiceImpl implements TrustValidationService {
     public GlobalResponse verifySimIntegrity(String phoneNumber, String simCardNumber) {
         log.info("Verifying SIM integrity for phone: {}", phoneNumber);
         
-        // Basic verification - in production, this would check SIM registry
+        // Unknown subscribers keep the previous permissive default
+        boolean simIntegrityValid = profileCache.get(phoneNumber)
+                .map(profile -> profile.isSimActive() && matches(profile.simCardNumber(), simCardNumber))
+                .orElse(true);
         TrustValidationDTO validation = TrustValidationDTO.builder()
                 .phoneNumber(phoneNumber)
                 .simCardNumber(simCardNumber)
-                .simIntegrityValid(true)
+                .simIntegrityValid(simIntegrityValid)
                 .validatedAt(LocalDateTime.now())
                 .build();
         
@@ -61,11 +72,13 @@ public class TrustValidationServiceImpl implements TrustValidationService {
     public GlobalResponse verifyDeviceIdentity(String phoneNumber, String deviceImei) {
         log.info("Verifying device identity for phone: {}, IMEI: {}", phoneNumber, deviceImei);
         
-        // Basic verification - in production, this would check device registry
+        boolean deviceIdentityValid = profileCache.get(phoneNumber)
+                .map(profile -> matches(profile.deviceImei(), deviceImei))
+                .orElse(true);
         TrustValidationDTO validation = TrustValidationDTO.builder()
                 .phoneNumber(phoneNumber)
                 .deviceImei(deviceImei)
-                .deviceIdentityValid(true)
+                .deviceIdentityValid(deviceIdentityValid)
                 .validatedAt(LocalDateTime.now())
                 .build();
         
@@ -80,16 +93,40 @@ public class TrustValidationServiceImpl implements TrustValidationService {
 
     @Override
     public Double calculateTrustScore(String phoneNumber, String deviceImei, String simCardNumber) {
-        // Basic trust score calculation
-        // In production, this would consider multiple factors:
-        // - Device registration status
-        // - SIM card validity
-        // - Historical behavior
-        // - Role verification
-        
+        return trustScore(profileCache.get(phoneNumber), phoneNumber, deviceImei, simCardNumber);
+    }
+
+    /**
+     * Registered subscribers are scored against their device and SIM data; others keep the
+     * basic presence-based score
+     */
+    private static double trustScore(Optional<SubscriberProfile> profile, String phoneNumber,
+                                     String deviceImei, String simCardNumber) {
+        if (profile.isPresent()) {
+            SubscriberProfile registered = profile.get();
+            double score = 0.95;
+            if (!matches(registered.deviceImei(), deviceImei)) {
+                score -= 0.5; // Device differs from the registered one
+            }
+            if (!matches(registered.simCardNumber(), simCardNumber)) {
+                score -= 0.3; // SIM differs from the registered one
+            }
+            if (!registered.isDeviceActive() || !registered.isSimActive()) {
+                score -= 0.3;
+            }
+            return Math.max(0.0, score);
+        }
+
         if (phoneNumber != null && deviceImei != null) {
             return 0.9; // Default high trust score
         }
         return 0.5; // Lower score if missing information
     }
+
+    /**
+     * A presented value matches when it was not supplied or equals the registered one
+     */
+    private static boolean matches(String registered, String presented) {
+        return presented == null || registered == null || registered.equals(presented);
+    }
 }
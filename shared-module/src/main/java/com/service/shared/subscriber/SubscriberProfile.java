@@ -0,0 +1,35 @@
+package com.service.shared.subscriber;
+
+import com.service.shared.entity.User;
+import com.service.shared.repository.UserDeviceProfile;
+
+/**
+ * Device and SIM data of a subscriber, keyed by phone number
+ */
+public record SubscriberProfile(
+        String phoneNumber,
+        String deviceImei,
+        String simCardNumber,
+        String deviceModel,
+        String deviceStatus,
+        String simCardStatus
+) {
+
+    public static SubscriberProfile of(User user) {
+        return new SubscriberProfile(user.getPhoneNumber(), user.getDeviceImei(), user.getSimCardNumber(),
+                user.getDeviceModel(), user.getDeviceStatus(), user.getSimCardStatus());
+    }
+
+    public static SubscriberProfile of(UserDeviceProfile profile) {
+        return new SubscriberProfile(profile.getPhoneNumber(), profile.getDeviceImei(), profile.getSimCardNumber(),
+                profile.getDeviceModel(), profile.getDeviceStatus(), profile.getSimCardStatus());
+    }
+
+    public boolean isDeviceActive() {
+        return "ACTIVE".equals(deviceStatus);
+    }
+
+    public boolean isSimActive() {
+        return "ACTIVE".equals(simCardStatus);
+    }
+}
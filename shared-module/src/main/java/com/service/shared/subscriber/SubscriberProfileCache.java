@@ -0,0 +1,189 @@
+package com.service.shared.subscriber;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.service.shared.config.KafkaConfig;
+import com.service.shared.repository.UserDeviceProfile;
+import com.service.shared.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through cache of subscriber profiles (IMEI, ICCID, device model and statuses) keyed by phone number
+ * Profiles live in a compact packed table sized for millions of subscribers. Misses load the device
+ * columns of one user; unknown numbers are remembered for negative-ttl. With preload enabled the whole
+ * user table is streamed in at startup, so hot paths never touch the database. auth-service publishes
+ * a SubscriberProfileChangedEvent after every registration, which every instance applies.
+ * Off unless platform.subscriber-cache.enabled is set (the decision engine); elsewhere lookups go
+ * straight to the database and the change listener does not start.
+ */
+@Slf4j
+@Component
+public class SubscriberProfileCache {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final boolean preload;
+    private final int preloadBatchSize;
+
+    private final SubscriberProfileTable table = new SubscriberProfileTable();
+    private final Cache<String, Boolean> unknownNumbers;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private volatile boolean preloaded;
+    private Disposable preloadTask;
+
+    public SubscriberProfileCache(
+            UserRepository userRepository,
+            @Value("${platform.subscriber-cache.enabled:false}") boolean enabled,
+            @Value("${platform.subscriber-cache.preload:false}") boolean preload,
+            @Value("${platform.subscriber-cache.preload-batch-size:5000}") int preloadBatchSize,
+            @Value("${platform.subscriber-cache.negative-ttl:60s}") Duration negativeTtl
+    ) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.preload = preload;
+        this.preloadBatchSize = preloadBatchSize;
+        this.unknownNumbers = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(negativeTtl)
+                .build();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled && preload) {
+            preloadTask = Mono.fromRunnable(this::preloadAll)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe(null, error -> log.error("Subscriber profile preload failed", error));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (preloadTask != null) {
+            preloadTask.dispose();
+        }
+    }
+
+    /**
+     * Profile of the subscriber, loading it from the database on a miss (blocking)
+     */
+    public Optional<SubscriberProfile> get(String phoneNumber) {
+        if (phoneNumber == null) {
+            return Optional.empty();
+        }
+        if (!enabled) {
+            return userRepository.findDeviceProfileByPhoneNumber(phoneNumber).map(SubscriberProfile::of);
+        }
+
+        SubscriberProfile cached = table.get(phoneNumber);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        if (unknownNumbers.getIfPresent(phoneNumber) != null) {
+            return Optional.empty();
+        }
+
+        loads.increment();
+        Optional<SubscriberProfile> loaded = userRepository.findDeviceProfileByPhoneNumber(phoneNumber)
+                .map(SubscriberProfile::of);
+        loaded.ifPresentOrElse(table::put, () -> unknownNumbers.put(phoneNumber, Boolean.TRUE));
+        return loaded;
+    }
+
+    /**
+     * Profile of the subscriber without loading, for callers that must not block
+     */
+    public Optional<SubscriberProfile> getIfPresent(String phoneNumber) {
+        if (!enabled || phoneNumber == null) {
+            return Optional.empty();
+        }
+        SubscriberProfile cached = table.get(phoneNumber);
+        if (cached != null) {
+            hits.increment();
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    /**
+     * Reactive lookup: hits complete immediately, misses load on the bounded elastic scheduler
+     */
+    public Mono<SubscriberProfile> lookup(String phoneNumber) {
+        Optional<SubscriberProfile> cached = getIfPresent(phoneNumber);
+        if (cached.isPresent()) {
+            return Mono.just(cached.get());
+        }
+        return Mono.fromCallable(() -> get(phoneNumber).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @KafkaListener(
+            topics = "${platform.subscriber-cache.topic:subscriber-profile-changes}",
+            groupId = "${spring.application.name}-subscriber-cache-" + KafkaConfig.INSTANCE_ID,
+            autoStartup = "${platform.subscriber-cache.enabled:false}"
+    )
+    public void onChange(SubscriberProfileChangedEvent event) {
+        table.put(event.profile());
+        unknownNumbers.invalidate(event.phoneNumber());
+        updates.increment();
+        log.debug("Applied subscriber profile change: {}", event.phoneNumber());
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("preloaded", preloaded);
+        stats.put("size", table.size());
+        stats.put("overflowSize", table.overflowSize());
+        stats.put("packedBytes", table.packedBytes());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("databaseLoads", loads.sum());
+        stats.put("changeEvents", updates.sum());
+        return stats;
+    }
+
+    /**
+     * Stream every subscriber in keyset pages
+     */
+    private void preloadAll() {
+        long start = System.nanoTime();
+        long lastId = 0;
+        int total = 0;
+        while (true) {
+            List<UserDeviceProfile> page = userRepository
+                    .findDeviceProfilesByIdGreaterThanAndPhoneNumberNotNullOrderByIdAsc(lastId, Limit.of(preloadBatchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(profile -> table.put(SubscriberProfile.of(profile)));
+            lastId = page.getLast().getId();
+            total += page.size();
+        }
+        preloaded = true;
+        log.info("Preloaded {} subscriber profiles in {} ms", total, (System.nanoTime() - start) / 1_000_000);
+    }
+}
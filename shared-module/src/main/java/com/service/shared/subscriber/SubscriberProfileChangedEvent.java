@@ -0,0 +1,10 @@
+package com.service.shared.subscriber;
+
+/**
+ * Published by auth-service when a subscriber is registered
+ *
+ * @param phoneNumber Phone number of the subscriber
+ * @param profile     Profile of the subscriber
+ */
+public record SubscriberProfileChangedEvent(String phoneNumber, SubscriberProfile profile) {
+}
@@ -0,0 +1,58 @@
+package com.service.shared.subscriber;
+
+import com.service.shared.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes subscriber profile changes to the caches of all services
+ * Inside a transaction the event is sent after commit, so a rolled back change is never cached.
+ */
+@Slf4j
+@Component
+public class SubscriberProfilePublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String topic;
+
+    public SubscriberProfilePublisher(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${platform.subscriber-cache.topic:subscriber-profile-changes}") String topic
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+    }
+
+    public void publishChanged(User user) {
+        if (user.getPhoneNumber() == null) {
+            return;
+        }
+        publish(new SubscriberProfileChangedEvent(user.getPhoneNumber(), SubscriberProfile.of(user)));
+    }
+
+    private void publish(SubscriberProfileChangedEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(SubscriberProfileChangedEvent event) {
+        kafkaTemplate.send(topic, event.phoneNumber(), event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to publish subscriber profile change: {}", event.phoneNumber(), ex);
+                    }
+                });
+    }
+}
@@ -0,0 +1,339 @@
+package com.service.shared.subscriber;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Compact phone-number-indexed store of subscriber profiles
+ * Open addressing over parallel long arrays: phone number, IMEI and ICCID are packed as digit strings
+ * into longs, and model/status strings into 16-bit dictionary indexes, so a subscriber costs about
+ * 40 bytes per slot instead of a few hundred for a map of objects. Values that cannot be packed
+ * (non-digit identifiers, dictionary overflow) fall back to an overflow map.
+ * Writes are serialized; reads are lock-free optimistic reads validated against the write stamp.
+ */
+final class SubscriberProfileTable {
+
+    private static final long EMPTY = 0L;
+    private static final long UNPACKABLE = -1L;
+    private static final int MAX_PACKED_DIGITS = 17;
+    private static final long DIGITS_MASK = (1L << 59) - 1;
+    private static final int MAX_DICTIONARY_SIZE = 0xFFFF;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<String, SubscriberProfile> overflow = new ConcurrentHashMap<>();
+    private final Map<String, Character> dictionaryIndex = new HashMap<>();
+
+    private volatile String[] dictionary = {null};
+    private volatile Slots slots = new Slots(INITIAL_CAPACITY);
+    private int size;
+
+    SubscriberProfile get(String phoneNumber) {
+        String normalized = normalize(phoneNumber);
+        long key = packDigits(normalized);
+        if (key == UNPACKABLE || key == EMPTY) {
+            return normalized == null ? null : overflow.get(normalized);
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        Slots current = slots;
+        int index = current.find(key);
+        long imei = index < 0 ? 0 : current.imeis[index];
+        long iccidHigh = index < 0 ? 0 : current.iccidHighs[index];
+        long iccidLow = index < 0 ? 0 : current.iccidLows[index];
+        long attributes = index < 0 ? 0 : current.attributes[index];
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                current = slots;
+                index = current.find(key);
+                if (index >= 0) {
+                    imei = current.imeis[index];
+                    iccidHigh = current.iccidHighs[index];
+                    iccidLow = current.iccidLows[index];
+                    attributes = current.attributes[index];
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (index < 0) {
+            return overflow.get(normalized);
+        }
+        String[] names = dictionary;
+        return new SubscriberProfile(
+                phoneNumber,
+                unpackDigits(imei),
+                unpackIccid(iccidHigh, iccidLow),
+                names[(int) (attributes >>> 32) & 0xFFFF],
+                names[(int) (attributes >>> 16) & 0xFFFF],
+                names[(int) attributes & 0xFFFF]);
+    }
+
+    void put(SubscriberProfile profile) {
+        String normalized = normalize(profile.phoneNumber());
+        if (normalized == null) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            long key = packDigits(normalized);
+            long imei = packDigits(profile.deviceImei());
+            long[] iccid = packIccid(profile.simCardNumber());
+            int model = dictionaryIndex(profile.deviceModel());
+            int deviceStatus = dictionaryIndex(profile.deviceStatus());
+            int simStatus = dictionaryIndex(profile.simCardStatus());
+
+            boolean packable = key != UNPACKABLE && key != EMPTY && imei != UNPACKABLE && iccid != null
+                    && model >= 0 && deviceStatus >= 0 && simStatus >= 0;
+            if (!packable) {
+                removeSlot(key);
+                overflow.put(normalized, profile);
+                return;
+            }
+
+            overflow.remove(normalized);
+            if ((size + 1) * 2 > slots.keys.length) {
+                slots = slots.resize(slots.keys.length * 2);
+            }
+            Slots current = slots;
+            int index = current.slotFor(key);
+            if (current.keys[index] == EMPTY) {
+                size++;
+            }
+            current.keys[index] = key;
+            current.imeis[index] = imei;
+            current.iccidHighs[index] = iccid[0];
+            current.iccidLows[index] = iccid[1];
+            current.attributes[index] = ((long) model << 32) | ((long) deviceStatus << 16) | simStatus;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size + overflow.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    int overflowSize() {
+        return overflow.size();
+    }
+
+    /**
+     * Bytes held by the packed arrays
+     */
+    long packedBytes() {
+        return (long) slots.keys.length * Long.BYTES * 5;
+    }
+
+    /**
+     * Remove a packed entry with backward-shift deletion, keeping probe chains intact without tombstones
+     */
+    private boolean removeSlot(long key) {
+        if (key == UNPACKABLE || key == EMPTY) {
+            return false;
+        }
+        Slots current = slots;
+        int index = current.find(key);
+        if (index < 0) {
+            return false;
+        }
+        int mask = current.keys.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (current.keys[next] != EMPTY) {
+            int home = Slots.home(current.keys[next], mask);
+            // Move the entry into the hole unless its home lies cyclically in (hole, next]
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                current.copy(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        current.clear(hole);
+        size--;
+        return true;
+    }
+
+    private int dictionaryIndex(String value) {
+        if (value == null) {
+            return 0;
+        }
+        Character existing = dictionaryIndex.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        String[] names = dictionary;
+        if (names.length > MAX_DICTIONARY_SIZE) {
+            return -1;
+        }
+        String[] grown = Arrays.copyOf(names, names.length + 1);
+        grown[names.length] = value;
+        dictionary = grown;
+        dictionaryIndex.put(value, (char) names.length);
+        return names.length;
+    }
+
+    /**
+     * E.164 numbers are stored without the leading '+'
+     */
+    private static String normalize(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.isBlank()) {
+            return null;
+        }
+        String trimmed = phoneNumber.trim();
+        return trimmed.startsWith("+") ? trimmed.substring(1) : trimmed;
+    }
+
+    /**
+     * Pack a digit string of up to 17 digits as (length << 59) | value, keeping leading zeros
+     */
+    private static long packDigits(String value) {
+        if (value == null) {
+            return EMPTY;
+        }
+        int length = value.length();
+        if (length == 0 || length > MAX_PACKED_DIGITS) {
+            return UNPACKABLE;
+        }
+        long digits = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return UNPACKABLE;
+            }
+            digits = digits * 10 + (c - '0');
+        }
+        return ((long) length << 59) | digits;
+    }
+
+    private static String unpackDigits(long packed) {
+        if (packed == EMPTY) {
+            return null;
+        }
+        int length = (int) (packed >>> 59);
+        String digits = Long.toString(packed & DIGITS_MASK);
+        return digits.length() >= length ? digits : "0".repeat(length - digits.length()) + digits;
+    }
+
+    /**
+     * ICCIDs have up to 20 digits, so they are split over two packed longs
+     */
+    private static long[] packIccid(String value) {
+        if (value == null) {
+            return new long[]{EMPTY, EMPTY};
+        }
+        if (value.length() <= MAX_PACKED_DIGITS) {
+            long low = packDigits(value);
+            return low == UNPACKABLE ? null : new long[]{EMPTY, low};
+        }
+        int split = value.length() - MAX_PACKED_DIGITS;
+        long high = packDigits(value.substring(0, split));
+        long low = packDigits(value.substring(split));
+        return high == UNPACKABLE || low == UNPACKABLE ? null : new long[]{high, low};
+    }
+
+    private static String unpackIccid(long high, long low) {
+        if (low == EMPTY) {
+            return null;
+        }
+        return high == EMPTY ? unpackDigits(low) : unpackDigits(high) + unpackDigits(low);
+    }
+
+    /**
+     * Parallel slot arrays of one table generation; replaced as a whole on resize
+     */
+    private static final class Slots {
+
+        private final long[] keys;
+        private final long[] imeis;
+        private final long[] iccidHighs;
+        private final long[] iccidLows;
+        private final long[] attributes;
+
+        private Slots(int capacity) {
+            keys = new long[capacity];
+            imeis = new long[capacity];
+            iccidHighs = new long[capacity];
+            iccidLows = new long[capacity];
+            attributes = new long[capacity];
+        }
+
+        private static int home(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        /**
+         * Slot holding the key, or -1; probing is bounded so a torn optimistic read cannot spin
+         */
+        private int find(long key) {
+            int mask = keys.length - 1;
+            int index = home(key, mask);
+            for (int probes = 0; probes < keys.length; probes++) {
+                long current = keys[index];
+                if (current == key) {
+                    return index;
+                }
+                if (current == EMPTY) {
+                    return -1;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Slot holding the key, or the empty slot it should be inserted into
+         */
+        private int slotFor(long key) {
+            int mask = keys.length - 1;
+            int index = home(key, mask);
+            while (keys[index] != EMPTY && keys[index] != key) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        private void copy(int from, int to) {
+            keys[to] = keys[from];
+            imeis[to] = imeis[from];
+            iccidHighs[to] = iccidHighs[from];
+            iccidLows[to] = iccidLows[from];
+            attributes[to] = attributes[from];
+        }
+
+        private void clear(int index) {
+            keys[index] = EMPTY;
+            imeis[index] = EMPTY;
+            iccidHighs[index] = EMPTY;
+            iccidLows[index] = EMPTY;
+            attributes[index] = 0;
+        }
+
+        private Slots resize(int capacity) {
+            Slots resized = new Slots(capacity);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    int index = resized.slotFor(keys[i]);
+                    resized.keys[index] = keys[i];
+                    resized.imeis[index] = imeis[i];
+                    resized.iccidHighs[index] = iccidHighs[i];
+                    resized.iccidLows[index] = iccidLows[i];
+                    resized.attributes[index] = attributes[i];
+                }
+            }
+            return resized;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.service.shared.util;
+
+import com.service.shared.exception.GlobalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Request hedging for latency-critical Nokia NAC reads.
+ * After an adaptive delay (observed p95 of the endpoint) a second identical request is fired
+ * and the first one to return a value wins. A client error (4xx other than 408/429) answers at once
+ * and cancels the other request, since repeating it cannot succeed; other errors only surface once
+ * both requests have failed.
+ * Extra load is capped by a token budget that earns budget-percent of a hedge for every primary
+ * request. Cancelled losers are sampled with their elapsed time, so slow calls still push the
+ * delay up.
+ * Hedging is opt-in per endpoint through nokia.nac.hedging.endpoints.
+ */
+@Slf4j
+@Component
+public class NokiaNacRequestHedger {
+
+    private static final int WINDOW_SIZE = 512;
+    private static final int RECOMPUTE_EVERY = 64;
+    private static final long MILLI_TOKENS_PER_HEDGE = 1000;
+    private static final long MAX_MILLI_TOKENS = 10 * MILLI_TOKENS_PER_HEDGE;
+
+    private final Set<String> enabledEndpoints;
+    private final long budgetMilliTokensPerRequest;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long initialDelayNanos;
+
+    private final Map<String, EndpointState> endpoints = new ConcurrentHashMap<>();
+
+    public NokiaNacRequestHedger(
+            @Value("${nokia.nac.hedging.endpoints:}") Set<String> enabledEndpoints,
+            @Value("${nokia.nac.hedging.budget-percent:5}") double budgetPercent,
+            @Value("${nokia.nac.hedging.percentile:0.95}") double percentile,
+            @Value("${nokia.nac.hedging.min-delay-ms:20}") long minDelayMs,
+            @Value("${nokia.nac.hedging.initial-delay-ms:500}") long initialDelayMs
+    ) {
+        this.enabledEndpoints = Set.copyOf(enabledEndpoints);
+        this.budgetMilliTokensPerRequest = Math.round(budgetPercent * MILLI_TOKENS_PER_HEDGE / 100.0);
+        this.percentile = percentile;
+        this.minDelayNanos = Duration.ofMillis(minDelayMs).toNanos();
+        this.initialDelayNanos = Duration.ofMillis(initialDelayMs).toNanos();
+        if (!this.enabledEndpoints.isEmpty()) {
+            log.info("Nokia NAC request hedging enabled for endpoints: {} (budget: {}%)",
+                    this.enabledEndpoints, budgetPercent);
+        }
+    }
+
+    public boolean isEnabled(String endpoint) {
+        return enabledEndpoints.contains(endpoint);
+    }
+
+    /**
+     * Execute the request, hedging it if the endpoint is enabled.
+     * The supplier must build a fresh, cold request on every invocation.
+     */
+    public <T> Mono<T> execute(String endpoint, Supplier<Mono<T>> request) {
+        if (!isEnabled(endpoint)) {
+            return Mono.defer(request);
+        }
+
+        return Mono.defer(() -> {
+            EndpointState state = endpoints.computeIfAbsent(endpoint, key -> new EndpointState(initialDelayNanos));
+            state.requests.increment();
+            state.earnBudget(budgetMilliTokensPerRequest);
+
+            Mono<Signal<T>> primary = outcome(timed(state, request.get()));
+            Mono<Signal<T>> hedge = Mono.delay(Duration.ofNanos(state.hedgeDelayNanos))
+                    .flatMap(tick -> {
+                        if (!state.trySpendBudget()) {
+                            state.budgetDenied.increment();
+                            return Mono.<Signal<T>>empty();
+                        }
+                        state.hedges.increment();
+                        log.debug("Hedging Nokia NAC request for endpoint: {}", endpoint);
+                        return outcome(timed(state, request.get())
+                                .doOnNext(result -> state.hedgeWins.increment()));
+                    });
+
+            return Mono.firstWithValue(primary, hedge)
+                    .onErrorResume(NoSuchElementException.class, NokiaNacRequestHedger::firstFailure)
+                    .flatMap(signal -> signal.isOnError()
+                            ? Mono.<T>error(signal.getThrowable())
+                            : Mono.justOrEmpty(signal.get()));
+        });
+    }
+
+    /**
+     * A leg's value, or its error when retrying cannot help; such an error wins the race like a value
+     */
+    private static <T> Mono<Signal<T>> outcome(Mono<T> leg) {
+        return leg.map(Signal::next)
+                .onErrorResume(error -> !isRetryable(error), error -> Mono.just(Signal.error(error)));
+    }
+
+    /**
+     * Server errors, timeouts, throttling and transport failures may succeed on the other leg
+     */
+    static boolean isRetryable(Throwable error) {
+        Integer status = null;
+        if (error instanceof GlobalException globalException) {
+            status = globalException.getErrorCode();
+        } else if (error instanceof WebClientResponseException responseException) {
+            status = responseException.getStatusCode().value();
+        }
+        return status == null
+                || status >= HttpStatus.INTERNAL_SERVER_ERROR.value()
+                || status == HttpStatus.REQUEST_TIMEOUT.value()
+                || status == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /**
+     * Per-endpoint hedging statistics, including the hedge win rate
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        endpoints.forEach((endpoint, state) -> {
+            long hedges = state.hedges.sum();
+            long wins = state.hedgeWins.sum();
+            Map<String, Object> endpointStats = new LinkedHashMap<>();
+            endpointStats.put("requests", state.requests.sum());
+            endpointStats.put("hedges", hedges);
+            endpointStats.put("hedgeWins", wins);
+            endpointStats.put("hedgeWinRate", hedges == 0 ? 0.0 : (double) wins / hedges);
+            endpointStats.put("budgetDenied", state.budgetDenied.sum());
+            endpointStats.put("hedgeDelayMs", Duration.ofNanos(state.hedgeDelayNanos).toMillis());
+            stats.put(endpoint, endpointStats);
+        });
+        return stats;
+    }
+
+    /**
+     * Completed and cancelled calls are sampled; a cancelled call took at least its elapsed time
+     */
+    private <T> Mono<T> timed(EndpointState state, Mono<T> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call.doFinally(signal -> {
+                if (signal != SignalType.ON_ERROR) {
+                    state.recordLatency(System.nanoTime() - start);
+                }
+            });
+        });
+    }
+
+    /**
+     * firstWithValue reports "no value" with the errors of the legs as cause; callers expect the
+     * request's own error, or an empty result when neither leg failed
+     */
+    private static <T> Mono<T> firstFailure(NoSuchElementException error) {
+        // Legs that completed empty are reported as NoSuchElementException too
+        List<Throwable> failures = error.getCause() != null ? Exceptions.unwrapMultiple(error.getCause()) : List.of();
+        return failures.stream()
+                .filter(failure -> !(failure instanceof NoSuchElementException))
+                .findFirst()
+                .<Mono<T>>map(Mono::error)
+                .orElseGet(Mono::empty);
+    }
+
+    private final class EndpointState {
+
+        private final long[] samples = new long[WINDOW_SIZE];
+        private final AtomicLong sampleCount = new AtomicLong();
+        private final AtomicLong milliTokens = new AtomicLong(MILLI_TOKENS_PER_HEDGE);
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+        private final LongAdder budgetDenied = new LongAdder();
+        private volatile long hedgeDelayNanos;
+
+        private EndpointState(long initialDelayNanos) {
+            this.hedgeDelayNanos = initialDelayNanos;
+        }
+
+        private void recordLatency(long nanos) {
+            long index = sampleCount.getAndIncrement();
+            samples[(int) (index % WINDOW_SIZE)] = nanos;
+            if ((index + 1) % RECOMPUTE_EVERY == 0) {
+                recomputeDelay(Math.min(index + 1, WINDOW_SIZE));
+            }
+        }
+
+        private void recomputeDelay(long filled) {
+            long[] snapshot = Arrays.copyOf(samples, (int) filled);
+            Arrays.sort(snapshot);
+            int rank = (int) Math.min(filled - 1, Math.ceil(percentile * filled) - 1);
+            hedgeDelayNanos = Math.max(minDelayNanos, snapshot[Math.max(rank, 0)]);
+        }
+
+        private void earnBudget(long amount) {
+            milliTokens.accumulateAndGet(amount, (current, add) -> Math.min(MAX_MILLI_TOKENS, current + add));
+        }
+
+        private boolean trySpendBudget() {
+            while (true) {
+                long current = milliTokens.get();
+                if (current < MILLI_TOKENS_PER_HEDGE) {
+                    return false;
+                }
+                if (milliTokens.compareAndSet(current, current - MILLI_TOKENS_PER_HEDGE)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
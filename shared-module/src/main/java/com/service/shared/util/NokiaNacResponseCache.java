@@ -0,0 +1,181 @@
+package com.service.shared.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shared response cache for idempotent Nokia NAC reads
+ * Size-bounded (Caffeine W-TinyLFU eviction) with per-endpoint TTLs configured under
+ * nokia.nac.cache.ttl.{endpoint}. Entries past their TTL are still served for the
+ * stale-while-revalidate window while a single background reload refreshes them.
+ * Concurrent misses for the same key are coalesced into one upstream call.
+ */
+@Slf4j
+@Component
+public class NokiaNacResponseCache {
+
+    private static final String KEY_SEPARATOR = "::";
+
+    private final Environment environment;
+    private final boolean enabled;
+    private final Duration defaultTtl;
+    private final Duration defaultStaleWhileRevalidate;
+
+    private final Cache<String, CachedResponse> cache;
+    private final Map<String, Mono<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<String, Duration> ttlByEndpoint = new ConcurrentHashMap<>();
+    private final Map<String, Duration> staleByEndpoint = new ConcurrentHashMap<>();
+    private final LongAdder staleHits = new LongAdder();
+
+    public NokiaNacResponseCache(
+            Environment environment,
+            @Value("${nokia.nac.cache.enabled:true}") boolean enabled,
+            @Value("${nokia.nac.cache.maximum-size:10000}") long maximumSize,
+            @Value("${nokia.nac.cache.default-ttl:60s}") Duration defaultTtl,
+            @Value("${nokia.nac.cache.stale-while-revalidate:30s}") Duration defaultStaleWhileRevalidate
+    ) {
+        this.environment = environment;
+        this.enabled = enabled;
+        this.defaultTtl = defaultTtl;
+        this.defaultStaleWhileRevalidate = defaultStaleWhileRevalidate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+                        return value.retainNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return value.retainNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get a cached response, loading it through the loader on a miss
+     *
+     * @param endpoint Logical endpoint name, used for TTL lookup and invalidation
+     * @param key      Key of the resource within the endpoint (e.g. phone number)
+     * @param loader   Supplier of the upstream call
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> get(String endpoint, String key, Supplier<Mono<T>> loader) {
+        if (!enabled) {
+            return Mono.defer(loader);
+        }
+
+        String cacheKey = endpoint + KEY_SEPARATOR + key;
+        return Mono.defer(() -> {
+            CachedResponse cached = cache.getIfPresent(cacheKey);
+            if (cached == null) {
+                return (Mono<T>) load(endpoint, cacheKey, loader);
+            }
+
+            if (System.nanoTime() - cached.freshUntilNanos() >= 0) {
+                staleHits.increment();
+                load(endpoint, cacheKey, loader).subscribe(
+                        value -> log.debug("Revalidated cached Nokia NAC response: {}", cacheKey),
+                        error -> log.warn("Failed to revalidate cached Nokia NAC response: {}", cacheKey, error));
+            }
+            return Mono.just((T) cached.value());
+        });
+    }
+
+    /**
+     * Invalidate all cached responses of an endpoint (e.g. after a create/delete)
+     */
+    public void invalidate(String endpoint) {
+        generation(endpoint).incrementAndGet();
+        String prefix = endpoint + KEY_SEPARATOR;
+        cache.asMap().keySet().removeIf(cacheKey -> cacheKey.startsWith(prefix));
+        log.debug("Invalidated cached Nokia NAC responses for endpoint: {}", endpoint);
+    }
+
+    /**
+     * Invalidate a single cached response
+     */
+    public void invalidate(String endpoint, String key) {
+        generation(endpoint).incrementAndGet();
+        cache.invalidate(endpoint + KEY_SEPARATOR + key);
+    }
+
+    /**
+     * Cache statistics
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("staleHits", staleHits.sum());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+
+    private Mono<Object> load(String endpoint, String cacheKey, Supplier<? extends Mono<?>> loader) {
+        return inFlight.computeIfAbsent(cacheKey, k -> {
+            long generation = generation(endpoint).get();
+            return Mono.defer(loader)
+                    .cast(Object.class)
+                    .doOnNext(value -> {
+                        // Skip the write if the endpoint was invalidated while the call was in flight
+                        if (generation(endpoint).get() == generation) {
+                            cache.put(k, newEntry(endpoint, value));
+                        }
+                    })
+                    .doFinally(signal -> inFlight.remove(k))
+                    .cache();
+        });
+    }
+
+    private CachedResponse newEntry(String endpoint, Object value) {
+        long ttlNanos = ttl(endpoint).toNanos();
+        long staleNanos = staleWhileRevalidate(endpoint).toNanos();
+        return new CachedResponse(value, System.nanoTime() + ttlNanos, ttlNanos + staleNanos);
+    }
+
+    private Duration ttl(String endpoint) {
+        return ttlByEndpoint.computeIfAbsent(endpoint, e ->
+                environment.getProperty("nokia.nac.cache.ttl." + e, Duration.class, defaultTtl));
+    }
+
+    private Duration staleWhileRevalidate(String endpoint) {
+        return staleByEndpoint.computeIfAbsent(endpoint, e ->
+                environment.getProperty("nokia.nac.cache.stale." + e, Duration.class, defaultStaleWhileRevalidate));
+    }
+
+    private AtomicLong generation(String endpoint) {
+        return generations.computeIfAbsent(endpoint, e -> new AtomicLong());
+    }
+
+    private record CachedResponse(Object value, long freshUntilNanos, long retainNanos) {
+    }
+}
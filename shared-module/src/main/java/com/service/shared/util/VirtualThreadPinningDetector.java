@@ -0,0 +1,127 @@
+package com.service.shared.util;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads pinned to their carrier thread (blocking inside synchronized blocks or
+ * native frames) using the JFR jdk.VirtualThreadPinned event.
+ * Pinned sites are grouped by the first application frame (com.service.*); the first occurrences
+ * of each site are logged with their stack trace so the lock can be replaced by a ReentrantLock
+ * or moved off the blocking call.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningDetector {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.service.";
+    private static final int STACK_DEPTH = 12;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final int logLimitPerSite;
+
+    private final Map<String, PinnedSite> sites = new ConcurrentHashMap<>();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningDetector(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+            @Value("${platform.virtual-threads.pinning-detector.enabled:true}") boolean detectorEnabled,
+            @Value("${platform.virtual-threads.pinning-detector.threshold:20ms}") Duration threshold,
+            @Value("${platform.virtual-threads.pinning-detector.log-limit-per-site:3}") int logLimitPerSite
+    ) {
+        this.enabled = virtualThreadsEnabled && detectorEnabled;
+        this.threshold = threshold;
+        this.logLimitPerSite = logLimitPerSite;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+            log.info("Virtual thread pinning detector started (threshold: {}ms)", threshold.toMillis());
+        } catch (Exception e) {
+            log.warn("Virtual thread pinning detector could not be started: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    /**
+     * Pinned sites with their occurrence count and longest pinned duration
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("thresholdMs", threshold.toMillis());
+        Map<String, Object> siteStats = new LinkedHashMap<>();
+        sites.forEach((site, pinned) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", pinned.count.sum());
+            values.put("maxDurationMs", pinned.maxDurationNanos / 1_000_000.0);
+            siteStats.put(site, values);
+        });
+        stats.put("sites", siteStats);
+        return stats;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(this::describe)
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : describe(frames.getFirst()));
+
+        PinnedSite pinned = sites.computeIfAbsent(site, key -> new PinnedSite());
+        pinned.count.increment();
+        long durationNanos = event.getDuration().toNanos();
+        if (durationNanos > pinned.maxDurationNanos) {
+            pinned.maxDurationNanos = durationNanos;
+        }
+
+        if (pinned.count.sum() <= logLimitPerSite) {
+            log.warn("Virtual thread pinned for {}ms at {}\n\t{}", event.getDuration().toMillis(), site,
+                    frames.stream().limit(STACK_DEPTH).map(this::describe).collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static final class PinnedSite {
+        private final LongAdder count = new LongAdder();
+        private volatile long maxDurationNanos;
+    }
+}
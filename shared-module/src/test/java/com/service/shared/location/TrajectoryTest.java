@@ -0,0 +1,66 @@
+package com.service.shared.location;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrajectoryTest {
+
+    private static final long START = 1_700_000_000L;
+
+    private final Trajectory trajectory = new Trajectory(16);
+
+    @Test
+    void noPredictionWithoutTwoFixes() {
+        assertThat(trajectory.predict(START, 300, 600)).isNull();
+
+        trajectory.append(48.0, 11.0, START, 20);
+
+        assertThat(trajectory.predict(START + 60, 300, 600)).isNull();
+    }
+
+    @Test
+    void extrapolatesAlongTheVelocity() {
+        // 0.001 degrees of latitude per 10 s, about 11 m/s due north
+        for (int step = 0; step <= 5; step++) {
+            trajectory.append(48.0 + step * 0.001, 11.0, START + step * 10L, 20);
+        }
+
+        PredictedLocation predicted = trajectory.predict(START + 60, 300, 600);
+
+        assertThat(predicted).isNotNull();
+        assertThat(predicted.latitude()).isCloseTo(48.006, within(1e-5));
+        assertThat(predicted.longitude()).isCloseTo(11.0, within(1e-5));
+        assertThat(predicted.speedMps()).isCloseTo(11.13, within(0.05));
+        assertThat(predicted.headingDegrees()).isCloseTo(0.0, within(0.5));
+        assertThat(predicted.uncertaintyMeters()).isGreaterThan(20);
+    }
+
+    @Test
+    void noPredictionBeyondTheHorizon() {
+        trajectory.append(48.0, 11.0, START, 20);
+        trajectory.append(48.001, 11.0, START + 10, 20);
+
+        assertThat(trajectory.predict(START + 10 + 601, 300, 600)).isNull();
+    }
+
+    @Test
+    void ignoresFixesNotNewerThanTheLatest() {
+        trajectory.append(48.0, 11.0, START, 20);
+
+        assertThat(trajectory.append(48.1, 11.0, START, 20)).isFalse();
+        assertThat(trajectory.size()).isEqualTo(1);
+    }
+
+    @Test
+    void compactionKeepsTheNewestPoints() {
+        for (int step = 0; step < 40; step++) {
+            trajectory.append(48.0 + step * 0.0001, 11.0, START + step, 20);
+        }
+
+        assertThat(trajectory.size()).isLessThanOrEqualTo(16);
+        assertThat(trajectory.latestTime()).isEqualTo(START + 39);
+        assertThat(trajectory.points().getLast().latitude()).isCloseTo(48.0039, within(1e-5));
+    }
+}
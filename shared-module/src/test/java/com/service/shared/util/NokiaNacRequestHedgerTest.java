@@ -0,0 +1,92 @@
+package com.service.shared.util;
+
+import com.service.shared.exception.GlobalException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NokiaNacRequestHedgerTest {
+
+    private static final String ENDPOINT = "test";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final NokiaNacRequestHedger hedger = new NokiaNacRequestHedger(Set.of(ENDPOINT), 100, 0.95, 1, 50);
+
+    @Test
+    void fastPrimaryIsNotHedged() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.execute(ENDPOINT, () -> {
+            calls.incrementAndGet();
+            return Mono.just("primary");
+        }).block(TIMEOUT);
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void slowPrimaryLosesToHedge() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.execute(ENDPOINT, () -> calls.incrementAndGet() == 1
+                ? Mono.just("primary").delayElement(Duration.ofSeconds(2))
+                : Mono.just("hedge")).block(TIMEOUT);
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void clientErrorFailsFastWithoutHedging() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> hedger.execute(ENDPOINT, () -> {
+            calls.incrementAndGet();
+            return Mono.<String>error(new GlobalException(404, "not found"));
+        }).block(TIMEOUT))
+                .isInstanceOf(GlobalException.class)
+                .hasMessage("not found");
+
+        Thread.sleep(100);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void serverErrorStillWaitsForHedge() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.execute(ENDPOINT, () -> calls.incrementAndGet() == 1
+                ? Mono.error(new GlobalException(503, "unavailable"))
+                : Mono.just("hedge")).block(TIMEOUT);
+
+        assertThat(result).isEqualTo("hedge");
+    }
+
+    @Test
+    void errorSurfacesWhenBothLegsFail() {
+        assertThatThrownBy(() -> hedger.execute(ENDPOINT,
+                () -> Mono.<String>error(new GlobalException(503, "unavailable"))).block(TIMEOUT))
+                .isInstanceOf(GlobalException.class)
+                .hasMessage("unavailable");
+    }
+
+    @Test
+    void disabledEndpointRunsRequestOnce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.execute("other", () -> {
+            calls.incrementAndGet();
+            return Mono.just("primary").delayElement(Duration.ofMillis(200));
+        }).block(TIMEOUT);
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+    }
+}